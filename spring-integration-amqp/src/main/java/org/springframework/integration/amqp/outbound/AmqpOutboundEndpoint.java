@@ -17,6 +17,9 @@
 package org.springframework.integration.amqp.outbound;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -36,12 +39,20 @@ import org.springframework.context.Lifecycle;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.MessageTimeoutException;
 import org.springframework.integration.amqp.support.MappingUtils;
+import org.springframework.integration.handler.MessageBatchHandler;
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.integration.support.MessageBatch;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
 /**
  * Adapter that converts and sends Messages to an AMQP Exchange.
+ * <p>
+ * A {@link MessageBatch} payload is sent as a message per item, with the request message, shared batch
+ * and item headers. With a {@link RabbitTemplate}, all the items are sent on the same channel, as with
+ * {@link #setMultiSend(boolean)}, and the confirms are awaited if {@link #setWaitForConfirm(boolean)}
+ * is set and the connection factory uses simple publisher confirms.
+ * A {@link MessageBatch} is not supported by the gateway.
  *
  * @author Mark Fisher
  * @author Oleg Zhurakousky
@@ -52,7 +63,7 @@ import org.springframework.util.Assert;
  * @since 2.1
  */
 public class AmqpOutboundEndpoint extends AbstractAmqpOutboundEndpoint
-		implements ConfirmCallback, RabbitTemplate.ReturnsCallback {
+		implements ConfirmCallback, RabbitTemplate.ReturnsCallback, MessageBatchHandler {
 
 	private static final Duration DEFAULT_CONFIRM_TIMEOUT = Duration.ofSeconds(5);
 
@@ -171,6 +182,11 @@ public class AmqpOutboundEndpoint extends AbstractAmqpOutboundEndpoint
 
 	@Override
 	protected @Nullable Object handleRequestMessage(Message<?> requestMessage) {
+		if (requestMessage.getPayload() instanceof MessageBatch<?> messageBatch) {
+			Assert.state(!this.expectReply, "A 'MessageBatch' payload is not supported by the gateway");
+			sendBatch(messageBatch.toMessages(requestMessage.getHeaders(), getMessageBuilderFactory()));
+			return null;
+		}
 		CorrelationData correlationData = generateCorrelationData(requestMessage);
 		String exchangeName = generateExchangeName(requestMessage);
 		String routingKey = generateRoutingKey(requestMessage);
@@ -208,6 +224,40 @@ public class AmqpOutboundEndpoint extends AbstractAmqpOutboundEndpoint
 		});
 	}
 
+	/**
+	 * Send the items of a batch; each item gets its own correlation data (if configured),
+	 * so the publisher confirms and returns are correlated to the item messages.
+	 */
+	private void sendBatch(List<? extends Message<?>> messages) {
+		RabbitTemplate rabbitTemplateToUse = this.rabbitTemplate;
+		if (rabbitTemplateToUse != null) {
+			Map<Message<?>, CorrelationData> correlations = new LinkedHashMap<>();
+			rabbitTemplateToUse.<@Nullable Object>invoke(template -> {
+				for (Message<?> message : messages) {
+					CorrelationData correlationData = generateCorrelationData(message);
+					if (correlationData != null) {
+						correlations.put(message, correlationData);
+					}
+					doRabbitSend(generateExchangeName(message), generateRoutingKey(message), message, correlationData,
+							rabbitTemplateToUse);
+				}
+				if (this.waitForConfirm && rabbitTemplateToUse.getConnectionFactory().isSimplePublisherConfirms()) {
+					template.waitForConfirmsOrDie(this.waitForConfirmTimeout.toMillis());
+				}
+				return null;
+			});
+			if (this.waitForConfirm) {
+				correlations.forEach(this::waitForConfirm);
+			}
+		}
+		else {
+			for (Message<?> message : messages) {
+				send(generateExchangeName(message), generateRoutingKey(message), message,
+						generateCorrelationData(message));
+			}
+		}
+	}
+
 	private void waitForConfirm(Message<?> requestMessage, CorrelationData correlationData) {
 		try {
 			Confirm confirm = correlationData.getFuture().get(this.waitForConfirmTimeout.toMillis(),
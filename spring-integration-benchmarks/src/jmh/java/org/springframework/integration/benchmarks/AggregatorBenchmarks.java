@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.aggregator.MessageCountReleaseStrategy;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.integration.store.SimpleMessageStore;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+
+/**
+ * The benchmarks for the correlation hot paths: an aggregator over a {@link SimpleMessageStore}
+ * and a {@code splitter -> aggregator} round trip.
+ * Each benchmark operation produces one complete group of {@code groupSize} messages.
+ * <p>
+ * Run with {@code ./gradlew :spring-integration-benchmarks:jmh -PjmhIncludes=AggregatorBenchmarks}.
+ *
+ * @since 7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AggregatorBenchmarks {
+
+	@Benchmark
+	public void aggregateGroup(AggregatorState state) {
+		String correlationId = Long.toString(state.groupCounter++);
+		for (int i = 1; i <= state.groupSize; i++) {
+			state.aggregatorInput.send(
+					MessageBuilder.withPayload(i)
+							.setHeader(IntegrationMessageHeaderAccessor.CORRELATION_ID, correlationId)
+							.build());
+		}
+	}
+
+	@Benchmark
+	public void splitAndAggregate(AggregatorState state) {
+		state.splitterInput.send(state.splitterMessage);
+	}
+
+	@State(Scope.Benchmark)
+	public static class AggregatorState {
+
+		@Param({ "10", "100", "1000" })
+		int groupSize;
+
+		AnnotationConfigApplicationContext applicationContext;
+
+		MessageChannel aggregatorInput;
+
+		MessageChannel splitterInput;
+
+		Message<List<Integer>> splitterMessage;
+
+		long groupCounter;
+
+		@Setup(Level.Trial)
+		public void setup(Blackhole blackhole) {
+			this.applicationContext = new AnnotationConfigApplicationContext();
+			this.applicationContext.getEnvironment().getPropertySources()
+					.addFirst(new MapPropertySource("benchmark", Map.of("groupSize", this.groupSize)));
+			this.applicationContext.registerBean(Blackhole.class, () -> blackhole);
+			this.applicationContext.register(AggregatorConfiguration.class);
+			this.applicationContext.refresh();
+			this.aggregatorInput = this.applicationContext.getBean("aggregatorInput", MessageChannel.class);
+			this.splitterInput = this.applicationContext.getBean("splitterInput", MessageChannel.class);
+			List<Integer> items = new ArrayList<>(this.groupSize);
+			for (int i = 0; i < this.groupSize; i++) {
+				items.add(i);
+			}
+			this.splitterMessage = MessageBuilder.withPayload(items).build();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.applicationContext.close();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableIntegration
+	public static class AggregatorConfiguration {
+
+		@Bean
+		DirectChannel aggregatorInput() {
+			return new DirectChannel();
+		}
+
+		@Bean
+		DirectChannel splitterInput() {
+			return new DirectChannel();
+		}
+
+		@Bean
+		IntegrationFlow aggregatorFlow(Blackhole blackhole,
+				@Value("${groupSize}") int groupSize) {
+
+			MessageHandler sink = blackhole::consume;
+			return IntegrationFlow.from("aggregatorInput")
+					.aggregate(a -> a
+							.messageStore(new SimpleMessageStore())
+							.releaseStrategy(new MessageCountReleaseStrategy(groupSize))
+							.expireGroupsUponCompletion(true))
+					.handle(sink)
+					.get();
+		}
+
+		@Bean
+		IntegrationFlow splitterAggregatorFlow(Blackhole blackhole) {
+			MessageHandler sink = blackhole::consume;
+			return IntegrationFlow.from("splitterInput")
+					.split()
+					.aggregate(a -> a
+							.messageStore(new SimpleMessageStore())
+							.expireGroupsUponCompletion(true))
+					.handle(sink)
+					.get();
+		}
+
+	}
+
+}
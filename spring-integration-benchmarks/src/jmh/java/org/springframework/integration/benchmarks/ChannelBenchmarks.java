@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.PublishSubscribeChannel;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.util.LockFreeArrayBlockingQueue;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * The benchmarks for the message channel hot paths:
+ * {@code DirectChannel -> ServiceActivator} (optionally with post-send {@link ChannelInterceptor}s),
+ * {@link QueueChannel} producer/consumer and {@link PublishSubscribeChannel} fan-out.
+ * <p>
+ * Run with {@code ./gradlew :spring-integration-benchmarks:jmh -PjmhIncludes=ChannelBenchmarks}.
+ *
+ * @since 7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChannelBenchmarks {
+
+	@Benchmark
+	public void directChannelServiceActivator(DirectFlowState state) {
+		state.input.send(state.message);
+	}
+
+	@Benchmark
+	public void publishSubscribeFanOut(PublishSubscribeState state) {
+		state.channel.send(state.message);
+	}
+
+	@Benchmark
+	@Group("queue")
+	@GroupThreads(2)
+	public boolean queueProducer(QueueState state) {
+		return state.channel.send(state.message, 1000);
+	}
+
+	@Benchmark
+	@Group("queue")
+	@GroupThreads(2)
+	public Message<?> queueConsumer(QueueState state) {
+		return state.channel.receive(1000);
+	}
+
+	@State(Scope.Benchmark)
+	public static class DirectFlowState {
+
+		@Param({ "0", "2" })
+		int interceptors;
+
+		AnnotationConfigApplicationContext applicationContext;
+
+		MessageChannel input;
+
+		final Message<String> message = MessageBuilder.withPayload("test").build();
+
+		@Setup(Level.Trial)
+		public void setup(Blackhole blackhole) {
+			this.applicationContext = new AnnotationConfigApplicationContext();
+			this.applicationContext.registerBean(Blackhole.class, () -> blackhole);
+			this.applicationContext.register(DirectFlowConfiguration.class);
+			this.applicationContext.refresh();
+			DirectChannel directInput = this.applicationContext.getBean("directInput", DirectChannel.class);
+			for (int i = 0; i < this.interceptors; i++) {
+				directInput.addInterceptor(new ChannelInterceptor() {
+
+					@Override
+					public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+						blackhole.consume(sent);
+					}
+
+				});
+			}
+			this.input = directInput;
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.applicationContext.close();
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class PublishSubscribeState {
+
+		@Param({ "1", "4", "16" })
+		int subscribers;
+
+		final PublishSubscribeChannel channel = new PublishSubscribeChannel();
+
+		final Message<String> message = MessageBuilder.withPayload("test").build();
+
+		@Setup(Level.Trial)
+		public void setup(Blackhole blackhole) {
+			for (int i = 0; i < this.subscribers; i++) {
+				this.channel.subscribe(blackhole::consume);
+			}
+		}
+
+	}
+
+	@State(Scope.Group)
+	public static class QueueState {
+
+		@Param({ "1024" })
+		int capacity;
+
+		@Param({ "linked", "lockFree" })
+		String queueType;
+
+		QueueChannel channel;
+
+		final Message<String> message = MessageBuilder.withPayload("test").build();
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.channel =
+					"lockFree".equals(this.queueType)
+							? new QueueChannel(new LockFreeArrayBlockingQueue<>(this.capacity))
+							: new QueueChannel(this.capacity);
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			this.channel.clear();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableIntegration
+	public static class DirectFlowConfiguration {
+
+		@Bean
+		DirectChannel directInput() {
+			return new DirectChannel();
+		}
+
+		@Bean
+		IntegrationFlow directFlow(Blackhole blackhole) {
+			MessageHandler sink = blackhole::consume;
+			return IntegrationFlow.from("directInput")
+					.handle(new EchoService(), "echo")
+					.handle(sink)
+					.get();
+		}
+
+	}
+
+	public static class EchoService {
+
+		public String echo(String payload) {
+			return payload;
+		}
+
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.integration.support.DefaultMessageBuilderFactory;
+import org.springframework.integration.support.IdGenerators;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.AlternativeJdkIdGenerator;
+import org.springframework.util.IdGenerator;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The benchmarks for the {@link IdGenerator} implementations and their impact on the
+ * {@link org.springframework.integration.support.MessageBuilder#build()},
+ * with eager and lazy {@link MessageHeaders#ID} generation.
+ * <p>
+ * Run with {@code ./gradlew :spring-integration-benchmarks:jmh -PjmhIncludes=IdGeneratorBenchmarks}.
+ *
+ * @since 7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class IdGeneratorBenchmarks {
+
+	@Benchmark
+	public UUID generateId(IdGeneratorState state) {
+		return state.idGenerator.generateId();
+	}
+
+	@Benchmark
+	public Message<?> buildMessage(IdGeneratorState state) {
+		return state.messageBuilderFactory.withPayload("test")
+				.setHeader("foo", "bar")
+				.build();
+	}
+
+	@State(Scope.Benchmark)
+	public static class IdGeneratorState {
+
+		private static final Field ID_GENERATOR_FIELD =
+				Objects.requireNonNull(ReflectionUtils.findField(MessageHeaders.class, "idGenerator"));
+
+		static {
+			ReflectionUtils.makeAccessible(ID_GENERATOR_FIELD);
+		}
+
+		@Param({ "default", "jdk", "incrementing", "timeOrdered" })
+		String generator;
+
+		@Param({ "false", "true" })
+		boolean lazyId;
+
+		IdGenerator idGenerator;
+
+		DefaultMessageBuilderFactory messageBuilderFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.idGenerator =
+					switch (this.generator) {
+						case "jdk" -> new IdGenerators.JdkIdGenerator();
+						case "incrementing" -> new IdGenerators.SimpleIncrementingIdGenerator();
+						case "timeOrdered" -> new IdGenerators.TimeOrderedIdGenerator();
+						default -> new AlternativeJdkIdGenerator();
+					};
+			if (!"default".equals(this.generator)) {
+				ReflectionUtils.setField(ID_GENERATOR_FIELD, null, this.idGenerator);
+			}
+			this.messageBuilderFactory = new DefaultMessageBuilderFactory();
+			this.messageBuilderFactory.setLazyId(this.lazyId);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			ReflectionUtils.setField(ID_GENERATOR_FIELD, null, null);
+		}
+
+	}
+
+}
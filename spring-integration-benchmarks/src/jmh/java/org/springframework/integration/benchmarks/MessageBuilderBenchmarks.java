@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.integration.support.DefaultMessageBuilderFactory;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/**
+ * The benchmarks for the {@link MessageBuilder} hot paths:
+ * building a new message and deriving a message from an existing one with an extra header,
+ * with and without sharing headers of the original message.
+ * <p>
+ * Run with {@code ./gradlew :spring-integration-benchmarks:jmh -PjmhIncludes=MessageBuilderBenchmarks}.
+ *
+ * @since 7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageBuilderBenchmarks {
+
+	@Benchmark
+	public Message<?> buildNewMessage(MessageState state) {
+		return MessageBuilder.withPayload("test")
+				.copyHeaders(state.headers)
+				.build();
+	}
+
+	@Benchmark
+	public Message<?> addHeaderToExistingMessage(MessageState state) {
+		return state.messageBuilderFactory.fromMessage(state.message)
+				.setHeader("extra", "value")
+				.build();
+	}
+
+	@Benchmark
+	public Message<?> removeHeaderFromExistingMessage(MessageState state) {
+		return state.messageBuilderFactory.fromMessage(state.message)
+				.removeHeader("header0")
+				.build();
+	}
+
+	@State(Scope.Benchmark)
+	public static class MessageState {
+
+		@Param({ "0", "10", "30" })
+		int headerCount;
+
+		@Param({ "false", "true" })
+		boolean shareHeaders;
+
+		DefaultMessageBuilderFactory messageBuilderFactory;
+
+		Map<String, Object> headers;
+
+		Message<String> message;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.headers = new HashMap<>();
+			for (int i = 0; i < this.headerCount; i++) {
+				this.headers.put("header" + i, "value" + i);
+			}
+			this.message = MessageBuilder.withPayload("test").copyHeaders(this.headers).build();
+			this.messageBuilderFactory = new DefaultMessageBuilderFactory();
+			this.messageBuilderFactory.setShareHeaders(this.shareHeaders);
+		}
+
+	}
+
+}
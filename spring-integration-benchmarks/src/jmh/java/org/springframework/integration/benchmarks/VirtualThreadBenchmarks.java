@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.integration.channel.ExecutorChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The benchmarks for an {@link ExecutorChannel} with a blocking subscriber
+ * dispatched on a platform thread pool versus virtual threads.
+ * The {@code locked} variant guards the blocking call with a {@code ReentrantLock}
+ * from the {@link DefaultLockRegistry}, like message group stores do,
+ * to show that such locking does not pin virtual threads to their carriers.
+ * <p>
+ * Run with {@code ./gradlew :spring-integration-benchmarks:jmh -PjmhIncludes=VirtualThreadBenchmarks}.
+ * Add {@code -Djdk.tracePinnedThreads=full} (Java 21-23) to the JMH JVM arguments,
+ * or record a JFR {@code jdk.VirtualThreadPinned} event, to verify there is no pinning.
+ *
+ * @since 7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VirtualThreadBenchmarks {
+
+	private static final int BATCH_SIZE = 1000;
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void blockingSubscriber(ExecutorChannelState state) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(BATCH_SIZE);
+		state.latch.set(latch);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			state.channel.send(state.message);
+		}
+		latch.await(1, TimeUnit.MINUTES);
+	}
+
+	@State(Scope.Benchmark)
+	public static class ExecutorChannelState {
+
+		@Param({ "platform", "virtual" })
+		String threads;
+
+		@Param({ "false", "true" })
+		boolean locked;
+
+		@Param({ "1" })
+		long blockMillis;
+
+		final AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+
+		final DefaultLockRegistry lockRegistry = new DefaultLockRegistry();
+
+		final Message<String> message = MessageBuilder.withPayload("test").build();
+
+		ExecutorChannel channel;
+
+		ThreadPoolTaskExecutor threadPool;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Executor executor;
+			if ("virtual".equals(this.threads)) {
+				executor = new VirtualThreadTaskExecutor("benchmark-");
+			}
+			else {
+				this.threadPool = new ThreadPoolTaskExecutor();
+				this.threadPool.setCorePoolSize(200);
+				this.threadPool.setThreadNamePrefix("benchmark-");
+				this.threadPool.initialize();
+				executor = this.threadPool;
+			}
+			this.channel = new ExecutorChannel(executor);
+			this.channel.subscribe(message -> {
+				if (this.locked) {
+					Lock lock = this.lockRegistry.obtain(message.getHeaders().getId());
+					lock.lock();
+					try {
+						block();
+					}
+					finally {
+						lock.unlock();
+					}
+				}
+				else {
+					block();
+				}
+				this.latch.get().countDown();
+			});
+		}
+
+		private void block() {
+			try {
+				Thread.sleep(this.blockMillis);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (this.threadPool != null) {
+				this.threadPool.shutdown();
+			}
+		}
+
+	}
+
+}
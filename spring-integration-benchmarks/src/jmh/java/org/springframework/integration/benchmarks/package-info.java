@@ -0,0 +1,5 @@
+/**
+ * JMH benchmarks for the Spring Integration hot paths.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.integration.benchmarks;
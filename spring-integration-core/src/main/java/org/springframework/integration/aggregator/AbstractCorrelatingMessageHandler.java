@@ -58,6 +58,7 @@ import org.springframework.integration.support.AbstractIntegrationMessageBuilder
 import org.springframework.integration.support.locks.DefaultLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.integration.util.UUIDConverter;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -115,6 +116,8 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 	private final Map<UUID, ScheduledFuture<?>> expireGroupScheduledFutures = new ConcurrentHashMap<>();
 
+	private final Map<Object, GroupReleaseState> releaseStates = new ConcurrentHashMap<>();
+
 	private MessageGroupProcessor outputProcessor;
 
 	@SuppressWarnings("NullAway.Init")
@@ -171,6 +174,8 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 	private boolean releaseLockBeforeSend;
 
+	private boolean trackReleaseState;
+
 	private volatile boolean running;
 
 	@Nullable
@@ -351,6 +356,23 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		this.releaseLockBeforeSend = releaseLockBeforeSend;
 	}
 
+	/**
+	 * Set to true to keep a {@link GroupReleaseState} in memory for each open group
+	 * when the release strategy is an {@link IncrementalReleaseStrategy}.
+	 * The state is updated with every new message instead of being rebuilt from the group.
+	 * It is removed when the group is released, expired or removed by this handler;
+	 * states of the groups removed elsewhere are dropped by the {@link #purgeOrphanedGroups()}.
+	 * Therefore, a group timeout or an {@link #setExpireTimeout(long) expireTimeout} is recommended
+	 * for groups which may never be completed.
+	 * Defaults to false: the strategy is consulted with the state built from the group.
+	 * @param trackReleaseState true to keep the running release state of the groups.
+	 * @since 7.1
+	 * @see IncrementalReleaseStrategy
+	 */
+	public void setTrackReleaseState(boolean trackReleaseState) {
+		this.trackReleaseState = trackReleaseState;
+	}
+
 	/**
 	 * Configure a timeout in milliseconds for purging old orphaned groups from the store.
 	 * Used on startup and when an {@link #expireDuration} is provided, the task for running
@@ -453,6 +475,14 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		}
 	}
 
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptorToRegister) {
+		super.registerMetricsCaptor(metricsCaptorToRegister);
+		if (this.correlationStrategy instanceof ExpressionEvaluatingCorrelationStrategy expressionCorrelationStrategy) {
+			expressionCorrelationStrategy.registerMetricsCaptor(metricsCaptorToRegister, getComponentName());
+		}
+	}
+
 	private MessageGroupProcessor createGroupTimeoutProcessor() {
 		MessageGroupProcessor processor = new ForceReleaseMessageGroupProcessor();
 
@@ -596,13 +626,14 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 			messageGroup = setGroupConditionIfAny(message, messageGroup);
 
-			if (this.releaseStrategy.canRelease(messageGroup)) {
+			if (canRelease(correlationKey, messageGroup, message)) {
 				Collection<Message<?>> completedMessages = null;
 				try {
 					noOutput = false;
 					completedMessages = completeGroup(message, correlationKey, messageGroup, lock);
 				}
 				finally {
+					this.releaseStates.remove(correlationKey);
 					// Possible clean (implementation dependency) up
 					// even if there was an exception processing messages
 					afterRelease(messageGroup, completedMessages);
@@ -622,6 +653,31 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		return noOutput;
 	}
 
+	/**
+	 * Consult the {@link IncrementalReleaseStrategy} with the running state of the group
+	 * updated with the just added message, if {@link #setTrackReleaseState(boolean)} is enabled,
+	 * or the {@link ReleaseStrategy} with the group otherwise.
+	 * The state is rebuilt from the group when it is out of sync with the store,
+	 * e.g. after a restart, a partial release or when the group is shared with other instances.
+	 */
+	private boolean canRelease(Object correlationKey, MessageGroup messageGroup, Message<?> message) {
+		if (this.trackReleaseState
+				&& this.releaseStrategy instanceof IncrementalReleaseStrategy incrementalReleaseStrategy) {
+
+			GroupReleaseState state = this.releaseStates.get(correlationKey);
+			if (state == null || state.getCount() + 1 != messageGroup.size()) {
+				state = GroupReleaseState.from(messageGroup, incrementalReleaseStrategy);
+				this.releaseStates.put(correlationKey, state);
+			}
+			else {
+				state.add(message, incrementalReleaseStrategy);
+			}
+			state.setComplete(messageGroup.isComplete());
+			return incrementalReleaseStrategy.canRelease(state);
+		}
+		return this.releaseStrategy.canRelease(messageGroup);
+	}
+
 	private void cancelScheduledFutureIfAny(Object correlationKey, UUID groupIdUuid, boolean mayInterruptIfRunning) {
 		ScheduledFuture<?> scheduledFuture = this.expireGroupScheduledFutures.remove(groupIdUuid);
 		if (scheduledFuture != null) {
@@ -789,6 +845,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 			lock.lockInterruptibly();
 			try {
 				cancelScheduledFutureIfAny(correlationKey, groupId, false);
+				this.releaseStates.remove(correlationKey);
 				MessageGroup groupNow = group;
 				/*
 				 * If the group argument is not already complete,
@@ -876,6 +933,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 	protected void remove(MessageGroup group) {
 		Object correlationKey = group.getGroupId();
+		this.releaseStates.remove(correlationKey);
 		this.messageStore.removeMessageGroup(correlationKey);
 	}
 
@@ -892,6 +950,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 	protected void expireGroup(Object correlationKey, MessageGroup group, Lock lock) {
 		this.logger.debug(() -> "Expiring MessageGroup with correlationKey[" + correlationKey + "]");
+		this.releaseStates.remove(correlationKey);
 		if (this.sendPartialResultOnExpiry) {
 			this.logger.debug(() -> "Prematurely releasing partially complete group with key ["
 					+ correlationKey + "] to: " + getOutputChannel());
@@ -1053,11 +1112,16 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 	 * Perform a {@link MessageGroupStore#expireMessageGroups(long)} with the provided {@link #expireTimeout}.
 	 * Can be called externally at any time.
 	 * Internally it is called from the scheduled task with the configured {@link #expireDuration}.
+	 * The running states of the groups which are not in the store anymore
+	 * (e.g. removed by another instance or directly via the store) are dropped as well.
 	 * @since 5.4
 	 */
 	public void purgeOrphanedGroups() {
 		Assert.isTrue(this.expireTimeout > 0, "'expireTimeout' must be more than 0.");
 		this.messageStore.expireMessageGroups(this.expireTimeout);
+		if (!this.releaseStates.isEmpty()) {
+			this.releaseStates.keySet().removeIf((groupId) -> this.messageStore.messageGroupSize(groupId) == 0);
+		}
 	}
 
 	protected static class SequenceAwareMessageGroup extends SimpleMessageGroup {
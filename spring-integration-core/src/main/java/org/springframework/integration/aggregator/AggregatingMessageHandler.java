@@ -17,19 +17,29 @@
 package org.springframework.integration.aggregator;
 
 import java.util.Collection;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.IntegrationPatternType;
+import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
+import org.springframework.integration.store.ShardedMessageGroupStore;
 import org.springframework.integration.store.SimpleMessageStore;
 import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
 
 /**
  * Aggregator specific implementation of {@link AbstractCorrelatingMessageHandler}.
  * Will remove {@link MessageGroup}s in the {@linkplain #afterRelease}
  * only if 'expireGroupsUponCompletion' flag is set to 'true'.
+ * <p>
+ * Starting with version 7.1, the handler can fold messages into an accumulator
+ * instead of storing them in the group.
+ * See {@link #setFoldFunction(Supplier, BiFunction)} for more information.
  *
  * @author Oleg Zhurakousky
  * @author Artem Bilan
@@ -40,8 +50,18 @@ import org.springframework.messaging.Message;
  */
 public class AggregatingMessageHandler extends AbstractCorrelatingMessageHandler {
 
+	/**
+	 * The header of the accumulator message with the number of messages folded into it.
+	 * @since 7.1
+	 */
+	public static final String FOLDED_MESSAGE_COUNT = "foldedMessageCount";
+
 	private volatile boolean expireGroupsUponCompletion = false;
 
+	private @Nullable Supplier<?> foldInitialValue;
+
+	private @Nullable BiFunction<Object, Message<?>, ?> foldFunction;
+
 	public AggregatingMessageHandler(MessageGroupProcessor processor, MessageGroupStore store,
 			@Nullable CorrelationStrategy correlationStrategy, @Nullable ReleaseStrategy releaseStrategy) {
 
@@ -65,6 +85,93 @@ public class AggregatingMessageHandler extends AbstractCorrelatingMessageHandler
 		this.expireGroupsUponCompletion = expireGroupsUponCompletion;
 	}
 
+	/**
+	 * Fold the messages of a group into an accumulator instead of storing them.
+	 * The group in the store holds only a single message: the accumulator as a payload,
+	 * the headers of the first message of the group (except the sequence number) and a
+	 * {@link #FOLDED_MESSAGE_COUNT} header.
+	 * So, the release strategy is consulted with that single-message group.
+	 * The default {@link SimpleSequenceSizeReleaseStrategy} is replaced with a strategy
+	 * comparing the {@link #FOLDED_MESSAGE_COUNT} with the sequence size.
+	 * The default {@link DefaultAggregatingMessageGroupProcessor} is replaced with a
+	 * {@link FoldingMessageGroupProcessor} which emits the accumulator as the output payload.
+	 * Duplicate sequence numbers are not detected in this mode.
+	 * <p>
+	 * Every message replaces the accumulator message in the group, so this mode is supported
+	 * only with the in-memory {@link SimpleMessageStore} and {@link ShardedMessageGroupStore}.
+	 * @param initialValue the supplier of the initial accumulator for a new group.
+	 * @param foldFunction the function to combine the accumulator with a new message.
+	 * @param <A> the accumulator type.
+	 * @since 7.1
+	 */
+	@SuppressWarnings("unchecked")
+	public <A> void setFoldFunction(Supplier<? extends A> initialValue,
+			BiFunction<? super A, Message<?>, ? extends A> foldFunction) {
+
+		Assert.notNull(initialValue, "'initialValue' must not be null");
+		Assert.notNull(foldFunction, "'foldFunction' must not be null");
+		this.foldInitialValue = initialValue;
+		this.foldFunction = (BiFunction<Object, Message<?>, ?>) foldFunction;
+		if (getOutputProcessor() instanceof DefaultAggregatingMessageGroupProcessor) {
+			setOutputProcessor(new FoldingMessageGroupProcessor());
+		}
+	}
+
+	@Override
+	protected void onInit() {
+		if (this.foldFunction != null) {
+			MessageGroupStore messageStore = getMessageStore();
+			Assert.state(messageStore instanceof SimpleMessageStore || messageStore instanceof ShardedMessageGroupStore,
+					() -> "The fold mode is supported only with an in-memory 'SimpleMessageStore' or " +
+							"'ShardedMessageGroupStore', not: " + messageStore);
+			if (getReleaseStrategy() instanceof SimpleSequenceSizeReleaseStrategy) {
+				setReleaseStrategy(new FoldedSequenceSizeReleaseStrategy());
+			}
+		}
+		super.onInit();
+	}
+
+	@Override
+	protected MessageGroup store(Object correlationKey, Message<?> message) {
+		if (this.foldFunction == null || this.foldInitialValue == null) {
+			return super.store(correlationKey, message);
+		}
+
+		MessageGroupStore messageStore = getMessageStore();
+		Message<?> accumulatorMessage = messageStore.getOneMessageFromGroup(correlationKey);
+		Object accumulator;
+		int foldedMessageCount;
+		Message<?> headersSource;
+		if (accumulatorMessage == null) {
+			accumulator = this.foldInitialValue.get();
+			foldedMessageCount = 0;
+			headersSource = message;
+		}
+		else {
+			accumulator = accumulatorMessage.getPayload();
+			foldedMessageCount = getFoldedMessageCount(accumulatorMessage);
+			headersSource = accumulatorMessage;
+		}
+		Object newAccumulator = this.foldFunction.apply(accumulator, message);
+		Assert.state(newAccumulator != null, "The 'foldFunction' must not return null");
+		Message<?> newAccumulatorMessage =
+				getMessageBuilderFactory()
+						.withPayload(newAccumulator)
+						.copyHeaders(headersSource.getHeaders())
+						.removeHeader(IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER)
+						.setHeader(FOLDED_MESSAGE_COUNT, foldedMessageCount + 1)
+						.build();
+		if (accumulatorMessage != null) {
+			messageStore.removeMessagesFromGroup(correlationKey, accumulatorMessage);
+		}
+		return messageStore.addMessageToGroup(correlationKey, newAccumulatorMessage);
+	}
+
+	private static int getFoldedMessageCount(Message<?> accumulatorMessage) {
+		Integer count = accumulatorMessage.getHeaders().get(FOLDED_MESSAGE_COUNT, Integer.class);
+		return count != null ? count : 1;
+	}
+
 	@Override
 	public IntegrationPatternType getIntegrationPatternType() {
 		return IntegrationPatternType.aggregator;
@@ -115,4 +222,20 @@ public class AggregatingMessageHandler extends AbstractCorrelatingMessageHandler
 		}
 	}
 
+	/**
+	 * The {@link SimpleSequenceSizeReleaseStrategy} variant for folded groups:
+	 * compares the {@link #FOLDED_MESSAGE_COUNT} of the accumulator message with the sequence size.
+	 */
+	private static final class FoldedSequenceSizeReleaseStrategy implements ReleaseStrategy {
+
+		@Override
+		public boolean canRelease(MessageGroup group) {
+			Message<?> accumulatorMessage = group.getOne();
+			return accumulatorMessage != null
+					&& StaticMessageHeaderAccessor.getSequenceSize(accumulatorMessage)
+					== getFoldedMessageCount(accumulatorMessage);
+		}
+
+	}
+
 }
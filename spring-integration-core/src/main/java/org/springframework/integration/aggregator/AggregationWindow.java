@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * The definition of windows for the {@link WindowAggregatorMessageHandler}.
+ * <ul>
+ * <li>{@link #tumbling(Duration)} - fixed-size, non-overlapping windows aligned to the epoch;</li>
+ * <li>{@link #hopping(Duration, Duration)} - fixed-size windows starting every {@code advance},
+ * so a message belongs to several overlapping windows;</li>
+ * <li>{@link #session(Duration)} - a window which is closed after a {@code gap} of inactivity;</li>
+ * <li>{@link #count(int)} - a window which is closed after a number of messages.</li>
+ * </ul>
+ * A maximum number of messages can be applied to time-based windows via {@link #maxCount(int)}.
+ *
+ * @since 7.1
+ */
+public final class AggregationWindow {
+
+	private final Type type;
+
+	private final @Nullable Duration size;
+
+	private final @Nullable Duration advance;
+
+	private final int maxCount;
+
+	private AggregationWindow(Type type, @Nullable Duration size, @Nullable Duration advance, int maxCount) {
+		this.type = type;
+		this.size = size;
+		this.advance = advance;
+		this.maxCount = maxCount;
+	}
+
+	/**
+	 * Create a definition for fixed-size, non-overlapping time windows.
+	 * @param size the window size; at least one millisecond.
+	 * @return the window definition.
+	 */
+	public static AggregationWindow tumbling(Duration size) {
+		assertPositive(size, "size");
+		return new AggregationWindow(Type.TUMBLING, size, size, 0);
+	}
+
+	/**
+	 * Create a definition for fixed-size time windows starting every {@code advance}.
+	 * @param size the window size; at least one millisecond.
+	 * @param advance the interval between window starts; must not exceed the size.
+	 * @return the window definition.
+	 */
+	public static AggregationWindow hopping(Duration size, Duration advance) {
+		assertPositive(size, "size");
+		assertPositive(advance, "advance");
+		Assert.isTrue(advance.compareTo(size) <= 0, "'advance' must not be greater than 'size'");
+		return new AggregationWindow(Type.HOPPING, size, advance, 0);
+	}
+
+	/**
+	 * Create a definition for a window closed after a gap of inactivity for its key.
+	 * @param gap the inactivity gap; at least one millisecond.
+	 * @return the window definition.
+	 */
+	public static AggregationWindow session(Duration gap) {
+		assertPositive(gap, "gap");
+		return new AggregationWindow(Type.SESSION, gap, null, 0);
+	}
+
+	/**
+	 * Create a definition for a window closed after the number of messages.
+	 * @param count the number of messages.
+	 * @return the window definition.
+	 */
+	public static AggregationWindow count(int count) {
+		Assert.isTrue(count > 0, "'count' must be greater than 0");
+		return new AggregationWindow(Type.COUNT, null, null, count);
+	}
+
+	/**
+	 * Close the window earlier when it has reached the number of messages.
+	 * @param maxCount the maximum number of messages in a window.
+	 * @return a new window definition.
+	 */
+	public AggregationWindow maxCount(int maxCount) {
+		Assert.isTrue(maxCount > 0, "'maxCount' must be greater than 0");
+		return new AggregationWindow(this.type, this.size, this.advance, maxCount);
+	}
+
+	Type getType() {
+		return this.type;
+	}
+
+	long getSizeMillis() {
+		return this.size != null ? this.size.toMillis() : 0;
+	}
+
+	long getAdvanceMillis() {
+		return this.advance != null ? this.advance.toMillis() : 0;
+	}
+
+	int getMaxCount() {
+		return this.maxCount;
+	}
+
+	@Override
+	public String toString() {
+		return "AggregationWindow{" +
+				"type=" + this.type +
+				", size=" + this.size +
+				", advance=" + this.advance +
+				", maxCount=" + this.maxCount +
+				'}';
+	}
+
+	private static void assertPositive(Duration duration, String name) {
+		Assert.isTrue(duration.toMillis() > 0, () -> "'" + name + "' must be at least one millisecond");
+	}
+
+	enum Type {
+
+		TUMBLING, HOPPING, SESSION, COUNT
+
+	}
+
+}
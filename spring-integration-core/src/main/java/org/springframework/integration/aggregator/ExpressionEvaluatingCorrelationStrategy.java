@@ -23,9 +23,11 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.handler.ExpressionEvaluatingMessageProcessor;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
@@ -53,6 +55,28 @@ public class ExpressionEvaluatingCorrelationStrategy implements CorrelationStrat
 		this.processor = new ExpressionEvaluatingMessageProcessor<>(expression, Object.class);
 	}
 
+	/**
+	 * Set the {@link SpelCompilerMode} for the expression, overriding the
+	 * {@link org.springframework.integration.context.IntegrationProperties#SPEL_COMPILER_MODE} global property.
+	 * @param compilerMode the compiler mode.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingMessageProcessor#setCompilerMode(SpelCompilerMode)
+	 */
+	public void setCompilerMode(SpelCompilerMode compilerMode) {
+		this.processor.setCompilerMode(compilerMode);
+	}
+
+	/**
+	 * Inject a {@link MetricsCaptor} to count the reverts of the compiled expression to the interpreted mode.
+	 * @param metricsCaptor the captor.
+	 * @param componentName the name of the component to tag the counter with.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingMessageProcessor#registerMetricsCaptor(MetricsCaptor, String)
+	 */
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor, @Nullable String componentName) {
+		this.processor.registerMetricsCaptor(metricsCaptor, componentName);
+	}
+
 	public @Nullable Object getCorrelationKey(Message<?> message) {
 		return this.processor.processMessage(message);
 	}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link MessageGroupProcessor} for groups folded by the
+ * {@link AggregatingMessageHandler#setFoldFunction} into a single accumulator message:
+ * emits the accumulator as the output payload with the headers of the accumulator message,
+ * except the {@link AggregatingMessageHandler#FOLDED_MESSAGE_COUNT}.
+ *
+ * @since 7.1
+ */
+public class FoldingMessageGroupProcessor extends AbstractAggregatingMessageGroupProcessor {
+
+	@Override
+	protected Map<String, Object> aggregateHeaders(MessageGroup group) {
+		Map<String, Object> headers = new HashMap<>(super.aggregateHeaders(group));
+		headers.remove(AggregatingMessageHandler.FOLDED_MESSAGE_COUNT);
+		return headers;
+	}
+
+	@Override
+	protected Object aggregatePayloads(MessageGroup group, Map<String, Object> defaultHeaders) {
+		Message<?> accumulatorMessage = group.getOne();
+		Assert.state(accumulatorMessage != null, "The folded group must not be empty");
+		return accumulatorMessage.getPayload();
+	}
+
+}
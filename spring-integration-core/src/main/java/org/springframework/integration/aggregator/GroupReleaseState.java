@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.nio.ByteBuffer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.messaging.Message;
+
+/**
+ * The running state of a {@link MessageGroup} for an {@link IncrementalReleaseStrategy}:
+ * the number of messages, the minimal sequence number, payload size, earliest timestamp
+ * and a custom accumulator.
+ * Updated in constant time for every message added to the group.
+ *
+ * @since 7.1
+ */
+public final class GroupReleaseState {
+
+	private final Object groupId;
+
+	private int minSequenceNumber = -1;
+
+	private final int lastReleasedSequenceNumber;
+
+	private int count;
+
+	private int sequenceSize;
+
+	private long payloadSize;
+
+	private long earliestTimestamp = Long.MAX_VALUE;
+
+	private @Nullable Object accumulator;
+
+	private boolean complete;
+
+	GroupReleaseState(Object groupId, int lastReleasedSequenceNumber) {
+		this.groupId = groupId;
+		this.lastReleasedSequenceNumber = lastReleasedSequenceNumber;
+	}
+
+	/**
+	 * Return the group id.
+	 * @return the group id.
+	 */
+	public Object getGroupId() {
+		return this.groupId;
+	}
+
+	/**
+	 * Return the number of messages in the group.
+	 * @return the number of messages.
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Return the sequence size of the first message in the group, or 0.
+	 * @return the sequence size.
+	 */
+	public int getSequenceSize() {
+		return this.sequenceSize;
+	}
+
+	/**
+	 * Return the minimal sequence number in the group, or -1 if the group is empty.
+	 * Messages without a sequence number are considered as 0.
+	 * @return the minimal sequence number.
+	 */
+	public int getMinSequenceNumber() {
+		return this.minSequenceNumber;
+	}
+
+	/**
+	 * Return the sequence number of the last released message of the group at the moment
+	 * the state has been built.
+	 * @return the last released sequence number.
+	 * @see MessageGroup#getLastReleasedMessageSequenceNumber()
+	 */
+	public int getLastReleasedSequenceNumber() {
+		return this.lastReleasedSequenceNumber;
+	}
+
+	/**
+	 * Return the total size of the {@code byte[]}, {@link ByteBuffer} and {@link CharSequence}
+	 * payloads in the group (in bytes for binary payloads and characters for text).
+	 * Other payload types are not counted.
+	 * @return the payload size.
+	 */
+	public long getPayloadSize() {
+		return this.payloadSize;
+	}
+
+	/**
+	 * Return the earliest {@code timestamp} header value of the group messages,
+	 * or {@link Long#MAX_VALUE} if none.
+	 * @return the earliest timestamp.
+	 */
+	public long getEarliestTimestamp() {
+		return this.earliestTimestamp;
+	}
+
+	/**
+	 * Return the custom accumulator.
+	 * @param <A> the accumulator type.
+	 * @return the accumulator.
+	 * @see IncrementalReleaseStrategy#accumulate(Object, Message)
+	 */
+	@SuppressWarnings("unchecked")
+	public <A> @Nullable A getAccumulator() {
+		return (A) this.accumulator;
+	}
+
+	/**
+	 * Return true if the group is marked as complete in the store.
+	 * @return the complete flag of the group.
+	 * @see MessageGroup#isComplete()
+	 */
+	public boolean isComplete() {
+		return this.complete;
+	}
+
+	void setComplete(boolean complete) {
+		this.complete = complete;
+	}
+
+	void add(Message<?> message, IncrementalReleaseStrategy releaseStrategy) {
+		if (this.count++ == 0) {
+			this.sequenceSize = StaticMessageHeaderAccessor.getSequenceSize(message);
+		}
+		int sequenceNumber = StaticMessageHeaderAccessor.getSequenceNumber(message);
+		if (sequenceNumber >= 0 && (this.minSequenceNumber < 0 || sequenceNumber < this.minSequenceNumber)) {
+			this.minSequenceNumber = sequenceNumber;
+		}
+		this.payloadSize += payloadSize(message.getPayload());
+		Long timestamp = message.getHeaders().getTimestamp();
+		if (timestamp != null && timestamp < this.earliestTimestamp) {
+			this.earliestTimestamp = timestamp;
+		}
+		this.accumulator = releaseStrategy.accumulate(this.accumulator, message);
+	}
+
+	@Override
+	public String toString() {
+		return "GroupReleaseState{" +
+				"groupId=" + this.groupId +
+				", count=" + this.count +
+				", sequenceSize=" + this.sequenceSize +
+				", payloadSize=" + this.payloadSize +
+				'}';
+	}
+
+	private static long payloadSize(Object payload) {
+		if (payload instanceof byte[] bytes) {
+			return bytes.length;
+		}
+		else if (payload instanceof ByteBuffer byteBuffer) {
+			return byteBuffer.remaining();
+		}
+		else if (payload instanceof CharSequence charSequence) {
+			return charSequence.length();
+		}
+		return 0;
+	}
+
+	/**
+	 * Build the state from all the messages of the group.
+	 * @param group the group.
+	 * @param releaseStrategy the strategy to accumulate messages.
+	 * @return the state.
+	 */
+	static GroupReleaseState from(MessageGroup group, IncrementalReleaseStrategy releaseStrategy) {
+		GroupReleaseState state =
+				new GroupReleaseState(group.getGroupId(), group.getLastReleasedMessageSequenceNumber());
+		for (Message<?> message : group.getMessages()) {
+			state.add(message, releaseStrategy);
+		}
+		return state;
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.messaging.Message;
+
+/**
+ * A {@link ReleaseStrategy} which is consulted with the {@link GroupReleaseState} -
+ * the running state of the group updated with every new message - instead of
+ * the whole {@link MessageGroup}.
+ * With the {@link AbstractCorrelatingMessageHandler#setTrackReleaseState(boolean)} enabled,
+ * the handler maintains the state for each group in memory, so the release decision
+ * does not depend on the group size.
+ * Otherwise, the state is built from the group messages for every release decision.
+ * The state is rebuilt from the group messages if it is not in sync with the store
+ * (e.g. after an application restart or a partial release).
+ * <p>
+ * The {@link #accumulate(Object, Message)} can be implemented to maintain a custom
+ * accumulator in the state, e.g. a sum of some header values.
+ *
+ * @since 7.1
+ */
+@FunctionalInterface
+public interface IncrementalReleaseStrategy extends ReleaseStrategy {
+
+	/**
+	 * Determine if the group can be released according to its running state.
+	 * @param state the state of the group, including the message just added.
+	 * @return true if the group can be released.
+	 */
+	boolean canRelease(GroupReleaseState state);
+
+	/**
+	 * Fold the message into the custom accumulator of the group state.
+	 * Returns the accumulator as is by default.
+	 * @param accumulator the current accumulator; null for the first message.
+	 * @param message the message added to the group.
+	 * @return the new accumulator.
+	 */
+	default @Nullable Object accumulate(@Nullable Object accumulator, Message<?> message) {
+		return accumulator;
+	}
+
+	/**
+	 * Build the state from all the group messages and delegate to the
+	 * {@link #canRelease(GroupReleaseState)}.
+	 * Used when there is no new message, e.g. on group timeout.
+	 * @param group the group.
+	 * @return true if the group can be released.
+	 */
+	@Override
+	default boolean canRelease(MessageGroup group) {
+		return canRelease(GroupReleaseState.from(group, this));
+	}
+
+}
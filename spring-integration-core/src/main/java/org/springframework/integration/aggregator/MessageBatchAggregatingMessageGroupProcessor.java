@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.integration.support.MessageBatch;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link MessageGroupProcessor} which releases the messages of the group
+ * as a single message with a {@link MessageBatch} payload.
+ * <p>
+ * The aggregated headers go to the output message; each item of the batch keeps only the headers
+ * which differ from them, without the sequence details of the group.
+ * The messages with a {@link MessageBatch} payload are flattened into the resulting batch.
+ *
+ * @since 7.1
+ */
+public class MessageBatchAggregatingMessageGroupProcessor extends AbstractAggregatingMessageGroupProcessor {
+
+	@Override
+	protected final Object aggregatePayloads(MessageGroup group, Map<String, Object> defaultHeaders) {
+		Collection<Message<?>> messages = group.getMessages();
+		Assert.notEmpty(messages, this.getClass().getSimpleName() + " cannot process empty message groups");
+		MessageBatch.Builder<Object> builder = MessageBatch.builder();
+		for (Message<?> message : messages) {
+			Map<String, Object> itemHeaders = itemHeaders(message.getHeaders(), defaultHeaders);
+			if (message.getPayload() instanceof MessageBatch<?> batch) {
+				itemHeaders.putAll(batch.getHeaders());
+				for (MessageBatch.Item<?> item : batch.getItems()) {
+					Map<String, Object> headers = itemHeaders;
+					if (!item.headers().isEmpty()) {
+						headers = new HashMap<>(itemHeaders);
+						headers.putAll(item.headers());
+					}
+					builder.add(item.payload(), headers);
+				}
+			}
+			else {
+				builder.add(message.getPayload(), itemHeaders);
+			}
+		}
+		return builder.build();
+	}
+
+	private static Map<String, Object> itemHeaders(MessageHeaders messageHeaders, Map<String, Object> defaultHeaders) {
+		Map<String, Object> itemHeaders = new HashMap<>();
+		for (Map.Entry<String, Object> entry : messageHeaders.entrySet()) {
+			String key = entry.getKey();
+			if (MessageHeaders.ID.equals(key)
+					|| MessageHeaders.TIMESTAMP.equals(key)
+					|| IntegrationMessageHeaderAccessor.CORRELATION_ID.equals(key)
+					|| IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER.equals(key)
+					|| IntegrationMessageHeaderAccessor.SEQUENCE_SIZE.equals(key)
+					|| IntegrationMessageHeaderAccessor.SEQUENCE_DETAILS.equals(key)
+					|| Objects.equals(entry.getValue(), defaultHeaders.get(key))) {
+
+				continue;
+			}
+			itemHeaders.put(key, entry.getValue());
+		}
+		return itemHeaders;
+	}
+
+}
@@ -31,6 +31,10 @@ import org.springframework.messaging.Message;
  * An implementation of {@link ReleaseStrategy} that simply compares the current size of
  * the message list to the expected 'sequenceSize'. Supports release of partial sequences.
  * Correlating message handlers prevent the addition of duplicate sequences to the group.
+ * <p>
+ * As an {@link IncrementalReleaseStrategy}, the partial sequences are considered for release
+ * according to the sequence numbers in the {@link GroupReleaseState} instead of sorting the
+ * messages of the group on every new message.
  *
  * @author Mark Fisher
  * @author Marius Bogoevici
@@ -40,7 +44,7 @@ import org.springframework.messaging.Message;
  * @author Artem Bilan
  * @author Enrique Rodriguez
  */
-public class SequenceSizeReleaseStrategy implements ReleaseStrategy {
+public class SequenceSizeReleaseStrategy implements IncrementalReleaseStrategy {
 
 	private static final Log LOGGER = LogFactory.getLog(SequenceSizeReleaseStrategy.class);
 
@@ -109,4 +113,15 @@ public class SequenceSizeReleaseStrategy implements ReleaseStrategy {
 		return canRelease;
 	}
 
+	@Override
+	public boolean canRelease(GroupReleaseState state) {
+		int size = state.getCount();
+		if (this.releasePartialSequences && size > 0) {
+			return state.getMinSequenceNumber() - state.getLastReleasedSequenceNumber() == 1;
+		}
+		else {
+			return size == 0 || state.getSequenceSize() == size;
+		}
+	}
+
 }
@@ -35,7 +35,7 @@ import org.springframework.messaging.Message;
  *
  * @since 2.0
  */
-public class TimeoutCountSequenceSizeReleaseStrategy implements ReleaseStrategy {
+public class TimeoutCountSequenceSizeReleaseStrategy implements IncrementalReleaseStrategy {
 
 	/**
 	 * Default timeout is one minute.
@@ -70,6 +70,19 @@ public class TimeoutCountSequenceSizeReleaseStrategy implements ReleaseStrategy
 		return messages.isComplete() || messages.getMessages().size() >= this.threshold || elapsedTime > this.timeout;
 	}
 
+	/**
+	 * Same as {@link #canRelease(MessageGroup)}, but based on the running state of the group
+	 * instead of scanning its messages for the earliest timestamp.
+	 * @param state the running state of the group.
+	 * @return true if the group is complete, the threshold is reached or the timeout is exceeded.
+	 * @since 7.1
+	 */
+	@Override
+	public boolean canRelease(GroupReleaseState state) {
+		long elapsedTime = System.currentTimeMillis() - state.getEarliestTimestamp();
+		return state.isComplete() || state.getCount() >= this.threshold || elapsedTime > this.timeout;
+	}
+
 	/**
 	 * @param messages the message group
 	 * @return the earliest timestamp or Long.MAX_VALUE
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.IntegrationPatternType;
+import org.springframework.integration.handler.AbstractMessageProducingHandler;
+import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.util.HashedTimingWheel;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AbstractMessageProducingHandler} implementation for windowed aggregation:
+ * messages are folded into the open windows of their correlation key, according to the
+ * provided {@link AggregationWindow}, and a message with the accumulator as a payload is
+ * emitted for every closed window.
+ * <p>
+ * The windows are kept in memory: only the accumulator, the headers of the first message
+ * and the window bounds are retained for every window.
+ * All the time-based windows are closed by a single {@link HashedTimingWheel} ticking on the
+ * {@link #getTaskScheduler()}, so there is no scheduled task per window or per key.
+ * The windows closed on a tick are emitted in a single task.
+ * <p>
+ * The emitted message has the headers of the first message in the window, the
+ * {@link IntegrationMessageHeaderAccessor#CORRELATION_ID} with the correlation key and
+ * {@link #WINDOW_START} and {@link #WINDOW_END} headers with the window bounds in epoch milliseconds.
+ * By default, the payload is a list of the window message payloads.
+ *
+ * @since 7.1
+ *
+ * @see AggregationWindow
+ */
+public class WindowAggregatorMessageHandler extends AbstractMessageProducingHandler implements ManageableLifecycle {
+
+	/**
+	 * The header with the start of the window in epoch milliseconds.
+	 */
+	public static final String WINDOW_START = "windowStart";
+
+	/**
+	 * The header with the end of the window in epoch milliseconds.
+	 */
+	public static final String WINDOW_END = "windowEnd";
+
+	private static final long SINGLE_WINDOW_SLOT = Long.MIN_VALUE;
+
+	private final Map<Object, KeyWindows> windows = new ConcurrentHashMap<>();
+
+	private final AtomicInteger openWindowCount = new AtomicInteger();
+
+	private final AggregationWindow window;
+
+	private CorrelationStrategy correlationStrategy =
+			new HeaderAttributeCorrelationStrategy(IntegrationMessageHeaderAccessor.CORRELATION_ID);
+
+	private Supplier<?> initialValue = ArrayList::new;
+
+	private BiFunction<Object, Message<?>, ?> foldFunction = WindowAggregatorMessageHandler::addPayload;
+
+	private Duration tickDuration = HashedTimingWheel.DEFAULT_TICK_DURATION;
+
+	private int wheelSize = HashedTimingWheel.DEFAULT_WHEEL_SIZE;
+
+	@SuppressWarnings("NullAway.Init")
+	private HashedTimingWheel<WindowId> timingWheel;
+
+	private volatile boolean running;
+
+	/**
+	 * Create an instance for the provided window definition.
+	 * @param window the window definition.
+	 */
+	public WindowAggregatorMessageHandler(AggregationWindow window) {
+		Assert.notNull(window, "'window' must not be null");
+		this.window = window;
+	}
+
+	/**
+	 * Configure a {@link CorrelationStrategy} to determine a window key from the incoming messages.
+	 * By default, a {@link HeaderAttributeCorrelationStrategy} is used against a
+	 * {@link IntegrationMessageHeaderAccessor#CORRELATION_ID} header value.
+	 * @param correlationStrategy the {@link CorrelationStrategy} to use.
+	 */
+	public void setCorrelationStrategy(CorrelationStrategy correlationStrategy) {
+		Assert.notNull(correlationStrategy, "'correlationStrategy' must not be null");
+		this.correlationStrategy = correlationStrategy;
+	}
+
+	/**
+	 * Fold the messages of a window into an accumulator emitted as the payload on window close.
+	 * By default, the payloads are collected into a list.
+	 * @param initialValue the supplier of the initial accumulator for a new window.
+	 * @param foldFunction the function to combine the accumulator with a new message.
+	 * @param <A> the accumulator type.
+	 */
+	@SuppressWarnings("unchecked")
+	public <A> void setFoldFunction(Supplier<? extends A> initialValue,
+			BiFunction<? super A, Message<?>, ? extends A> foldFunction) {
+
+		Assert.notNull(initialValue, "'initialValue' must not be null");
+		Assert.notNull(foldFunction, "'foldFunction' must not be null");
+		this.initialValue = initialValue;
+		this.foldFunction = (BiFunction<Object, Message<?>, ?>) foldFunction;
+	}
+
+	/**
+	 * Set the tick duration of the timing wheel closing the windows.
+	 * A window is closed up to one tick after its end.
+	 * @param tickDuration the tick duration.
+	 * @see HashedTimingWheel#DEFAULT_TICK_DURATION
+	 */
+	public void setTickDuration(Duration tickDuration) {
+		Assert.isTrue(tickDuration.toMillis() > 0, "'tickDuration' must be at least one millisecond");
+		this.tickDuration = tickDuration;
+	}
+
+	/**
+	 * Set the number of buckets in the timing wheel closing the windows.
+	 * @param wheelSize the number of buckets.
+	 * @see HashedTimingWheel#DEFAULT_WHEEL_SIZE
+	 */
+	public void setWheelSize(int wheelSize) {
+		Assert.isTrue(wheelSize > 0, "'wheelSize' must be greater than 0");
+		this.wheelSize = wheelSize;
+	}
+
+	/**
+	 * Return the number of open windows for all the keys.
+	 * @return the number of open windows.
+	 */
+	public int getOpenWindowCount() {
+		return this.openWindowCount.get();
+	}
+
+	@Override
+	public String getComponentType() {
+		return "window-aggregator";
+	}
+
+	@Override
+	public IntegrationPatternType getIntegrationPatternType() {
+		return IntegrationPatternType.aggregator;
+	}
+
+	@Override
+	protected void onInit() {
+		super.onInit();
+		this.timingWheel =
+				new HashedTimingWheel<>(getTaskScheduler(), this::closeWindowsTask, this.tickDuration, this.wheelSize);
+	}
+
+	@Override
+	public void start() {
+		if (!this.running) {
+			this.running = true;
+			this.timingWheel.start();
+		}
+	}
+
+	@Override
+	public void stop() {
+		if (this.running) {
+			this.running = false;
+			this.timingWheel.stop();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public void destroy() {
+		stop();
+		super.destroy();
+	}
+
+	@Override
+	protected boolean shouldCopyRequestHeaders() {
+		return false;
+	}
+
+	@Override
+	protected void handleMessageInternal(Message<?> message) {
+		Object key = this.correlationStrategy.getCorrelationKey(message);
+		Assert.state(key != null, "Null correlation not allowed.  Maybe the CorrelationStrategy is failing?");
+		long now = System.currentTimeMillis();
+		List<Message<?>> closedWindows = new ArrayList<>(1);
+		while (true) {
+			KeyWindows keyWindows = this.windows.computeIfAbsent(key, KeyWindows::new);
+			keyWindows.lock.lock();
+			try {
+				if (keyWindows.removed) {
+					// Concurrently removed after the last window has been closed
+					continue;
+				}
+				addToWindows(keyWindows, message, now, closedWindows);
+				break;
+			}
+			finally {
+				keyWindows.lock.unlock();
+			}
+		}
+		closedWindows.forEach(this::emit);
+	}
+
+	/**
+	 * Close all the open windows and emit their results regardless of their bounds.
+	 * Can be used, for example, before application shutdown.
+	 */
+	public void flush() {
+		List<Message<?>> closedWindows = new ArrayList<>();
+		for (KeyWindows keyWindows : this.windows.values()) {
+			keyWindows.lock.lock();
+			try {
+				for (Long slot : new ArrayList<>(keyWindows.openWindows.keySet())) {
+					closeWindow(keyWindows, slot, closedWindows);
+				}
+			}
+			finally {
+				keyWindows.lock.unlock();
+			}
+		}
+		closedWindows.forEach(this::emit);
+	}
+
+	private void addToWindows(KeyWindows keyWindows, Message<?> message, long now, List<Message<?>> closedWindows) {
+		long size = this.window.getSizeMillis();
+		switch (this.window.getType()) {
+			case TUMBLING -> {
+				long start = now - Math.floorMod(now, size);
+				addToWindow(keyWindows, start, start, start + size, message, now, closedWindows);
+			}
+			case HOPPING -> {
+				long advance = this.window.getAdvanceMillis();
+				for (long start = now - Math.floorMod(now, advance); start > now - size; start -= advance) {
+					addToWindow(keyWindows, start, start, start + size, message, now, closedWindows);
+				}
+			}
+			case SESSION -> addToWindow(keyWindows, SINGLE_WINDOW_SLOT, now, now + size, message, now, closedWindows);
+			case COUNT -> addToWindow(keyWindows, SINGLE_WINDOW_SLOT, now, 0, message, now, closedWindows);
+		}
+	}
+
+	private void addToWindow(KeyWindows keyWindows, long slot, long start, long end, Message<?> message, long now,
+			List<Message<?>> closedWindows) {
+
+		OpenWindow openWindow = keyWindows.openWindows.get(slot);
+		if (openWindow == null) {
+			openWindow = new OpenWindow(start, end, this.initialValue.get(), message.getHeaders());
+			keyWindows.openWindows.put(slot, openWindow);
+			this.openWindowCount.incrementAndGet();
+			if (end > 0) {
+				WindowId windowId = new WindowId(keyWindows.key, slot, openWindow);
+				openWindow.timeout = this.timingWheel.schedule(windowId, Instant.ofEpochMilli(end));
+			}
+		}
+		else if (this.window.getType() == AggregationWindow.Type.SESSION) {
+			// The wheel entry is moved to the new end lazily when the previous one expires
+			openWindow.end = end;
+		}
+		Object accumulator = this.foldFunction.apply(openWindow.accumulator, message);
+		Assert.state(accumulator != null, "The 'foldFunction' must not return null");
+		openWindow.accumulator = accumulator;
+		openWindow.lastMessageTime = now;
+		openWindow.count++;
+		int maxCount = this.window.getMaxCount();
+		if (maxCount > 0 && openWindow.count >= maxCount) {
+			closeWindow(keyWindows, slot, closedWindows);
+		}
+	}
+
+	private void closeWindow(KeyWindows keyWindows, long slot, List<Message<?>> closedWindows) {
+		OpenWindow openWindow = keyWindows.openWindows.remove(slot);
+		if (openWindow != null) {
+			this.openWindowCount.decrementAndGet();
+			HashedTimingWheel.Timeout<WindowId> timeout = openWindow.timeout;
+			if (timeout != null) {
+				// Closed before its end, e.g. by the maxCount: the wheel entry is not needed anymore
+				timeout.cancel();
+			}
+			long end = openWindow.end > 0 ? openWindow.end : openWindow.lastMessageTime;
+			closedWindows.add(
+					getMessageBuilderFactory()
+							.withPayload(openWindow.accumulator)
+							.copyHeaders(openWindow.firstHeaders)
+							.setHeader(IntegrationMessageHeaderAccessor.CORRELATION_ID, keyWindows.key)
+							.setHeader(WINDOW_START, openWindow.start)
+							.setHeader(WINDOW_END, end)
+							.build());
+		}
+		if (keyWindows.openWindows.isEmpty()) {
+			keyWindows.removed = true;
+			this.windows.remove(keyWindows.key, keyWindows);
+		}
+	}
+
+	private void closeWindowsTask(List<WindowId> windowIds) {
+		getTaskScheduler().schedule(() -> closeWindows(windowIds), Instant.now());
+	}
+
+	private void closeWindows(List<WindowId> windowIds) {
+		long now = System.currentTimeMillis();
+		List<Message<?>> closedWindows = new ArrayList<>();
+		for (WindowId windowId : windowIds) {
+			KeyWindows keyWindows = this.windows.get(windowId.key());
+			if (keyWindows != null) {
+				keyWindows.lock.lock();
+				try {
+					OpenWindow openWindow = keyWindows.openWindows.get(windowId.slot());
+					if (openWindow != null && openWindow == windowId.window()) {
+						if (openWindow.end > now) {
+							// A session window extended by later messages
+							openWindow.timeout =
+									this.timingWheel.schedule(windowId, Instant.ofEpochMilli(openWindow.end));
+						}
+						else {
+							closeWindow(keyWindows, windowId.slot(), closedWindows);
+						}
+					}
+				}
+				finally {
+					keyWindows.lock.unlock();
+				}
+			}
+		}
+		for (Message<?> closedWindow : closedWindows) {
+			try {
+				emit(closedWindow);
+			}
+			catch (Exception ex) {
+				logger.error(ex, () -> "Failed to emit the window result: " + closedWindow);
+			}
+		}
+	}
+
+	private void emit(Message<?> windowMessage) {
+		produceOutput(windowMessage, windowMessage);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object addPayload(Object accumulator, Message<?> message) {
+		((List<Object>) accumulator).add(message.getPayload());
+		return accumulator;
+	}
+
+	private record WindowId(Object key, long slot, OpenWindow window) {
+
+	}
+
+	private static final class KeyWindows {
+
+		private final Lock lock = new ReentrantLock();
+
+		private final Map<Long, OpenWindow> openWindows = new HashMap<>(2);
+
+		private final Object key;
+
+		private boolean removed;
+
+		KeyWindows(Object key) {
+			this.key = key;
+		}
+
+	}
+
+	private static final class OpenWindow {
+
+		private final long start;
+
+		private final MessageHeaders firstHeaders;
+
+		private long end;
+
+		private Object accumulator;
+
+		private long lastMessageTime;
+
+		private int count;
+
+		private HashedTimingWheel.@Nullable Timeout<WindowId> timeout;
+
+		OpenWindow(long start, long end, Object accumulator, MessageHeaders firstHeaders) {
+			this.start = start;
+			this.end = end;
+			this.accumulator = accumulator;
+			this.firstHeaders = firstHeaders;
+		}
+
+	}
+
+}
@@ -16,7 +16,7 @@
 
 package org.springframework.integration.channel;
 
-import java.util.ArrayDeque;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -67,6 +67,7 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.InterceptableChannel;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -417,9 +418,9 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 	}
 
 	private boolean sendInternal(Message<?> message, long timeout) {
-		Deque<ChannelInterceptor> interceptorStack = null;
+		ChannelInterceptorList.SendInterceptors sendInterceptors = this.interceptors.sendInterceptors;
+		boolean afterSendCompletionRequired = false;
 		boolean sent = false;
-		ChannelInterceptorList interceptorList = this.interceptors;
 		Message<?> messageToSend = message;
 		try {
 			messageToSend = convertPayloadIfNecessary(messageToSend);
@@ -427,12 +428,12 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 			if (debugEnabled) {
 				logger.debug("preSend on channel '" + this + "', message: " + messageToSend);
 			}
-			if (interceptorList.getSize() > 0) {
-				interceptorStack = new ArrayDeque<>();
-				messageToSend = interceptorList.preSend(messageToSend, this, interceptorStack);
+			if (sendInterceptors.size > 0) {
+				messageToSend = sendInterceptors.preSend(messageToSend, this);
 				if (messageToSend == null) {
 					return false;
 				}
+				afterSendCompletionRequired = true;
 			}
 
 			sent = doSend(messageToSend, timeout);
@@ -440,15 +441,15 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 			if (debugEnabled) {
 				logger.debug("postSend (sent=" + sent + ") on channel '" + this + "', message: " + messageToSend);
 			}
-			if (interceptorStack != null) {
-				interceptorList.postSend(messageToSend, this, sent);
-				interceptorList.afterSendCompletion(messageToSend, this, sent, null, interceptorStack);
+			if (afterSendCompletionRequired) {
+				sendInterceptors.postSend(messageToSend, this, sent);
+				sendInterceptors.afterSendCompletion(messageToSend, this, sent, null, sendInterceptors.size);
 			}
 			return sent;
 		}
 		catch (Exception ex) {
-			if (interceptorStack != null) {
-				interceptorList.afterSendCompletion(messageToSend, this, sent, ex, interceptorStack);
+			if (afterSendCompletionRequired) {
+				sendInterceptors.afterSendCompletion(messageToSend, this, sent, ex, sendInterceptors.size);
 			}
 			throw IntegrationUtils.wrapInDeliveryExceptionIfNecessary(messageToSend,
 					() -> "failed to send Message to channel '" + getComponentName() + "'", ex);
@@ -538,6 +539,9 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 
 	/**
 	 * A convenience wrapper class for the list of ChannelInterceptors.
+	 * The send-related callbacks are also precompiled into arrays of only those interceptors
+	 * which override the respective {@link ChannelInterceptor} method;
+	 * these arrays are rebuilt whenever the list is modified.
 	 */
 	protected static class ChannelInterceptorList {
 
@@ -549,8 +553,11 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 
 		private int size;
 
+		private volatile SendInterceptors sendInterceptors;
+
 		public ChannelInterceptorList(LogAccessor logger) {
 			this.logger = logger;
+			this.sendInterceptors = new SendInterceptors(Collections.emptyList(), logger);
 		}
 
 		public boolean set(List<ChannelInterceptor> interceptors) {
@@ -558,7 +565,9 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 			try {
 				this.interceptors.clear();
 				this.size = interceptors.size();
-				return this.interceptors.addAll(interceptors);
+				boolean changed = this.interceptors.addAll(interceptors);
+				compileSendInterceptors();
+				return changed;
 			}
 			finally {
 				this.lock.unlock();
@@ -570,13 +579,32 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		public boolean add(ChannelInterceptor interceptor) {
-			this.size++;
-			return this.interceptors.add(interceptor);
+			this.lock.lock();
+			try {
+				this.size++;
+				boolean added = this.interceptors.add(interceptor);
+				compileSendInterceptors();
+				return added;
+			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 
 		public void add(int index, ChannelInterceptor interceptor) {
-			this.size++;
-			this.interceptors.add(index, interceptor);
+			this.lock.lock();
+			try {
+				this.size++;
+				this.interceptors.add(index, interceptor);
+				compileSendInterceptors();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void compileSendInterceptors() {
+			this.sendInterceptors = new SendInterceptors(this.interceptors, this.logger);
 		}
 
 		@Nullable
@@ -670,19 +698,159 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		public boolean remove(ChannelInterceptor interceptor) {
-			if (this.interceptors.remove(interceptor)) {
-				this.size--;
-				return true;
+			this.lock.lock();
+			try {
+				if (this.interceptors.remove(interceptor)) {
+					this.size--;
+					compileSendInterceptors();
+					return true;
+				}
+				else {
+					return false;
+				}
 			}
-			else {
-				return false;
+			finally {
+				this.lock.unlock();
 			}
 		}
 
 		public ChannelInterceptor remove(int index) {
-			ChannelInterceptor removed = this.interceptors.remove(index);
-			this.size--;
-			return removed;
+			this.lock.lock();
+			try {
+				ChannelInterceptor removed = this.interceptors.remove(index);
+				this.size--;
+				compileSendInterceptors();
+				return removed;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * An immutable snapshot of the interceptors for the send operation.
+		 * Only interceptors overriding the respective {@link ChannelInterceptor} method are invoked;
+		 * the {@code afterSendCompletion()} callbacks are selected by the position of the interceptor
+		 * in the whole list, so no per-send interceptor stack is needed.
+		 */
+		private static final class SendInterceptors {
+
+			private final int size;
+
+			private final ChannelInterceptor[] preSend;
+
+			private final int[] preSendPositions;
+
+			private final ChannelInterceptor[] postSend;
+
+			private final ChannelInterceptor[] afterSendCompletion;
+
+			private final int[] afterSendCompletionPositions;
+
+			private final LogAccessor logger;
+
+			SendInterceptors(List<ChannelInterceptor> interceptors, LogAccessor logger) {
+				List<ChannelInterceptor> preSendInterceptors = new ArrayList<>();
+				List<Integer> preSendInterceptorPositions = new ArrayList<>();
+				List<ChannelInterceptor> postSendInterceptors = new ArrayList<>();
+				List<ChannelInterceptor> afterSendCompletionInterceptors = new ArrayList<>();
+				List<Integer> afterSendCompletionInterceptorPositions = new ArrayList<>();
+				int position = 0;
+				for (ChannelInterceptor interceptor : interceptors) {
+					if (overrides(interceptor, "preSend", Message.class, MessageChannel.class)) {
+						preSendInterceptors.add(interceptor);
+						preSendInterceptorPositions.add(position);
+					}
+					if (overrides(interceptor, "postSend", Message.class, MessageChannel.class, boolean.class)) {
+						postSendInterceptors.add(interceptor);
+					}
+					if (overrides(interceptor, "afterSendCompletion",
+							Message.class, MessageChannel.class, boolean.class, Exception.class)) {
+
+						afterSendCompletionInterceptors.add(interceptor);
+						afterSendCompletionInterceptorPositions.add(position);
+					}
+					position++;
+				}
+				this.size = position;
+				this.preSend = preSendInterceptors.toArray(new ChannelInterceptor[0]);
+				this.preSendPositions = preSendInterceptorPositions.stream().mapToInt(Integer::intValue).toArray();
+				this.postSend = postSendInterceptors.toArray(new ChannelInterceptor[0]);
+				this.afterSendCompletion = afterSendCompletionInterceptors.toArray(new ChannelInterceptor[0]);
+				this.afterSendCompletionPositions =
+						afterSendCompletionInterceptorPositions.stream().mapToInt(Integer::intValue).toArray();
+				this.logger = logger;
+			}
+
+			/**
+			 * Apply {@code preSend()} of the interceptors in order.
+			 * If an interceptor returns null or throws an exception, the {@code afterSendCompletion()}
+			 * is invoked for the interceptors which precede it.
+			 * @param message the message.
+			 * @param channel the channel.
+			 * @return the message to send or null to preclude the send.
+			 */
+			@Nullable Message<?> preSend(Message<?> message, MessageChannel channel) {
+				Message<?> messageToSend = message;
+				int index = 0;
+				try {
+					for (; index < this.preSend.length; index++) {
+						ChannelInterceptor interceptor = this.preSend[index];
+						Message<?> previous = messageToSend;
+						messageToSend = interceptor.preSend(messageToSend, channel);
+						if (messageToSend == null) {
+							this.logger.debug(() -> interceptor.getClass().getSimpleName()
+									+ " returned null from preSend, i.e. precluding the send.");
+							afterSendCompletion(previous, channel, false, null, this.preSendPositions[index]);
+							return null;
+						}
+					}
+				}
+				catch (RuntimeException ex) {
+					afterSendCompletion(message, channel, false, ex, this.preSendPositions[index]);
+					throw ex;
+				}
+				return messageToSend;
+			}
+
+			void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+				for (ChannelInterceptor interceptor : this.postSend) {
+					interceptor.postSend(message, channel, sent);
+				}
+			}
+
+			/**
+			 * Invoke {@code afterSendCompletion()} in reverse order on the interceptors
+			 * which positions in the whole list are before the provided one.
+			 * @param message the message.
+			 * @param channel the channel.
+			 * @param sent whether the message has been sent.
+			 * @param ex the exception, if any.
+			 * @param completedPreSend the number of interceptors which have completed {@code preSend()}.
+			 */
+			void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+					@Nullable Exception ex, int completedPreSend) {
+
+				for (int i = this.afterSendCompletion.length - 1; i >= 0; i--) {
+					if (this.afterSendCompletionPositions[i] < completedPreSend) {
+						ChannelInterceptor interceptor = this.afterSendCompletion[i];
+						try {
+							interceptor.afterSendCompletion(message, channel, sent, ex);
+						}
+						catch (Exception ex2) {
+							this.logger.error(ex2, () -> "Exception from afterSendCompletion in " + interceptor);
+						}
+					}
+				}
+			}
+
+			private static boolean overrides(ChannelInterceptor interceptor, String methodName,
+					Class<?>... parameterTypes) {
+
+				Method method = ClassUtils.getMethodIfAvailable(interceptor.getClass(), methodName, parameterTypes);
+				return method == null || !ChannelInterceptor.class.equals(method.getDeclaringClass());
+			}
+
 		}
 
 	}
@@ -17,6 +17,8 @@
 package org.springframework.integration.channel;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 
@@ -30,6 +32,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.PollableChannel;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.util.Assert;
 
 /**
  * Base class for all pollable channels.
@@ -120,6 +123,67 @@ public abstract class AbstractPollableChannel extends AbstractMessageChannel
 		}
 	}
 
+	/**
+	 * Receive up to {@code maxMessages} available messages from this channel in one call.
+	 * Waits for the first message according to the {@code timeout} semantics of the
+	 * {@link #receive(long)} and then takes whatever is immediately available without waiting.
+	 * The {@link ChannelInterceptor#preReceive} and {@link ChannelInterceptor#afterReceiveCompletion}
+	 * are called once for the whole batch (the latter with the last received message, if any),
+	 * whereas {@link ChannelInterceptor#postReceive} is called for each received message.
+	 * @param maxMessages the maximum number of messages to receive.
+	 * @param timeout the timeout in milliseconds to wait for the first message.
+	 * @return the received messages; never null, but could be empty.
+	 * @since 7.1
+	 */
+	public List<Message<?>> receiveBatch(int maxMessages, long timeout) {
+		Assert.isTrue(maxMessages > 0, "'maxMessages' must be greater than 0");
+		ChannelInterceptorList interceptorList = getIChannelInterceptorList();
+		Deque<ChannelInterceptor> interceptorStack = null;
+		boolean counted = false;
+		try {
+			if (interceptorList.getSize() > 0) {
+				interceptorStack = new ArrayDeque<>();
+
+				if (!interceptorList.preReceive(this, interceptorStack)) {
+					return Collections.emptyList();
+				}
+			}
+			List<Message<?>> messages = doReceiveBatch(maxMessages, timeout);
+			if (messages.isEmpty()) {
+				interceptorList.afterReceiveCompletion(null, this, null, interceptorStack);
+				return messages;
+			}
+
+			for (int i = 0; i < messages.size(); i++) {
+				incrementReceiveCounter();
+			}
+			counted = true;
+			logger.debug(LogMessage.format("postReceive on channel '%s', messages: %s", this, messages));
+
+			if (interceptorStack == null) {
+				return messages;
+			}
+
+			List<Message<?>> intercepted = new ArrayList<>(messages.size());
+			for (Message<?> received : messages) {
+				Message<?> message = interceptorList.postReceive(received, this);
+				if (message != null) {
+					intercepted.add(message);
+				}
+			}
+			Message<?> lastMessage = intercepted.isEmpty() ? null : intercepted.get(intercepted.size() - 1);
+			interceptorList.afterReceiveCompletion(lastMessage, this, null, interceptorStack);
+			return intercepted;
+		}
+		catch (RuntimeException ex) {
+			if (!counted) {
+				incrementReceiveErrorCounter(ex);
+			}
+			interceptorList.afterReceiveCompletion(null, this, ex, interceptorStack);
+			throw ex;
+		}
+	}
+
 	private void incrementReceiveCounter() {
 		MetricsCaptor metricsCaptor = getMetricsCaptor();
 		if (metricsCaptor != null) {
@@ -211,4 +275,40 @@ public abstract class AbstractPollableChannel extends AbstractMessageChannel
 	@Nullable
 	protected abstract Message<?> doReceive(long timeout);
 
+	/**
+	 * Receive up to {@code maxMessages} messages: wait for the first one according to the
+	 * {@code timeout} and take the rest only if they are immediately available.
+	 * The default implementation calls {@link #doReceive(long)} for each message.
+	 * Subclasses are encouraged to override this method to drain their storage in one operation.
+	 * @param maxMessages the maximum number of messages to receive.
+	 * @param timeout the timeout in milliseconds to wait for the first message.
+	 * @return the received messages.
+	 * @since 7.1
+	 */
+	protected List<Message<?>> doReceiveBatch(int maxMessages, long timeout) {
+		return receiveEach(maxMessages, timeout);
+	}
+
+	/**
+	 * Receive up to {@code maxMessages} messages calling {@link #doReceive(long)} for each of them.
+	 * Can be used by subclasses which have to restore the default behavior of the
+	 * {@link #doReceiveBatch(int, long)} overridden in their super class.
+	 * @param maxMessages the maximum number of messages to receive.
+	 * @param timeout the timeout in milliseconds to wait for the first message.
+	 * @return the received messages.
+	 * @since 7.1
+	 */
+	protected final List<Message<?>> receiveEach(int maxMessages, long timeout) {
+		Message<?> message = doReceive(timeout);
+		if (message == null) {
+			return Collections.emptyList();
+		}
+		List<Message<?>> messages = new ArrayList<>(Math.min(maxMessages, 16));
+		messages.add(message);
+		while (messages.size() < maxMessages && (message = doReceive(0)) != null) {
+			messages.add(message);
+		}
+		return messages;
+	}
+
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+
+/**
+ * A {@link MessageChannel} shared by request/reply operations as the reply and error channel
+ * instead of a temporary channel per request.
+ * Each request is registered with a unique correlation key, which is carried in the
+ * {@link #CORRELATION_KEY_HEADER} header, and a reply sent to this channel completes the
+ * future for its key.
+ * The keys are prefixed with a random {@link UUID} per channel instance, so a reply for a
+ * request of another instance (e.g. another application) is never correlated by mistake.
+ * A message with a missing or foreign key is not correlated.
+ * Error messages without this header are correlated by their original or failed message.
+ * <p>
+ * When this channel is a bean, the {@link #getReplyChannelHeaderValue()} is its bean name,
+ * so the requests can be serialized without registering a reply channel in the
+ * {@link org.springframework.integration.support.channel.HeaderChannelRegistry} per request.
+ * <p>
+ * A reply for a key which is not registered any more (e.g. the requester has timed out) is
+ * discarded with a warning, or rejected with a {@link MessageDeliveryException} if
+ * {@link #setThrowExceptionOnLateReply(boolean)} is set.
+ *
+ * @since 7.1
+ *
+ * @see org.springframework.integration.core.MessagingTemplate#setCorrelatingReplyChannel(CorrelatingReplyChannel)
+ */
+public class CorrelatingReplyChannel implements MessageChannel, BeanNameAware {
+
+	/**
+	 * The header with the correlation key of a request.
+	 */
+	public static final String CORRELATION_KEY_HEADER = "replyCorrelationKey";
+
+	private static final LogAccessor LOGGER = new LogAccessor(CorrelatingReplyChannel.class);
+
+	private final Map<String, CompletableFuture<Message<?>>> pendingReplies = new ConcurrentHashMap<>();
+
+	private final String correlationKeyPrefix = UUID.randomUUID() + "-";
+
+	private final AtomicLong correlationKeys = new AtomicLong();
+
+	private @Nullable String beanName;
+
+	private boolean throwExceptionOnLateReply;
+
+	@Override
+	public void setBeanName(String beanName) {
+		this.beanName = beanName;
+	}
+
+	/**
+	 * Set to true to reject a reply for a request which is not waiting for it any more.
+	 * Defaults to false: such a reply is logged and discarded.
+	 * @param throwExceptionOnLateReply true to throw an exception on a late reply.
+	 */
+	public void setThrowExceptionOnLateReply(boolean throwExceptionOnLateReply) {
+		this.throwExceptionOnLateReply = throwExceptionOnLateReply;
+	}
+
+	/**
+	 * Return the value for the {@link MessageHeaders#REPLY_CHANNEL} and
+	 * {@link MessageHeaders#ERROR_CHANNEL} headers of a request: the bean name, if this channel
+	 * is a bean, or this channel itself.
+	 * @return the header value.
+	 */
+	public Object getReplyChannelHeaderValue() {
+		return this.beanName != null ? this.beanName : this;
+	}
+
+	/**
+	 * Return the number of requests waiting for a reply.
+	 * @return the number of pending requests.
+	 */
+	public int getPendingReplyCount() {
+		return this.pendingReplies.size();
+	}
+
+	/**
+	 * Register a new request and return its correlation key for the {@link #CORRELATION_KEY_HEADER}.
+	 * The caller must {@link #receive(String, long)} or {@link #cancel(String)} the request.
+	 * @return the correlation key.
+	 */
+	public String register() {
+		String correlationKey = this.correlationKeyPrefix + this.correlationKeys.incrementAndGet();
+		this.pendingReplies.put(correlationKey, new CompletableFuture<>());
+		return correlationKey;
+	}
+
+	/**
+	 * Wait for the reply of the registered request and unregister it.
+	 * @param correlationKey the correlation key from the {@link #register()}.
+	 * @param timeout the time to wait in milliseconds; negative to wait indefinitely.
+	 * @return the reply or null if the timeout has elapsed or the thread is interrupted.
+	 */
+	public @Nullable Message<?> receive(String correlationKey, long timeout) {
+		CompletableFuture<Message<?>> reply = this.pendingReplies.get(correlationKey);
+		if (reply == null) {
+			return null;
+		}
+		try {
+			return timeout < 0 ? reply.get() : reply.get(timeout, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		catch (ExecutionException | TimeoutException ex) {
+			return null;
+		}
+		finally {
+			cancel(correlationKey);
+		}
+	}
+
+	/**
+	 * Unregister the request, e.g. when it has failed to be sent.
+	 * @param correlationKey the correlation key from the {@link #register()}.
+	 */
+	public void cancel(String correlationKey) {
+		this.pendingReplies.remove(correlationKey);
+	}
+
+	@Override
+	public boolean send(Message<?> message, long timeout) {
+		String correlationKey = correlationKey(message);
+		CompletableFuture<Message<?>> reply =
+				correlationKey != null ? this.pendingReplies.get(correlationKey) : null;
+		if (reply != null && reply.complete(message)) {
+			return true;
+		}
+		if (this.throwExceptionOnLateReply) {
+			throw new MessageDeliveryException(message,
+					"Reply message received but the receiving thread has exited due to a timeout");
+		}
+		LOGGER.warn(() -> "Reply message received but the receiving thread has exited due to a timeout: "
+				+ message);
+		return false;
+	}
+
+	private static @Nullable String correlationKey(Message<?> message) {
+		String correlationKey = correlationKey(message.getHeaders());
+		if (correlationKey == null && message instanceof ErrorMessage errorMessage) {
+			Message<?> originalMessage = errorMessage.getOriginalMessage();
+			if (originalMessage != null) {
+				correlationKey = correlationKey(originalMessage.getHeaders());
+			}
+			Throwable payload = errorMessage.getPayload();
+			if (correlationKey == null && payload instanceof MessagingException messagingException) {
+				Message<?> failedMessage = messagingException.getFailedMessage();
+				if (failedMessage != null) {
+					correlationKey = correlationKey(failedMessage.getHeaders());
+				}
+			}
+		}
+		return correlationKey;
+	}
+
+	private static @Nullable String correlationKey(MessageHeaders headers) {
+		return headers.get(CORRELATION_KEY_HEADER) instanceof String correlationKey ? correlationKey : null;
+	}
+
+	@Override
+	public String toString() {
+		return "CorrelatingReplyChannel{" +
+				"beanName=" + this.beanName +
+				", pendingReplies=" + this.pendingReplies.size() +
+				'}';
+	}
+
+}
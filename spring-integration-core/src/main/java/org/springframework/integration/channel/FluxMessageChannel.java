@@ -20,13 +20,20 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import reactor.core.Disposable;
 import reactor.core.Disposables;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -37,6 +44,8 @@ import org.springframework.core.log.LogMessage;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.support.MutableMessageBuilder;
+import org.springframework.integration.support.management.metrics.CounterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.integration.util.IntegrationReactiveUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageDeliveryException;
@@ -49,6 +58,12 @@ import org.springframework.util.ReflectionUtils;
  * <p>
  * This class implements {@link Lifecycle} to control subscriptions to publishers
  * attached via {@link #subscribeTo(Publisher)}, when this channel is restarted.
+ * <p>
+ * The number of messages buffered for slow subscribers and what to do when this buffer is full
+ * are controlled by the {@link #setBufferSize(int)} and {@link #setOverflowStrategy(OverflowStrategy)}.
+ * With the default {@link OverflowStrategy#BLOCK}, senders wait for the subscribers' demand.
+ * Messages can also be delivered to subscribers in batches,
+ * see {@link #setBatchSize(int)} and {@link #setBatchTimeout(Duration)}.
  *
  * @author Artem Bilan
  * @author Gary Russell
@@ -59,35 +74,162 @@ import org.springframework.util.ReflectionUtils;
 public class FluxMessageChannel extends AbstractMessageChannel
 		implements Publisher<Message<?>>, ReactiveStreamsSubscribableChannel, Lifecycle {
 
-	private final Sinks.Many<Message<?>> sink = Sinks.many().multicast().onBackpressureBuffer(1, false);
+	/**
+	 * The name of the counter for failed attempts to emit a message because the buffer is full.
+	 * @since 7.1
+	 */
+	public static final String EMIT_RETRIES_COUNTER_NAME = "spring.integration.channel.emit.retries";
+
+	/**
+	 * The name of the counter for messages dropped by the {@link OverflowStrategy#DROP}
+	 * and {@link OverflowStrategy#LATEST} strategies.
+	 * @since 7.1
+	 */
+	public static final String DROPPED_COUNTER_NAME = "spring.integration.channel.dropped";
+
+	private static final long MAX_DEMAND_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final int MAX_CONTENTION_SPINS = 100;
+
+	private static final long MAX_CONTENTION_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
 
 	private final List<Publisher<? extends Message<?>>> sourcePublishers = new ArrayList<>();
 
+	private final Lock sinkLock = new ReentrantLock();
+
+	private final Lock demandLock = new ReentrantLock();
+
+	private final Condition demandAvailable = this.demandLock.newCondition();
+
+	private final AtomicLong demandGeneration = new AtomicLong();
+
+	private final AtomicInteger demandWaiters = new AtomicInteger();
+
+	private int bufferSize = 1;
+
+	private OverflowStrategy overflowStrategy = OverflowStrategy.BLOCK;
+
+	private int batchSize = 1;
+
+	private Duration batchTimeout = Duration.ofMillis(100);
+
+	private volatile Sinks.@Nullable Many<Message<?>> sink;
+
+	private volatile @Nullable CounterFacade emitRetriesCounter;
+
+	private volatile @Nullable CounterFacade droppedCounter;
+
 	private volatile Disposable.Composite upstreamSubscriptions = Disposables.composite();
 
 	private volatile boolean active = true;
 
+	/**
+	 * Set the number of messages buffered for each subscriber which cannot keep up with senders.
+	 * Defaults to 1.
+	 * @param bufferSize the buffer size.
+	 * @since 7.1
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be greater than 0");
+		assertNotInUse();
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Set the {@link OverflowStrategy} for when the buffer is full.
+	 * Defaults to {@link OverflowStrategy#BLOCK}.
+	 * @param overflowStrategy the strategy to use.
+	 * @since 7.1
+	 */
+	public void setOverflowStrategy(OverflowStrategy overflowStrategy) {
+		Assert.notNull(overflowStrategy, "'overflowStrategy' must not be null");
+		assertNotInUse();
+		this.overflowStrategy = overflowStrategy;
+	}
+
+	/**
+	 * Set the maximum number of messages delivered to subscribers as a single message
+	 * with a {@code List<Message<?>>} payload.
+	 * A batch is emitted when it is full, or when the {@link #setBatchTimeout(Duration)} expires
+	 * since the first message in the batch.
+	 * Defaults to 1 - no batching.
+	 * @param batchSize the maximum number of messages in a batch.
+	 * @since 7.1
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		assertNotInUse();
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the maximum time to wait for a batch to be filled.
+	 * Defaults to 100 milliseconds.
+	 * Ignored if {@link #setBatchSize(int)} is 1.
+	 * @param batchTimeout the maximum time to wait for a batch.
+	 * @since 7.1
+	 */
+	public void setBatchTimeout(Duration batchTimeout) {
+		Assert.isTrue(batchTimeout.toMillis() > 0, "'batchTimeout' must be positive");
+		assertNotInUse();
+		this.batchTimeout = batchTimeout;
+	}
+
+	private void assertNotInUse() {
+		Assert.state(this.sink == null, () -> "The [" + this + "] cannot be reconfigured after it is in use");
+	}
+
 	@Override
-	protected boolean doSend(Message<?> message, long timeout) {
-		Assert.state(this.active && this.sink.currentSubscriberCount() > 0,
-				() -> "The [" + this + "] doesn't have subscribers to accept messages");
-		long remainingTime = 0;
-		if (timeout > 0) {
-			remainingTime = timeout;
-		}
-		long parkTimeout = 10; // NOSONAR
-		long parkTimeoutNs = TimeUnit.MILLISECONDS.toNanos(parkTimeout);
-		while (this.active && !tryEmitMessage(message)) {
-			remainingTime -= parkTimeout;
-			if (timeout >= 0 && remainingTime <= 0) {
-				return false;
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		this.emitRetriesCounter = buildCounter(metricsCaptor, EMIT_RETRIES_COUNTER_NAME,
+				"Failed attempts to emit a message into a full buffer");
+		if (this.overflowStrategy == OverflowStrategy.DROP || this.overflowStrategy == OverflowStrategy.LATEST) {
+			this.droppedCounter = buildCounter(metricsCaptor, DROPPED_COUNTER_NAME,
+					"Messages dropped because the buffer is full");
+		}
+	}
+
+	private CounterFacade buildCounter(MetricsCaptor metricsCaptor, String name, String description) {
+		CounterFacade counterFacade = metricsCaptor
+				.counterBuilder(name)
+				.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+				.tag("type", "channel")
+				.description(description)
+				.build();
+		this.meters.add(counterFacade);
+		return counterFacade;
+	}
+
+	private Sinks.Many<Message<?>> obtainSink() {
+		Sinks.Many<Message<?>> sinkToUse = this.sink;
+		if (sinkToUse == null) {
+			this.sinkLock.lock();
+			try {
+				sinkToUse = this.sink;
+				if (sinkToUse == null) {
+					sinkToUse =
+							switch (this.overflowStrategy) {
+								case BLOCK, ERROR ->
+										Sinks.many().multicast().onBackpressureBuffer(this.bufferSize, false);
+								// The per-subscriber onBackpressureBuffer() always has demand
+								case DROP, LATEST -> Sinks.many().multicast().directBestEffort();
+							};
+					this.sink = sinkToUse;
+				}
+			}
+			finally {
+				this.sinkLock.unlock();
 			}
-			LockSupport.parkNanos(parkTimeoutNs);
 		}
-		return true;
+		return sinkToUse;
 	}
 
-	private boolean tryEmitMessage(Message<?> message) {
+	@Override
+	protected boolean doSend(Message<?> message, long timeout) {
+		Sinks.Many<Message<?>> sinkToUse = obtainSink();
+		Assert.state(this.active && sinkToUse.currentSubscriberCount() > 0,
+				() -> "The [" + this + "] doesn't have subscribers to accept messages");
 		Message<?> messageToEmit = message;
 		ContextView contextView = IntegrationReactiveUtils.captureReactorContext();
 		if (!contextView.isEmpty()) {
@@ -95,29 +237,135 @@ public class FluxMessageChannel extends AbstractMessageChannel
 					.setHeader(IntegrationMessageHeaderAccessor.REACTOR_CONTEXT, contextView)
 					.build();
 		}
-
-		if (this.active) {
-			return switch (this.sink.tryEmitNext(messageToEmit)) {
-				case OK -> true;
-				case FAIL_NON_SERIALIZED, FAIL_OVERFLOW -> false;
+		long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+		int contendedAttempts = 0;
+		while (this.active) {
+			long demandGenerationBeforeEmit = this.demandGeneration.get();
+			switch (sinkToUse.tryEmitNext(messageToEmit)) {
+				case OK -> {
+					return true;
+				}
+				// Another thread is emitting right now
+				case FAIL_NON_SERIALIZED -> {
+					if (!backOffOnContention(++contendedAttempts, timeout, deadline)) {
+						return false;
+					}
+				}
+				case FAIL_OVERFLOW -> {
+					if (this.overflowStrategy == OverflowStrategy.ERROR) {
+						throw new MessageDeliveryException(message, "The [" + this + "] buffer is full");
+					}
+					CounterFacade counter = this.emitRetriesCounter;
+					if (counter != null) {
+						counter.increment();
+					}
+					if (timeout == 0 || !awaitDemand(demandGenerationBeforeEmit, deadline)) {
+						return false;
+					}
+				}
 				case FAIL_ZERO_SUBSCRIBER ->
-						throw new IllegalStateException("The [" + this + "] doesn't have subscribers to accept messages");
+						throw new IllegalStateException(
+								"The [" + this + "] doesn't have subscribers to accept messages");
 				case FAIL_TERMINATED, FAIL_CANCELLED ->
 						throw new IllegalStateException("Cannot emit messages into the cancelled or terminated sink: "
-								+ this.sink);
-			};
+								+ sinkToUse);
+			}
 		}
-		else {
+		return false;
+	}
+
+	/**
+	 * Spin for a few attempts, then park with an exponential backoff up to
+	 * {@link #MAX_CONTENTION_PARK_NANOS}, unless the send timeout has expired.
+	 * @return false if the send has to give up.
+	 */
+	private static boolean backOffOnContention(int attempt, long timeout, long deadline) {
+		if (attempt <= MAX_CONTENTION_SPINS) {
+			Thread.onSpinWait();
+			return true;
+		}
+		if (timeout == 0 || (deadline > 0 && deadline - System.nanoTime() <= 0)) {
 			return false;
 		}
+		long parkNanos = Math.min(MAX_CONTENTION_PARK_NANOS, 1L << Math.min(attempt - MAX_CONTENTION_SPINS, 20));
+		if (deadline > 0) {
+			parkNanos = Math.min(parkNanos, deadline - System.nanoTime());
+		}
+		LockSupport.parkNanos(parkNanos);
+		return !Thread.currentThread().isInterrupted();
+	}
+
+	/**
+	 * Wait until a message leaves the buffer after the provided demand generation.
+	 * The wait is sliced to re-check the buffer even if a signal is missed.
+	 */
+	private boolean awaitDemand(long demandGenerationBeforeEmit, long deadline) {
+		this.demandWaiters.incrementAndGet();
+		this.demandLock.lock();
+		try {
+			while (this.active && this.demandGeneration.get() == demandGenerationBeforeEmit) {
+				long waitNanos = MAX_DEMAND_WAIT_NANOS;
+				if (deadline > 0) {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						return false;
+					}
+					waitNanos = Math.min(waitNanos, remaining);
+				}
+				if (this.demandAvailable.awaitNanos(waitNanos) <= 0) {
+					break;
+				}
+			}
+			return true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		finally {
+			this.demandLock.unlock();
+			this.demandWaiters.decrementAndGet();
+		}
+	}
+
+	private void signalDemand() {
+		this.demandGeneration.incrementAndGet();
+		if (this.demandWaiters.get() > 0) {
+			this.demandLock.lock();
+			try {
+				this.demandAvailable.signalAll();
+			}
+			finally {
+				this.demandLock.unlock();
+			}
+		}
+	}
+
+	private void messageDropped(Message<?> message) {
+		CounterFacade counter = this.droppedCounter;
+		if (counter != null) {
+			counter.increment();
+		}
+		logger.debug(() -> "The [" + this + "] buffer is full; dropped message: " + message);
 	}
 
 	@Override
 	public void subscribe(Subscriber<? super Message<?>> subscriber) {
-		this.sink.asFlux()
-				.publish(1)
-				.refCount()
-				.subscribe(subscriber);
+		Flux<Message<?>> flux = obtainSink().asFlux();
+		flux =
+				switch (this.overflowStrategy) {
+					case BLOCK, ERROR -> flux.doOnNext((message) -> signalDemand());
+					case DROP -> flux.onBackpressureBuffer(this.bufferSize, this::messageDropped,
+							BufferOverflowStrategy.DROP_LATEST);
+					case LATEST -> flux.onBackpressureBuffer(this.bufferSize, this::messageDropped,
+							BufferOverflowStrategy.DROP_OLDEST);
+				};
+		flux = flux.publish(this.batchSize).refCount();
+		if (this.batchSize > 1) {
+			flux = flux.bufferTimeout(this.batchSize, this.batchTimeout, true)
+					.<Message<?>>map((messages) -> getMessageBuilderFactory().withPayload(messages).build());
+		}
+		flux.subscribe(subscriber);
 	}
 
 	@Override
@@ -157,7 +405,7 @@ public class FluxMessageChannel extends AbstractMessageChannel
 				Flux.from(publisher)
 						.doOnComplete(() -> this.sourcePublishers.remove(publisher))
 						.delaySubscription(
-								Mono.fromCallable(this.sink::currentSubscriberCount)
+								Mono.fromCallable(() -> obtainSink().currentSubscriberCount())
 										.filter((value) -> value > 0)
 										.repeatWhenEmpty((repeat) ->
 												this.active ? repeat.delayElements(Duration.ofMillis(100)) : repeat))
@@ -216,8 +464,42 @@ public class FluxMessageChannel extends AbstractMessageChannel
 		this.active = false;
 		this.upstreamSubscriptions.dispose();
 		this.sourcePublishers.clear();
-		this.sink.emitComplete(Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+		Sinks.Many<Message<?>> sinkToComplete = this.sink;
+		if (sinkToComplete != null) {
+			sinkToComplete.emitComplete(Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+		}
 		super.destroy();
 	}
 
+	/**
+	 * The strategy for messages sent when the buffer for subscribers is full.
+	 *
+	 * @since 7.1
+	 */
+	public enum OverflowStrategy {
+
+		/**
+		 * Block the sender until subscribers request more messages, or the send timeout expires.
+		 */
+		BLOCK,
+
+		/**
+		 * Drop the message being sent.
+		 * The send operation is considered successful.
+		 */
+		DROP,
+
+		/**
+		 * Drop the oldest buffered message to make a room for the message being sent.
+		 * The send operation is considered successful.
+		 */
+		LATEST,
+
+		/**
+		 * Fail the send operation with a {@link MessageDeliveryException}.
+		 */
+		ERROR
+
+	}
+
 }
@@ -16,16 +16,23 @@
 
 package org.springframework.integration.channel;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.dispatcher.LoadBalancingStrategy;
 import org.springframework.integration.dispatcher.PartitionedDispatcher;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.messaging.Message;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
@@ -42,6 +49,11 @@ import org.springframework.util.Assert;
  * <p>
  * The default {@link ThreadFactory} is based on the bean name of this channel plus {@code -partition-thread-}.
  * Thus, every thread name will reflect a partition it belongs to.
+ * Virtual threads are used for partitions if {@link #setVirtualThreads(boolean)} is set to {@code true},
+ * or the {@code spring.integration.taskExecution.virtualThreads} global property is enabled.
+ * <p>
+ * In the {@link #setElastic(boolean) elastic} mode, idle partition threads steal whole key queues
+ * from busy ones, and the number of partitions can be changed at runtime.
  * <p>
  * The rest of the logic is similar to the {@link ExecutorChannel}, which includes:
  * - load balancing for subscribers;
@@ -56,9 +68,16 @@ import org.springframework.util.Assert;
  */
 public class PartitionedChannel extends AbstractExecutorChannel {
 
+	private final List<GaugeFacade> queueDepthGauges = new ArrayList<>();
+
+	private final Lock gaugesLock = new ReentrantLock();
+
 	@Nullable
 	private ThreadFactory threadFactory;
 
+	@Nullable
+	private Boolean virtualThreads;
+
 	/**
 	 * Instantiate based on a provided number of partitions and function resolving a partition key from
 	 * the {@link IntegrationMessageHeaderAccessor#CORRELATION_ID} message header.
@@ -93,6 +112,18 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 		this.threadFactory = threadFactory;
 	}
 
+	/**
+	 * Set to {@code true} to back partitions with virtual threads when no {@link #setThreadFactory(ThreadFactory)}
+	 * is provided.
+	 * Requires Java 21 or later.
+	 * Defaults to the {@code spring.integration.taskExecution.virtualThreads} global property.
+	 * @param virtualThreads whether to use virtual threads for partitions.
+	 * @since 7.1
+	 */
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
 	/**
 	 * Specify whether the channel's dispatcher should have failover enabled.
 	 * By default, it will. Set this value to 'false' to disable it.
@@ -132,6 +163,97 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 		getDispatcher().setWorkerQueueSize(workerQueueSize);
 	}
 
+	/**
+	 * Set to {@code true} to let idle partition threads steal whole key queues from busy ones,
+	 * keeping the order of messages for the same partition key.
+	 * Also allows to change the number of partitions at runtime via {@link #setPartitionCount(int)}.
+	 * @param elastic true to enable the elastic mode.
+	 * @since 7.1
+	 * @see PartitionedDispatcher#setElastic(boolean)
+	 */
+	public void setElastic(boolean elastic) {
+		getDispatcher().setElastic(elastic);
+	}
+
+	/**
+	 * Set the number of key queues for the elastic mode.
+	 * @param keyQueueCount the number of key queues.
+	 * @since 7.1
+	 * @see PartitionedDispatcher#setKeyQueueCount(int)
+	 */
+	public void setKeyQueueCount(int keyQueueCount) {
+		getDispatcher().setKeyQueueCount(keyQueueCount);
+	}
+
+	/**
+	 * Change the number of partitions.
+	 * Can be done at runtime only in the elastic mode.
+	 * @param partitionCount the number of partitions.
+	 * @since 7.1
+	 * @see PartitionedDispatcher#setPartitionCount(int)
+	 */
+	public void setPartitionCount(int partitionCount) {
+		getDispatcher().setPartitionCount(partitionCount);
+		MetricsCaptor metricsCaptor = getMetricsCaptor();
+		if (metricsCaptor != null) {
+			updateQueueDepthGauges(metricsCaptor);
+		}
+	}
+
+	/**
+	 * Return the current number of partitions.
+	 * @return the number of partitions.
+	 * @since 7.1
+	 */
+	public int getPartitionCount() {
+		return getDispatcher().getPartitionCount();
+	}
+
+	/**
+	 * Return the number of messages waiting for the provided partition.
+	 * @param partition the partition index.
+	 * @return the number of pending messages.
+	 * @since 7.1
+	 * @see PartitionedDispatcher#getQueueDepth(int)
+	 */
+	public int getQueueDepth(int partition) {
+		return getDispatcher().getQueueDepth(partition);
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		updateQueueDepthGauges(metricsCaptor);
+	}
+
+	/**
+	 * Register a gauge for each new partition and remove the gauges of the partitions
+	 * which have been removed.
+	 */
+	private void updateQueueDepthGauges(MetricsCaptor metricsCaptor) {
+		this.gaugesLock.lock();
+		try {
+			int partitionCount = getPartitionCount();
+			while (this.queueDepthGauges.size() > partitionCount) {
+				this.queueDepthGauges.remove(this.queueDepthGauges.size() - 1).remove();
+			}
+			for (int i = this.queueDepthGauges.size(); i < partitionCount; i++) {
+				int partition = i;
+				this.queueDepthGauges.add(
+						metricsCaptor.gaugeBuilder("spring.integration.channel.partition.queue.size", this,
+										(channel) -> getQueueDepth(partition))
+								.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+								.tag("type", "channel")
+								.tag("partition", "" + partition)
+								.description("The number of messages waiting for the partition")
+								.build());
+			}
+		}
+		finally {
+			this.gaugesLock.unlock();
+		}
+	}
+
 	@Override
 	protected PartitionedDispatcher getDispatcher() {
 		return (PartitionedDispatcher) this.dispatcher;
@@ -142,7 +264,14 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 		super.onInit();
 
 		if (this.threadFactory == null) {
-			this.threadFactory = new CustomizableThreadFactory(getComponentName() + "-partition-thread-");
+			String threadNamePrefix = getComponentName() + "-partition-thread-";
+			boolean virtual = this.virtualThreads != null
+					? this.virtualThreads
+					: getIntegrationProperties().isTaskExecutionVirtualThreads();
+			this.threadFactory =
+					virtual
+							? new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory()
+							: new CustomizableThreadFactory(threadNamePrefix);
 		}
 		PartitionedDispatcher partitionedDispatcher = getDispatcher();
 		partitionedDispatcher.setThreadFactory(this.threadFactory);
@@ -168,6 +297,14 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 	public void destroy() {
 		super.destroy();
 		getDispatcher().shutdown();
+		this.gaugesLock.lock();
+		try {
+			this.queueDepthGauges.forEach(GaugeFacade::remove);
+			this.queueDepthGauges.clear();
+		}
+		finally {
+			this.gaugesLock.unlock();
+		}
 	}
 
 }
@@ -17,6 +17,7 @@
 package org.springframework.integration.channel;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -146,6 +147,15 @@ public class PriorityChannel extends QueueChannel {
 		return message;
 	}
 
+	/**
+	 * Receive messages one by one instead of draining the queue:
+	 * each of them has to be unwrapped and its capacity permit released in the {@link #doReceive(long)}.
+	 */
+	@Override
+	protected List<Message<?>> doReceiveBatch(int maxMessages, long timeout) {
+		return receiveEach(maxMessages, timeout);
+	}
+
 	private static final class SequenceFallbackComparator implements Comparator<Message<?>> {
 
 		private final @Nullable Comparator<Message<?>> targetComparator;
@@ -17,6 +17,7 @@
 package org.springframework.integration.channel;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
@@ -187,6 +188,23 @@ public class QueueChannel extends AbstractPollableChannel implements QueueChanne
 		return message;
 	}
 
+	@Override
+	protected List<Message<?>> doReceiveBatch(int maxMessages, long timeout) {
+		if (this.queue instanceof BlockingQueue<Message<?>> blockingQueue) {
+			Message<?> message = doReceive(timeout);
+			if (message == null) {
+				return Collections.emptyList();
+			}
+			List<Message<?>> messages = new ArrayList<>(Math.min(maxMessages, blockingQueue.size() + 1));
+			messages.add(message);
+			if (maxMessages > 1) {
+				blockingQueue.drainTo(messages, maxMessages - 1);
+			}
+			return messages;
+		}
+		return super.doReceiveBatch(maxMessages, timeout);
+	}
+
 	@Override
 	public List<Message<?>> clear() {
 		List<Message<?>> clearedMessages = new ArrayList<>();
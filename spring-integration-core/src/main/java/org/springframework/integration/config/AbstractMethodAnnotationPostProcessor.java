@@ -704,6 +704,7 @@ public abstract class AbstractMethodAnnotationPostProcessor<T extends Annotation
 		pollingEndpoint.setErrorHandler(pollerMetadata.getErrorHandler());
 		if (pollingEndpoint instanceof PollingConsumer pollingConsumer) {
 			pollingConsumer.setReceiveTimeout(pollerMetadata.getReceiveTimeout());
+			pollingConsumer.setReceiveBatchSize(pollerMetadata.getReceiveBatchSize());
 		}
 		pollingEndpoint.setTransactionSynchronizationFactory(pollerMetadata.getTransactionSynchronizationFactory());
 	}
@@ -32,6 +32,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.log.LogAccessor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -323,6 +324,21 @@ public abstract class IntegrationObjectSupport implements ComponentSourceAware,
 		return this.integrationProperties;
 	}
 
+	/**
+	 * Create a {@link SimpleAsyncTaskExecutor} for components which own their threads
+	 * and have not been supplied with an external executor.
+	 * The executor uses virtual threads when the
+	 * {@link IntegrationProperties#TASK_EXECUTION_VIRTUAL_THREADS} global property is enabled.
+	 * @param threadNamePrefix the prefix for names of the threads created by the executor.
+	 * @return the executor.
+	 * @since 7.1
+	 */
+	protected SimpleAsyncTaskExecutor createDefaultTaskExecutor(String threadNamePrefix) {
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		taskExecutor.setVirtualThreads(this.integrationProperties.isTaskExecutionVirtualThreads());
+		return taskExecutor;
+	}
+
 	protected MessageBuilderFactory getMessageBuilderFactory() {
 		return this.messageBuilderFactory;
 	}
@@ -17,10 +17,12 @@
 package org.springframework.integration.context;
 
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.Properties;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.integration.JavaUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -119,6 +121,32 @@ public final class IntegrationProperties {
 	 */
 	public static final String ENDPOINTS_DEFAULT_TIMEOUT = INTEGRATION_PROPERTIES_PREFIX + "endpoints.defaultTimeout";
 
+	/**
+	 * Specifies the default value of
+	 * {@link org.springframework.integration.handler.support.MessagingMethodInvokerHelper#setUseDirectInvoker(boolean)}.
+	 * @since 7.1
+	 */
+	public static final String ENDPOINTS_DIRECT_METHOD_INVOCATION =
+			INTEGRATION_PROPERTIES_PREFIX + "endpoints.directMethodInvocation";
+
+	/**
+	 * Specifies if executors and thread factories created by the framework by default
+	 * (e.g. gateway async executor, {@code PartitionedChannel} partitions, inbound channel adapter threads)
+	 * should use virtual threads.
+	 * Requires Java 21 or later.
+	 * @since 7.1
+	 */
+	public static final String TASK_EXECUTION_VIRTUAL_THREADS =
+			INTEGRATION_PROPERTIES_PREFIX + "taskExecution.virtualThreads";
+
+	/**
+	 * Specifies the {@link SpelCompilerMode} for the SpEL expressions of expression-based endpoints
+	 * (routers, filters, transformers, header enrichers, correlation strategies).
+	 * Defaults to {@link SpelCompilerMode#OFF}.
+	 * @since 7.1
+	 */
+	public static final String SPEL_COMPILER_MODE = INTEGRATION_PROPERTIES_PREFIX + "spel.compilerMode";
+
 	private static final Properties DEFAULTS;
 
 	private boolean channelsAutoCreate = true;
@@ -141,6 +169,12 @@ public final class IntegrationProperties {
 
 	private long endpointsDefaultTimeout = IntegrationContextUtils.DEFAULT_TIMEOUT;
 
+	private boolean endpointsDirectMethodInvocation;
+
+	private boolean taskExecutionVirtualThreads;
+
+	private SpelCompilerMode spelCompilerMode = SpelCompilerMode.OFF;
+
 	@Nullable
 	private volatile Properties properties;
 
@@ -320,6 +354,64 @@ public final class IntegrationProperties {
 		this.endpointsDefaultTimeout = endpointsDefaultTimeout;
 	}
 
+	/**
+	 * Return the value of {@link #ENDPOINTS_DIRECT_METHOD_INVOCATION} option.
+	 * @return the value of {@link #ENDPOINTS_DIRECT_METHOD_INVOCATION} option.
+	 * @since 7.1
+	 */
+	public boolean isEndpointsDirectMethodInvocation() {
+		return this.endpointsDirectMethodInvocation;
+	}
+
+	/**
+	 * Configure a value for {@link #ENDPOINTS_DIRECT_METHOD_INVOCATION} option.
+	 * @param endpointsDirectMethodInvocation the value for {@link #ENDPOINTS_DIRECT_METHOD_INVOCATION} option.
+	 * @since 7.1
+	 */
+	public void setEndpointsDirectMethodInvocation(boolean endpointsDirectMethodInvocation) {
+		this.endpointsDirectMethodInvocation = endpointsDirectMethodInvocation;
+		this.properties = null;
+	}
+
+	/**
+	 * Return the value of {@link #TASK_EXECUTION_VIRTUAL_THREADS} option.
+	 * @return the value of {@link #TASK_EXECUTION_VIRTUAL_THREADS} option.
+	 * @since 7.1
+	 */
+	public boolean isTaskExecutionVirtualThreads() {
+		return this.taskExecutionVirtualThreads;
+	}
+
+	/**
+	 * Configure a value for {@link #TASK_EXECUTION_VIRTUAL_THREADS} option.
+	 * @param taskExecutionVirtualThreads the value for {@link #TASK_EXECUTION_VIRTUAL_THREADS} option.
+	 * @since 7.1
+	 */
+	public void setTaskExecutionVirtualThreads(boolean taskExecutionVirtualThreads) {
+		this.taskExecutionVirtualThreads = taskExecutionVirtualThreads;
+		this.properties = null;
+	}
+
+	/**
+	 * Return the value of {@link #SPEL_COMPILER_MODE} option.
+	 * @return the value of {@link #SPEL_COMPILER_MODE} option.
+	 * @since 7.1
+	 */
+	public SpelCompilerMode getSpelCompilerMode() {
+		return this.spelCompilerMode;
+	}
+
+	/**
+	 * Configure a value for {@link #SPEL_COMPILER_MODE} option.
+	 * @param spelCompilerMode the value for {@link #SPEL_COMPILER_MODE} option.
+	 * @since 7.1
+	 */
+	public void setSpelCompilerMode(SpelCompilerMode spelCompilerMode) {
+		Assert.notNull(spelCompilerMode, "'spelCompilerMode' must not be null");
+		this.spelCompilerMode = spelCompilerMode;
+		this.properties = null;
+	}
+
 	/**
 	 * Represent the current instance as a {@link Properties}.
 	 * @return the {@link Properties} representation.
@@ -340,6 +432,9 @@ public final class IntegrationProperties {
 			props.setProperty(ENDPOINTS_NO_AUTO_STARTUP,
 					StringUtils.arrayToCommaDelimitedString(this.noAutoStartupEndpoints));
 			props.setProperty(ENDPOINTS_DEFAULT_TIMEOUT, "" + this.endpointsDefaultTimeout);
+			props.setProperty(ENDPOINTS_DIRECT_METHOD_INVOCATION, "" + this.endpointsDirectMethodInvocation);
+			props.setProperty(TASK_EXECUTION_VIRTUAL_THREADS, "" + this.taskExecutionVirtualThreads);
+			props.setProperty(SPEL_COMPILER_MODE, this.spelCompilerMode.name().toLowerCase(Locale.ROOT));
 
 			this.properties = props;
 		}
@@ -378,7 +473,14 @@ public final class IntegrationProperties {
 						(value) -> integrationProperties.setNoAutoStartupEndpoints(
 								StringUtils.commaDelimitedListToStringArray(value)))
 				.acceptIfHasText(properties.getProperty(ENDPOINTS_DEFAULT_TIMEOUT),
-						(value) -> integrationProperties.setEndpointsDefaultTimeout(Long.parseLong(value)));
+						(value) -> integrationProperties.setEndpointsDefaultTimeout(Long.parseLong(value)))
+				.acceptIfHasText(properties.getProperty(ENDPOINTS_DIRECT_METHOD_INVOCATION),
+						(value) -> integrationProperties.setEndpointsDirectMethodInvocation(Boolean.parseBoolean(value)))
+				.acceptIfHasText(properties.getProperty(TASK_EXECUTION_VIRTUAL_THREADS),
+						(value) -> integrationProperties.setTaskExecutionVirtualThreads(Boolean.parseBoolean(value)))
+				.acceptIfHasText(properties.getProperty(SPEL_COMPILER_MODE),
+						(value) -> integrationProperties.setSpelCompilerMode(
+								SpelCompilerMode.valueOf(value.trim().toUpperCase(Locale.ROOT))));
 		return integrationProperties;
 	}
 
@@ -23,11 +23,16 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.integration.channel.CorrelatingReplyChannel;
 import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.context.IntegrationProperties;
+import org.springframework.integration.support.DefaultMessageBuilderFactory;
+import org.springframework.integration.support.MessageBuilderFactory;
 import org.springframework.integration.support.channel.ChannelResolverUtils;
+import org.springframework.integration.support.utils.IntegrationUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.core.GenericMessagingTemplate;
 
 /**
@@ -48,6 +53,10 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 
 	private volatile boolean throwExceptionOnLateReplySet;
 
+	private @Nullable CorrelatingReplyChannel correlatingReplyChannel;
+
+	private MessageBuilderFactory messageBuilderFactory = new DefaultMessageBuilderFactory();
+
 	/**
 	 * Create a MessagingTemplate with no default channel. Note, that one
 	 * may be provided by invoking {@link #setDefaultChannel(MessageChannel)}.
@@ -71,6 +80,7 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.beanFactory = beanFactory; //NOSONAR - non-sync is ok here
 		setDestinationResolver(ChannelResolverUtils.getChannelResolver(beanFactory));
+		this.messageBuilderFactory = IntegrationUtils.getMessageBuilderFactory(beanFactory);
 	}
 
 	@Override
@@ -88,9 +98,27 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 		super.setDefaultDestination(channel);
 	}
 
+	/**
+	 * Set a {@link CorrelatingReplyChannel} to receive the replies of the
+	 * {@link #sendAndReceive(MessageChannel, Message)} operations, instead of a temporary reply
+	 * channel per request.
+	 * The channel can be shared between templates.
+	 * The {@link #setThrowExceptionOnLateReply(boolean)} does not apply to this channel:
+	 * see {@link CorrelatingReplyChannel#setThrowExceptionOnLateReply(boolean)} instead.
+	 * @param correlatingReplyChannel the reply channel.
+	 * @since 7.1
+	 */
+	public void setCorrelatingReplyChannel(@Nullable CorrelatingReplyChannel correlatingReplyChannel) {
+		this.correlatingReplyChannel = correlatingReplyChannel;
+	}
+
 	@Override
 	@Nullable
 	public Message<?> sendAndReceive(MessageChannel destination, Message<?> requestMessage) {
+		CorrelatingReplyChannel replyChannel = this.correlatingReplyChannel;
+		if (replyChannel != null) {
+			return sendAndReceiveCorrelated(destination, requestMessage, replyChannel);
+		}
 		if (!this.throwExceptionOnLateReplySet) {
 			this.lock.lock();
 			try {
@@ -111,6 +139,62 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 		return super.sendAndReceive(destination, requestMessage);
 	}
 
+	private @Nullable Message<?> sendAndReceiveCorrelated(MessageChannel destination, Message<?> requestMessage,
+			CorrelatingReplyChannel replyChannel) {
+
+		MessageHeaders requestHeaders = requestMessage.getHeaders();
+		Object originalReplyChannelHeader = requestHeaders.getReplyChannel();
+		Object originalErrorChannelHeader = requestHeaders.getErrorChannel();
+		Object originalCorrelationKey = requestHeaders.get(CorrelatingReplyChannel.CORRELATION_KEY_HEADER);
+		Long sendTimeout = headerToLong(requestHeaders.get(getSendTimeoutHeader()));
+		Long receiveTimeout = headerToLong(requestHeaders.get(getReceiveTimeoutHeader()));
+		String correlationKey = replyChannel.register();
+		Object replyChannelHeader = replyChannel.getReplyChannelHeaderValue();
+		Message<?> messageToSend =
+				this.messageBuilderFactory.fromMessage(requestMessage)
+						.setHeader(MessageHeaders.REPLY_CHANNEL, replyChannelHeader)
+						.setHeader(MessageHeaders.ERROR_CHANNEL, replyChannelHeader)
+						.setHeader(CorrelatingReplyChannel.CORRELATION_KEY_HEADER, correlationKey)
+						.setHeader(getSendTimeoutHeader(), null)
+						.setHeader(getReceiveTimeoutHeader(), null)
+						.build();
+		try {
+			doSend(destination, messageToSend, sendTimeout != null ? sendTimeout : getSendTimeout());
+		}
+		catch (RuntimeException ex) {
+			replyChannel.cancel(correlationKey);
+			throw ex;
+		}
+		Message<?> replyMessage =
+				replyChannel.receive(correlationKey, receiveTimeout != null ? receiveTimeout : getReceiveTimeout());
+		if (replyMessage != null) {
+			replyMessage = this.messageBuilderFactory.fromMessage(replyMessage)
+					.setHeader(MessageHeaders.REPLY_CHANNEL, originalReplyChannelHeader)
+					.setHeader(MessageHeaders.ERROR_CHANNEL, originalErrorChannelHeader)
+					.setHeader(CorrelatingReplyChannel.CORRELATION_KEY_HEADER, originalCorrelationKey)
+					.build();
+		}
+		return replyMessage;
+	}
+
+	private static @Nullable Long headerToLong(@Nullable Object headerValue) {
+		if (headerValue instanceof Number numberValue) {
+			return numberValue.longValue();
+		}
+		else if (headerValue instanceof String stringValue) {
+			try {
+				return Long.parseLong(stringValue);
+			}
+			catch (NumberFormatException ex) {
+				// Not a timeout: fall back to the default one
+				return null;
+			}
+		}
+		else {
+			return null;
+		}
+	}
+
 	@Nullable
 	public Object receiveAndConvert(MessageChannel destination, long timeout) {
 		Message<?> message = doReceive(destination, timeout);
@@ -34,6 +34,7 @@ import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.integration.util.CallerBlocksPolicy;
 import org.springframework.integration.util.ErrorHandlingTaskExecutor;
 import org.springframework.messaging.Message;
@@ -53,6 +54,11 @@ import org.springframework.util.ErrorHandler;
  * The number of partitions should be a reasonable value for the application environment
  * since every partition is based on a dedicated thread for message processing.
  * <p>
+ * In the {@link #setElastic(boolean) elastic} mode, messages are queued per partition key hash
+ * into key queues, and idle partition threads steal whole key queues from busy ones.
+ * The order of messages for the same key is preserved, and the number of partitions
+ * can be changed at runtime via {@link #setPartitionCount(int)}.
+ * <p>
  * The rest of the logic is similar to {@link UnicastingDispatcher} behavior.
  *
  * @author Artem Bilan
@@ -63,11 +69,17 @@ import org.springframework.util.ErrorHandler;
  */
 public class PartitionedDispatcher extends AbstractDispatcher {
 
+	/**
+	 * The default number of key queues in the elastic mode.
+	 * @since 7.1
+	 */
+	public static final int DEFAULT_KEY_QUEUE_COUNT = 256;
+
 	private final List<UnicastingDispatcher> partitions;
 
 	private final List<ExecutorService> executors;
 
-	private final int partitionCount;
+	private volatile int partitionCount;
 
 	private final Function<Message<?>, Object> partitionKeyFunction;
 
@@ -85,6 +97,12 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 
 	private int workerQueueSize;
 
+	private boolean elastic;
+
+	private int keyQueueCount = DEFAULT_KEY_QUEUE_COUNT;
+
+	private volatile @Nullable WorkStealingPartitions elasticPartitions;
+
 	/**
 	 * Instantiate based on a provided number of partitions and function for a partition key against
 	 * the message to dispatch.
@@ -171,18 +189,121 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 		this.workerQueueSize = workerQueueSize;
 	}
 
+	/**
+	 * Set to {@code true} to enable the elastic mode: messages are queued per partition key hash
+	 * into key queues, each of them processed by at most one partition thread at a time,
+	 * and idle partition threads steal whole key queues from busy ones.
+	 * In this mode the {@link #setWorkerQueueSize(int)} is the number of pending messages per partition
+	 * before the sender is blocked; zero (default) means unbounded.
+	 * Must be set before the first message is dispatched.
+	 * @param elastic true to enable the elastic mode.
+	 * @since 7.1
+	 */
+	public void setElastic(boolean elastic) {
+		this.elastic = elastic;
+	}
+
+	/**
+	 * Set the number of key queues for the elastic mode.
+	 * Defaults to {@link #DEFAULT_KEY_QUEUE_COUNT}.
+	 * A greater number allows to distribute hot keys more evenly between partitions.
+	 * @param keyQueueCount the number of key queues.
+	 * @since 7.1
+	 * @see #setElastic(boolean)
+	 */
+	public void setKeyQueueCount(int keyQueueCount) {
+		Assert.isTrue(keyQueueCount > 0, "'keyQueueCount' must be greater than 0");
+		this.keyQueueCount = keyQueueCount;
+	}
+
+	/**
+	 * Change the number of partitions.
+	 * In the elastic mode this can be done at any time: surplus partition threads finish
+	 * their in-flight key queue and hand over their pending key queues to the remaining ones,
+	 * and new partition threads start stealing immediately.
+	 * Otherwise, the number of partitions can be changed only before the first message is dispatched.
+	 * @param partitionCount the number of partitions.
+	 * @since 7.1
+	 */
+	public void setPartitionCount(int partitionCount) {
+		Assert.isTrue(partitionCount > 0, "'partitionCount' must be greater than 0");
+		this.lock.lock();
+		try {
+			WorkStealingPartitions partitionsToResize = this.elasticPartitions;
+			if (partitionsToResize != null) {
+				partitionsToResize.resize(partitionCount);
+			}
+			else {
+				Assert.state(this.partitions.isEmpty(),
+						"The number of partitions can be changed at runtime only in the elastic mode");
+			}
+			this.partitionCount = partitionCount;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the current number of partitions.
+	 * @return the number of partitions.
+	 * @since 7.1
+	 */
+	public int getPartitionCount() {
+		return this.partitionCount;
+	}
+
+	/**
+	 * Return the number of messages waiting for the provided partition.
+	 * In the elastic mode it is the number of pending messages in the key queues
+	 * currently assigned to the partition.
+	 * @param partition the partition index.
+	 * @return the number of pending messages, or 0 if there is no such a partition.
+	 * @since 7.1
+	 */
+	public int getQueueDepth(int partition) {
+		WorkStealingPartitions partitionsToCheck = this.elasticPartitions;
+		if (partitionsToCheck != null) {
+			return partitionsToCheck.getQueueDepth(partition);
+		}
+		this.lock.lock();
+		try {
+			return partition < this.executors.size()
+					? ((ThreadPoolExecutor) this.executors.get(partition)).getQueue().size()
+					: 0;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
 	/**
 	 * Shutdown this dispatcher on application close.
 	 * The partition executors are shutdown and the internal state of this instance is cleared.
 	 */
 	public void shutdown() {
-		this.executors.forEach(ExecutorService::shutdown);
-		this.executors.clear();
-		this.partitions.clear();
+		this.lock.lock();
+		try {
+			this.executors.forEach(ExecutorService::shutdown);
+			this.executors.clear();
+			this.partitions.clear();
+			WorkStealingPartitions partitionsToShutdown = this.elasticPartitions;
+			if (partitionsToShutdown != null) {
+				partitionsToShutdown.shutdown();
+				this.elasticPartitions = null;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 	@Override
 	public boolean dispatch(Message<?> message) {
+		if (this.elastic) {
+			populateElasticPartitions().dispatch(this.partitionKeyFunction.apply(message), message);
+			return true;
+		}
 		populatedPartitions();
 		int partition = Math.floorMod(this.partitionKeyFunction.apply(message).hashCode(), this.partitionCount);
 		UnicastingDispatcher partitionDispatcher = this.partitions.get(partition);
@@ -205,6 +326,31 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 		}
 	}
 
+	private WorkStealingPartitions populateElasticPartitions() {
+		WorkStealingPartitions partitionsToUse = this.elasticPartitions;
+		if (partitionsToUse == null) {
+			this.lock.lock();
+			try {
+				partitionsToUse = this.elasticPartitions;
+				if (partitionsToUse == null) {
+					SyncTaskExecutor syncExecutor = new SyncTaskExecutor();
+					Executor effectiveExecutor = this.errorHandler != null
+							? new ErrorHandlingTaskExecutor(syncExecutor, this.errorHandler)
+							: syncExecutor;
+					UnicastingDispatcher delegateDispatcher = newDelegateDispatcher(effectiveExecutor);
+					partitionsToUse =
+							new WorkStealingPartitions(this.partitionCount, this.keyQueueCount, this.workerQueueSize,
+									this.threadFactory, delegateDispatcher::dispatch);
+					this.elasticPartitions = partitionsToUse;
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+		return partitionsToUse;
+	}
+
 	private UnicastingDispatcher newPartition() {
 		BlockingQueue<Runnable> workQueue =
 				this.workerQueueSize == 0
@@ -221,6 +367,10 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 		Executor effectiveExecutor = this.errorHandler != null
 				? new ErrorHandlingTaskExecutor(executor, this.errorHandler)
 				: executor;
+		return newDelegateDispatcher(effectiveExecutor);
+	}
+
+	private UnicastingDispatcher newDelegateDispatcher(Executor effectiveExecutor) {
 		DelegateDispatcher delegateDispatcher = new DelegateDispatcher(effectiveExecutor);
 		delegateDispatcher.setFailoverStrategy(this.failoverStrategy);
 		delegateDispatcher.setLoadBalancingStrategy(this.loadBalancingStrategy);
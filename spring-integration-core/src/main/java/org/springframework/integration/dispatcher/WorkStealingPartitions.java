@@ -0,0 +1,426 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.dispatcher;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+
+/**
+ * The elastic mode of the {@link PartitionedDispatcher}.
+ * <p>
+ * Messages are queued into a fixed number of key queues according to the hash of their partition key.
+ * Every key queue with pending messages is assigned to a home worker (a partition), and it is processed
+ * by at most one worker at a time, so the order of messages for the same key is preserved.
+ * Idle workers steal whole key queues from the tail of other workers' deques.
+ * <p>
+ * The number of workers can be changed at runtime: surplus workers are retired after finishing
+ * their current key queue, and they hand over their pending key queues to the remaining workers.
+ *
+ * @since 7.1
+ */
+final class WorkStealingPartitions {
+
+	private static final LogAccessor LOGGER = new LogAccessor(WorkStealingPartitions.class);
+
+	private static final int MAX_MESSAGES_PER_TURN = 64;
+
+	private static final long IDLE_WAIT_MILLIS = 100;
+
+	private final KeyQueue[] keyQueues;
+
+	private final ThreadFactory threadFactory;
+
+	private final Consumer<Message<?>> messageHandler;
+
+	private final int capacityPerPartition;
+
+	private final @Nullable ResizableSemaphore capacity;
+
+	private final Lock idleLock = new ReentrantLock();
+
+	private final Condition workAvailable = this.idleLock.newCondition();
+
+	private final AtomicInteger idleWorkers = new AtomicInteger();
+
+	private final Lock resizeLock = new ReentrantLock();
+
+	private volatile Worker[] workers;
+
+	private volatile boolean running = true;
+
+	/**
+	 * Create the partitions and start their workers.
+	 * @param partitionCount the initial number of workers.
+	 * @param keyQueueCount the number of key queues.
+	 * @param capacityPerPartition the number of pending messages per partition before callers block;
+	 * zero for unbounded.
+	 * @param threadFactory the factory for worker threads.
+	 * @param messageHandler the callback to handle a message on a worker thread.
+	 */
+	WorkStealingPartitions(int partitionCount, int keyQueueCount, int capacityPerPartition,
+			ThreadFactory threadFactory, Consumer<Message<?>> messageHandler) {
+
+		this.keyQueues = new KeyQueue[keyQueueCount];
+		for (int i = 0; i < keyQueueCount; i++) {
+			this.keyQueues[i] = new KeyQueue(i);
+		}
+		this.threadFactory = threadFactory;
+		this.messageHandler = messageHandler;
+		this.capacityPerPartition = capacityPerPartition;
+		this.capacity =
+				capacityPerPartition > 0
+						? new ResizableSemaphore(capacityPerPartition * partitionCount)
+						: null;
+		Worker[] newWorkers = new Worker[partitionCount];
+		for (int i = 0; i < partitionCount; i++) {
+			newWorkers[i] = new Worker();
+		}
+		this.workers = newWorkers;
+		for (Worker worker : newWorkers) {
+			startWorker(worker);
+		}
+	}
+
+	void dispatch(Object partitionKey, Message<?> message) {
+		assertRunning(message);
+		ResizableSemaphore capacityToAcquire = this.capacity;
+		if (capacityToAcquire != null) {
+			try {
+				capacityToAcquire.acquire();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new MessageDeliveryException(message, "Interrupted while waiting for the partition capacity",
+						ex);
+			}
+			if (!this.running) {
+				capacityToAcquire.release();
+				assertRunning(message);
+			}
+		}
+		KeyQueue keyQueue = this.keyQueues[Math.floorMod(partitionKey.hashCode(), this.keyQueues.length)];
+		boolean schedule;
+		keyQueue.lock.lock();
+		try {
+			keyQueue.messages.add(message);
+			keyQueue.size++;
+			schedule = !keyQueue.scheduled;
+			keyQueue.scheduled = true;
+		}
+		finally {
+			keyQueue.lock.unlock();
+		}
+		if (schedule) {
+			schedule(keyQueue);
+		}
+	}
+
+	private void assertRunning(Message<?> message) {
+		if (!this.running) {
+			throw new MessageDeliveryException(message, "The partitions are stopped");
+		}
+	}
+
+	int getPartitionCount() {
+		return this.workers.length;
+	}
+
+	int getQueueDepth(int partition) {
+		Worker[] current = this.workers;
+		return partition < current.length ? current[partition].queueDepth() : 0;
+	}
+
+	/**
+	 * Change the number of workers.
+	 * New workers start stealing immediately.
+	 * Surplus workers are removed from the key queue assignment first, then they finish their
+	 * in-flight key queue and hand over their pending key queues to the remaining workers.
+	 * The caller is not blocked by this drain.
+	 * @param partitionCount the new number of workers.
+	 */
+	void resize(int partitionCount) {
+		this.resizeLock.lock();
+		try {
+			Worker[] current = this.workers;
+			int currentCount = current.length;
+			if (partitionCount == currentCount || !this.running) {
+				return;
+			}
+			Worker[] newWorkers = Arrays.copyOf(current, partitionCount);
+			for (int i = currentCount; i < partitionCount; i++) {
+				newWorkers[i] = new Worker();
+			}
+			this.workers = newWorkers;
+			for (int i = currentCount; i < partitionCount; i++) {
+				startWorker(newWorkers[i]);
+			}
+			for (int i = partitionCount; i < currentCount; i++) {
+				current[i].retired = true;
+			}
+			ResizableSemaphore capacityToResize = this.capacity;
+			if (capacityToResize != null) {
+				int delta = this.capacityPerPartition * (partitionCount - currentCount);
+				if (delta > 0) {
+					capacityToResize.release(delta);
+				}
+				else {
+					capacityToResize.reduce(-delta);
+				}
+			}
+			signalAllWorkers();
+		}
+		finally {
+			this.resizeLock.unlock();
+		}
+	}
+
+	/**
+	 * Stop accepting new work: the workers process the pending messages and exit.
+	 */
+	void shutdown() {
+		this.running = false;
+		signalAllWorkers();
+	}
+
+	private void startWorker(Worker worker) {
+		this.threadFactory.newThread(worker).start();
+	}
+
+	private void schedule(KeyQueue keyQueue) {
+		while (true) {
+			Worker[] current = this.workers;
+			if (current[keyQueue.index % current.length].offer(keyQueue)) {
+				break;
+			}
+		}
+		if (this.idleWorkers.get() > 0) {
+			this.idleLock.lock();
+			try {
+				this.workAvailable.signal();
+			}
+			finally {
+				this.idleLock.unlock();
+			}
+		}
+	}
+
+	private void signalAllWorkers() {
+		this.idleLock.lock();
+		try {
+			this.workAvailable.signalAll();
+		}
+		finally {
+			this.idleLock.unlock();
+		}
+	}
+
+	private boolean hasPendingWork() {
+		for (Worker worker : this.workers) {
+			if (!worker.assigned.isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void handle(Message<?> message) {
+		try {
+			this.messageHandler.accept(message);
+		}
+		catch (Throwable ex) { // NOSONAR
+			LOGGER.error(ex, () -> "Failed to handle message: " + message);
+		}
+		finally {
+			ResizableSemaphore capacityToRelease = this.capacity;
+			if (capacityToRelease != null) {
+				capacityToRelease.release();
+			}
+		}
+	}
+
+	private static final class KeyQueue {
+
+		private final int index;
+
+		private final Lock lock = new ReentrantLock();
+
+		private final Deque<Message<?>> messages = new ArrayDeque<>();
+
+		private volatile int size;
+
+		private boolean scheduled;
+
+		KeyQueue(int index) {
+			this.index = index;
+		}
+
+	}
+
+	private final class Worker implements Runnable {
+
+		private final Deque<KeyQueue> assigned = new ConcurrentLinkedDeque<>();
+
+		private volatile @Nullable KeyQueue current;
+
+		private volatile boolean retired;
+
+		boolean offer(KeyQueue keyQueue) {
+			this.assigned.addLast(keyQueue);
+			// The worker might have been retired after its hand over: take the key queue back
+			return !this.retired || !this.assigned.removeLastOccurrence(keyQueue);
+		}
+
+		int queueDepth() {
+			int depth = 0;
+			KeyQueue inFlight = this.current;
+			if (inFlight != null) {
+				depth += inFlight.size;
+			}
+			for (KeyQueue keyQueue : this.assigned) {
+				depth += keyQueue.size;
+			}
+			return depth;
+		}
+
+		@Override
+		public void run() {
+			while (!this.retired) {
+				KeyQueue keyQueue = nextKeyQueue();
+				if (keyQueue != null) {
+					process(keyQueue);
+				}
+				else if (!WorkStealingPartitions.this.running || Thread.currentThread().isInterrupted()) {
+					break;
+				}
+				else {
+					awaitWork();
+				}
+			}
+			handOver();
+		}
+
+		private @Nullable KeyQueue nextKeyQueue() {
+			KeyQueue keyQueue = this.assigned.pollFirst();
+			if (keyQueue == null) {
+				Worker[] current = WorkStealingPartitions.this.workers;
+				int offset = ThreadLocalRandom.current().nextInt(current.length);
+				for (int i = 0; i < current.length && keyQueue == null; i++) {
+					Worker victim = current[(offset + i) % current.length];
+					if (victim != this) {
+						keyQueue = victim.assigned.pollLast();
+					}
+				}
+			}
+			return keyQueue;
+		}
+
+		private void process(KeyQueue keyQueue) {
+			this.current = keyQueue;
+			try {
+				int handled = 0;
+				while (handled < MAX_MESSAGES_PER_TURN || !WorkStealingPartitions.this.running) {
+					Message<?> message;
+					keyQueue.lock.lock();
+					try {
+						message = keyQueue.messages.poll();
+						if (message == null) {
+							keyQueue.scheduled = false;
+							return;
+						}
+						keyQueue.size--;
+					}
+					finally {
+						keyQueue.lock.unlock();
+					}
+					handle(message);
+					handled++;
+				}
+				// Give other key queues a turn; the key queue stays scheduled, so the order is preserved
+				schedule(keyQueue);
+			}
+			finally {
+				this.current = null;
+			}
+		}
+
+		private void awaitWork() {
+			WorkStealingPartitions.this.idleLock.lock();
+			try {
+				WorkStealingPartitions.this.idleWorkers.incrementAndGet();
+				try {
+					if (!hasPendingWork() && WorkStealingPartitions.this.running && !this.retired) {
+						WorkStealingPartitions.this.workAvailable.await(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+					}
+				}
+				finally {
+					WorkStealingPartitions.this.idleWorkers.decrementAndGet();
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				WorkStealingPartitions.this.idleLock.unlock();
+			}
+		}
+
+		private void handOver() {
+			KeyQueue keyQueue;
+			while ((keyQueue = this.assigned.pollFirst()) != null) {
+				if (this.retired && WorkStealingPartitions.this.running) {
+					schedule(keyQueue);
+				}
+				else {
+					process(keyQueue);
+				}
+			}
+		}
+
+	}
+
+	private static final class ResizableSemaphore extends Semaphore {
+
+		private static final long serialVersionUID = 1L;
+
+		ResizableSemaphore(int permits) {
+			super(permits);
+		}
+
+		void reduce(int reduction) {
+			reducePermits(reduction);
+		}
+
+	}
+
+}
@@ -17,7 +17,9 @@
 package org.springframework.integration.dsl;
 
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
@@ -29,6 +31,7 @@ import org.springframework.integration.aggregator.ExpressionEvaluatingMessageGro
 import org.springframework.integration.aggregator.MessageGroupProcessor;
 import org.springframework.integration.aggregator.MethodInvokingMessageGroupProcessor;
 import org.springframework.integration.store.MessageGroup;
+import org.springframework.messaging.Message;
 
 /**
  * A {@link CorrelationHandlerSpec} for an {@link AggregatingMessageHandler}.
@@ -99,6 +102,24 @@ public class AggregatorSpec extends CorrelationHandlerSpec<AggregatorSpec, Aggre
 		return _this();
 	}
 
+	/**
+	 * Fold the messages of a group into an accumulator instead of storing them in the
+	 * message store until release.
+	 * The accumulator is emitted as the output payload when the group is released.
+	 * @param initialValue the supplier of the initial accumulator for a new group.
+	 * @param foldFunction the function to combine the accumulator with a new message.
+	 * @param <A> the accumulator type.
+	 * @return the aggregator spec.
+	 * @since 7.1
+	 * @see AggregatingMessageHandler#setFoldFunction(Supplier, BiFunction)
+	 */
+	public <A> AggregatorSpec fold(Supplier<? extends A> initialValue,
+			BiFunction<? super A, Message<?>, ? extends A> foldFunction) {
+
+		this.handler.setFoldFunction(initialValue, foldFunction);
+		return _this();
+	}
+
 	/**
 	 * @param expireGroupsUponCompletion the expireGroupsUponCompletion.
 	 * @return the aggregator spec.
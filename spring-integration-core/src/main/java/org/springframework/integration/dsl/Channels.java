@@ -65,6 +65,14 @@ public final class Channels {
 		return MessageChannels.queue(id, queue);
 	}
 
+	public QueueChannelSpec.LockFreeQueueSpec lockFreeQueue(int capacity) {
+		return MessageChannels.lockFreeQueue(capacity);
+	}
+
+	public QueueChannelSpec.LockFreeQueueSpec lockFreeQueue(String id, int capacity) {
+		return MessageChannels.lockFreeQueue(id, capacity);
+	}
+
 	public QueueChannelSpec.MessageStoreSpec queue(ChannelMessageStore messageGroupStore, Object groupId) {
 		return MessageChannels.queue(messageGroupStore, groupId);
 	}
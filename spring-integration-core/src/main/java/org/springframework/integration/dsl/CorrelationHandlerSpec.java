@@ -370,6 +370,19 @@ public abstract class CorrelationHandlerSpec<S extends CorrelationHandlerSpec<S,
 		return _this();
 	}
 
+	/**
+	 * Set to true to keep the running state of each open group in memory
+	 * for an {@link org.springframework.integration.aggregator.IncrementalReleaseStrategy}.
+	 * @param trackReleaseState true to keep the running release state of the groups.
+	 * @return the endpoint spec.
+	 * @since 7.1
+	 * @see AbstractCorrelatingMessageHandler#setTrackReleaseState(boolean)
+	 */
+	public S trackReleaseState(boolean trackReleaseState) {
+		this.handler.setTrackReleaseState(trackReleaseState);
+		return _this();
+	}
+
 	/**
 	 * Configure a {@link BiFunction} to supply a group condition from a message to be added to the group.
 	 * The {@code null} result from the function will reset a condition set before.
@@ -16,6 +16,7 @@
 
 package org.springframework.integration.dsl;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -244,6 +245,35 @@ public class DelayerEndpointSpec extends ConsumerEndpointSpec<DelayerEndpointSpe
 		return this;
 	}
 
+	/**
+	 * Manage the delayed messages with a timing wheel advancing every provided tick
+	 * instead of a task per message in the {@link TaskScheduler}.
+	 * @param tickDuration the duration of a tick.
+	 * @return the endpoint spec.
+	 * @since 7.1
+	 * @see DelayHandler#setTimingWheelTickDuration(Duration)
+	 */
+	public DelayerEndpointSpec timingWheel(Duration tickDuration) {
+		this.handler.setTimingWheelTickDuration(tickDuration);
+		return this;
+	}
+
+	/**
+	 * Manage the delayed messages with a timing wheel advancing every provided tick
+	 * instead of a task per message in the {@link TaskScheduler}.
+	 * @param tickDuration the duration of a tick.
+	 * @param wheelSize the number of buckets in the wheel.
+	 * @return the endpoint spec.
+	 * @since 7.1
+	 * @see DelayHandler#setTimingWheelTickDuration(Duration)
+	 * @see DelayHandler#setTimingWheelSize(int)
+	 */
+	public DelayerEndpointSpec timingWheel(Duration tickDuration, int wheelSize) {
+		this.handler.setTimingWheelTickDuration(tickDuration);
+		this.handler.setTimingWheelSize(wheelSize);
+		return this;
+	}
+
 	/**
 	 * Set a provided {@link TaskScheduler} into the {@link DelayHandler},
 	 * as well as call {@code super} to set it into an endpoint for this handler (if necessary).
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.dsl;
 
+import java.time.Duration;
+
 import org.springframework.integration.channel.FluxMessageChannel;
 
 /**
@@ -30,4 +32,44 @@ public class FluxMessageChannelSpec extends MessageChannelSpec<FluxMessageChanne
 		this.channel = new FluxMessageChannel();
 	}
 
+	/**
+	 * Set the number of messages buffered for each subscriber which cannot keep up with senders.
+	 * @param bufferSize the buffer size.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see FluxMessageChannel#setBufferSize(int)
+	 */
+	public FluxMessageChannelSpec bufferSize(int bufferSize) {
+		this.channel.setBufferSize(bufferSize);
+		return this;
+	}
+
+	/**
+	 * Set the strategy for messages sent when the buffer is full.
+	 * @param overflowStrategy the strategy to use.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see FluxMessageChannel#setOverflowStrategy(FluxMessageChannel.OverflowStrategy)
+	 */
+	public FluxMessageChannelSpec overflowStrategy(FluxMessageChannel.OverflowStrategy overflowStrategy) {
+		this.channel.setOverflowStrategy(overflowStrategy);
+		return this;
+	}
+
+	/**
+	 * Deliver messages to subscribers in batches of up to {@code batchSize} messages,
+	 * or whatever is collected during the {@code batchTimeout}.
+	 * @param batchSize the maximum number of messages in a batch.
+	 * @param batchTimeout the maximum time to wait for a batch.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see FluxMessageChannel#setBatchSize(int)
+	 * @see FluxMessageChannel#setBatchTimeout(Duration)
+	 */
+	public FluxMessageChannelSpec batch(int batchSize, Duration batchTimeout) {
+		this.channel.setBatchSize(batchSize);
+		this.channel.setBatchTimeout(batchTimeout);
+		return this;
+	}
+
 }
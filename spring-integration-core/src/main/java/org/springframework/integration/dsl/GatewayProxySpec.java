@@ -25,6 +25,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.channel.CorrelatingReplyChannel;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.expression.FunctionExpression;
 import org.springframework.integration.expression.ValueExpression;
@@ -157,6 +158,18 @@ public class GatewayProxySpec {
 		return this;
 	}
 
+	/**
+	 * A {@link CorrelatingReplyChannel} to receive replies instead of a temporary channel per request.
+	 * @param correlatingReplyChannel the reply channel.
+	 * @return current {@link GatewayProxySpec}.
+	 * @since 7.1
+	 * @see GatewayProxyFactoryBean#setCorrelatingReplyChannel
+	 */
+	public GatewayProxySpec correlatingReplyChannel(CorrelatingReplyChannel correlatingReplyChannel) {
+		this.gatewayProxyFactoryBean.setCorrelatingReplyChannel(correlatingReplyChannel);
+		return this;
+	}
+
 	/**
 	 * Provide a reference to an implementation of {@link Executor}
 	 * to use for any of the interface methods that have a {@link java.util.concurrent.Future} return type.
@@ -19,6 +19,7 @@ package org.springframework.integration.dsl;
 import java.util.Queue;
 import java.util.concurrent.Executor;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.store.ChannelMessageStore;
 import org.springframework.integration.store.PriorityCapableChannelMessageStore;
 import org.springframework.messaging.Message;
@@ -63,6 +64,29 @@ public final class MessageChannels {
 		return queue(capacity).id(id);
 	}
 
+	/**
+	 * Create a {@link QueueChannelSpec} based on a bounded lock-free
+	 * {@link org.springframework.integration.util.LockFreeArrayBlockingQueue}.
+	 * @param capacity the queue capacity.
+	 * @return the {@link QueueChannelSpec.LockFreeQueueSpec}.
+	 * @since 7.1
+	 */
+	public static QueueChannelSpec.LockFreeQueueSpec lockFreeQueue(int capacity) {
+		return new QueueChannelSpec.LockFreeQueueSpec(capacity);
+	}
+
+	/**
+	 * Create a {@link QueueChannelSpec} based on a bounded lock-free
+	 * {@link org.springframework.integration.util.LockFreeArrayBlockingQueue}.
+	 * @param id the channel bean name.
+	 * @param capacity the queue capacity.
+	 * @return the {@link QueueChannelSpec.LockFreeQueueSpec}.
+	 * @since 7.1
+	 */
+	public static QueueChannelSpec.LockFreeQueueSpec lockFreeQueue(String id, int capacity) {
+		return lockFreeQueue(capacity).id(id);
+	}
+
 	public static QueueChannelSpec.MessageStoreSpec queue(ChannelMessageStore messageGroupStore, Object groupId) {
 		return new QueueChannelSpec.MessageStoreSpec(messageGroupStore, groupId);
 	}
@@ -81,6 +105,30 @@ public final class MessageChannels {
 		return executor(executor).id(id);
 	}
 
+	/**
+	 * Create an {@link ExecutorChannelSpec} which dispatches every message on a new virtual thread.
+	 * Requires Java 21 or later.
+	 * @return the {@link ExecutorChannelSpec}.
+	 * @since 7.1
+	 * @see VirtualThreadTaskExecutor
+	 */
+	public static ExecutorChannelSpec virtualThreadExecutor() {
+		return executor(new VirtualThreadTaskExecutor());
+	}
+
+	/**
+	 * Create an {@link ExecutorChannelSpec} which dispatches every message on a new virtual thread
+	 * named after the channel id.
+	 * Requires Java 21 or later.
+	 * @param id the channel bean name.
+	 * @return the {@link ExecutorChannelSpec}.
+	 * @since 7.1
+	 * @see VirtualThreadTaskExecutor
+	 */
+	public static ExecutorChannelSpec virtualThreadExecutor(String id) {
+		return executor(id, new VirtualThreadTaskExecutor(id + "-"));
+	}
+
 	public static RendezvousChannelSpec rendezvous() {
 		return new RendezvousChannelSpec();
 	}
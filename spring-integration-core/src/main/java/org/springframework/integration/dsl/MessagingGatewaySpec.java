@@ -16,6 +16,7 @@
 
 package org.springframework.integration.dsl;
 
+import org.springframework.integration.channel.CorrelatingReplyChannel;
 import org.springframework.integration.gateway.MessagingGatewaySupport;
 import org.springframework.integration.mapping.InboundMessageMapper;
 import org.springframework.integration.mapping.OutboundMessageMapper;
@@ -155,6 +156,18 @@ public abstract class MessagingGatewaySpec<S extends MessagingGatewaySpec<S, G>,
 		return _this();
 	}
 
+	/**
+	 * A {@link CorrelatingReplyChannel} to receive replies instead of a temporary channel per request.
+	 * @param correlatingReplyChannel the reply channel.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see MessagingGatewaySupport#setCorrelatingReplyChannel(CorrelatingReplyChannel)
+	 */
+	public S correlatingReplyChannel(CorrelatingReplyChannel correlatingReplyChannel) {
+		this.target.setCorrelatingReplyChannel(correlatingReplyChannel);
+		return _this();
+	}
+
 	/**
 	 * If errorOnTimeout is true, construct an instance that will send an
 	 * {@link org.springframework.messaging.support.ErrorMessage} with a
@@ -41,6 +41,12 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 
 	private int workerQueueSize;
 
+	private @Nullable Boolean virtualThreads;
+
+	private boolean elastic;
+
+	private @Nullable Integer keyQueueCount;
+
 	protected PartitionedChannelSpec(int partitionCount) {
 		this.partitionCount = partitionCount;
 	}
@@ -67,6 +73,44 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 		return this;
 	}
 
+	/**
+	 * Back partitions with virtual threads when no {@link #threadFactory(ThreadFactory)} is provided.
+	 * Requires Java 21 or later.
+	 * @param virtualThreads whether to use virtual threads for partitions.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see PartitionedChannel#setVirtualThreads(boolean)
+	 */
+	public PartitionedChannelSpec virtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+		return this;
+	}
+
+	/**
+	 * Let idle partition threads steal whole key queues from busy ones,
+	 * keeping the order of messages for the same partition key.
+	 * @param elastic true to enable the elastic mode.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see PartitionedChannel#setElastic(boolean)
+	 */
+	public PartitionedChannelSpec elastic(boolean elastic) {
+		this.elastic = elastic;
+		return this;
+	}
+
+	/**
+	 * Set the number of key queues for the elastic mode.
+	 * @param keyQueueCount the number of key queues.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see PartitionedChannel#setKeyQueueCount(int)
+	 */
+	public PartitionedChannelSpec keyQueueCount(int keyQueueCount) {
+		this.keyQueueCount = keyQueueCount;
+		return this;
+	}
+
 	@Override
 	protected PartitionedChannel doGet() {
 		if (this.partitionKeyFunction != null) {
@@ -77,6 +121,10 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 		}
 		this.channel.setLoadBalancingStrategy(this.loadBalancingStrategy);
 		this.channel.setWorkerQueueSize(this.workerQueueSize);
+		this.channel.setElastic(this.elastic);
+		if (this.keyQueueCount != null) {
+			this.channel.setKeyQueueCount(this.keyQueueCount);
+		}
 		if (this.failoverStrategy != null) {
 			this.channel.setFailoverStrategy(this.failoverStrategy);
 		}
@@ -86,6 +134,9 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 		if (this.threadFactory != null) {
 			this.channel.setThreadFactory(this.threadFactory);
 		}
+		if (this.virtualThreads != null) {
+			this.channel.setVirtualThreads(this.virtualThreads);
+		}
 		return super.doGet();
 	}
 
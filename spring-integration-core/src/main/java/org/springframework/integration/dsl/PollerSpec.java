@@ -26,6 +26,7 @@ import java.util.concurrent.Executor;
 import org.aopalliance.aop.Advice;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.channel.MessagePublishingErrorHandler;
 import org.springframework.integration.scheduling.PollerMetadata;
 import org.springframework.integration.transaction.TransactionInterceptorBuilder;
@@ -133,6 +134,19 @@ public final class PollerSpec extends IntegrationComponentSpec<PollerSpec, Polle
 		return this;
 	}
 
+	/**
+	 * Specify the maximum number of messages to receive from a {@code QueueChannel}
+	 * in one operation and handle within a single polling task.
+	 * @param receiveBatchSize the batch size.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see PollerMetadata#setReceiveBatchSize(int)
+	 */
+	public PollerSpec receiveBatchSize(int receiveBatchSize) {
+		this.target.setReceiveBatchSize(receiveBatchSize);
+		return this;
+	}
+
 	/**
 	 * Specify AOP {@link Advice}s for the {@code pollingTask}.
 	 * @param advice the {@link Advice}s to use.
@@ -190,6 +204,19 @@ public final class PollerSpec extends IntegrationComponentSpec<PollerSpec, Polle
 		return this;
 	}
 
+	/**
+	 * Perform the {@code pollingTask} on a new virtual thread for every poll.
+	 * Requires Java 21 or later.
+	 * Like with any other asynchronous {@link #taskExecutor(Executor)}, the next poll is
+	 * scheduled according to the trigger without waiting for the current one to finish.
+	 * @return the spec.
+	 * @since 7.1
+	 * @see VirtualThreadTaskExecutor
+	 */
+	public PollerSpec virtualThreads() {
+		return taskExecutor(new VirtualThreadTaskExecutor("poller-"));
+	}
+
 	@Override
 	public Map<Object, @Nullable String> getComponentsToRegister() {
 		return this.componentsToRegister;
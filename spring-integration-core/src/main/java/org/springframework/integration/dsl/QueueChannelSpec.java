@@ -24,7 +24,10 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.store.ChannelMessageStore;
 import org.springframework.integration.store.MessageGroupQueue;
+import org.springframework.integration.util.IdleStrategy;
+import org.springframework.integration.util.LockFreeArrayBlockingQueue;
 import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
 
 /**
  * @author Artem Bilan
@@ -116,4 +119,43 @@ public class QueueChannelSpec extends MessageChannelSpec<QueueChannelSpec, Queue
 
 	}
 
+	/**
+	 * The {@link LockFreeArrayBlockingQueue}-specific {@link QueueChannelSpec} extension.
+	 *
+	 * @since 7.1
+	 */
+	public static class LockFreeQueueSpec extends QueueChannelSpec {
+
+		private IdleStrategy idleStrategy = IdleStrategy.backoff();
+
+		protected LockFreeQueueSpec(int capacity) {
+			super(capacity);
+		}
+
+		@Override
+		protected LockFreeQueueSpec id(String id) {
+			return (LockFreeQueueSpec) super.id(id);
+		}
+
+		/**
+		 * Set an {@link IdleStrategy} for producers waiting on a full queue
+		 * and for consumers waiting on an empty queue.
+		 * Defaults to {@link IdleStrategy#backoff()}.
+		 * @param idleStrategyToSet the {@link IdleStrategy} to use.
+		 * @return the spec.
+		 */
+		public LockFreeQueueSpec idleStrategy(IdleStrategy idleStrategyToSet) {
+			this.idleStrategy = idleStrategyToSet;
+			return this;
+		}
+
+		@Override
+		protected QueueChannel doGet() {
+			Assert.state(this.capacity != null, "'capacity' must be provided");
+			this.queue = new LockFreeArrayBlockingQueue<>(this.capacity, this.idleStrategy);
+			return super.doGet();
+		}
+
+	}
+
 }
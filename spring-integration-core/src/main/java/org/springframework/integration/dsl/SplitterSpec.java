@@ -68,6 +68,8 @@ public class SplitterSpec extends ConsumerEndpointSpec<SplitterSpec, AbstractMes
 
 	private @Nullable Boolean applySequence;
 
+	private @Nullable Integer batchSize;
+
 	protected SplitterSpec() {
 	}
 
@@ -177,6 +179,19 @@ public class SplitterSpec extends ConsumerEndpointSpec<SplitterSpec, AbstractMes
 		return this;
 	}
 
+	/**
+	 * Emit the items as {@link org.springframework.integration.support.MessageBatch} payloads
+	 * of up to this size instead of a message per item.
+	 * @param batchSize the max number of items in a batch.
+	 * @return the endpoint spec.
+	 * @since 7.1
+	 * @see AbstractMessageSplitter#setBatchSize(int)
+	 */
+	public SplitterSpec batchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
 	/**
 	 * Specify a channel where rejected Messages should be sent. If the discard
 	 * channel is null (the default), rejected Messages will be dropped.
@@ -285,7 +300,8 @@ public class SplitterSpec extends ConsumerEndpointSpec<SplitterSpec, AbstractMes
 		JavaUtils.INSTANCE
 				.acceptIfNotNull(this.discardChannel, splitter::setDiscardChannel)
 				.acceptIfHasText(this.discardChannelName, splitter::setDiscardChannelName)
-				.acceptIfNotNull(this.applySequence, splitter::setApplySequence);
+				.acceptIfNotNull(this.applySequence, splitter::setApplySequence)
+				.acceptIfNotNull(this.batchSize, splitter::setBatchSize);
 
 		this.handler = splitter;
 
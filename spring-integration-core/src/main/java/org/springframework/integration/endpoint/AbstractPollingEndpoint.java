@@ -172,6 +172,15 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 		this.errorHandler = errorHandler;
 	}
 
+	/**
+	 * Return the {@link ErrorHandler} for the exceptions thrown from the polling task, if any.
+	 * @return the error handler or null.
+	 * @since 7.1
+	 */
+	protected @Nullable ErrorHandler getErrorHandler() {
+		return this.errorHandler;
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.beanClassLoader = classLoader;
@@ -354,10 +363,11 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 							logger.info("Polling disabled while 'maxMessagesPerPoll == 0'");
 							break;
 						}
-						if (pollForMessage() == null) {
+						Message<?> message = pollForMessage();
+						if (message == null) {
 							break;
 						}
-						count++;
+						count += getPolledMessageCount(message);
 					}
 				});
 	}
@@ -498,6 +508,17 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 		}
 	}
 
+	/**
+	 * Return the number of messages represented by the result of a polling task
+	 * to be counted against the {@code maxMessagesPerPoll}.
+	 * @param message the message result from the polling task.
+	 * @return the number of polled messages; {@code 1} by default.
+	 * @since 7.1
+	 */
+	protected int getPolledMessageCount(Message<?> message) {
+		return 1;
+	}
+
 	/**
 	 * The callback of a received message (if any) after the polling task is done.
 	 * If a transaction is enabled, it is committed at this point.
@@ -25,10 +25,12 @@ import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Subscriber;
 
 import org.springframework.context.Lifecycle;
+import org.springframework.integration.channel.AbstractPollableChannel;
 import org.springframework.integration.channel.ExecutorChannelInterceptorAware;
 import org.springframework.integration.channel.NullChannel;
 import org.springframework.integration.channel.ReactiveStreamsSubscribableChannel;
 import org.springframework.integration.core.MessageProducer;
+import org.springframework.integration.handler.BatchMessageHandler;
 import org.springframework.integration.router.MessageRouter;
 import org.springframework.integration.support.utils.IntegrationUtils;
 import org.springframework.integration.transaction.IntegrationResourceHolder;
@@ -36,11 +38,14 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.PollableChannel;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ErrorHandler;
 
 /**
  * Message Endpoint that connects any {@link MessageHandler} implementation
@@ -66,6 +71,8 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private int receiveBatchSize;
+
 	public PollingConsumer(PollableChannel inputChannel, MessageHandler handler) {
 		Assert.notNull(inputChannel, "inputChannel must not be null");
 		Assert.notNull(handler, "handler must not be null");
@@ -87,6 +94,25 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 		this.receiveTimeout = receiveTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages to receive from an {@link AbstractPollableChannel}
+	 * in one {@link AbstractPollableChannel#receiveBatch(int, long)} operation.
+	 * The whole batch is handled within a single polling task, so the transaction and
+	 * poller advices are applied once per batch.
+	 * If the handler is a {@link BatchMessageHandler}, the batch is handed to its
+	 * {@link BatchMessageHandler#handleMessages(List)}, otherwise the messages are handled one by one:
+	 * a failure of one message is handed to the error handler with that message as the failed message,
+	 * and the rest of the batch is still handled.
+	 * Each message in the batch counts against the {@code maxMessagesPerPoll}.
+	 * Ignored for other channel types and for reactive handlers.
+	 * <p>The default is {@code 0} - receive one message per polling task.
+	 * @param receiveBatchSize the batch size.
+	 * @since 7.1
+	 */
+	public void setReceiveBatchSize(int receiveBatchSize) {
+		this.receiveBatchSize = receiveBatchSize;
+	}
+
 	@Override
 	public MessageChannel getInputChannel() {
 		return this.inputChannel;
@@ -183,6 +209,55 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 		}
 	}
 
+	@Override
+	protected void messageReceived(@Nullable IntegrationResourceHolder holder, Message<?> message) {
+		if (message instanceof PolledBatch polledBatch) {
+			handleBatch(holder, polledBatch.getPayload());
+		}
+		else {
+			super.messageReceived(holder, message);
+		}
+	}
+
+	private void handleBatch(@Nullable IntegrationResourceHolder holder, List<Message<?>> messages) {
+		if (this.handler instanceof BatchMessageHandler batchMessageHandler
+				&& !(this.channelInterceptors != null
+				&& ((ExecutorChannelInterceptorAware) this.inputChannel).hasExecutorInterceptors())) {
+
+			this.logger.debug(() -> "Poll resulted in a batch of " + messages.size() + " messages");
+			try {
+				batchMessageHandler.handleMessages(messages);
+			}
+			catch (MessagingException ex) {
+				throw ex;
+			}
+			catch (Exception ex) {
+				throw new MessagingException(
+						"Failed to handle batch of messages to " + this + " in " + this.handler, ex);
+			}
+		}
+		else {
+			MessagingException firstFailure = null;
+			ErrorHandler errorHandler = getErrorHandler();
+			for (Message<?> message : messages) {
+				try {
+					super.messageReceived(holder, message);
+				}
+				catch (MessagingException ex) {
+					if (errorHandler != null) {
+						errorHandler.handleError(ex);
+					}
+					else if (firstFailure == null) {
+						firstFailure = ex;
+					}
+				}
+			}
+			if (firstFailure != null) {
+				throw firstFailure;
+			}
+		}
+	}
+
 	@SuppressWarnings("NullAway") // dataflow analysis limitation
 	private @Nullable Message<?> applyBeforeHandle(Message<?> message, Deque<ExecutorChannelInterceptor> interceptorStack) {
 		Message<?> theMessage = message;
@@ -218,11 +293,27 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 
 	@Override
 	protected @Nullable Message<?> receiveMessage() {
+		if (this.receiveBatchSize > 0 && this.inputChannel instanceof AbstractPollableChannel pollableChannel
+				&& !isReactive()) {
+
+			long maxMessagesPerPoll = getMaxMessagesPerPoll();
+			int batchSize =
+					maxMessagesPerPoll > 0
+							? (int) Math.min(this.receiveBatchSize, maxMessagesPerPoll)
+							: this.receiveBatchSize;
+			List<Message<?>> messages = pollableChannel.receiveBatch(batchSize, this.receiveTimeout);
+			return messages.isEmpty() ? null : new PolledBatch(messages);
+		}
 		return (this.receiveTimeout >= 0)
 				? this.inputChannel.receive(this.receiveTimeout)
 				: this.inputChannel.receive();
 	}
 
+	@Override
+	protected int getPolledMessageCount(Message<?> message) {
+		return message instanceof PolledBatch polledBatch ? polledBatch.getPayload().size() : 1;
+	}
+
 	@Override
 	protected Object getResourceToBind() {
 		return this.inputChannel;
@@ -233,4 +324,17 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 		return IntegrationResourceHolder.INPUT_CHANNEL;
 	}
 
+	/**
+	 * The carrier for messages received in one {@link AbstractPollableChannel#receiveBatch(int, long)}.
+	 */
+	private static final class PolledBatch extends GenericMessage<List<Message<?>>> {
+
+		private static final long serialVersionUID = 1L;
+
+		PolledBatch(List<Message<?>> messages) {
+			super(messages);
+		}
+
+	}
+
 }
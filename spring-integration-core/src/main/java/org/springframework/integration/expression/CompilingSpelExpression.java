@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.expression;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.EvaluationException;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link Expression} which compiles the target {@link SpelExpression} to bytecode
+ * independently of the configuration of the parser it comes from.
+ * <p>
+ * With {@link SpelCompilerMode#IMMEDIATE}, the expression is compiled after its first evaluation;
+ * with {@link SpelCompilerMode#MIXED}, after {@value #MIXED_COMPILE_THRESHOLD} evaluations.
+ * In both modes, if the expression cannot be compiled, or a compiled evaluation fails,
+ * the expression reverts to the interpreted mode for good, and the failed evaluation is repeated
+ * in the interpreted mode.
+ * Such fallbacks are logged and, when a {@link MetricsCaptor} is provided, counted by the
+ * {@value #FALLBACKS_COUNTER_NAME} counter tagged with the name of the component the expression belongs to.
+ *
+ * @since 7.1
+ */
+public class CompilingSpelExpression implements Expression {
+
+	/**
+	 * The name of the counter for expressions reverted to the interpreted mode.
+	 */
+	public static final String FALLBACKS_COUNTER_NAME = "spring.integration.expression.fallbacks";
+
+	/**
+	 * The number of interpreted evaluations before compiling in the {@link SpelCompilerMode#MIXED} mode.
+	 */
+	public static final int MIXED_COMPILE_THRESHOLD = 100;
+
+	private static final LogAccessor LOGGER = new LogAccessor(CompilingSpelExpression.class);
+
+	private static final int INTERPRETED = 0;
+
+	private static final int COMPILING = 1;
+
+	private static final int COMPILED = 2;
+
+	private static final int FALLEN_BACK = 3;
+
+	private final SpelExpression expression;
+
+	private final int compileThreshold;
+
+	private final @Nullable MetricsCaptor metricsCaptor;
+
+	private final @Nullable String componentName;
+
+	private final AtomicInteger state = new AtomicInteger(INTERPRETED);
+
+	private final AtomicInteger interpretedCount = new AtomicInteger();
+
+	/**
+	 * Create an instance for the provided expression and compiler mode.
+	 * @param expression the expression to compile.
+	 * @param compilerMode the {@link SpelCompilerMode#MIXED} or {@link SpelCompilerMode#IMMEDIATE} mode.
+	 */
+	public CompilingSpelExpression(SpelExpression expression, SpelCompilerMode compilerMode) {
+		this(expression, compilerMode, null, null);
+	}
+
+	/**
+	 * Create an instance for the provided expression and compiler mode.
+	 * @param expression the expression to compile.
+	 * @param compilerMode the {@link SpelCompilerMode#MIXED} or {@link SpelCompilerMode#IMMEDIATE} mode.
+	 * @param metricsCaptor the {@link MetricsCaptor} to count fallbacks, if any.
+	 * @param componentName the name of the component the expression belongs to, for the fallbacks counter.
+	 */
+	public CompilingSpelExpression(SpelExpression expression, SpelCompilerMode compilerMode,
+			@Nullable MetricsCaptor metricsCaptor, @Nullable String componentName) {
+
+		Assert.notNull(expression, "'expression' must not be null");
+		Assert.isTrue(!SpelCompilerMode.OFF.equals(compilerMode), "'compilerMode' must not be OFF");
+		this.expression = expression;
+		this.compileThreshold = SpelCompilerMode.IMMEDIATE.equals(compilerMode) ? 1 : MIXED_COMPILE_THRESHOLD;
+		this.metricsCaptor = metricsCaptor;
+		this.componentName = componentName;
+	}
+
+	/**
+	 * Return true if the expression is currently evaluated in the compiled form.
+	 * @return true if compiled.
+	 */
+	public boolean isCompiled() {
+		return this.state.get() == COMPILED;
+	}
+
+	/**
+	 * Return true if the expression has reverted to the interpreted mode.
+	 * @return true if reverted.
+	 */
+	public boolean isFallenBack() {
+		return this.state.get() == FALLEN_BACK;
+	}
+
+	@Override
+	public @Nullable Object getValue() throws EvaluationException {
+		return evaluate(this.expression::getValue);
+	}
+
+	@Override
+	public @Nullable Object getValue(@Nullable Object rootObject) throws EvaluationException {
+		return evaluate(() -> this.expression.getValue(rootObject));
+	}
+
+	@Override
+	public <T> @Nullable T getValue(@Nullable Class<T> desiredResultType) throws EvaluationException {
+		return evaluate(() -> this.expression.getValue(desiredResultType));
+	}
+
+	@Override
+	public <T> @Nullable T getValue(@Nullable Object rootObject, @Nullable Class<T> desiredResultType)
+			throws EvaluationException {
+
+		return evaluate(() -> this.expression.getValue(rootObject, desiredResultType));
+	}
+
+	@Override
+	public @Nullable Object getValue(EvaluationContext context) throws EvaluationException {
+		return evaluate(() -> this.expression.getValue(context));
+	}
+
+	@Override
+	public @Nullable Object getValue(EvaluationContext context, @Nullable Object rootObject)
+			throws EvaluationException {
+
+		return evaluate(() -> this.expression.getValue(context, rootObject));
+	}
+
+	@Override
+	public <T> @Nullable T getValue(EvaluationContext context, @Nullable Class<T> desiredResultType)
+			throws EvaluationException {
+
+		return evaluate(() -> this.expression.getValue(context, desiredResultType));
+	}
+
+	@Override
+	public <T> @Nullable T getValue(EvaluationContext context, @Nullable Object rootObject,
+			@Nullable Class<T> desiredResultType) throws EvaluationException {
+
+		return evaluate(() -> this.expression.getValue(context, rootObject, desiredResultType));
+	}
+
+	@Override
+	public @Nullable Class<?> getValueType() throws EvaluationException {
+		return this.expression.getValueType();
+	}
+
+	@Override
+	public @Nullable Class<?> getValueType(@Nullable Object rootObject) throws EvaluationException {
+		return this.expression.getValueType(rootObject);
+	}
+
+	@Override
+	public @Nullable Class<?> getValueType(EvaluationContext context) throws EvaluationException {
+		return this.expression.getValueType(context);
+	}
+
+	@Override
+	public @Nullable Class<?> getValueType(EvaluationContext context, @Nullable Object rootObject)
+			throws EvaluationException {
+
+		return this.expression.getValueType(context, rootObject);
+	}
+
+	@Override
+	public @Nullable TypeDescriptor getValueTypeDescriptor() throws EvaluationException {
+		return this.expression.getValueTypeDescriptor();
+	}
+
+	@Override
+	public @Nullable TypeDescriptor getValueTypeDescriptor(@Nullable Object rootObject) throws EvaluationException {
+		return this.expression.getValueTypeDescriptor(rootObject);
+	}
+
+	@Override
+	public @Nullable TypeDescriptor getValueTypeDescriptor(EvaluationContext context) throws EvaluationException {
+		return this.expression.getValueTypeDescriptor(context);
+	}
+
+	@Override
+	public @Nullable TypeDescriptor getValueTypeDescriptor(EvaluationContext context, @Nullable Object rootObject)
+			throws EvaluationException {
+
+		return this.expression.getValueTypeDescriptor(context, rootObject);
+	}
+
+	@Override
+	public boolean isWritable(EvaluationContext context) throws EvaluationException {
+		return this.expression.isWritable(context);
+	}
+
+	@Override
+	public boolean isWritable(EvaluationContext context, @Nullable Object rootObject) throws EvaluationException {
+		return this.expression.isWritable(context, rootObject);
+	}
+
+	@Override
+	public boolean isWritable(@Nullable Object rootObject) throws EvaluationException {
+		return this.expression.isWritable(rootObject);
+	}
+
+	@Override
+	public void setValue(EvaluationContext context, @Nullable Object value) throws EvaluationException {
+		this.expression.setValue(context, value);
+	}
+
+	@Override
+	public void setValue(@Nullable Object rootObject, @Nullable Object value) throws EvaluationException {
+		this.expression.setValue(rootObject, value);
+	}
+
+	@Override
+	public void setValue(EvaluationContext context, @Nullable Object rootObject, @Nullable Object value)
+			throws EvaluationException {
+
+		this.expression.setValue(context, rootObject, value);
+	}
+
+	@Override
+	public String getExpressionString() {
+		return this.expression.getExpressionString();
+	}
+
+	@Override
+	public String toString() {
+		return "CompilingSpelExpression for: [" + getExpressionString() + "]";
+	}
+
+	private <V extends @Nullable Object> V evaluate(Supplier<V> evaluation) {
+		V value;
+		try {
+			value = evaluation.get();
+		}
+		catch (SpelEvaluationException ex) {
+			if (ex.getMessageCode() != SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION) {
+				throw ex;
+			}
+			fallBack("compiled evaluation failed", ex);
+			return evaluation.get();
+		}
+		if (this.state.get() == INTERPRETED && this.interpretedCount.incrementAndGet() >= this.compileThreshold) {
+			compile();
+		}
+		return value;
+	}
+
+	private void compile() {
+		if (this.state.compareAndSet(INTERPRETED, COMPILING)) {
+			boolean compiled;
+			SpelEvaluationException failure = null;
+			try {
+				compiled = this.expression.compileExpression();
+			}
+			catch (SpelEvaluationException ex) {
+				compiled = false;
+				failure = ex;
+			}
+			if (compiled) {
+				this.state.set(COMPILED);
+			}
+			else {
+				fallBack("the expression cannot be compiled", failure);
+			}
+		}
+	}
+
+	private void fallBack(String reason, @Nullable Throwable cause) {
+		if (this.state.getAndSet(FALLEN_BACK) != FALLEN_BACK) {
+			this.expression.revertToInterpreted();
+			LOGGER.debug(cause, () -> "Reverted to interpreted mode for expression [" + getExpressionString()
+					+ "]: " + reason);
+			MetricsCaptor metricsCaptorToUse = this.metricsCaptor;
+			if (metricsCaptorToUse != null) {
+				metricsCaptorToUse.counterBuilder(FALLBACKS_COUNTER_NAME)
+						.tag("name", this.componentName == null ? "unknown" : this.componentName)
+						.description("SpEL expressions reverted to interpreted mode")
+						.build()
+						.increment();
+			}
+		}
+	}
+
+}
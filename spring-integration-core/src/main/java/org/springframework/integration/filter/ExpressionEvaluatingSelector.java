@@ -16,11 +16,15 @@
 
 package org.springframework.integration.filter;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.handler.ExpressionEvaluatingMessageProcessor;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 
 /**
  * A {@link org.springframework.integration.core.MessageSelector} implementation that
@@ -43,15 +47,44 @@ public class ExpressionEvaluatingSelector extends AbstractMessageProcessingSelec
 
 	private final String expressionString;
 
+	private final ExpressionEvaluatingMessageProcessor<Boolean> processor;
+
 	public ExpressionEvaluatingSelector(String expressionString) {
-		super(new ExpressionEvaluatingMessageProcessor<Boolean>(EXPRESSION_PARSER.parseExpression(expressionString),
-				Boolean.class));
-		this.expressionString = expressionString;
+		this(EXPRESSION_PARSER.parseExpression(expressionString));
 	}
 
 	public ExpressionEvaluatingSelector(Expression expression) {
-		super(new ExpressionEvaluatingMessageProcessor<Boolean>(expression, Boolean.class));
-		this.expressionString = expression.getExpressionString();
+		this(new ExpressionEvaluatingMessageProcessor<>(expression, Boolean.class), expression.getExpressionString());
+	}
+
+	private ExpressionEvaluatingSelector(ExpressionEvaluatingMessageProcessor<Boolean> processor,
+			String expressionString) {
+
+		super(processor);
+		this.processor = processor;
+		this.expressionString = expressionString;
+	}
+
+	/**
+	 * Set the {@link SpelCompilerMode} for the expression, overriding the
+	 * {@link org.springframework.integration.context.IntegrationProperties#SPEL_COMPILER_MODE} global property.
+	 * @param compilerMode the compiler mode.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingMessageProcessor#setCompilerMode(SpelCompilerMode)
+	 */
+	public void setCompilerMode(SpelCompilerMode compilerMode) {
+		this.processor.setCompilerMode(compilerMode);
+	}
+
+	/**
+	 * Inject a {@link MetricsCaptor} to count the reverts of the compiled expression to the interpreted mode.
+	 * @param metricsCaptor the captor.
+	 * @param componentName the name of the component to tag the counter with.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingMessageProcessor#registerMetricsCaptor(MetricsCaptor, String)
+	 */
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor, @Nullable String componentName) {
+		this.processor.registerMetricsCaptor(metricsCaptor, componentName);
 	}
 
 	public String getExpressionString() {
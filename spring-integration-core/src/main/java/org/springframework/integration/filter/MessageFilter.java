@@ -29,6 +29,7 @@ import org.springframework.integration.core.MessageSelector;
 import org.springframework.integration.handler.AbstractReplyProducingPostProcessingMessageHandler;
 import org.springframework.integration.handler.DiscardingMessageHandler;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.util.Assert;
@@ -146,6 +147,14 @@ public class MessageFilter extends AbstractReplyProducingPostProcessingMessageHa
 		}
 	}
 
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptorToRegister) {
+		super.registerMetricsCaptor(metricsCaptorToRegister);
+		if (this.selector instanceof ExpressionEvaluatingSelector expressionEvaluatingSelector) {
+			expressionEvaluatingSelector.registerMetricsCaptor(metricsCaptorToRegister, getComponentName());
+		}
+	}
+
 	@Override
 	public void start() {
 		if (this.selector instanceof Lifecycle lifecycle) {
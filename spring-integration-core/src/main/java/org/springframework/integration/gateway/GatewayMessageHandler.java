@@ -25,7 +25,6 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.BeanCreationException;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.integration.JavaUtils;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
 import org.springframework.integration.support.management.ManageableLifecycle;
@@ -70,7 +69,9 @@ public class GatewayMessageHandler extends AbstractReplyProducingMessageHandler
 
 	private boolean errorOnTimeout;
 
-	private @Nullable Executor executor = new SimpleAsyncTaskExecutor();
+	private @Nullable Executor executor;
+
+	private boolean executorExplicitlySet;
 
 	public void setRequestChannel(MessageChannel requestChannel) {
 		this.requestChannel = requestChannel;
@@ -117,6 +118,7 @@ public class GatewayMessageHandler extends AbstractReplyProducingMessageHandler
 	 */
 	public void setAsyncExecutor(@Nullable Executor executor) {
 		this.executor = executor;
+		this.executorExplicitlySet = true;
 	}
 
 	@Override
@@ -156,7 +158,9 @@ public class GatewayMessageHandler extends AbstractReplyProducingMessageHandler
 				.acceptIfNotNull(this.requestTimeout, newGatewayProxyFactoryBean::setDefaultRequestTimeout)
 				.acceptIfNotNull(this.replyTimeout, newGatewayProxyFactoryBean::setDefaultReplyTimeout);
 
-		newGatewayProxyFactoryBean.setAsyncExecutor(this.executor);
+		if (this.executorExplicitlySet) {
+			newGatewayProxyFactoryBean.setAsyncExecutor(this.executor);
+		}
 		newGatewayProxyFactoryBean.setErrorOnTimeout(this.errorOnTimeout);
 		newGatewayProxyFactoryBean.setBeanName(getComponentName() + "#gpfb");
 		newGatewayProxyFactoryBean.setBeanFactory(getBeanFactory());
@@ -63,6 +63,7 @@ import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.JavaUtils;
 import org.springframework.integration.annotation.Gateway;
 import org.springframework.integration.annotation.GatewayHeader;
+import org.springframework.integration.channel.CorrelatingReplyChannel;
 import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.endpoint.AbstractEndpoint;
 import org.springframework.integration.expression.ExpressionUtils;
@@ -163,6 +164,8 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 
 	private boolean errorOnTimeout;
 
+	private @Nullable CorrelatingReplyChannel correlatingReplyChannel;
+
 	/**
 	 * Create a Factory whose service interface type can be configured by setter injection.
 	 * If none is set, it will fall back to the default service interface type,
@@ -355,6 +358,9 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 	 * {@link Future} or {@link CompletableFuture}.
 	 * Set it to null to disable the async processing, and any
 	 * {@link Future} return types must be returned by the downstream flow.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor} which uses virtual threads
+	 * if the {@link org.springframework.integration.context.IntegrationProperties#TASK_EXECUTION_VIRTUAL_THREADS}
+	 * global property is enabled.
 	 * @param executor The executor.
 	 */
 	public void setAsyncExecutor(@Nullable Executor executor) {
@@ -448,6 +454,17 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 		this.errorOnTimeout = errorOnTimeout;
 	}
 
+	/**
+	 * Set a {@link CorrelatingReplyChannel} to receive replies for the gateway methods,
+	 * instead of creating a temporary reply channel per request.
+	 * @param correlatingReplyChannel the reply channel.
+	 * @since 7.1
+	 * @see MessagingGatewaySupport#setCorrelatingReplyChannel(CorrelatingReplyChannel)
+	 */
+	public void setCorrelatingReplyChannel(CorrelatingReplyChannel correlatingReplyChannel) {
+		this.correlatingReplyChannel = correlatingReplyChannel;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	protected void onInit() {
@@ -460,6 +477,10 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 			if (this.channelResolver == null) {
 				this.channelResolver = ChannelResolverUtils.getChannelResolver(beanFactory);
 			}
+			if (!this.asyncExecutorExplicitlySet && getIntegrationProperties().isTaskExecutionVirtualThreads()) {
+				String beanName = getComponentName();
+				this.asyncExecutor = createDefaultTaskExecutor((beanName == null ? "" : beanName + "-") + "async-");
+			}
 
 			populateMethodInvocationGateways();
 
@@ -853,6 +874,9 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 			gateway.registerMetricsCaptor(this.metricsCaptor);
 		}
 		gateway.setErrorOnTimeout(this.errorOnTimeout);
+		if (this.correlatingReplyChannel != null) {
+			gateway.setCorrelatingReplyChannel(this.correlatingReplyChannel);
+		}
 		gateway.afterPropertiesSet();
 
 		return gateway;
@@ -35,6 +35,7 @@ import org.springframework.core.AttributeAccessor;
 import org.springframework.integration.IntegrationPattern;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.MessageTimeoutException;
+import org.springframework.integration.channel.CorrelatingReplyChannel;
 import org.springframework.integration.channel.ReactiveStreamsSubscribableChannel;
 import org.springframework.integration.core.MessagingTemplate;
 import org.springframework.integration.endpoint.AbstractEndpoint;
@@ -279,6 +280,20 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 		this.replyTimeoutSet = true;
 	}
 
+	/**
+	 * Set a {@link CorrelatingReplyChannel} to receive replies for all the requests of this gateway,
+	 * instead of creating a temporary reply channel per request.
+	 * The requests are correlated with their replies by a key in the
+	 * {@link CorrelatingReplyChannel#CORRELATION_KEY_HEADER} header.
+	 * Does not apply to the reactive request/reply operations.
+	 * @param correlatingReplyChannel the reply channel; can be shared between gateways.
+	 * @since 7.1
+	 * @see MessagingTemplate#setCorrelatingReplyChannel(CorrelatingReplyChannel)
+	 */
+	public void setCorrelatingReplyChannel(CorrelatingReplyChannel correlatingReplyChannel) {
+		this.messagingTemplate.setCorrelatingReplyChannel(correlatingReplyChannel);
+	}
+
 	/**
 	 * Provide an {@link InboundMessageMapper} for creating request Messages
 	 * from any object passed in a {@code send} or {@code sendAndReceive} operation.
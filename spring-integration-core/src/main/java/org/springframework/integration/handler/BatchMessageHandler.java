@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler;
+
+import java.util.List;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+
+/**
+ * A {@link MessageHandler} which can handle a batch of messages in one call.
+ * A {@link org.springframework.integration.endpoint.PollingConsumer} with a
+ * {@code receiveBatchSize} hands all the messages received in one poll to this handler
+ * instead of calling {@link #handleMessage(Message)} for each of them.
+ *
+ * @since 7.1
+ *
+ * @see org.springframework.integration.endpoint.PollingConsumer#setReceiveBatchSize(int)
+ */
+public interface BatchMessageHandler extends MessageHandler {
+
+	/**
+	 * Handle the batch of messages received in one poll.
+	 * @param messages the messages to handle.
+	 */
+	void handleMessages(List<Message<?>> messages);
+
+}
@@ -18,6 +18,7 @@ package org.springframework.integration.handler;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
@@ -49,6 +50,7 @@ import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.store.SimpleMessageStore;
 import org.springframework.integration.support.management.IntegrationManagedResource;
+import org.springframework.integration.util.HashedTimingWheel;
 import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -95,6 +97,10 @@ import org.springframework.util.ObjectUtils;
  * After application restart the bean may get a different generated name and its delayed
  * messages might be lost from reschedule since its group is not managed
  * by the application anymore.
+ * <p>
+ * Starting with version 7.1, the delayed messages can be managed by a
+ * {@link HashedTimingWheel} instead of a task per message in the {@link TaskScheduler}.
+ * See {@link #setTimingWheelTickDuration(Duration)} for more information.
  *
  * @author Mark Fisher
  * @author Artem Bilan
@@ -146,6 +152,12 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 	private long retryDelay = DEFAULT_RETRY_DELAY;
 
+	private @Nullable Duration timingWheelTickDuration;
+
+	private int timingWheelSize = HashedTimingWheel.DEFAULT_WHEEL_SIZE;
+
+	private @Nullable HashedTimingWheel<Runnable> timingWheel;
+
 	/**
 	 * Construct an instance with default options.
 	 * The {@link #messageGroupId} must then be provided via the setter.
@@ -311,6 +323,35 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 		this.retryDelay = retryDelay;
 	}
 
+	/**
+	 * Manage the delayed messages with a {@link HashedTimingWheel} advancing every provided
+	 * tick instead of scheduling a task per message in the {@link TaskScheduler}.
+	 * All the messages due on a tick are released as a batch in a single task, and
+	 * persisted messages are rescheduled on startup without a task per message.
+	 * A message might be released up to one tick later than its delay.
+	 * Recommended when a large number of messages are delayed at the same time.
+	 * By default, the timing wheel is not used.
+	 * @param tickDuration the duration of a tick; at least one millisecond.
+	 * @since 7.1
+	 * @see #setTimingWheelSize(int)
+	 */
+	public void setTimingWheelTickDuration(Duration tickDuration) {
+		Assert.isTrue(tickDuration.toMillis() > 0, "'tickDuration' must be at least one millisecond");
+		this.timingWheelTickDuration = tickDuration;
+	}
+
+	/**
+	 * Set the number of buckets in the timing wheel; rounded up to a power of two.
+	 * Default {@value HashedTimingWheel#DEFAULT_WHEEL_SIZE}.
+	 * Only applies when a {@link #setTimingWheelTickDuration(Duration)} is provided.
+	 * @param timingWheelSize the number of buckets.
+	 * @since 7.1
+	 */
+	public void setTimingWheelSize(int timingWheelSize) {
+		Assert.isTrue(timingWheelSize > 0, "'timingWheelSize' must be greater than 0");
+		this.timingWheelSize = timingWheelSize;
+	}
+
 	private @Nullable MessageChannel getErrorChannel() {
 		if (this.delayedMessageErrorChannel != null) {
 			return this.delayedMessageErrorChannel;
@@ -342,6 +383,19 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
 		this.releaseHandler = createReleaseMessageTask();
+		if (this.timingWheelTickDuration != null) {
+			this.timingWheel = new HashedTimingWheel<>(getTaskScheduler(), this::releaseBatch,
+					this.timingWheelTickDuration, this.timingWheelSize);
+			this.timingWheel.start();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (this.timingWheel != null) {
+			this.timingWheel.stop();
+		}
+		super.destroy();
 	}
 
 	private MessageHandler createReleaseMessageTask() {
@@ -483,16 +537,38 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 						@Override
 						public void afterCommit() {
-							getTaskScheduler().schedule(releaseTask, startTime);
+							scheduleRelease(releaseTask, startTime);
 						}
 
 					});
 		}
+		else {
+			scheduleRelease(releaseTask, startTime);
+		}
+	}
+
+	private void scheduleRelease(Runnable releaseTask, Instant startTime) {
+		if (this.timingWheel != null) {
+			this.timingWheel.schedule(releaseTask, startTime);
+		}
 		else {
 			getTaskScheduler().schedule(releaseTask, startTime);
 		}
 	}
 
+	private void releaseBatch(List<Runnable> releaseTasks) {
+		getTaskScheduler().schedule(() -> {
+			for (Runnable releaseTask : releaseTasks) {
+				try {
+					releaseTask.run();
+				}
+				catch (Exception ex) {
+					logger.error(ex, "Failed to release a delayed message");
+				}
+			}
+		}, Instant.now());
+	}
+
 	private Runnable releaseTaskForMessage(Message<?> delayedMessage) {
 		if (this.messageStore instanceof SimpleMessageStore) {
 			return () -> releaseMessage(delayedMessage);
@@ -586,7 +662,7 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 	protected void rescheduleAt(Message<?> message, Date startTime) {
 		Runnable releaseTask = releaseTaskForMessage(message);
-		getTaskScheduler().schedule(releaseTask, startTime.toInstant());
+		scheduleRelease(releaseTask, startTime.toInstant());
 	}
 
 	@SuppressWarnings("NullAway") // critical path
@@ -625,6 +701,8 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 	 * upon application restart. The logic is based on iteration over
 	 * {@code messageGroup.getMessages()} and schedules a task for 'delay' logic. This
 	 * behavior is dictated by the avoidance of invocation thread overload.
+	 * When the timing wheel is used, the messages are placed into the wheel directly,
+	 * without a task per message.
 	 */
 	@Override
 	public void reschedulePersistedMessages() {
@@ -632,19 +710,34 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 		try {
 			MessageGroup messageGroup = this.messageStore.getMessageGroup(this.messageGroupId);
 			try (Stream<Message<?>> messageStream = messageGroup.streamMessages()) {
-				TaskScheduler taskScheduler = getTaskScheduler();
-				messageStream.forEach((message) -> // NOSONAR
-						taskScheduler.schedule(() -> {
-							// This is fine to keep the reference to the message
-							// because the scheduled task is performed immediately.
-							long delay = determineDelayForMessage(message);
-							if (delay > 0) {
-								releaseMessageAfterDelay(message, delay);
-							}
-							else {
-								releaseMessage(message);
-							}
-						}, Instant.now()));
+				HashedTimingWheel<Runnable> wheel = this.timingWheel;
+				if (wheel != null) {
+					Instant now = Instant.now();
+					messageStream.forEach((message) -> { // NOSONAR
+						long delay = determineDelayForMessage(message);
+						if (delay > 0) {
+							releaseMessageAfterDelay(message, delay);
+						}
+						else {
+							wheel.schedule(() -> releaseMessage(message), now);
+						}
+					});
+				}
+				else {
+					TaskScheduler taskScheduler = getTaskScheduler();
+					messageStream.forEach((message) -> // NOSONAR
+							taskScheduler.schedule(() -> {
+								// This is fine to keep the reference to the message
+								// because the scheduled task is performed immediately.
+								long delay = determineDelayForMessage(message);
+								if (delay > 0) {
+									releaseMessageAfterDelay(message, delay);
+								}
+								else {
+									releaseMessage(message);
+								}
+							}, Instant.now()));
+				}
 			}
 		}
 		finally {
@@ -18,14 +18,24 @@ package org.springframework.integration.handler;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.expression.CompilingSpelExpression;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
 /**
  * A {@link MessageProcessor} implementation that evaluates a SpEL expression
  * with the Message itself as the root object within the evaluation context.
+ * <p>
+ * Starting with version 7.1, a SpEL expression can be compiled according to the
+ * {@link #setCompilerMode(SpelCompilerMode) compilerMode} or the
+ * {@link org.springframework.integration.context.IntegrationProperties#SPEL_COMPILER_MODE} global property.
  *
  * @param <T> the expected payload type.
  *
@@ -38,10 +48,18 @@ import org.springframework.util.Assert;
  */
 public class ExpressionEvaluatingMessageProcessor<T> extends AbstractMessageProcessor<T> {
 
-	private final Expression expression;
-
 	private final @Nullable Class<T> expectedType;
 
+	private volatile Expression expression;
+
+	private @Nullable SpelCompilerMode compilerMode;
+
+	private @Nullable MetricsCaptor metricsCaptor;
+
+	private @Nullable String componentName;
+
+	private volatile boolean expressionPrepared;
+
 	/**
 	 * Create an {@link ExpressionEvaluatingMessageProcessor} for the given expression.
 	 * @param expression The expression.
@@ -88,6 +106,34 @@ public class ExpressionEvaluatingMessageProcessor<T> extends AbstractMessageProc
 		}
 	}
 
+	/**
+	 * Set the {@link SpelCompilerMode} for the SpEL expression of this processor,
+	 * overriding the {@link org.springframework.integration.context.IntegrationProperties#SPEL_COMPILER_MODE}
+	 * global property.
+	 * @param compilerMode the compiler mode.
+	 * @since 7.1
+	 * @see CompilingSpelExpression
+	 */
+	public void setCompilerMode(SpelCompilerMode compilerMode) {
+		Assert.notNull(compilerMode, "'compilerMode' must not be null");
+		this.compilerMode = compilerMode;
+	}
+
+	/**
+	 * Inject a {@link MetricsCaptor} to count the reverts of a compiled SpEL expression
+	 * to the interpreted mode.
+	 * Typically called by the {@link org.springframework.integration.support.management.IntegrationManagement}
+	 * component this processor belongs to.
+	 * @param metricsCaptor the captor.
+	 * @param componentName the name of the component to tag the counter with.
+	 * @since 7.1
+	 * @see CompilingSpelExpression#FALLBACKS_COUNTER_NAME
+	 */
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor, @Nullable String componentName) {
+		this.metricsCaptor = metricsCaptor;
+		this.componentName = componentName;
+	}
+
 	/**
 	 * Processes the Message by evaluating the expression with that Message as the
 	 * root object. The expression evaluation result Object will be returned.
@@ -96,9 +142,31 @@ public class ExpressionEvaluatingMessageProcessor<T> extends AbstractMessageProc
 	 */
 	@Override
 	public @Nullable T processMessage(Message<?> message) {
+		if (!this.expressionPrepared) {
+			prepareExpression();
+		}
 		return evaluateExpression(this.expression, message, this.expectedType);
 	}
 
+	@SuppressWarnings("NullAway") // The beanFactory might not be provided
+	private void prepareExpression() {
+		BeanFactory beanFactory = getBeanFactory();
+		SpelCompilerMode compilerModeToUse = this.compilerMode;
+		if (compilerModeToUse == null) {
+			compilerModeToUse =
+					beanFactory != null
+							? IntegrationContextUtils.getIntegrationProperties(beanFactory).getSpelCompilerMode()
+							: SpelCompilerMode.OFF;
+		}
+		if (!SpelCompilerMode.OFF.equals(compilerModeToUse)
+				&& this.expression instanceof SpelExpression spelExpression) {
+
+			this.expression = new CompilingSpelExpression(spelExpression, compilerModeToUse,
+					this.metricsCaptor, this.componentName);
+		}
+		this.expressionPrepared = true;
+	}
+
 	@Override
 	public String toString() {
 		return "ExpressionEvaluatingMessageProcessor for: [" + this.expression.getExpressionString() + "]";
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler;
+
+import org.springframework.integration.support.MessageBatch;
+import org.springframework.messaging.MessageHandler;
+
+/**
+ * Classes implementing this interface handle a {@link MessageBatch} payload as a whole,
+ * for example in a single send or database operation, instead of an item at a time.
+ * A {@link MessageHandlerChain} does not split a batch for such handlers.
+ *
+ * @since 7.1
+ *
+ * @see MessageHandlerChain#setSplitMessageBatches(boolean)
+ */
+public interface MessageBatchHandler extends MessageHandler {
+
+}
@@ -26,6 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.springframework.context.Lifecycle;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.core.MessageProducer;
+import org.springframework.integration.support.MessageBatch;
 import org.springframework.integration.support.management.ManageableLifecycle;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -48,6 +49,11 @@ import org.springframework.util.Assert;
  * A {@link MessageHandler} returning null will have the
  * same effect, although this option is less expressive.
  * <p>
+ * When {@link #setSplitMessageBatches(boolean) splitMessageBatches} is enabled, a message with a
+ * {@link MessageBatch} payload is split into messages for the items before reaching a handler
+ * which is not a {@link MessageBatchHandler}; that handler and the rest of the chain then deal with
+ * each item separately.
+ * <p>
  * This component can be used from the namespace to improve the readability of
  * the configuration by removing channels that can be created implicitly.
  *
@@ -79,6 +85,8 @@ public class MessageHandlerChain extends AbstractMessageProducingHandler
 	@SuppressWarnings("NullAway.Init")
 	private List<MessageHandler> handlers;
 
+	private boolean splitMessageBatches;
+
 	private volatile boolean initialized;
 
 	private volatile boolean running;
@@ -87,6 +95,17 @@ public class MessageHandlerChain extends AbstractMessageProducingHandler
 		this.handlers = new LinkedList<>(handlers);
 	}
 
+	/**
+	 * Set to true to split a {@link MessageBatch} payload into messages for its items
+	 * before handing it over to a handler which is not a {@link MessageBatchHandler}.
+	 * Defaults to false: handlers receive the batch as is.
+	 * @param splitMessageBatches true to split batches for handlers not supporting them.
+	 * @since 7.1
+	 */
+	public void setSplitMessageBatches(boolean splitMessageBatches) {
+		this.splitMessageBatches = splitMessageBatches;
+	}
+
 	@Override
 	public List<MessageHandler> getHandlers() {
 		return Collections.unmodifiableList(this.handlers);
@@ -130,7 +149,7 @@ public class MessageHandlerChain extends AbstractMessageProducingHandler
 				MessageHandler nextHandler = this.handlers.get(i + 1);
 				MessageChannel nextChannel =
 						(message, timeout) -> {
-							nextHandler.handleMessage(message);
+							dispatch(nextHandler, message);
 							return true;
 						};
 
@@ -158,7 +177,20 @@ public class MessageHandlerChain extends AbstractMessageProducingHandler
 		if (!this.initialized) {
 			onInit();
 		}
-		this.handlers.get(0).handleMessage(message);
+		dispatch(this.handlers.get(0), message);
+	}
+
+	private void dispatch(MessageHandler handler, Message<?> message) {
+		if (this.splitMessageBatches && !(handler instanceof MessageBatchHandler)
+				&& message.getPayload() instanceof MessageBatch<?> batch) {
+
+			for (Message<?> item : batch.toMessages(message.getHeaders(), getMessageBuilderFactory())) {
+				handler.handleMessage(item);
+			}
+		}
+		else {
+			handler.handleMessage(message);
+		}
 	}
 
 	@Override
@@ -90,6 +90,17 @@ public class MethodInvokingMessageProcessor<T> extends AbstractMessageProcessor<
 		this.delegate.setUseSpelInvoker(useSpelInvoker);
 	}
 
+	/**
+	 * A {@code boolean} flag to invoke the target method via a {@link java.lang.invoke.MethodHandle}
+	 * when its arguments can be resolved from the message without conversion.
+	 * @param useDirectInvoker true to use a direct invoker when possible.
+	 * @since 7.1
+	 * @see MessagingMethodInvokerHelper#setUseDirectInvoker(boolean)
+	 */
+	public void setUseDirectInvoker(boolean useDirectInvoker) {
+		this.delegate.setUseDirectInvoker(useDirectInvoker);
+	}
+
 	@Override
 	public void start() {
 		this.delegate.start();
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler.support;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ResolvableType;
+import org.springframework.integration.support.NullAwarePayloadArgumentResolver;
+import org.springframework.integration.util.CoroutinesUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Headers;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.HeaderMethodArgumentResolver;
+import org.springframework.messaging.handler.annotation.support.HeadersMethodArgumentResolver;
+import org.springframework.messaging.handler.annotation.support.MessageMethodArgumentResolver;
+import org.springframework.messaging.handler.annotation.support.PayloadMethodArgumentResolver;
+import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+
+/**
+ * The {@link MethodHandle}-based invoker for a handler method which arguments can be
+ * resolved from the request {@link Message} without conversion: an unannotated or
+ * {@link Payload @Payload} payload, a {@link Message}, a {@link Header @Header}
+ * and {@link Headers @Headers} arguments.
+ * <p>
+ * The invoker is created only if every method parameter is supported by one of the default
+ * argument resolvers of the {@link IntegrationMessageHandlerMethodFactory}; parameters handled
+ * by custom resolvers, SpEL expressions or validation are left to the regular invocation.
+ * <p>
+ * Whether the payload matches the method parameters is determined once per payload type.
+ * If the arguments cannot be resolved directly for the specific message (e.g. a conversion or
+ * a default header value is required), the {@link #resolveArguments(Message)} returns
+ * {@code null} and the caller falls back to the regular
+ * {@link org.springframework.messaging.handler.invocation.InvocableHandlerMethod}.
+ *
+ * @since 7.1
+ *
+ * @see MessagingMethodInvokerHelper#setUseDirectInvoker(boolean)
+ */
+final class DirectHandlerMethodInvoker {
+
+	private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	private static final Object UNRESOLVED = new Object();
+
+	private static final @Nullable Class<?> KAFKA_NULL_TYPE = kafkaNullType();
+
+	private final MethodHandle methodHandle;
+
+	private final ArgumentResolver[] argumentResolvers;
+
+	private final Map<Class<?>, Boolean> supportedPayloadTypes = new ConcurrentHashMap<>();
+
+	private DirectHandlerMethodInvoker(MethodHandle methodHandle, ArgumentResolver[] argumentResolvers) {
+		this.methodHandle = methodHandle;
+		this.argumentResolvers = argumentResolvers;
+	}
+
+	/**
+	 * Resolve the arguments for the method from the message.
+	 * @param message the request message.
+	 * @return the arguments or null if they cannot be resolved without conversion.
+	 */
+	Object @Nullable [] resolveArguments(Message<?> message) {
+		Class<?> payloadType = message.getPayload().getClass();
+		Boolean supported = this.supportedPayloadTypes.get(payloadType);
+		if (supported == null) {
+			supported = supportsPayloadType(payloadType);
+			this.supportedPayloadTypes.put(payloadType, supported);
+		}
+		if (!supported) {
+			return null;
+		}
+		Object[] arguments = new Object[this.argumentResolvers.length];
+		for (int i = 0; i < arguments.length; i++) {
+			Object argument = this.argumentResolvers[i].resolve(message);
+			if (argument == UNRESOLVED) {
+				return null;
+			}
+			arguments[i] = argument;
+		}
+		return arguments;
+	}
+
+	private boolean supportsPayloadType(Class<?> payloadType) {
+		if (payloadType.equals(KAFKA_NULL_TYPE)) {
+			return false;
+		}
+		for (ArgumentResolver argumentResolver : this.argumentResolvers) {
+			if (!argumentResolver.supportsPayloadType(payloadType)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Invoke the method with the provided arguments.
+	 * @param arguments the arguments from the {@link #resolveArguments(Message)}.
+	 * @return the method result.
+	 * @throws Exception the exception thrown by the method.
+	 */
+	@Nullable Object invoke(Object[] arguments) throws Exception {
+		try {
+			return (Object) this.methodHandle.invokeExact(arguments);
+		}
+		catch (Exception | Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			throw new IllegalStateException("Invocation failure", ex);
+		}
+	}
+
+	/**
+	 * Create an invoker for the method if all its parameters can be resolved directly.
+	 * @param target the target object.
+	 * @param method the method to invoke.
+	 * @param resolverLookup the function to determine a {@link HandlerMethodArgumentResolver}
+	 * which would be used for the parameter by the regular invocation.
+	 * @return the invoker or null if the method is not eligible.
+	 */
+	static @Nullable DirectHandlerMethodInvoker create(Object target, Method method,
+			Function<MethodParameter, @Nullable HandlerMethodArgumentResolver> resolverLookup) {
+
+		Method methodToInvoke = BridgeMethodResolver.findBridgedMethod(method);
+		ArgumentResolver[] argumentResolvers = new ArgumentResolver[methodToInvoke.getParameterCount()];
+		for (int i = 0; i < argumentResolvers.length; i++) {
+			MethodParameter methodParameter = new MethodParameter(methodToInvoke, i);
+			HandlerMethodArgumentResolver resolver = resolverLookup.apply(methodParameter);
+			ArgumentResolver argumentResolver =
+					resolver != null ? argumentResolverFor(methodParameter, resolver.getClass()) : null;
+			if (argumentResolver == null) {
+				return null;
+			}
+			argumentResolvers[i] = argumentResolver;
+		}
+		try {
+			ReflectionUtils.makeAccessible(methodToInvoke);
+			MethodHandle methodHandle =
+					MethodHandles.lookup()
+							.unreflect(methodToInvoke)
+							.bindTo(target)
+							.asSpreader(Object[].class, argumentResolvers.length)
+							.asType(INVOKER_TYPE);
+			return new DirectHandlerMethodInvoker(methodHandle, argumentResolvers);
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			return null;
+		}
+	}
+
+	private static @Nullable ArgumentResolver argumentResolverFor(MethodParameter methodParameter,
+			Class<?> resolverType) {
+
+		Class<?> parameterType = methodParameter.getParameterType();
+		if (HeaderMethodArgumentResolver.class.equals(resolverType)) {
+			Header header = methodParameter.getParameterAnnotation(Header.class);
+			return header != null ? headerArgumentResolver(methodParameter, header) : null;
+		}
+		else if (HeadersMethodArgumentResolver.class.equals(resolverType)) {
+			return parameterType.isAssignableFrom(MessageHeaders.class) ? new HeadersArgumentResolver() : null;
+		}
+		else if (MessageMethodArgumentResolver.class.equals(resolverType)) {
+			Class<?> messagePayloadType =
+					ResolvableType.forMethodParameter(methodParameter).as(Message.class).getGeneric().toClass();
+			return new MessageArgumentResolver(parameterType, messagePayloadType);
+		}
+		else if (NullAwarePayloadArgumentResolver.class.equals(resolverType)) {
+			Payload payload = methodParameter.getParameterAnnotation(Payload.class);
+			return payload == null || StringUtils.hasText(payload.value()) || StringUtils.hasText(payload.expression())
+					|| isValidated(methodParameter)
+					? null
+					: new PayloadArgumentResolver(parameterType, payload.required());
+		}
+		else if (!PayloadMethodArgumentResolver.class.equals(resolverType) || isValidated(methodParameter)) {
+			return null;
+		}
+		else if (Map.class.isAssignableFrom(parameterType) || Iterable.class.isAssignableFrom(parameterType)
+				|| Iterator.class.isAssignableFrom(parameterType) || parameterType.isArray()
+				|| Optional.class.equals(parameterType) || MessageHeaders.class.equals(parameterType)
+				|| CoroutinesUtils.isContinuationType(parameterType)) {
+
+			return null;
+		}
+		else {
+			return new PayloadArgumentResolver(parameterType, true);
+		}
+	}
+
+	private static boolean isValidated(MethodParameter methodParameter) {
+		for (Annotation annotation : methodParameter.getParameterAnnotations()) {
+			if (ValidationAnnotationUtils.determineValidationHints(annotation) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static @Nullable Class<?> kafkaNullType() {
+		String kafkaNullClassName = "org.springframework.kafka.support.KafkaNull";
+		ClassLoader classLoader = DirectHandlerMethodInvoker.class.getClassLoader();
+		return ClassUtils.isPresent(kafkaNullClassName, classLoader)
+				? ClassUtils.resolveClassName(kafkaNullClassName, classLoader)
+				: null;
+	}
+
+	private static @Nullable ArgumentResolver headerArgumentResolver(MethodParameter methodParameter,
+			Header header) {
+
+		Class<?> parameterType = methodParameter.getParameterType();
+		if (Optional.class.equals(parameterType)) {
+			return null;
+		}
+		String headerName = StringUtils.hasText(header.value()) ? header.value() : header.name();
+		if (!StringUtils.hasText(headerName)) {
+			methodParameter.initParameterNameDiscovery(PARAMETER_NAME_DISCOVERER);
+			headerName = methodParameter.getParameterName();
+		}
+		if (headerName == null || !headerName.matches("[\\w-]+")) {
+			return null;
+		}
+		return new HeaderArgumentResolver(headerName, parameterType);
+	}
+
+	private interface ArgumentResolver {
+
+		boolean supportsPayloadType(Class<?> payloadType);
+
+		@Nullable Object resolve(Message<?> message);
+
+	}
+
+	private record PayloadArgumentResolver(Class<?> parameterType, boolean required) implements ArgumentResolver {
+
+		@Override
+		public boolean supportsPayloadType(Class<?> payloadType) {
+			return ClassUtils.isAssignable(this.parameterType, payloadType);
+		}
+
+		@Override
+		public Object resolve(Message<?> message) {
+			Object payload = message.getPayload();
+			if (this.required && isEmptyPayload(payload)) {
+				return UNRESOLVED;
+			}
+			return payload;
+		}
+
+		private static boolean isEmptyPayload(Object payload) {
+			return (payload instanceof String string && string.isEmpty())
+					|| (payload instanceof Optional<?> optional && optional.isEmpty());
+		}
+
+	}
+
+	private record MessageArgumentResolver(Class<?> parameterType, Class<?> payloadType) implements ArgumentResolver {
+
+		@Override
+		public boolean supportsPayloadType(Class<?> payloadType) {
+			return ClassUtils.isAssignable(this.payloadType, payloadType);
+		}
+
+		@Override
+		public Object resolve(Message<?> message) {
+			return this.parameterType.isInstance(message) ? message : UNRESOLVED;
+		}
+
+	}
+
+	private record HeaderArgumentResolver(String headerName, Class<?> parameterType) implements ArgumentResolver {
+
+		@Override
+		public boolean supportsPayloadType(Class<?> payloadType) {
+			return true;
+		}
+
+		@Override
+		public Object resolve(Message<?> message) {
+			Object value = message.getHeaders().get(this.headerName);
+			return value != null && ClassUtils.isAssignableValue(this.parameterType, value) ? value : UNRESOLVED;
+		}
+
+	}
+
+	private record HeadersArgumentResolver() implements ArgumentResolver {
+
+		@Override
+		public boolean supportsPayloadType(Class<?> payloadType) {
+			return true;
+		}
+
+		@Override
+		public Object resolve(Message<?> message) {
+			return message.getHeaders();
+		}
+
+	}
+
+}
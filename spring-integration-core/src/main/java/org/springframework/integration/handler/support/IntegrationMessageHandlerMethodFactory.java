@@ -20,11 +20,14 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.KotlinDetector;
+import org.springframework.core.MethodParameter;
 import org.springframework.integration.support.NullAwarePayloadArgumentResolver;
 import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
@@ -92,6 +95,22 @@ public class IntegrationMessageHandlerMethodFactory extends DefaultMessageHandle
 		return handlerMethod;
 	}
 
+	/**
+	 * Return the first {@link HandlerMethodArgumentResolver} which supports the method parameter,
+	 * as it would be chosen for the {@link InvocableHandlerMethod}.
+	 * @param parameter the method parameter.
+	 * @return the argument resolver or null.
+	 * @since 7.1
+	 */
+	@Nullable HandlerMethodArgumentResolver getArgumentResolver(MethodParameter parameter) {
+		for (HandlerMethodArgumentResolver resolver : this.argumentResolvers.getResolvers()) {
+			if (resolver.supportsParameter(parameter)) {
+				return resolver;
+			}
+		}
+		return null;
+	}
+
 	private List<HandlerMethodArgumentResolver> buildArgumentResolvers(boolean listCapable) {
 		List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>(6);
 		resolvers.add(new PayloadExpressionArgumentResolver());
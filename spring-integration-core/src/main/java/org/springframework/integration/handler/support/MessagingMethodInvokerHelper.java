@@ -77,6 +77,7 @@ import org.springframework.integration.annotation.Payloads;
 import org.springframework.integration.annotation.ServiceActivator;
 import org.springframework.integration.annotation.UseSpelInvoker;
 import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.context.IntegrationProperties;
 import org.springframework.integration.core.Pausable;
 import org.springframework.integration.support.MutableMessage;
 import org.springframework.integration.support.converter.ConfigurableCompositeMessageConverter;
@@ -202,6 +203,8 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 
 	private boolean useSpelInvoker;
 
+	private @Nullable Boolean useDirectInvoker;
+
 	@SuppressWarnings("NullAway.Init")
 	private volatile MessageHandlerMethodFactory messageHandlerMethodFactory;
 
@@ -346,6 +349,22 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 		this.useSpelInvoker = useSpelInvoker;
 	}
 
+	/**
+	 * A {@code boolean} flag to invoke the target method via a {@link java.lang.invoke.MethodHandle}
+	 * when its arguments can be resolved from the message without conversion:
+	 * a payload, a {@link Message}, {@code @Header} or {@code @Headers}.
+	 * Otherwise, the regular {@link InvocableHandlerMethod} is used.
+	 * The direct invoker is used only for methods whose parameters are all resolved by the default
+	 * argument resolvers of an {@link IntegrationMessageHandlerMethodFactory}.
+	 * Ignored for the message list processing and when {@link #setUseSpelInvoker(boolean)} is set.
+	 * Defaults to the {@link IntegrationProperties#ENDPOINTS_DIRECT_METHOD_INVOCATION} global property.
+	 * @param useDirectInvoker true to use a direct invoker when possible.
+	 * @since 7.1
+	 */
+	public void setUseDirectInvoker(boolean useDirectInvoker) {
+		this.useDirectInvoker = useDirectInvoker;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) {
 		super.setBeanFactory(beanFactory);
@@ -516,6 +535,13 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 			}
 
 			prepareEvaluationContext();
+			if (this.useDirectInvoker == null) {
+				BeanFactory beanFactory = getBeanFactory();
+				this.useDirectInvoker =
+						beanFactory != null
+								&& IntegrationContextUtils.getIntegrationProperties(beanFactory)
+								.isEndpointsDirectMethodInvocation();
+			}
 			this.initialized = true;
 		}
 		finally {
@@ -566,6 +592,12 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 		candidate.expression = parser.parseExpression(candidate.expressionString);
 		if (!this.useSpelInvoker && !candidate.spelOnly) {
 			candidate.setInvocableHandlerMethod(createInvocableHandlerMethod(candidate.method));
+			if (Boolean.TRUE.equals(this.useDirectInvoker) && !this.canProcessMessageList
+					&& this.messageHandlerMethodFactory instanceof IntegrationMessageHandlerMethodFactory factory) {
+
+				candidate.directInvoker = DirectHandlerMethodInvoker.create(this.targetObject, candidate.method,
+						factory::getArgumentResolver);
+			}
 		}
 		candidate.initialized = true;
 	}
@@ -1068,6 +1100,8 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 
 		private @Nullable InvocableHandlerMethod invocableHandlerMethod;
 
+		private @Nullable DirectHandlerMethodInvoker directInvoker;
+
 		@SuppressWarnings("NullAway.Init")
 		private Expression expression;
 
@@ -1108,7 +1142,12 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 				message = new MutableMessage<>(parameters.getMessages(), parameters.getHeaders());
 			}
 			try {
-				Object result = this.invocableHandlerMethod.invoke(message);
+				DirectHandlerMethodInvoker directInvokerToUse = this.directInvoker;
+				Object[] arguments = directInvokerToUse != null ? directInvokerToUse.resolveArguments(message) : null;
+				Object result =
+						arguments != null
+								? directInvokerToUse.invoke(arguments)
+								: this.invocableHandlerMethod.invoke(message);
 				if (result != null
 						&& org.springframework.integration.util.ClassUtils.isKotlinUnit(result.getClass())) {
 
@@ -16,9 +16,14 @@
 
 package org.springframework.integration.history;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -26,7 +31,6 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import org.apache.commons.logging.Log;
@@ -46,6 +50,16 @@ import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
 
 /**
+ * The {@link List} of {@link Properties} (one {@link Entry} per component)
+ * the message has passed through.
+ * <p>
+ * Since version 7.1, the history is stored in a compact append-only form:
+ * the component names and types are kept as references to the strings provided by the
+ * components themselves, and the timestamps in a primitive {@code long} array.
+ * The {@link Entry} objects for the {@link List} view are created lazily, on first access.
+ * The {@link #getName(int)}, {@link #getType(int)} and {@link #getTimestamp(int)}
+ * can be used to read the history without creating any {@link Entry}.
+ *
  * @author Mark Fisher
  * @author Artem Bilan
  * @author Gary Russell
@@ -58,6 +72,14 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 	@Serial
 	private static final long serialVersionUID = -2340400235574314134L;
 
+	/**
+	 * Keep the serialized form compatible with the {@code List<Properties>}-based one.
+	 */
+	@Serial
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("components", List.class)
+	};
+
 	private static final Log LOGGER = LogFactory.getLog(MessageHistory.class);
 
 	private static final UnsupportedOperationException UNSUPPORTED_OPERATION_EXCEPTION_IMMUTABLE =
@@ -73,8 +95,21 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 
 	private static final MessageBuilderFactory MESSAGE_BUILDER_FACTORY = new DefaultMessageBuilderFactory();
 
-	@SuppressWarnings("serial")
-	private final List<Properties> components;
+	private static final int INITIAL_CAPACITY = 8;
+
+	private @Nullable String[] names;
+
+	private @Nullable String[] types;
+
+	private long[] timestamps;
+
+	/**
+	 * The lazily created entries for the {@link List} view;
+	 * an entry provided from outside (e.g. on deserialization) is kept as is.
+	 */
+	private @Nullable Properties[] entries;
+
+	private int size;
 
 	@Nullable
 	public static MessageHistory read(@Nullable Message<?> message) {
@@ -94,16 +129,17 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 		Message<T> message = messageArg;
 		Assert.notNull(message, "Message must not be null");
 		Assert.notNull(component, "Component must not be null");
-		Properties metadata = extractMetadata(component);
-		if (!metadata.isEmpty()) {
+		String name = component.getComponentName();
+		if (name != null && !name.startsWith("org.springframework.integration")) {
+			String type = component.getComponentType();
+			long timestamp = System.currentTimeMillis();
 			MessageHistory messageHistory = message.getHeaders().get(HEADER_NAME, MessageHistory.class);
 			if (messageHistory != null) {
-				messageHistory.components.add(metadata);
+				messageHistory.append(name, type, timestamp);
 			}
 			else {
-				List<Properties> components = new ArrayList<>();
-				components.add(metadata);
-				messageHistory = new MessageHistory(components);
+				messageHistory = new MessageHistory(INITIAL_CAPACITY);
+				messageHistory.append(name, type, timestamp);
 
 				if (message instanceof MutableMessage) {
 					message.getHeaders().put(HEADER_NAME, messageHistory);
@@ -149,78 +185,196 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 
 	@JsonCreator
 	private MessageHistory(List<Properties> components) {
+		this(capacityFor(components));
+		for (Properties component : components) {
+			appendEntry(component);
+		}
+	}
+
+	private MessageHistory(int capacity) {
+		this.names = new String[capacity];
+		this.types = new String[capacity];
+		this.timestamps = new long[capacity];
+		this.entries = new Properties[capacity];
+	}
+
+	private static int capacityFor(List<Properties> components) {
 		Assert.notEmpty(components, "component list must not be empty");
-		this.components = components;
+		return Math.max(INITIAL_CAPACITY, components.size());
+	}
+
+	private void append(String name, @Nullable String type, long timestamp) {
+		ensureCapacity();
+		this.names[this.size] = name;
+		this.types[this.size] = type;
+		this.timestamps[this.size] = timestamp;
+		this.size++;
+	}
+
+	private void appendEntry(Properties entry) {
+		ensureCapacity();
+		this.names[this.size] = entry.getProperty(NAME_PROPERTY);
+		this.types[this.size] = entry.getProperty(TYPE_PROPERTY);
+		this.entries[this.size] = entry;
+		this.size++;
+	}
+
+	private void ensureCapacity() {
+		if (this.size == this.names.length) {
+			int newCapacity = Math.max(INITIAL_CAPACITY, this.size << 1);
+			this.names = Arrays.copyOf(this.names, newCapacity);
+			this.types = Arrays.copyOf(this.types, newCapacity);
+			this.timestamps = Arrays.copyOf(this.timestamps, newCapacity);
+			this.entries = Arrays.copyOf(this.entries, newCapacity);
+		}
+	}
+
+	/**
+	 * Return the name of the component at the specified position in this history.
+	 * @param index the position of the component.
+	 * @return the component name.
+	 * @since 7.1
+	 */
+	public @Nullable String getName(int index) {
+		Objects.checkIndex(index, this.size);
+		return this.names[index];
+	}
+
+	/**
+	 * Return the type of the component at the specified position in this history.
+	 * @param index the position of the component.
+	 * @return the component type, if any.
+	 * @since 7.1
+	 */
+	public @Nullable String getType(int index) {
+		Objects.checkIndex(index, this.size);
+		return this.types[index];
+	}
+
+	/**
+	 * Return the timestamp when the message has passed the component
+	 * at the specified position in this history.
+	 * @param index the position of the component.
+	 * @return the timestamp in milliseconds or {@code 0}, if it is not available.
+	 * @since 7.1
+	 */
+	public long getTimestamp(int index) {
+		Objects.checkIndex(index, this.size);
+		Properties entry = this.entries[index];
+		if (entry != null) {
+			String timestamp = entry.getProperty(TIMESTAMP_PROPERTY);
+			try {
+				return timestamp != null ? Long.parseLong(timestamp) : 0;
+			}
+			catch (NumberFormatException ex) {
+				return 0;
+			}
+		}
+		return this.timestamps[index];
 	}
 
 	@Override
 	public int size() {
-		return this.components.size();
+		return this.size;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return this.components.isEmpty();
+		return this.size == 0;
 	}
 
 	@Override
 	public boolean contains(Object o) {
-		return this.components.contains(o);
+		return asList().contains(o);
 	}
 
 	@Override
 	public boolean containsAll(Collection<?> c) {
-		return this.components.containsAll(c);
+		return asList().containsAll(c);
 	}
 
 	@Override
 	public Properties get(int index) {
-		return this.components.get(index);
+		Objects.checkIndex(index, this.size);
+		Properties entry = this.entries[index];
+		if (entry == null) {
+			Entry newEntry = new Entry();
+			String name = this.names[index];
+			if (name != null) {
+				newEntry.setName(name);
+			}
+			String type = this.types[index];
+			if (type != null) {
+				newEntry.setType(type);
+			}
+			newEntry.setTimestamp(Long.toString(this.timestamps[index]));
+			this.entries[index] = newEntry;
+			entry = newEntry;
+		}
+		return entry;
 	}
 
 	@Override
 	public Iterator<Properties> iterator() {
-		return Collections.unmodifiableList(this.components).iterator();
+		return asList().iterator();
 	}
 
 	@Override
 	public ListIterator<Properties> listIterator() {
-		return Collections.unmodifiableList(this.components).listIterator();
+		return asList().listIterator();
 	}
 
 	@Override
 	public ListIterator<Properties> listIterator(int index) {
-		return Collections.unmodifiableList(this.components).listIterator(index);
+		return asList().listIterator(index);
 	}
 
 	@Override
 	public List<Properties> subList(int fromIndex, int toIndex) {
-		return Collections.unmodifiableList(this.components).subList(fromIndex, toIndex);
+		return asList().subList(fromIndex, toIndex);
 	}
 
 	@Override
 	public Object[] toArray() {
-		return this.components.toArray();
+		return asList().toArray();
 	}
 
 	@Override
 	public <T> T[] toArray(T[] a) {
-		return this.components.toArray(a);
+		return asList().toArray(a);
 	}
 
 	@Override
 	public int indexOf(Object o) {
-		return this.components.indexOf(o);
+		return asList().indexOf(o);
 	}
 
 	@Override
 	public int lastIndexOf(Object o) {
-		return this.components.lastIndexOf(o);
+		return asList().lastIndexOf(o);
+	}
+
+	/**
+	 * Materialize all the entries and return them as an unmodifiable snapshot.
+	 */
+	private List<Properties> asList() {
+		int currentSize = this.size;
+		Properties[] snapshot = new Properties[currentSize];
+		for (int i = 0; i < currentSize; i++) {
+			snapshot[i] = get(i);
+		}
+		return Collections.unmodifiableList(Arrays.asList(snapshot));
 	}
 
 	@Override
 	public Object clone() {
-		return new MessageHistory(new ArrayList<>(this.components));
+		MessageHistory clone = new MessageHistory(Math.max(INITIAL_CAPACITY, this.size));
+		System.arraycopy(this.names, 0, clone.names, 0, this.size);
+		System.arraycopy(this.types, 0, clone.types, 0, this.size);
+		System.arraycopy(this.timestamps, 0, clone.timestamps, 0, this.size);
+		System.arraycopy(this.entries, 0, clone.entries, 0, this.size);
+		clone.size = this.size;
+		return clone;
 	}
 
 	@Override
@@ -231,20 +385,47 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 		if (!(o instanceof MessageHistory that)) {
 			return false;
 		}
-		return this.components.equals(that.components);
+		return asList().equals(that.asList());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.components);
+		return Objects.hash(asList());
 	}
 
 	@Override
 	public String toString() {
-		return this.components
-				.stream()
-				.map((props) -> props.getProperty(NAME_PROPERTY))
-				.collect(Collectors.joining(","));
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < this.size; i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append(this.names[i]);
+		}
+		return builder.toString();
+	}
+
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("components", new ArrayList<>(asList()));
+		out.writeFields();
+	}
+
+	@Serial
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		List<Properties> components = (List<Properties>) fields.get("components", null);
+		Assert.notNull(components, "component list must not be null");
+		int capacity = capacityFor(components);
+		this.names = new String[capacity];
+		this.types = new String[capacity];
+		this.timestamps = new long[capacity];
+		this.entries = new Properties[capacity];
+		for (Properties component : components) {
+			appendEntry(component);
+		}
 	}
 
 
@@ -302,22 +483,6 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 		throw UNSUPPORTED_OPERATION_EXCEPTION_IMMUTABLE;
 	}
 
-	private static Properties extractMetadata(NamedComponent component) {
-		Entry entry = new Entry();
-		String name = component.getComponentName();
-		String type = component.getComponentType();
-		if (name != null && !name.startsWith("org.springframework.integration")) {
-			entry.setName(name);
-			if (type != null) {
-				entry.setType(type);
-			}
-		}
-		if (!entry.isEmpty()) {
-			entry.setTimestamp(Long.toString(System.currentTimeMillis()));
-		}
-		return entry;
-	}
-
 	/**
 	 * Inner class for each Entry in the history.
 	 */
@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -38,7 +40,7 @@ import org.springframework.messaging.MessageHeaders;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.PatternMatchUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -105,8 +107,10 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 		this.standardHeaderPrefix = standardHeaderPrefix;
 		this.requestHeaderNames = requestHeaderNames;
 		this.replyHeaderNames = replyHeaderNames;
-		this.requestHeaderMatcher = createDefaultHeaderMatcher(this.standardHeaderPrefix, this.requestHeaderNames);
-		this.replyHeaderMatcher = createDefaultHeaderMatcher(this.standardHeaderPrefix, this.replyHeaderNames);
+		this.requestHeaderMatcher = new CachingHeaderMatcher(
+				createDefaultHeaderMatcher(this.standardHeaderPrefix, this.requestHeaderNames));
+		this.replyHeaderMatcher = new CachingHeaderMatcher(
+				createDefaultHeaderMatcher(this.standardHeaderPrefix, this.replyHeaderNames));
 	}
 
 	@Override
@@ -126,7 +130,7 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 	 */
 	public void setRequestHeaderNames(String... requestHeaderNames) {
 		Assert.notNull(requestHeaderNames, "'requestHeaderNames' must not be null");
-		this.requestHeaderMatcher = createHeaderMatcher(Arrays.asList(requestHeaderNames));
+		this.requestHeaderMatcher = new CachingHeaderMatcher(createHeaderMatcher(Arrays.asList(requestHeaderNames)));
 	}
 
 	/**
@@ -137,7 +141,7 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 	 */
 	public void setReplyHeaderNames(String... replyHeaderNames) {
 		Assert.notNull(replyHeaderNames, "'replyHeaderNames' must not be null");
-		this.replyHeaderMatcher = createHeaderMatcher(Arrays.asList(replyHeaderNames));
+		this.replyHeaderMatcher = new CachingHeaderMatcher(createHeaderMatcher(Arrays.asList(replyHeaderNames)));
 	}
 
 	/**
@@ -443,10 +447,16 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 
 		private final Collection<String> content;
 
+		private final Set<String> lowerCaseContent;
+
 		public ContentBasedHeaderMatcher(boolean match, Collection<String> content) {
 			this.match = match;
 			Assert.notNull(content, "Content must not be null");
 			this.content = content;
+			this.lowerCaseContent =
+					content.stream()
+							.map((headerName) -> headerName.toLowerCase(Locale.ROOT))
+							.collect(Collectors.toUnmodifiableSet());
 		}
 
 		@Override
@@ -464,12 +474,7 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 		}
 
 		private boolean containsIgnoreCase(String name) {
-			for (String headerName : this.content) {
-				if (headerName.equalsIgnoreCase(name)) {
-					return true;
-				}
-			}
-			return false;
+			return this.lowerCaseContent.contains(name.toLowerCase(Locale.ROOT));
 		}
 
 	}
@@ -480,31 +485,29 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 	 *
 	 * @since 4.1
 	 *
-	 * @see org.springframework.util.PatternMatchUtils#simpleMatch(String, String)
+	 * @see HeaderNameMatcher
 	 */
 	protected static class PatternBasedHeaderMatcher implements HeaderMatcher {
 
 		private static final Log LOGGER = LogFactory.getLog(PatternBasedHeaderMatcher.class);
 
-		private final Collection<String> patterns;
+		private final HeaderNameMatcher matcher;
 
 		public PatternBasedHeaderMatcher(Collection<String> patterns) {
 			Assert.notNull(patterns, "Patterns must no be null");
 			Assert.notEmpty(patterns, "At least one pattern must be specified");
-			this.patterns = patterns.stream().map((pattern) -> pattern.toLowerCase(Locale.ROOT)).toList();
+			this.matcher = new HeaderNameMatcher(patterns, true, 0);
 		}
 
 		@Override
 		public boolean matchHeader(String headerName) {
-			String header = headerName.toLowerCase(Locale.ROOT);
-			for (String pattern : this.patterns) {
-				if (PatternMatchUtils.simpleMatch(pattern, header)) {
-					if (LOGGER.isDebugEnabled()) {
-						LOGGER.debug(MessageFormat.format(
-								"headerName=[{0}] WILL be mapped, matched pattern={1}", headerName, pattern));
-					}
-					return true;
+			String pattern = this.matcher.findMatchingPattern(headerName);
+			if (pattern != null) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug(MessageFormat.format(
+							"headerName=[{0}] WILL be mapped, matched pattern={1}", headerName, pattern));
 				}
+				return true;
 			}
 			return false;
 		}
@@ -518,7 +521,7 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 	 *
 	 * @since 4.3
 	 *
-	 * @see org.springframework.util.PatternMatchUtils#simpleMatch(String, String)
+	 * @see HeaderNameMatcher
 	 */
 	protected static class SinglePatternBasedHeaderMatcher implements HeaderMatcher {
 
@@ -526,6 +529,8 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 
 		private final String pattern;
 
+		private final HeaderNameMatcher matcher;
+
 		private final boolean negate;
 
 		public SinglePatternBasedHeaderMatcher(String pattern) {
@@ -535,13 +540,13 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 		public SinglePatternBasedHeaderMatcher(String pattern, boolean negate) {
 			Assert.notNull(pattern, "Pattern must no be null");
 			this.pattern = pattern.toLowerCase(Locale.ROOT);
+			this.matcher = new HeaderNameMatcher(List.of(pattern), true, 0);
 			this.negate = negate;
 		}
 
 		@Override
 		public boolean matchHeader(String headerName) {
-			String header = headerName.toLowerCase(Locale.ROOT);
-			if (PatternMatchUtils.simpleMatch(this.pattern, header)) {
+			if (this.matcher.matches(headerName)) {
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug(MessageFormat.format(
 							"headerName=[{0}] WILL be mapped, matched pattern={1}", headerName, this.pattern));
@@ -631,4 +636,37 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 
 	}
 
+	/**
+	 * A {@link HeaderMatcher} that caches the decisions of the delegate {@link HeaderMatcher}
+	 * per header name, so the (composite) patterns are not evaluated for every message.
+	 * The cache is bounded by the {@link HeaderNameMatcher#DEFAULT_CACHE_SIZE}: when it is full,
+	 * the least recently used header names are evicted.
+	 * The delegate must provide the same result for the same header name.
+	 *
+	 * @since 7.1
+	 */
+	protected static class CachingHeaderMatcher implements HeaderMatcher {
+
+		private final HeaderMatcher delegate;
+
+		private final ConcurrentLruCache<String, Boolean> decisions;
+
+		public CachingHeaderMatcher(HeaderMatcher delegate) {
+			Assert.notNull(delegate, "'delegate' must not be null");
+			this.delegate = delegate;
+			this.decisions = new ConcurrentLruCache<>(HeaderNameMatcher.DEFAULT_CACHE_SIZE, delegate::matchHeader);
+		}
+
+		@Override
+		public boolean matchHeader(String headerName) {
+			return this.decisions.get(headerName);
+		}
+
+		@Override
+		public boolean isNegated() {
+			return this.delegate.isNegated();
+		}
+
+	}
+
 }
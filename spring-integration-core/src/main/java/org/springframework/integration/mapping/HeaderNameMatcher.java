@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.mapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * A matcher for header names against a set of simple patterns (as supported by
+ * {@link PatternMatchUtils#simpleMatch(String, String)}), which is compiled once
+ * for the patterns instead of evaluating each pattern on every match.
+ * <p>
+ * Patterns without wildcards are resolved by a hash lookup; {@code prefix*} and {@code *suffix}
+ * patterns are checked with {@link String#startsWith(String)} and {@link String#endsWith(String)};
+ * only the remaining patterns fall back to {@link PatternMatchUtils#simpleMatch(String, String)}.
+ * <p>
+ * The decision for a header name is also kept in a {@link ConcurrentLruCache} keyed by the
+ * header name as provided, so the header names seen by a mapper over and over again are not
+ * matched (and lower-cased) for each message.
+ * When the cache is full, the least recently used header names are evicted.
+ *
+ * @since 7.1
+ */
+public final class HeaderNameMatcher {
+
+	/**
+	 * The default maximum number of cached header name decisions.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 1024;
+
+	private final boolean ignoreCase;
+
+	private final Map<String, String> exactNames = new HashMap<>();
+
+	private final List<CompiledPattern> prefixes = new ArrayList<>();
+
+	private final List<CompiledPattern> suffixes = new ArrayList<>();
+
+	private final List<CompiledPattern> wildcardPatterns = new ArrayList<>();
+
+	private final ConcurrentLruCache<String, Optional<String>> decisions;
+
+	private @Nullable String matchAllPattern;
+
+	/**
+	 * Create an instance for the provided patterns and the {@link #DEFAULT_CACHE_SIZE}.
+	 * @param patterns the simple patterns to match header names against.
+	 * @param ignoreCase whether the case of header names and patterns should be ignored.
+	 */
+	public HeaderNameMatcher(Collection<String> patterns, boolean ignoreCase) {
+		this(patterns, ignoreCase, DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Create an instance for the provided patterns.
+	 * @param patterns the simple patterns to match header names against.
+	 * @param ignoreCase whether the case of header names and patterns should be ignored.
+	 * @param cacheSize the maximum number of cached decisions; {@code 0} to disable the cache.
+	 */
+	public HeaderNameMatcher(Collection<String> patterns, boolean ignoreCase, int cacheSize) {
+		Assert.notNull(patterns, "'patterns' must not be null");
+		Assert.noNullElements(patterns, "'patterns' must not contain null elements");
+		Assert.isTrue(cacheSize >= 0, "'cacheSize' must not be negative");
+		this.ignoreCase = ignoreCase;
+		for (String pattern : patterns) {
+			compile(pattern);
+		}
+		this.decisions = new ConcurrentLruCache<>(cacheSize,
+				(headerName) -> Optional.ofNullable(doFindMatchingPattern(headerName)));
+	}
+
+	private void compile(String pattern) {
+		String candidate = this.ignoreCase ? pattern.toLowerCase(Locale.ROOT) : pattern;
+		int firstWildcard = candidate.indexOf('*');
+		int lastWildcard = candidate.lastIndexOf('*');
+		if (firstWildcard == -1) {
+			this.exactNames.putIfAbsent(candidate, pattern);
+		}
+		else if (candidate.chars().allMatch((ch) -> ch == '*')) {
+			if (this.matchAllPattern == null) {
+				this.matchAllPattern = pattern;
+			}
+		}
+		else if (firstWildcard == lastWildcard && firstWildcard == candidate.length() - 1) {
+			this.prefixes.add(new CompiledPattern(candidate.substring(0, firstWildcard), pattern));
+		}
+		else if (firstWildcard == lastWildcard && firstWildcard == 0) {
+			this.suffixes.add(new CompiledPattern(candidate.substring(1), pattern));
+		}
+		else {
+			this.wildcardPatterns.add(new CompiledPattern(candidate, pattern));
+		}
+	}
+
+	/**
+	 * Check if the header name matches any of the patterns.
+	 * @param headerName the header name to match.
+	 * @return true if the header name matches.
+	 */
+	public boolean matches(String headerName) {
+		return findMatchingPattern(headerName) != null;
+	}
+
+	/**
+	 * Find a pattern the header name matches.
+	 * When several patterns match, it is not specified which one is returned.
+	 * @param headerName the header name to match.
+	 * @return the (original) pattern the header name matches, or {@code null}.
+	 */
+	public @Nullable String findMatchingPattern(String headerName) {
+		return this.decisions.get(headerName).orElse(null);
+	}
+
+	private @Nullable String doFindMatchingPattern(String headerName) {
+		if (this.matchAllPattern != null) {
+			return this.matchAllPattern;
+		}
+		String candidate = this.ignoreCase ? headerName.toLowerCase(Locale.ROOT) : headerName;
+		String pattern = this.exactNames.get(candidate);
+		if (pattern != null) {
+			return pattern;
+		}
+		for (CompiledPattern prefix : this.prefixes) {
+			if (candidate.startsWith(prefix.candidate())) {
+				return prefix.pattern();
+			}
+		}
+		for (CompiledPattern suffix : this.suffixes) {
+			if (candidate.endsWith(suffix.candidate())) {
+				return suffix.pattern();
+			}
+		}
+		for (CompiledPattern wildcardPattern : this.wildcardPatterns) {
+			if (PatternMatchUtils.simpleMatch(wildcardPattern.candidate(), candidate)) {
+				return wildcardPattern.pattern();
+			}
+		}
+		return null;
+	}
+
+	private record CompiledPattern(String candidate, String pattern) {
+
+	}
+
+}
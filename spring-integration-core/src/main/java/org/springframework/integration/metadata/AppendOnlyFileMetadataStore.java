@@ -0,0 +1,568 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+/**
+ * A file-based {@link ConcurrentMetadataStore} which appends each modification to a journal
+ * file instead of rewriting the whole file, as the {@link PropertiesPersistingMetadataStore} does.
+ * The entries are kept in memory and restored by replaying the journal on start.
+ * <p>
+ * Every modification is written to the journal before it is applied in memory,
+ * so it survives a crash of the application; whether it also survives a crash of the
+ * operating system depends on the {@link FsyncPolicy}.
+ * An incomplete or corrupted tail of the journal (e.g. after a crash in the middle of a write)
+ * is detected by a checksum and discarded on start.
+ * If an append fails, the journal is truncated back to the end of the previous record;
+ * if even that fails, the store refuses further modifications.
+ * <p>
+ * When the number of obsolete records in the journal reaches both the
+ * {@link #setCompactionThreshold(int) compaction threshold} and the number of current entries,
+ * the journal is rewritten with only the current entries and atomically replaces the previous journal.
+ * Relating the compaction to the number of current entries keeps its cost proportional
+ * to the number of modifications, even for a large store.
+ * <p>
+ * By default, the journal file is
+ * {@code 'java.io.tmpdir' +  "/spring-integration/metadata-store.journal"},
+ * but the directory and filename are settable.
+ * An instance must have an exclusive access to its journal file.
+ *
+ * @since 7.1
+ */
+public class AppendOnlyFileMetadataStore implements ConcurrentMetadataStore, InitializingBean, DisposableBean,
+		Closeable, Flushable {
+
+	private static final byte PUT = 1;
+
+	private static final byte REMOVE = 2;
+
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<String, String> metadata = new ConcurrentHashMap<>();
+
+	private final Lock journalLock = new ReentrantLock();
+
+	private String baseDirectory = System.getProperty("java.io.tmpdir") + "/spring-integration/";
+
+	private String fileName = "metadata-store.journal";
+
+	private FsyncPolicy fsyncPolicy = FsyncPolicy.ON_FLUSH;
+
+	private int compactionThreshold = 10_000;
+
+	@SuppressWarnings("NullAway.Init")
+	private Path file;
+
+	private @Nullable FileChannel channel;
+
+	private long journalRecords;
+
+	private boolean unsynced;
+
+	private boolean failed;
+
+	/**
+	 * Set the location for the journal file. Defaults to
+	 * {@code 'java.io.tmpdir' +  "/spring-integration/"}.
+	 * @param baseDirectory the directory.
+	 */
+	public void setBaseDirectory(String baseDirectory) {
+		Assert.hasText(baseDirectory, "'baseDirectory' must be non-empty");
+		this.baseDirectory = baseDirectory;
+	}
+
+	/**
+	 * Set the name of the journal file in {@link #setBaseDirectory(String)}.
+	 * Defaults to {@code metadata-store.journal}.
+	 * @param fileName the journal file name.
+	 */
+	public void setFileName(String fileName) {
+		Assert.hasText(fileName, "'fileName' must be non-empty");
+		this.fileName = fileName;
+	}
+
+	/**
+	 * Set when the journal is forced to the storage device.
+	 * Defaults to {@link FsyncPolicy#ON_FLUSH}.
+	 * @param fsyncPolicy the {@link FsyncPolicy}.
+	 */
+	public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+		Assert.notNull(fsyncPolicy, "'fsyncPolicy' must not be null");
+		this.fsyncPolicy = fsyncPolicy;
+	}
+
+	/**
+	 * Set the minimum number of obsolete (overwritten or removed) records in the journal
+	 * which triggers a compaction; a compaction also requires at least as many obsolete records
+	 * as current entries. Defaults to {@code 10000}.
+	 * @param compactionThreshold the number of obsolete records.
+	 * @see #compact()
+	 */
+	public void setCompactionThreshold(int compactionThreshold) {
+		Assert.isTrue(compactionThreshold > 0, "'compactionThreshold' must be greater than 0");
+		this.compactionThreshold = compactionThreshold;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		this.file = Paths.get(this.baseDirectory, this.fileName);
+		try {
+			Files.createDirectories(this.file.toAbsolutePath().getParent());
+			FileChannel fileChannel =
+					FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+							StandardOpenOption.WRITE);
+			replayJournal(fileChannel);
+			this.channel = fileChannel;
+		}
+		catch (IOException ex) {
+			throw new IllegalArgumentException("Failed to open metadata-store journal '"
+					+ this.file.toAbsolutePath() + "'", ex);
+		}
+	}
+
+	@Override
+	public void put(String key, String value) {
+		this.journalLock.lock();
+		try {
+			append(PUT, key, value);
+			this.metadata.put(key, value);
+			syncIfAlways();
+			compactIfNecessary();
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+	}
+
+	@Override
+	public @Nullable String get(String key) {
+		return this.metadata.get(key);
+	}
+
+	@Override
+	public @Nullable String remove(String key) {
+		this.journalLock.lock();
+		try {
+			String value = this.metadata.get(key);
+			if (value != null) {
+				append(REMOVE, key, null);
+				this.metadata.remove(key);
+				syncIfAlways();
+				compactIfNecessary();
+			}
+			return value;
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+	}
+
+	@Override
+	public @Nullable String putIfAbsent(String key, String value) {
+		this.journalLock.lock();
+		try {
+			String existing = this.metadata.get(key);
+			if (existing == null) {
+				append(PUT, key, value);
+				this.metadata.put(key, value);
+				syncIfAlways();
+			}
+			return existing;
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean replace(String key, String oldValue, String newValue) {
+		this.journalLock.lock();
+		try {
+			if (oldValue.equals(this.metadata.get(key))) {
+				append(PUT, key, newValue);
+				this.metadata.put(key, newValue);
+				syncIfAlways();
+				compactIfNecessary();
+				return true;
+			}
+			return false;
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The journal is forced (according to the {@link FsyncPolicy}) once for all the entries.
+	 */
+	@Override
+	public void putAll(Map<String, String> entries) {
+		this.journalLock.lock();
+		try {
+			entries.forEach((key, value) -> {
+				append(PUT, key, value);
+				this.metadata.put(key, value);
+			});
+			syncIfAlways();
+			compactIfNecessary();
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The journal is forced (according to the {@link FsyncPolicy}) once for all the entries.
+	 */
+	@Override
+	public Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+		Map<String, String> oldValues = new HashMap<>();
+		this.journalLock.lock();
+		try {
+			entries.forEach((key, value) -> {
+				String existing = this.metadata.get(key);
+				if (existing == null) {
+					append(PUT, key, value);
+					this.metadata.put(key, value);
+				}
+				else {
+					oldValues.put(key, existing);
+				}
+			});
+			syncIfAlways();
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+		return oldValues;
+	}
+
+	/**
+	 * Rewrite the journal with only the current entries.
+	 * Called automatically when the {@link #setCompactionThreshold(int) compaction threshold}
+	 * is reached.
+	 * @throws IllegalStateException if the compacted journal has replaced the previous one,
+	 * but cannot be reopened; the store does not accept modifications any more.
+	 */
+	public void compact() {
+		this.journalLock.lock();
+		try {
+			doCompact();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to compact metadata-store journal '" + this.file + "'", ex);
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+	}
+
+	@Override
+	public void flush() {
+		this.journalLock.lock();
+		try {
+			FileChannel fileChannel = this.channel;
+			if (fileChannel != null && this.unsynced && !FsyncPolicy.NEVER.equals(this.fsyncPolicy)) {
+				fileChannel.force(false);
+				this.unsynced = false;
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to flush metadata-store journal '" + this.file + "'", ex);
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		this.journalLock.lock();
+		try {
+			flush();
+			FileChannel fileChannel = this.channel;
+			if (fileChannel != null) {
+				this.channel = null;
+				fileChannel.close();
+			}
+		}
+		catch (IOException ex) {
+			this.logger.warn("Failed to close metadata-store journal '" + this.file + "'", ex);
+		}
+		finally {
+			this.journalLock.unlock();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		close();
+	}
+
+	private void replayJournal(FileChannel fileChannel) throws IOException {
+		long size = fileChannel.size();
+		long validLength = 0;
+		// Not closed: that would close the channel
+		DataInputStream input =
+				new DataInputStream(new BufferedInputStream(Channels.newInputStream(fileChannel.position(0))));
+		while (validLength + RECORD_HEADER_SIZE <= size) {
+			int length = input.readInt();
+			int checksum = input.readInt();
+			if (length <= 0 || validLength + RECORD_HEADER_SIZE + length > size) {
+				break;
+			}
+			byte[] payload = new byte[length];
+			input.readFully(payload);
+			if (checksum(payload, 0, length) != checksum) {
+				break;
+			}
+			applyRecord(ByteBuffer.wrap(payload));
+			validLength += RECORD_HEADER_SIZE + length;
+			this.journalRecords++;
+		}
+		if (validLength < size) {
+			this.logger.warn("Discarding the incomplete or corrupted tail of metadata-store journal '"
+					+ this.file.toAbsolutePath() + "' after " + validLength + " of " + size + " bytes");
+			fileChannel.truncate(validLength);
+		}
+		fileChannel.position(validLength);
+	}
+
+	private void applyRecord(ByteBuffer payload) {
+		byte operation = payload.get();
+		String key = readString(payload);
+		if (operation == PUT) {
+			this.metadata.put(key, readString(payload));
+		}
+		else {
+			this.metadata.remove(key);
+		}
+	}
+
+	private void append(byte operation, String key, @Nullable String value) {
+		FileChannel fileChannel = this.channel;
+		Assert.state(fileChannel != null, "The metadata-store journal is not open");
+		Assert.state(!this.failed, () -> "The metadata-store journal '" + this.file.toAbsolutePath()
+				+ "' has a partially written record; no further modifications can be recorded");
+		ByteBuffer record = record(operation, key, value);
+		long position = -1;
+		try {
+			position = fileChannel.position();
+			while (record.hasRemaining()) {
+				fileChannel.write(record);
+			}
+			this.unsynced = true;
+			this.journalRecords++;
+		}
+		catch (IOException ex) {
+			if (position >= 0) {
+				discardPartialRecord(fileChannel, position);
+			}
+			throw new UncheckedIOException("Failed to append to metadata-store journal '" + this.file + "'", ex);
+		}
+	}
+
+	/**
+	 * Truncate the journal back to the position before a failed append, so the next records
+	 * are not written after the torn one (and discarded on replay together with it).
+	 * If that is not possible, the store refuses further modifications.
+	 */
+	private void discardPartialRecord(FileChannel fileChannel, long position) {
+		try {
+			fileChannel.truncate(position);
+			fileChannel.position(position);
+		}
+		catch (IOException ex) {
+			this.failed = true;
+			this.logger.error("Failed to discard a partially written record of metadata-store journal '"
+					+ this.file + "'; no further modifications can be recorded", ex);
+		}
+	}
+
+	private void syncIfAlways() {
+		FileChannel fileChannel = this.channel;
+		if (fileChannel != null && this.unsynced && FsyncPolicy.ALWAYS.equals(this.fsyncPolicy)) {
+			try {
+				fileChannel.force(false);
+				this.unsynced = false;
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to sync metadata-store journal '" + this.file + "'", ex);
+			}
+		}
+	}
+
+	private void compactIfNecessary() {
+		long obsoleteRecords = this.journalRecords - this.metadata.size();
+		if (obsoleteRecords >= this.compactionThreshold && obsoleteRecords >= this.metadata.size()) {
+			try {
+				doCompact();
+			}
+			catch (IOException | RuntimeException ex) {
+				// not fatal for the modification which has been already recorded
+				this.logger.warn("Failed to compact metadata-store journal '" + this.file + "'", ex);
+			}
+		}
+	}
+
+	private void doCompact() throws IOException {
+		FileChannel fileChannel = this.channel;
+		Assert.state(fileChannel != null, "The metadata-store journal is not open");
+		Path compacted = this.file.resolveSibling(this.fileName + ".compact");
+		try (FileOutputStream fileOutputStream = new FileOutputStream(compacted.toFile());
+				OutputStream outputStream = new BufferedOutputStream(fileOutputStream)) {
+
+			for (Map.Entry<String, String> entry : this.metadata.entrySet()) {
+				outputStream.write(record(PUT, entry.getKey(), entry.getValue()).array());
+			}
+			outputStream.flush();
+			fileOutputStream.getFD().sync();
+		}
+		fileChannel.close();
+		this.channel = null;
+		try {
+			Files.move(compacted, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			// the previous journal is still in place
+			this.channel = reopenJournal();
+			throw ex;
+		}
+		this.journalRecords = this.metadata.size();
+		this.unsynced = false;
+		syncDirectory();
+		this.channel = reopenJournal();
+	}
+
+	private FileChannel reopenJournal() {
+		try {
+			FileChannel reopened = FileChannel.open(this.file, StandardOpenOption.WRITE);
+			reopened.position(reopened.size());
+			return reopened;
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to reopen metadata-store journal '" + this.file.toAbsolutePath()
+					+ "'; no further modifications can be recorded", ex);
+		}
+	}
+
+	/**
+	 * Force the directory entry of the replaced journal to the storage device,
+	 * so the compacted journal is not lost with a crash of the operating system.
+	 */
+	private void syncDirectory() {
+		try (FileChannel directory = FileChannel.open(this.file.toAbsolutePath().getParent(),
+				StandardOpenOption.READ)) {
+
+			directory.force(true);
+		}
+		catch (IOException ex) {
+			// Some platforms (e.g. Windows) cannot open a directory
+			this.logger.debug("Failed to sync the directory of metadata-store journal '" + this.file + "'", ex);
+		}
+	}
+
+	private static ByteBuffer record(byte operation, String key, @Nullable String value) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		byte[] valueBytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+		int length = 1 + Integer.BYTES + keyBytes.length + (valueBytes != null ? Integer.BYTES + valueBytes.length : 0);
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+		record.putInt(length)
+				.putInt(0)
+				.put(operation)
+				.putInt(keyBytes.length)
+				.put(keyBytes);
+		if (valueBytes != null) {
+			record.putInt(valueBytes.length)
+					.put(valueBytes);
+		}
+		record.putInt(Integer.BYTES, checksum(record.array(), RECORD_HEADER_SIZE, length));
+		return record.flip();
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int checksum(byte[] bytes, int offset, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, offset, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * When the journal is forced to the storage device.
+	 */
+	public enum FsyncPolicy {
+
+		/**
+		 * The journal is never forced explicitly; the operating system decides when to write it.
+		 */
+		NEVER,
+
+		/**
+		 * The journal is forced on {@link AppendOnlyFileMetadataStore#flush()} and
+		 * {@link AppendOnlyFileMetadataStore#close()}.
+		 */
+		ON_FLUSH,
+
+		/**
+		 * The journal is forced after each modification.
+		 */
+		ALWAYS
+
+	}
+
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ConcurrentMetadataStore} decorator which keeps a bounded, least-recently-used cache
+ * of the entries in front of the target store and, optionally, defers the plain
+ * {@link #put(String, String)} and {@link #remove(String)} operations to write them in bulk.
+ * <p>
+ * The atomic {@link #putIfAbsent(String, String)}, {@link #putIfAbsentAll(Map)} and
+ * {@link #replace(String, String, String)} operations are always delegated to the target store,
+ * unless the key is found in the cache: then {@link #putIfAbsent(String, String)} returns the cached
+ * value without a round trip to the target store.
+ * Therefore, this decorator is intended for a store which is not modified for the same keys by other
+ * components or application instances, or when a stale decision for such keys is acceptable.
+ * <p>
+ * When {@link #setMaxPendingWrites(int) maxPendingWrites} is greater than {@code 0}, puts and removes
+ * are accumulated and written to the target store when their number reaches that threshold,
+ * on {@link #flush()} or when this bean is destroyed.
+ * Pending writes are not persisted until then and are lost if the application crashes.
+ * The {@link #close()} also closes the target store if it is {@link Closeable}.
+ *
+ * @since 7.1
+ */
+public class CachingMetadataStore implements ConcurrentMetadataStore, Flushable, Closeable, DisposableBean {
+
+	private final ConcurrentMetadataStore delegate;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Lock flushLock = new ReentrantLock();
+
+	private final Map<String, String> pendingPuts = new LinkedHashMap<>();
+
+	private final Set<String> pendingRemoves = new LinkedHashSet<>();
+
+	private final Map<String, String> cache =
+			new LinkedHashMap<>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+					return size() > CachingMetadataStore.this.cacheSize;
+				}
+
+			};
+
+	/**
+	 * Incremented on every write; a value loaded from the target store is cached only
+	 * if no write has happened since the load started. Guarded by the {@link #lock}.
+	 */
+	private long generation;
+
+	private volatile int cacheSize = 10_000;
+
+	private volatile int maxPendingWrites;
+
+	/**
+	 * Create an instance for the provided target store.
+	 * @param delegate the target store.
+	 */
+	public CachingMetadataStore(ConcurrentMetadataStore delegate) {
+		Assert.notNull(delegate, "'delegate' must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Set the maximum number of cached entries. Defaults to {@code 10000}.
+	 * @param cacheSize the maximum number of cached entries.
+	 */
+	public void setCacheSize(int cacheSize) {
+		Assert.isTrue(cacheSize > 0, "'cacheSize' must be greater than 0");
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Set the number of pending puts and removes which triggers writing them to the target store.
+	 * Defaults to {@code 0} - the writes are delegated to the target store immediately.
+	 * @param maxPendingWrites the number of pending writes.
+	 */
+	public void setMaxPendingWrites(int maxPendingWrites) {
+		Assert.isTrue(maxPendingWrites >= 0, "'maxPendingWrites' must not be negative");
+		this.maxPendingWrites = maxPendingWrites;
+	}
+
+	@Override
+	public void put(String key, String value) {
+		if (this.maxPendingWrites == 0) {
+			this.delegate.put(key, value);
+			cache(key, value);
+			return;
+		}
+		boolean flushNeeded;
+		this.lock.lock();
+		try {
+			this.generation++;
+			this.cache.put(key, value);
+			this.pendingRemoves.remove(key);
+			this.pendingPuts.put(key, value);
+			flushNeeded = pendingWrites() >= this.maxPendingWrites;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (flushNeeded) {
+			flush();
+		}
+	}
+
+	@Override
+	public void putAll(Map<String, String> entries) {
+		if (this.maxPendingWrites == 0) {
+			this.delegate.putAll(entries);
+			entries.forEach(this::cache);
+		}
+		else {
+			entries.forEach(this::put);
+		}
+	}
+
+	@Override
+	public @Nullable String get(String key) {
+		long loadGeneration;
+		this.lock.lock();
+		try {
+			if (this.pendingRemoves.contains(key)) {
+				return null;
+			}
+			String value = this.pendingPuts.get(key);
+			if (value == null) {
+				value = this.cache.get(key);
+			}
+			if (value != null) {
+				return value;
+			}
+			loadGeneration = this.generation;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		String value = this.delegate.get(key);
+		if (value != null) {
+			cacheLoaded(Map.of(key, value), loadGeneration);
+		}
+		return value;
+	}
+
+	@Override
+	public Map<String, String> getAll(Collection<String> keys) {
+		Map<String, String> values = new HashMap<>();
+		List<String> missingKeys = new ArrayList<>();
+		long loadGeneration;
+		this.lock.lock();
+		try {
+			loadGeneration = this.generation;
+			for (String key : keys) {
+				if (!this.pendingRemoves.contains(key)) {
+					String value = this.pendingPuts.get(key);
+					if (value == null) {
+						value = this.cache.get(key);
+					}
+					if (value != null) {
+						values.put(key, value);
+					}
+					else {
+						missingKeys.add(key);
+					}
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (!missingKeys.isEmpty()) {
+			Map<String, String> loaded = this.delegate.getAll(missingKeys);
+			cacheLoaded(loaded, loadGeneration);
+			values.putAll(loaded);
+		}
+		return values;
+	}
+
+	@Override
+	public @Nullable String remove(String key) {
+		if (this.maxPendingWrites == 0) {
+			String oldValue = this.delegate.remove(key);
+			evict(key);
+			return oldValue;
+		}
+		String oldValue;
+		boolean pendingRemove;
+		boolean flushNeeded;
+		this.lock.lock();
+		try {
+			this.generation++;
+			pendingRemove = this.pendingRemoves.contains(key);
+			String cached = this.cache.remove(key);
+			// The pending write is the current value, even if it has been evicted from the cache
+			oldValue = this.pendingPuts.remove(key);
+			if (oldValue == null) {
+				oldValue = cached;
+			}
+			this.pendingRemoves.add(key);
+			flushNeeded = pendingWrites() >= this.maxPendingWrites;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (oldValue == null && !pendingRemove) {
+			oldValue = this.delegate.get(key);
+		}
+		if (flushNeeded) {
+			flush();
+		}
+		return oldValue;
+	}
+
+	@Override
+	public @Nullable String putIfAbsent(String key, String value) {
+		this.lock.lock();
+		try {
+			if (!isPending(key)) {
+				String cached = this.cache.get(key);
+				if (cached != null) {
+					return cached;
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		flushIfPending(key);
+		String oldValue = this.delegate.putIfAbsent(key, value);
+		cache(key, oldValue != null ? oldValue : value);
+		return oldValue;
+	}
+
+	@Override
+	public Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+		Map<String, String> oldValues = new HashMap<>();
+		Map<String, String> missingEntries = new LinkedHashMap<>();
+		boolean pending = false;
+		this.lock.lock();
+		try {
+			for (Map.Entry<String, String> entry : entries.entrySet()) {
+				String key = entry.getKey();
+				String cached = this.cache.get(key);
+				if (cached != null && !isPending(key)) {
+					oldValues.put(key, cached);
+				}
+				else {
+					pending |= isPending(key);
+					missingEntries.put(key, entry.getValue());
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (pending) {
+			flush();
+		}
+		if (!missingEntries.isEmpty()) {
+			Map<String, String> existing = this.delegate.putIfAbsentAll(missingEntries);
+			missingEntries.forEach((key, value) -> cache(key, existing.getOrDefault(key, value)));
+			oldValues.putAll(existing);
+		}
+		return oldValues;
+	}
+
+	@Override
+	public boolean replace(String key, String oldValue, String newValue) {
+		flushIfPending(key);
+		boolean replaced = this.delegate.replace(key, oldValue, newValue);
+		if (replaced) {
+			cache(key, newValue);
+		}
+		else {
+			evict(key);
+		}
+		return replaced;
+	}
+
+	/**
+	 * Write the pending puts and removes to the target store and flush it if it is {@link Flushable}.
+	 * The writes stay pending (and visible to the reads) until they are written;
+	 * the writes which have failed remain pending for the next flush.
+	 */
+	@Override
+	public void flush() {
+		this.flushLock.lock();
+		try {
+			Map<String, String> puts;
+			List<String> removes;
+			this.lock.lock();
+			try {
+				puts = new LinkedHashMap<>(this.pendingPuts);
+				removes = new ArrayList<>(this.pendingRemoves);
+			}
+			finally {
+				this.lock.unlock();
+			}
+			if (!puts.isEmpty()) {
+				this.delegate.putAll(puts);
+			}
+			for (String key : removes) {
+				this.delegate.remove(key);
+			}
+			removeWrittenWrites(puts, removes);
+			if (this.delegate instanceof Flushable flushable) {
+				flushable.flush();
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to flush the target metadata store", ex);
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+	}
+
+	/**
+	 * Flush the pending writes; the target store is not closed,
+	 * since it is usually managed as a bean on its own.
+	 */
+	@Override
+	public void destroy() {
+		flush();
+	}
+
+	/**
+	 * Flush the pending writes and close the target store if it is {@link Closeable}.
+	 * @throws IOException if the target store fails to close.
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+		if (this.delegate instanceof Closeable closeable) {
+			closeable.close();
+		}
+	}
+
+	private void cache(String key, String value) {
+		this.lock.lock();
+		try {
+			this.generation++;
+			if (!isPending(key)) {
+				this.cache.put(key, value);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Cache the values loaded from the target store unless there has been a write since the load started:
+	 * the loaded values might be stale then.
+	 */
+	private void cacheLoaded(Map<String, String> loaded, long loadGeneration) {
+		this.lock.lock();
+		try {
+			if (this.generation == loadGeneration) {
+				loaded.forEach((key, value) -> {
+					if (!isPending(key)) {
+						this.cache.put(key, value);
+					}
+				});
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void evict(String key) {
+		this.lock.lock();
+		try {
+			this.generation++;
+			this.cache.remove(key);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Drop the pending writes which have been written, unless they have been superseded in the meantime.
+	 */
+	private void removeWrittenWrites(Map<String, String> puts, List<String> removes) {
+		this.lock.lock();
+		try {
+			this.generation++;
+			puts.forEach(this.pendingPuts::remove);
+			removes.forEach(this.pendingRemoves::remove);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void flushIfPending(String key) {
+		boolean pending;
+		this.lock.lock();
+		try {
+			pending = isPending(key);
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (pending) {
+			flush();
+		}
+	}
+
+	private boolean isPending(String key) {
+		return this.pendingPuts.containsKey(key) || this.pendingRemoves.contains(key);
+	}
+
+	private int pendingWrites() {
+		return this.pendingPuts.size() + this.pendingRemoves.size();
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.integration.metadata;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -49,4 +52,25 @@ public interface ConcurrentMetadataStore extends MetadataStore {
 	 */
 	boolean replace(String key, String oldValue, String newValue);
 
+	/**
+	 * Atomically insert each of the keys which are not in the store yet.
+	 * Each entry is inserted atomically, but not the whole map.
+	 * The default implementation calls {@link #putIfAbsent(String, String)} for each entry;
+	 * implementations are encouraged to insert all the entries in bulk.
+	 * @param entries The key value pairs.
+	 * @return the old values of the keys which were already in the store
+	 * (the keys which are not in the result have been inserted).
+	 * @since 7.1
+	 */
+	default Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+		Map<String, String> oldValues = new HashMap<>();
+		entries.forEach((key, value) -> {
+			String oldValue = putIfAbsent(key, value);
+			if (oldValue != null) {
+				oldValues.put(key, oldValue);
+			}
+		});
+		return oldValues;
+	}
+
 }
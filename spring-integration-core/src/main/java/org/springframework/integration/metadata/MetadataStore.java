@@ -16,6 +16,10 @@
 
 package org.springframework.integration.metadata;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.jmx.export.annotation.ManagedAttribute;
@@ -61,4 +65,34 @@ public interface MetadataStore {
 	@ManagedAttribute
 	@Nullable String remove(String key);
 
+	/**
+	 * Read the values for the given keys from this MetadataStore.
+	 * The default implementation calls {@link #get(String)} for each key;
+	 * implementations are encouraged to read all the keys in bulk.
+	 * @param keys The keys.
+	 * @return The values of the keys present in the store.
+	 * @since 7.1
+	 */
+	default Map<String, String> getAll(Collection<String> keys) {
+		Map<String, String> values = new HashMap<>();
+		for (String key : keys) {
+			String value = get(key);
+			if (value != null) {
+				values.put(key, value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Write the key value pairs to this MetadataStore.
+	 * The default implementation calls {@link #put(String, String)} for each entry;
+	 * implementations are encouraged to write all the entries in bulk.
+	 * @param entries The key value pairs.
+	 * @since 7.1
+	 */
+	default void putAll(Map<String, String> entries) {
+		entries.forEach(this::put);
+	}
+
 }
@@ -17,7 +17,9 @@
 package org.springframework.integration.router;
 
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.integration.handler.ExpressionEvaluatingMessageProcessor;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 
 /**
  * A Message Router implementation that evaluates the specified SpEL
@@ -30,6 +32,8 @@ import org.springframework.integration.handler.ExpressionEvaluatingMessageProces
  */
 public class ExpressionEvaluatingRouter extends AbstractMessageProcessingRouter {
 
+	private final ExpressionEvaluatingMessageProcessor<Object> processor;
+
 	/**
 	 * Construct an instance by parsing the supplied expression string.
 	 * @param expressionString the expression string.
@@ -42,10 +46,32 @@ public class ExpressionEvaluatingRouter extends AbstractMessageProcessingRouter
 	 * Construct an instance with the supplied {@link Expression}.
 	 * @param expression the expression.
 	 */
-	@SuppressWarnings("this-escape")
 	public ExpressionEvaluatingRouter(Expression expression) {
-		super(new ExpressionEvaluatingMessageProcessor<Object>(expression));
+		this(new ExpressionEvaluatingMessageProcessor<>(expression), expression);
+	}
+
+	@SuppressWarnings("this-escape")
+	private ExpressionEvaluatingRouter(ExpressionEvaluatingMessageProcessor<Object> processor, Expression expression) {
+		super(processor);
+		this.processor = processor;
 		setPrimaryExpression(expression);
 	}
 
+	/**
+	 * Set the {@link SpelCompilerMode} for the expression, overriding the
+	 * {@link org.springframework.integration.context.IntegrationProperties#SPEL_COMPILER_MODE} global property.
+	 * @param compilerMode the compiler mode.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingMessageProcessor#setCompilerMode(SpelCompilerMode)
+	 */
+	public void setCompilerMode(SpelCompilerMode compilerMode) {
+		this.processor.setCompilerMode(compilerMode);
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptorToRegister) {
+		super.registerMetricsCaptor(metricsCaptorToRegister);
+		this.processor.registerMetricsCaptor(metricsCaptorToRegister, getComponentName());
+	}
+
 }
@@ -63,6 +63,8 @@ public class PollerMetadata {
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private int receiveBatchSize;
+
 	private @Nullable ErrorHandler errorHandler;
 
 	private @Nullable List<Advice> adviceChain;
@@ -121,6 +123,30 @@ public class PollerMetadata {
 		return this.receiveTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages to receive from a
+	 * {@link org.springframework.integration.channel.AbstractPollableChannel} in one operation.
+	 * A positive value makes a {@link org.springframework.integration.endpoint.PollingConsumer}
+	 * to receive a batch of messages per polling task, so the interceptors, transaction
+	 * and metrics are applied once per batch.
+	 * <p>The default is {@code 0} - receive one message per polling task.
+	 * @param receiveBatchSize the batch size.
+	 * @since 7.1
+	 * @see org.springframework.integration.endpoint.PollingConsumer#setReceiveBatchSize(int)
+	 */
+	public void setReceiveBatchSize(int receiveBatchSize) {
+		this.receiveBatchSize = receiveBatchSize;
+	}
+
+	/**
+	 * Return the maximum number of messages to receive in one operation.
+	 * @return the batch size.
+	 * @since 7.1
+	 */
+	public int getReceiveBatchSize() {
+		return this.receiveBatchSize;
+	}
+
 	public void setAdviceChain(List<Advice> adviceChain) {
 		this.adviceChain = adviceChain;
 	}
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.selector;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.handler.MessageProcessor;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link MessageSelector} implementation for an
+ * <a href="https://www.enterpriseintegrationpatterns.com/IdempotentReceiver.html">Idempotent Receiver</a>
+ * based on a time-rotated Bloom filter of the keys extracted from the messages
+ * by the {@code keyStrategy}.
+ * <p>
+ * The keys are remembered in two generations of the filter: the current one and the previous one.
+ * The current generation becomes the previous one after the {@link #setRetention(Duration) retention}
+ * period, so a key is remembered at least for that period and at most for twice as long.
+ * Each generation is sized for the {@link #setExpectedInsertions(int) expectedInsertions}
+ * with the {@link #setFalsePositiveProbability(double) falsePositiveProbability}; the memory used is
+ * therefore bounded and independent of the number of messages.
+ * <p>
+ * A message whose key is not in the filter is accepted without any I/O.
+ * A key found in the filter is only a probable duplicate: without a {@link ConcurrentMetadataStore},
+ * the message is rejected, and a unique message may therefore be rejected with the
+ * {@code falsePositiveProbability} (for each generation).
+ * With a {@link ConcurrentMetadataStore}, the keys of the accepted messages are stored there
+ * (with the {@code timestamp} header as the value by default, or a value from the {@code valueStrategy}),
+ * and the probable duplicates are checked exactly with
+ * {@link ConcurrentMetadataStore#putIfAbsent(String, String)}.
+ * The keys are written to the store with {@link ConcurrentMetadataStore#put(String, String)},
+ * so a store with write-behind, like the
+ * {@link org.springframework.integration.metadata.CachingMetadataStore}, keeps the common path in memory.
+ * <p>
+ * The filter state is not persisted and not shared between instances.
+ * Therefore, during the first retention period after the filter is created (e.g. after a restart),
+ * the keys which are not in the filter are checked in the metadata store as well, with
+ * {@link ConcurrentMetadataStore#putIfAbsent(String, String)}.
+ * After that, the metadata store is consulted only for the keys found in the filter:
+ * a duplicate of a key which has expired from the filter (after up to twice the retention period),
+ * or which has been accepted only by another instance, is not detected.
+ * Use the {@link MetadataStoreSelector} when the duplicates must be detected regardless of their age.
+ * <p>
+ * The {@link #accept(Message)} operations are serialized only for the keys sharing a lock stripe;
+ * the filter bits are updated atomically.
+ *
+ * @since 7.1
+ *
+ * @see MetadataStoreSelector
+ * @see org.springframework.integration.handler.advice.IdempotentReceiverInterceptor
+ */
+public class BloomFilterMessageSelector implements MessageSelector {
+
+	/**
+	 * The default number of keys expected during a {@link #setRetention(Duration) retention} period.
+	 */
+	public static final int DEFAULT_EXPECTED_INSERTIONS = 1_000_000;
+
+	/**
+	 * The default probability of a false positive in a filter generation.
+	 */
+	public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.001;
+
+	/**
+	 * The default period after which the current filter generation becomes the previous one.
+	 */
+	public static final Duration DEFAULT_RETENTION = Duration.ofHours(1);
+
+	/**
+	 * Guards the filter creation and the generation rotation.
+	 */
+	private final Lock lock = new ReentrantLock();
+
+	/**
+	 * Serializes the test-and-set of the filter and the metadata store operations for the same key.
+	 */
+	private final DefaultLockRegistry keyLocks = new DefaultLockRegistry();
+
+	private final MessageProcessor<String> keyStrategy;
+
+	private final @Nullable MessageProcessor<String> valueStrategy;
+
+	private final @Nullable ConcurrentMetadataStore metadataStore;
+
+	private int expectedInsertions = DEFAULT_EXPECTED_INSERTIONS;
+
+	private double falsePositiveProbability = DEFAULT_FALSE_POSITIVE_PROBABILITY;
+
+	private volatile Duration retention = DEFAULT_RETENTION;
+
+	private volatile Clock clock = Clock.systemUTC();
+
+	private volatile @Nullable Filter filter;
+
+	/**
+	 * Create an instance which rejects the probable duplicates without an exact check.
+	 * @param keyStrategy the strategy to extract the idempotent key from a message.
+	 */
+	public BloomFilterMessageSelector(MessageProcessor<String> keyStrategy) {
+		this(keyStrategy, null, null);
+	}
+
+	/**
+	 * Create an instance which checks the probable duplicates against the provided store.
+	 * @param keyStrategy the strategy to extract the idempotent key from a message.
+	 * @param metadataStore the store for the exact check.
+	 */
+	public BloomFilterMessageSelector(MessageProcessor<String> keyStrategy, ConcurrentMetadataStore metadataStore) {
+		this(keyStrategy, null, metadataStore);
+	}
+
+	/**
+	 * Create an instance which checks the probable duplicates against the provided store, if any.
+	 * @param keyStrategy the strategy to extract the idempotent key from a message.
+	 * @param valueStrategy the strategy to extract the value to store for the key.
+	 * @param metadataStore the store for the exact check.
+	 */
+	public BloomFilterMessageSelector(MessageProcessor<String> keyStrategy,
+			@Nullable MessageProcessor<String> valueStrategy, @Nullable ConcurrentMetadataStore metadataStore) {
+
+		Assert.notNull(keyStrategy, "'keyStrategy' must not be null");
+		this.keyStrategy = keyStrategy;
+		this.valueStrategy = valueStrategy;
+		this.metadataStore = metadataStore;
+	}
+
+	/**
+	 * Set the number of keys expected during a {@link #setRetention(Duration) retention} period.
+	 * Defaults to {@link #DEFAULT_EXPECTED_INSERTIONS}.
+	 * More keys increase the actual false positive probability.
+	 * @param expectedInsertions the number of keys.
+	 */
+	public void setExpectedInsertions(int expectedInsertions) {
+		Assert.isTrue(expectedInsertions > 0, "'expectedInsertions' must be greater than 0");
+		this.lock.lock();
+		try {
+			this.expectedInsertions = expectedInsertions;
+			this.filter = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Set the probability of a false positive in a filter generation.
+	 * Defaults to {@link #DEFAULT_FALSE_POSITIVE_PROBABILITY}.
+	 * @param falsePositiveProbability the probability; must be between 0 and 1 exclusive.
+	 */
+	public void setFalsePositiveProbability(double falsePositiveProbability) {
+		Assert.isTrue(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+				"'falsePositiveProbability' must be between 0 and 1 exclusive");
+		this.lock.lock();
+		try {
+			this.falsePositiveProbability = falsePositiveProbability;
+			this.filter = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Set the period after which the current filter generation becomes the previous one,
+	 * and the previous one is discarded.
+	 * Defaults to {@link #DEFAULT_RETENTION}.
+	 * @param retention the retention period.
+	 */
+	public void setRetention(Duration retention) {
+		Assert.notNull(retention, "'retention' must not be null");
+		Assert.isTrue(retention.toMillis() > 0, "'retention' must be a positive duration");
+		this.retention = retention;
+	}
+
+	/**
+	 * Set the {@link Clock} to determine the filter generation rotation.
+	 * Defaults to {@link Clock#systemUTC()}.
+	 * @param clock the clock.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "'clock' must not be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public boolean accept(Message<?> message) {
+		String key = this.keyStrategy.processMessage(message);
+		Assert.state(key != null, () -> "The keyStrategy.processMessage must not return null.");
+		long hash1 = hash(key);
+		long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1;
+
+		Lock keyLock = this.keyLocks.obtain(key);
+		keyLock.lock();
+		try {
+			long now = this.clock.millis();
+			Filter currentFilter = filter(now);
+			boolean probableDuplicate = currentFilter.testAndSet(hash1, hash2, false);
+			ConcurrentMetadataStore store = this.metadataStore;
+			if (store == null) {
+				return !probableDuplicate;
+			}
+			String value = value(message);
+			if (!probableDuplicate) {
+				if (now - currentFilter.created < this.retention.toMillis()) {
+					// A cold filter: the key might have been accepted before it was created
+					return store.putIfAbsent(key, value) == null;
+				}
+				store.put(key, value);
+				return true;
+			}
+			if (store.putIfAbsent(key, value) == null) {
+				// A false positive: remember the key in the current generation
+				currentFilter.testAndSet(hash1, hash2, true);
+				return true;
+			}
+			return false;
+		}
+		finally {
+			keyLock.unlock();
+		}
+	}
+
+	private String value(Message<?> message) {
+		Long timestamp = message.getHeaders().getTimestamp();
+		String value = (this.valueStrategy != null)
+				? this.valueStrategy.processMessage(message)
+				: (timestamp == null ? "0" : Long.toString(timestamp));
+		Assert.state(value != null, () -> "The valueStrategy.processMessage must not return null.");
+		return value;
+	}
+
+	/**
+	 * Return the filter for the provided time: create it lazily and rotate its generations when due.
+	 */
+	private Filter filter(long now) {
+		Filter current = this.filter;
+		if (current != null && now - current.generationStart < this.retention.toMillis()) {
+			return current;
+		}
+		this.lock.lock();
+		try {
+			current = this.filter;
+			long retentionMillis = this.retention.toMillis();
+			if (current == null) {
+				current = Filter.create(this.expectedInsertions, this.falsePositiveProbability, now);
+				this.filter = current;
+			}
+			else {
+				long elapsed = now - current.generationStart;
+				if (elapsed >= retentionMillis) {
+					current = current.rotate(now, elapsed < 2 * retentionMillis);
+					this.filter = current;
+				}
+			}
+			return current;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private static long hash(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(long value) {
+		long hash = value;
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	/**
+	 * The immutable snapshot of the filter generations; the bits are updated atomically.
+	 */
+	private static final class Filter {
+
+		private final long numberOfBits;
+
+		private final int numberOfHashFunctions;
+
+		private final long created;
+
+		private final long generationStart;
+
+		private final AtomicLongArray currentGeneration;
+
+		private final @Nullable AtomicLongArray previousGeneration;
+
+		private Filter(long numberOfBits, int numberOfHashFunctions, long created, long generationStart,
+				AtomicLongArray currentGeneration, @Nullable AtomicLongArray previousGeneration) {
+
+			this.numberOfBits = numberOfBits;
+			this.numberOfHashFunctions = numberOfHashFunctions;
+			this.created = created;
+			this.generationStart = generationStart;
+			this.currentGeneration = currentGeneration;
+			this.previousGeneration = previousGeneration;
+		}
+
+		static Filter create(int expectedInsertions, double falsePositiveProbability, long now) {
+			double ln2 = Math.log(2);
+			double bits = -expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2);
+			long words = (long) Math.ceil(bits / Long.SIZE);
+			Assert.state(words <= Integer.MAX_VALUE,
+					"The 'expectedInsertions' and 'falsePositiveProbability' require a too large filter");
+			long numberOfBits = words * Long.SIZE;
+			int numberOfHashFunctions =
+					Math.max(1, (int) Math.round((double) numberOfBits / expectedInsertions * ln2));
+			return new Filter(numberOfBits, numberOfHashFunctions, now, now, new AtomicLongArray((int) words), null);
+		}
+
+		Filter rotate(long now, boolean keepCurrent) {
+			return new Filter(this.numberOfBits, this.numberOfHashFunctions, this.created, now,
+					new AtomicLongArray(this.currentGeneration.length()),
+					keepCurrent ? this.currentGeneration : null);
+		}
+
+		/**
+		 * Check whether the key is present in one of the filter generations
+		 * and add it to the current generation if it is not, or unconditionally if {@code force}.
+		 * @return true if the key was (probably) present.
+		 */
+		boolean testAndSet(long hash1, long hash2, boolean force) {
+			AtomicLongArray previous = this.previousGeneration;
+			boolean present = !force
+					&& (contains(this.currentGeneration, hash1, hash2)
+					|| (previous != null && contains(previous, hash1, hash2)));
+			if (!present) {
+				for (int i = 0; i < this.numberOfHashFunctions; i++) {
+					long index = bitIndex(hash1, hash2, i);
+					long bit = 1L << index;
+					this.currentGeneration.getAndAccumulate((int) (index >>> 6), bit, (word, mask) -> word | mask);
+				}
+			}
+			return present;
+		}
+
+		private boolean contains(AtomicLongArray generation, long hash1, long hash2) {
+			for (int i = 0; i < this.numberOfHashFunctions; i++) {
+				long index = bitIndex(hash1, hash2, i);
+				if ((generation.get((int) (index >>> 6)) & (1L << index)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private long bitIndex(long hash1, long hash2, int i) {
+			return ((hash1 + i * hash2) & Long.MAX_VALUE) % this.numberOfBits;
+		}
+
+	}
+
+}
@@ -16,12 +16,15 @@
 
 package org.springframework.integration.splitter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -38,6 +41,7 @@ import org.springframework.integration.handler.AbstractReplyProducingMessageHand
 import org.springframework.integration.handler.DiscardingMessageHandler;
 import org.springframework.integration.history.MessageHistory;
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.integration.support.MessageBatch;
 import org.springframework.integration.support.json.JacksonPresent;
 import org.springframework.integration.util.FunctionIterator;
 import org.springframework.messaging.Message;
@@ -47,6 +51,11 @@ import org.springframework.util.ObjectUtils;
 
 /**
  * Base class for Message-splitting handlers.
+ * <p>
+ * A {@link MessageBatch} result of the split function is split into a message per item,
+ * with the item and shared batch headers on top of the request message headers.
+ * With a {@link #setBatchSize(int) batchSize}, the items are emitted as {@link MessageBatch}
+ * payloads instead of a message per item.
  *
  * @author Mark Fisher
  * @author Dave Syer
@@ -62,6 +71,8 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 
 	private boolean applySequence = true;
 
+	private int batchSize;
+
 	private @Nullable MessageChannel discardChannel;
 
 	private @Nullable String discardChannelName;
@@ -74,6 +85,19 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 		this.applySequence = applySequence;
 	}
 
+	/**
+	 * Emit the items as {@link MessageBatch} payloads of up to this size instead of a message per item.
+	 * The sequence details (when applied) are then populated for the batches.
+	 * Items which are messages keep their headers on the batch items.
+	 * Defaults to 0: a message per item.
+	 * @param batchSize the max number of items in a batch.
+	 * @since 7.1
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize >= 0, "'batchSize' must not be negative");
+		this.batchSize = batchSize;
+	}
+
 	/**
 	 * Specify a channel where rejected Messages should be sent. If the discard
 	 * channel is null (the default), rejected Messages will be dropped.
@@ -168,6 +192,11 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 			flux = Flux.from(publisher);
 		}
 
+		if (this.batchSize > 0) {
+			sequenceSize = batchCount(sequenceSize);
+			flux = flux.buffer(this.batchSize).map(AbstractMessageSplitter::toMessageBatch);
+		}
+
 		Function<Object, ?> messageBuilderFunction = prepareMessageBuilderFunction(message, sequenceSize);
 
 		return flux
@@ -217,11 +246,38 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 			return null;
 		}
 
+		@Nullable AutoCloseable closeable =
+				result instanceof AutoCloseable autoCloseable && !result.equals(iterator) ? autoCloseable : null;
+
+		if (this.batchSize > 0) {
+			sequenceSize = batchCount(sequenceSize);
+			iterator = new BatchingIterator(iterator, this.batchSize);
+		}
+
 		Function<Object, ?> messageBuilderFunction = prepareMessageBuilderFunction(message, sequenceSize);
 
-		return new FunctionIterator<>(
-				result instanceof AutoCloseable autoCloseable && !result.equals(iterator) ? autoCloseable : null,
-				iterator, messageBuilderFunction);
+		return new FunctionIterator<>(closeable, iterator, messageBuilderFunction);
+	}
+
+	private int batchCount(int itemCount) {
+		return (itemCount + this.batchSize - 1) / this.batchSize;
+	}
+
+	private static MessageBatch<Object> toMessageBatch(List<?> items) {
+		MessageBatch.Builder<Object> builder = MessageBatch.builder();
+		for (Object item : items) {
+			Object itemToAdd = item;
+			if (itemToAdd instanceof AbstractIntegrationMessageBuilder<?> messageBuilder) {
+				itemToAdd = messageBuilder.build();
+			}
+			if (itemToAdd instanceof Message<?> itemMessage) {
+				builder.add(itemMessage.getPayload(), itemMessage.getHeaders());
+			}
+			else {
+				builder.add(itemToAdd);
+			}
+		}
+		return builder.build();
 	}
 
 	private Function<Object, ?> prepareMessageBuilderFunction(Message<?> message, int sequenceSize) {
@@ -250,6 +306,9 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 		if (iterable instanceof Collection<?> collection) {
 			return collection.size();
 		}
+		else if (iterable instanceof MessageBatch<?> messageBatch) {
+			return messageBatch.size();
+		}
 		else if (JacksonPresent.isJackson3Present() && JacksonTreeNodeHelper.isNode(iterable)) {
 			return JacksonTreeNodeHelper.nodeSize(iterable);
 		}
@@ -352,6 +411,43 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 	 */
 	protected abstract @Nullable Object splitMessage(Message<?> message);
 
+	private static final class BatchingIterator implements Iterator<MessageBatch<Object>>, AutoCloseable {
+
+		private final Iterator<?> delegate;
+
+		private final int batchSize;
+
+		BatchingIterator(Iterator<?> delegate, int batchSize) {
+			this.delegate = delegate;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.delegate.hasNext();
+		}
+
+		@Override
+		public MessageBatch<Object> next() {
+			if (!this.delegate.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<Object> items = new ArrayList<>(this.batchSize);
+			while (items.size() < this.batchSize && this.delegate.hasNext()) {
+				items.add(this.delegate.next());
+			}
+			return toMessageBatch(items);
+		}
+
+		@Override
+		public void close() throws Exception {
+			if (this.delegate instanceof AutoCloseable autoCloseable) {
+				autoCloseable.close();
+			}
+		}
+
+	}
+
 	@Deprecated(since = "7.0", forRemoval = true)
 	private static final class JacksonNodeHelper {
 
@@ -22,6 +22,7 @@ import java.util.StringTokenizer;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.integration.handler.MessageBatchHandler;
 import org.springframework.messaging.Message;
 
 /**
@@ -29,11 +30,13 @@ import org.springframework.messaging.Message;
  * after receiving an array or Collection. If a value is provided for the
  * 'delimiters' property, then String payloads will be tokenized based on
  * those delimiters.
+ * <p>
+ * A {@link org.springframework.integration.support.MessageBatch} payload is split into a message per item.
  *
  * @author Mark Fisher
  * @author Glenn Renfro
  */
-public class DefaultMessageSplitter extends AbstractMessageSplitter {
+public class DefaultMessageSplitter extends AbstractMessageSplitter implements MessageBatchHandler {
 
 	private volatile @Nullable String delimiters;
 
@@ -158,7 +158,7 @@ public abstract class AbstractMessageGroupStore extends AbstractBatchingMessageG
 		try {
 			int count = 0;
 			long threshold = System.currentTimeMillis() - timeout;
-			for (MessageGroup group : this) {
+			for (MessageGroup group : getExpiryCandidates(threshold)) {
 
 				long timestamp = group.getTimestamp();
 				if (this.isTimeoutOnIdle() && group.getLastModified() > 0) {
@@ -177,6 +177,22 @@ public abstract class AbstractMessageGroupStore extends AbstractBatchingMessageG
 		}
 	}
 
+	/**
+	 * Return the groups to check for expiry by the {@link #expireMessageGroups(long)}.
+	 * Each candidate is still checked against the {@code threshold}, so an implementation
+	 * may return more groups than those which are actually due, but must not miss any of them.
+	 * The default implementation returns this store, so all the groups are checked.
+	 * Implementations are encouraged to override this method to consult a time-ordered index
+	 * or to perform a query by timestamp, so a reaper pass only touches groups that are due.
+	 * @param threshold the timestamp (in milliseconds) at or before which a group is expired.
+	 * @return the candidate groups.
+	 * @since 7.1
+	 * @see #isTimeoutOnIdle()
+	 */
+	protected Iterable<MessageGroup> getExpiryCandidates(long threshold) {
+		return this;
+	}
+
 	/**
 	 * Used by expireMessageGroups. We need to return a snapshot of the group
 	 * at the time the reaper runs, so we can properly detect if the
@@ -300,7 +316,14 @@ public abstract class AbstractMessageGroupStore extends AbstractBatchingMessageG
 		}
 	}
 
-	private void expire(MessageGroup group) {
+	/**
+	 * Invoke the registered expiry callbacks for the group.
+	 * Used by the {@link #expireMessageGroups(long)}; can be used by implementations
+	 * overriding it, e.g. to expire groups under a finer-grained lock.
+	 * @param group the group to expire.
+	 * @since 7.1
+	 */
+	protected final void expire(MessageGroup group) {
 
 		RuntimeException exception = null;
 
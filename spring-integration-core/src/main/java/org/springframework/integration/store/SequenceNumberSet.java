@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.Arrays;
+
+/**
+ * A set of primitive {@code int} sequence numbers for the {@link SimpleMessageGroup}.
+ * An open-addressing hash table with linear probing, so there is no boxing and no entry
+ * object per message; the table is allocated on the first addition.
+ * Not thread-safe.
+ *
+ * @since 7.1
+ */
+final class SequenceNumberSet {
+
+	private static final int[] EMPTY_TABLE = new int[0];
+
+	private static final int FREE = Integer.MIN_VALUE;
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	private int[] table = EMPTY_TABLE;
+
+	private int size;
+
+	private boolean containsFreeKey;
+
+	boolean add(int sequenceNumber) {
+		if (sequenceNumber == FREE) {
+			boolean added = !this.containsFreeKey;
+			this.containsFreeKey = true;
+			return added;
+		}
+		if (this.table.length == 0) {
+			this.table = newTable(INITIAL_CAPACITY);
+		}
+		else if ((this.size + 1) * 2 > this.table.length) {
+			resize(this.table.length * 2);
+		}
+		int mask = this.table.length - 1;
+		int index = hash(sequenceNumber) & mask;
+		while (this.table[index] != FREE) {
+			if (this.table[index] == sequenceNumber) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+		this.table[index] = sequenceNumber;
+		this.size++;
+		return true;
+	}
+
+	boolean contains(int sequenceNumber) {
+		if (sequenceNumber == FREE) {
+			return this.containsFreeKey;
+		}
+		return indexOf(sequenceNumber) >= 0;
+	}
+
+	boolean remove(int sequenceNumber) {
+		if (sequenceNumber == FREE) {
+			boolean removed = this.containsFreeKey;
+			this.containsFreeKey = false;
+			return removed;
+		}
+		int hole = indexOf(sequenceNumber);
+		if (hole < 0) {
+			return false;
+		}
+		// Backward shift deletion: move the following entries of the cluster closer to their home slots
+		int mask = this.table.length - 1;
+		int index = hole;
+		while (true) {
+			index = (index + 1) & mask;
+			int key = this.table[index];
+			if (key == FREE) {
+				break;
+			}
+			int home = hash(key) & mask;
+			boolean canMove = index > hole ? (home <= hole || home > index) : (home <= hole && home > index);
+			if (canMove) {
+				this.table[hole] = key;
+				hole = index;
+			}
+		}
+		this.table[hole] = FREE;
+		this.size--;
+		return true;
+	}
+
+	int size() {
+		return this.size + (this.containsFreeKey ? 1 : 0);
+	}
+
+	void clear() {
+		this.table = EMPTY_TABLE;
+		this.size = 0;
+		this.containsFreeKey = false;
+	}
+
+	private int indexOf(int sequenceNumber) {
+		if (this.table.length == 0) {
+			return -1;
+		}
+		int mask = this.table.length - 1;
+		int index = hash(sequenceNumber) & mask;
+		while (this.table[index] != FREE) {
+			if (this.table[index] == sequenceNumber) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void resize(int capacity) {
+		int[] oldTable = this.table;
+		this.table = newTable(capacity);
+		int mask = capacity - 1;
+		for (int key : oldTable) {
+			if (key != FREE) {
+				int index = hash(key) & mask;
+				while (this.table[index] != FREE) {
+					index = (index + 1) & mask;
+				}
+				this.table[index] = key;
+			}
+		}
+	}
+
+	private static int[] newTable(int capacity) {
+		int[] table = new int[capacity];
+		Arrays.fill(table, FREE);
+		return table;
+	}
+
+	private static int hash(int key) {
+		int hash = key * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+}
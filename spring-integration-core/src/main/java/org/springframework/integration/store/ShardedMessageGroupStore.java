@@ -0,0 +1,482 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * An in-memory {@link MessageGroupStore} which partitions the groups into shards by group id,
+ * for the applications with a large number of concurrent groups, e.g. aggregators.
+ * <p>
+ * In contrast to the {@link SimpleMessageStore}, each shard has its own group map and its own
+ * expiry queue, and the {@link #expireMessageGroups(long)} locks one shard at a time instead of
+ * the whole store, so a reaper pass does not stall the groups in other shards.
+ * The expiry queue is ordered by group creation time (or last modification time, when
+ * {@link #setTimeoutOnIdle(boolean) timeoutOnIdle}), so a reaper pass only visits the groups
+ * which are due; a modified group is re-queued lazily when it is visited.
+ * The queue holds one entry (group id and timestamp) per group in the shard, and the entry is
+ * removed together with the group.
+ * The queue is sorted by the timestamp (in logarithmic time on enqueue), so a group is expired
+ * by the first reaper pass after its timeout even if the groups are enqueued out of order.
+ * <p>
+ * The per-group structures are compact: by default, the groups are {@link SimpleMessageGroup}s
+ * backed by an array list (see {@link SimpleMessageGroupFactory.GroupType#LIST}), and the group
+ * capacity is enforced by the group size instead of a semaphore per group.
+ * When the group is at capacity, an attempt to add messages fails immediately.
+ * <p>
+ * This store only supports message groups; use a {@link SimpleMessageStore} where a
+ * {@link MessageStore} or a {@link ChannelMessageStore} is required.
+ *
+ * @since 7.1
+ */
+public class ShardedMessageGroupStore extends AbstractMessageGroupStore {
+
+	/**
+	 * The default number of shards.
+	 */
+	public static final int DEFAULT_SHARD_COUNT = 32;
+
+	private static final int MIN_LOCK_COUNT = 256;
+
+	private static final String MESSAGE_GROUP_FOR_GROUP_ID = "MessageGroup for groupId '";
+
+	private final Shard[] shards;
+
+	private final int mask;
+
+	private final int groupCapacity;
+
+	/**
+	 * Create a store with the {@link #DEFAULT_SHARD_COUNT} and unlimited group capacity.
+	 */
+	public ShardedMessageGroupStore() {
+		this(DEFAULT_SHARD_COUNT);
+	}
+
+	/**
+	 * Create a store with the provided number of shards and unlimited group capacity.
+	 * @param shardCount the number of shards; rounded up to a power of two.
+	 */
+	public ShardedMessageGroupStore(int shardCount) {
+		this(shardCount, 0);
+	}
+
+	/**
+	 * Create a store with the provided number of shards and group capacity.
+	 * The {@link DefaultLockRegistry} for the message group operations has as many locks as
+	 * shards, but not less than its default of 256.
+	 * @param shardCount the number of shards; rounded up to a power of two.
+	 * @param groupCapacity the capacity of each group; unlimited if less than 1.
+	 */
+	public ShardedMessageGroupStore(int shardCount, int groupCapacity) {
+		this(shardCount, groupCapacity,
+				new DefaultLockRegistry(Math.max(normalizeShardCount(shardCount), MIN_LOCK_COUNT) - 1));
+	}
+
+	/**
+	 * Create a store with the provided number of shards, group capacity and {@link LockRegistry}
+	 * for the message group operations concurrency.
+	 * @param shardCount the number of shards; rounded up to a power of two.
+	 * @param groupCapacity the capacity of each group; unlimited if less than 1.
+	 * @param lockRegistry the lock registry.
+	 */
+	@SuppressWarnings("this-escape")
+	public ShardedMessageGroupStore(int shardCount, int groupCapacity, LockRegistry<?> lockRegistry) {
+		super(false);
+		int normalizedShardCount = normalizeShardCount(shardCount);
+		this.shards = new Shard[normalizedShardCount];
+		for (int i = 0; i < normalizedShardCount; i++) {
+			this.shards[i] = new Shard();
+		}
+		this.mask = normalizedShardCount - 1;
+		this.groupCapacity = groupCapacity;
+		setLockRegistry(lockRegistry);
+		setMessageGroupFactory(new SimpleMessageGroupFactory(SimpleMessageGroupFactory.GroupType.LIST));
+	}
+
+	@Override
+	public void setLazyLoadMessageGroups(boolean lazyLoadMessageGroups) {
+		throw new UnsupportedOperationException(
+				"The lazy-load isn't supported for in-memory 'ShardedMessageGroupStore'");
+	}
+
+	/**
+	 * Return the number of shards.
+	 * @return the number of shards.
+	 */
+	public int getShardCount() {
+		return this.shards.length;
+	}
+
+	@Override
+	@ManagedAttribute
+	public int getMessageGroupCount() {
+		int count = 0;
+		for (Shard shard : this.shards) {
+			count += shard.groups.size();
+		}
+		return count;
+	}
+
+	@Override
+	public MessageGroup getMessageGroup(Object groupId) {
+		MessageGroup group = shardFor(groupId).groups.get(groupId);
+		if (group == null) {
+			return getMessageGroupFactory().create(groupId);
+		}
+		return group;
+	}
+
+	@Override
+	protected MessageGroup copy(MessageGroup group) {
+		Object groupId = group.getGroupId();
+		return executeLocked(groupId, () -> {
+			MessageGroup copy = getMessageGroupFactory()
+					.create(group.getMessages(), groupId, group.getTimestamp(), group.isComplete());
+			copy.setLastModified(group.getLastModified());
+			copy.setLastReleasedMessageSequenceNumber(group.getLastReleasedMessageSequenceNumber());
+			copy.setCondition(group.getCondition());
+			return copy;
+		});
+	}
+
+	@Override
+	protected void doAddMessagesToGroup(Object groupId, Message<?>... messages) {
+		Shard shard = shardFor(groupId);
+		MessageGroup group = shard.groups.get(groupId);
+		int size = group != null ? group.size() : 0;
+		if (this.groupCapacity > 0 && size + messages.length > this.groupCapacity) {
+			throw new IllegalStateException(getClass().getSimpleName() +
+					" was out of capacity (" + this.groupCapacity + ") for group '" + groupId +
+					"', try constructing it with a larger number.");
+		}
+		if (group == null) {
+			group = getMessageGroupFactory().create(groupId);
+			shard.groups.put(groupId, group);
+			shard.enqueueForExpiry(groupId, group.getTimestamp());
+		}
+		for (Message<?> message : messages) {
+			group.add(message);
+		}
+		group.setLastModified(System.currentTimeMillis());
+	}
+
+	@Override
+	protected void doRemoveMessageGroup(Object groupId) {
+		Shard shard = shardFor(groupId);
+		shard.groups.remove(groupId);
+		shard.dequeueForExpiry(groupId);
+	}
+
+	@Override
+	protected void doRemoveMessagesFromGroup(Object groupId, Collection<Message<?>> messages) {
+		MessageGroup group = getExistingGroup(groupId, "remove Message(s) from the MessageGroup");
+		boolean modified = false;
+		for (Message<?> messageToRemove : messages) {
+			modified |= group.remove(messageToRemove);
+		}
+		if (modified) {
+			group.setLastModified(System.currentTimeMillis());
+		}
+	}
+
+	@Override
+	public @Nullable Message<?> getMessageFromGroup(Object groupId, UUID messageId) {
+		MessageGroup group = shardFor(groupId).groups.get(groupId);
+		Assert.notNull(group, () -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' does not exists");
+		for (Message<?> message : group.getMessages()) {
+			if (messageId.equals(message.getHeaders().getId())) {
+				return message;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	protected boolean doRemoveMessageFromGroupById(Object groupId, UUID messageId) {
+		MessageGroup group = getExistingGroup(groupId, "remove Message from the MessageGroup");
+		for (Message<?> message : group.getMessages()) {
+			if (messageId.equals(message.getHeaders().getId())) {
+				group.remove(message);
+				group.setLastModified(System.currentTimeMillis());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void doSetGroupCondition(Object groupId, String condition) {
+		MessageGroup group = shardFor(groupId).groups.get(groupId);
+		if (group != null) {
+			group.setCondition(condition);
+		}
+	}
+
+	@Override
+	protected void doSetLastReleasedSequenceNumberForGroup(Object groupId, int sequenceNumber) {
+		MessageGroup group = getExistingGroup(groupId, "set 'lastReleasedSequenceNumber'");
+		group.setLastReleasedMessageSequenceNumber(sequenceNumber);
+		group.setLastModified(System.currentTimeMillis());
+	}
+
+	@Override
+	protected void doCompleteGroup(Object groupId) {
+		MessageGroup group = getExistingGroup(groupId, "complete the MessageGroup");
+		group.complete();
+		group.setLastModified(System.currentTimeMillis());
+	}
+
+	@Override
+	protected @Nullable Message<?> doPollMessageFromGroup(Object groupId) {
+		MessageGroup group = shardFor(groupId).groups.get(groupId);
+		if (group != null) {
+			Message<?> message = group.getOne();
+			if (message != null) {
+				group.remove(message);
+				group.setLastModified(System.currentTimeMillis());
+				return message;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public int messageGroupSize(Object groupId) {
+		return getMessageGroup(groupId).size();
+	}
+
+	@Override
+	public MessageGroupMetadata getGroupMetadata(Object groupId) {
+		return new MessageGroupMetadata(getMessageGroup(groupId));
+	}
+
+	@Override
+	public @Nullable Message<?> getOneMessageFromGroup(Object groupId) {
+		return getMessageGroup(groupId).getOne();
+	}
+
+	@Override
+	public Collection<Message<?>> getMessagesForGroup(Object groupId) {
+		return getMessageGroup(groupId).getMessages();
+	}
+
+	@Override
+	public Iterator<MessageGroup> iterator() {
+		return Arrays.stream(this.shards)
+				.flatMap((shard) -> shard.groups.values().stream())
+				.iterator();
+	}
+
+	/**
+	 * Expire the groups which are due one shard at a time: a shard is locked only for
+	 * the reaper pass over its own expiry queue.
+	 * A group which is not removed by the expiry callbacks is queued again and checked
+	 * by the subsequent reaper passes.
+	 * @param timeout the timeout threshold in milliseconds.
+	 * @return the number of expired groups.
+	 */
+	@Override
+	public int expireMessageGroups(long timeout) {
+		int count = 0;
+		long threshold = System.currentTimeMillis() - timeout;
+		for (Shard shard : this.shards) {
+			shard.expiryLock.lock();
+			try {
+				count += expireMessageGroups(shard, threshold);
+			}
+			finally {
+				shard.expiryLock.unlock();
+			}
+		}
+		return count;
+	}
+
+	private int expireMessageGroups(Shard shard, long threshold) {
+		int count = 0;
+		List<ExpiryEntry> notRemoved = new ArrayList<>();
+		try {
+			ExpiryEntry entry;
+			while ((entry = shard.pollForExpiry(threshold)) != null) {
+				Object groupId = entry.groupId();
+				MessageGroup group = shard.groups.get(groupId);
+				if (group == null) {
+					continue;
+				}
+				long timestamp = group.getTimestamp();
+				if (isTimeoutOnIdle() && group.getLastModified() > 0) {
+					timestamp = group.getLastModified();
+				}
+				if (timestamp > threshold) {
+					shard.enqueueForExpiry(groupId, timestamp);
+					continue;
+				}
+				count++;
+				try {
+					expire(copy(group));
+				}
+				finally {
+					notRemoved.add(new ExpiryEntry(groupId, timestamp));
+				}
+			}
+		}
+		finally {
+			// Not in the loop: these entries are due, so they would be polled again in this pass
+			for (ExpiryEntry expiryEntry : notRemoved) {
+				shard.enqueueForExpiry(expiryEntry.groupId(), expiryEntry.timestamp());
+			}
+		}
+		return count;
+	}
+
+	private MessageGroup getExistingGroup(Object groupId, String operation) {
+		MessageGroup group = shardFor(groupId).groups.get(groupId);
+		Assert.notNull(group,
+				() -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' " +
+						"can not be located while attempting to " + operation);
+		return group;
+	}
+
+	private static int normalizeShardCount(int shardCount) {
+		Assert.isTrue(shardCount > 0 && shardCount <= (1 << 16), "'shardCount' must be between 1 and 2^16");
+		return shardCount == 1 ? 1 : Integer.highestOneBit(shardCount - 1) << 1;
+	}
+
+	private Shard shardFor(Object groupId) {
+		int hash = groupId.hashCode();
+		return this.shards[(hash ^ (hash >>> 16)) & this.mask];
+	}
+
+	private static final class Shard {
+
+		private final Map<Object, MessageGroup> groups = new ConcurrentHashMap<>();
+
+		/**
+		 * Serializes reaper passes over this shard; never obtained on the message path.
+		 */
+		private final Lock expiryLock = new ReentrantLock();
+
+		/**
+		 * Guards the expiry queue; never held while calling out.
+		 */
+		private final Lock queueLock = new ReentrantLock();
+
+		/**
+		 * The expiry entries in the timestamp order; at most one per group.
+		 */
+		private final NavigableSet<QueuedEntry> expiryQueue = new TreeSet<>();
+
+		/**
+		 * The group id to its entry in the expiry queue.
+		 */
+		private final Map<Object, QueuedEntry> queuedEntries = new HashMap<>();
+
+		/**
+		 * Orders the entries with the same timestamp.
+		 */
+		private long sequence;
+
+		Shard() {
+		}
+
+		/**
+		 * Enqueue the entry only if the group is still in the shard; checked under the queue lock,
+		 * so a concurrent {@link #dequeueForExpiry(Object)} after the group removal wins.
+		 */
+		void enqueueForExpiry(Object groupId, long timestamp) {
+			this.queueLock.lock();
+			try {
+				if (this.groups.containsKey(groupId)) {
+					QueuedEntry entry = new QueuedEntry(timestamp, this.sequence++, groupId);
+					QueuedEntry previous = this.queuedEntries.put(groupId, entry);
+					if (previous != null) {
+						this.expiryQueue.remove(previous);
+					}
+					this.expiryQueue.add(entry);
+				}
+			}
+			finally {
+				this.queueLock.unlock();
+			}
+		}
+
+		void dequeueForExpiry(Object groupId) {
+			this.queueLock.lock();
+			try {
+				QueuedEntry entry = this.queuedEntries.remove(groupId);
+				if (entry != null) {
+					this.expiryQueue.remove(entry);
+				}
+			}
+			finally {
+				this.queueLock.unlock();
+			}
+		}
+
+		@Nullable ExpiryEntry pollForExpiry(long threshold) {
+			this.queueLock.lock();
+			try {
+				if (!this.expiryQueue.isEmpty() && this.expiryQueue.first().timestamp() <= threshold) {
+					QueuedEntry head = this.expiryQueue.first();
+					this.expiryQueue.remove(head);
+					this.queuedEntries.remove(head.groupId());
+					return new ExpiryEntry(head.groupId(), head.timestamp());
+				}
+				return null;
+			}
+			finally {
+				this.queueLock.unlock();
+			}
+		}
+
+	}
+
+	private record ExpiryEntry(Object groupId, long timestamp) {
+
+	}
+
+	private record QueuedEntry(long timestamp, long sequence, Object groupId) implements Comparable<QueuedEntry> {
+
+		@Override
+		public int compareTo(QueuedEntry other) {
+			int result = Long.compare(this.timestamp, other.timestamp);
+			return result != 0 ? result : Long.compare(this.sequence, other.sequence);
+		}
+
+	}
+
+}
@@ -18,10 +18,8 @@ package org.springframework.integration.store;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -52,7 +50,7 @@ public class SimpleMessageGroup implements MessageGroup {
 
 	private final Collection<Message<?>> messages;
 
-	private final Set<Integer> sequences = new HashSet<>();
+	private final SequenceNumberSet sequences = new SequenceNumberSet();
 
 	private final long timestamp;
 
@@ -16,12 +16,16 @@
 
 package org.springframework.integration.store;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 
 import org.jspecify.annotations.Nullable;
@@ -63,6 +67,12 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 
 	private final ConcurrentMap<Object, UpperBound> groupToUpperBound = new ConcurrentHashMap<>();
 
+	private final ConcurrentSkipListSet<ExpiryIndexEntry> expiryIndex = new ConcurrentSkipListSet<>();
+
+	private final ConcurrentMap<Object, ExpiryIndexEntry> groupToExpiryIndexEntry = new ConcurrentHashMap<>();
+
+	private final AtomicLong expiryIndexSequence = new AtomicLong();
+
 	private final int groupCapacity;
 
 	private final int individualCapacity;
@@ -73,6 +83,8 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 
 	private boolean copyOnGet = false;
 
+	private boolean expiryIndexEnabled = true;
+
 	/**
 	 * Creates a SimpleMessageStore with a maximum size limited by the given capacity, or unlimited size if the given
 	 * capacity is less than 1. The capacities are applied independently to messages stored via
@@ -158,6 +170,22 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 		this.copyOnGet = copyOnGet;
 	}
 
+	/**
+	 * Set to false to disable the time-ordered index of groups used by the
+	 * {@link #expireMessageGroups(long)}.
+	 * With the index (default), a reaper pass only visits groups whose creation
+	 * (or last modification, if {@link #setTimeoutOnIdle(boolean) timeoutOnIdle}) time has passed
+	 * the threshold, instead of all the groups in the store.
+	 * The index is updated once per group creation; modified groups are re-indexed lazily,
+	 * when they are visited by a reaper pass, so adding messages to a group does not touch the index.
+	 * Must be set before any group is added to the store.
+	 * @param expiryIndexEnabled false to scan all the groups on expiry.
+	 * @since 7.1
+	 */
+	public void setExpiryIndexEnabled(boolean expiryIndexEnabled) {
+		this.expiryIndexEnabled = expiryIndexEnabled;
+	}
+
 	@Override
 	public void setLazyLoadMessageGroups(boolean lazyLoadMessageGroups) {
 		throw new UnsupportedOperationException("The lazy-load isn't supported for in-memory 'SimpleMessageStore'");
@@ -264,6 +292,7 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 					}
 					group = getMessageGroupFactory().create(groupId);
 					this.groupIdToMessageGroup.put(groupId, group);
+					indexForExpiry(groupId, group.getTimestamp());
 					upperBound = new UpperBound(this.groupCapacity);
 					for (Message<?> message : messages) {
 						upperBound.tryAcquire(-1);
@@ -314,6 +343,10 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 	protected void doRemoveMessageGroup(Object groupId) {
 		MessageGroup messageGroup = this.groupIdToMessageGroup.remove(groupId);
 		if (messageGroup != null) {
+			ExpiryIndexEntry expiryIndexEntry = this.groupToExpiryIndexEntry.remove(groupId);
+			if (expiryIndexEntry != null) {
+				this.expiryIndex.remove(expiryIndexEntry);
+			}
 			UpperBound upperBound = this.groupToUpperBound.remove(groupId);
 			Assert.state(upperBound != null, UPPER_BOUND_MUST_NOT_BE_NULL);
 			upperBound.release(this.groupCapacity);
@@ -373,6 +406,51 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 		return false;
 	}
 
+	@Override
+	protected Iterable<MessageGroup> getExpiryCandidates(long threshold) {
+		if (!this.expiryIndexEnabled) {
+			return super.getExpiryCandidates(threshold);
+		}
+		List<MessageGroup> candidates = new ArrayList<>();
+		ExpiryIndexEntry upperBound = new ExpiryIndexEntry(threshold, Long.MAX_VALUE, threshold);
+		for (ExpiryIndexEntry entry : this.expiryIndex.headSet(upperBound, true)) {
+			Object groupId = entry.groupId();
+			MessageGroup group = this.groupIdToMessageGroup.get(groupId);
+			if (group == null || this.groupToExpiryIndexEntry.get(groupId) != entry) {
+				this.expiryIndex.remove(entry);
+				continue;
+			}
+			long timestamp = group.getTimestamp();
+			if (isTimeoutOnIdle() && group.getLastModified() > 0) {
+				timestamp = group.getLastModified();
+			}
+			if (timestamp <= threshold) {
+				candidates.add(group);
+			}
+			else {
+				ExpiryIndexEntry newEntry =
+						new ExpiryIndexEntry(timestamp, this.expiryIndexSequence.incrementAndGet(), groupId);
+				if (this.groupToExpiryIndexEntry.replace(groupId, entry, newEntry)) {
+					this.expiryIndex.add(newEntry);
+				}
+				this.expiryIndex.remove(entry);
+			}
+		}
+		return candidates;
+	}
+
+	private void indexForExpiry(Object groupId, long timestamp) {
+		if (this.expiryIndexEnabled) {
+			ExpiryIndexEntry entry =
+					new ExpiryIndexEntry(timestamp, this.expiryIndexSequence.incrementAndGet(), groupId);
+			ExpiryIndexEntry previous = this.groupToExpiryIndexEntry.put(groupId, entry);
+			if (previous != null) {
+				this.expiryIndex.remove(previous);
+			}
+			this.expiryIndex.add(entry);
+		}
+	}
+
 	@Override
 	public Iterator<MessageGroup> iterator() {
 		return new HashSet<>(this.groupIdToMessageGroup.values()).iterator();
@@ -464,4 +542,19 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 		}
 	}
 
+	/**
+	 * The entry of the time-ordered expiry index; the {@code sequence} makes entries
+	 * with the same timestamp distinct.
+	 */
+	private record ExpiryIndexEntry(long timestamp, long sequence, Object groupId)
+			implements Comparable<ExpiryIndexEntry> {
+
+		@Override
+		public int compareTo(ExpiryIndexEntry other) {
+			int result = Long.compare(this.timestamp, other.timestamp);
+			return result != 0 ? result : Long.compare(this.sequence, other.sequence);
+		}
+
+	}
+
 }
@@ -18,8 +18,10 @@ package org.springframework.integration.support;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -32,6 +34,7 @@ import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * The {@link AbstractIntegrationMessageBuilder} extension for the default logic to build message.
@@ -61,19 +64,48 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 
 	private final T payload;
 
-	private final IntegrationMessageHeaderAccessor headerAccessor;
-
 	private final @Nullable Message<T> originalMessage;
 
+	private IntegrationMessageHeaderAccessor headerAccessor;
+
+	/**
+	 * The headers of the original message to share with the message to build.
+	 * When not null, the {@link #headerAccessor} holds only new and overridden headers.
+	 */
+	private @Nullable MessageHeaders sharedHeaders;
+
+	private @Nullable Set<String> removedHeaders;
+
 	private volatile boolean modified;
 
 	private String @Nullable [] readOnlyHeaders;
 
+	private boolean lazyId;
+
 	protected BaseMessageBuilder(T payload, @Nullable Message<T> originalMessage) {
+		this(payload, originalMessage, false);
+	}
+
+	/**
+	 * Create a builder for the payload and, optionally, the original message.
+	 * If {@code shareHeaders} is true and there is an original message, its headers are not copied:
+	 * the built message keeps a reference to them and stores only new, overridden and removed headers.
+	 * @param payload the payload for the new message.
+	 * @param originalMessage the message to copy (or share) headers from.
+	 * @param shareHeaders true to share the headers of the original message.
+	 * @since 7.1
+	 */
+	protected BaseMessageBuilder(T payload, @Nullable Message<T> originalMessage, boolean shareHeaders) {
 		Assert.notNull(payload, "payload must not be null");
 		this.payload = payload;
 		this.originalMessage = originalMessage;
-		this.headerAccessor = new IntegrationMessageHeaderAccessor(originalMessage);
+		if (shareHeaders && originalMessage != null) {
+			this.sharedHeaders = originalMessage.getHeaders();
+			this.headerAccessor = new IntegrationMessageHeaderAccessor(null);
+		}
+		else {
+			this.headerAccessor = new IntegrationMessageHeaderAccessor(originalMessage);
+		}
 		if (originalMessage != null) {
 			this.modified = (!this.payload.equals(originalMessage.getPayload()));
 		}
@@ -86,12 +118,22 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 
 	@Override
 	public Map<String, Object> getHeaders() {
+		unshareHeaders();
 		return this.headerAccessor.toMap();
 	}
 
 	@Nullable
 	@Override
 	public <V> V getHeader(String key, Class<V> type) {
+		MessageHeaders headers = this.sharedHeaders;
+		if (headers != null && this.headerAccessor.getHeader(key) == null) {
+			if (MessageHeaders.ID.equals(key) || MessageHeaders.TIMESTAMP.equals(key)
+					|| (this.removedHeaders != null && this.removedHeaders.contains(key))) {
+
+				return null;
+			}
+			return headers.get(key, type);
+		}
 		return this.headerAccessor.getHeader(key, type);
 	}
 
@@ -104,6 +146,7 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 	@Override
 	public B setHeader(String headerName, @Nullable Object headerValue) {
 		this.headerAccessor.setHeader(headerName, headerValue);
+		trackSharedHeader(headerName, headerValue);
 		return _this();
 	}
 
@@ -115,7 +158,14 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 	 */
 	@Override
 	public B setHeaderIfAbsent(String headerName, Object headerValue) {
-		this.headerAccessor.setHeaderIfAbsent(headerName, headerValue);
+		if (this.sharedHeaders != null) {
+			if (getHeader(headerName, Object.class) == null) {
+				setHeader(headerName, headerValue);
+			}
+		}
+		else {
+			this.headerAccessor.setHeaderIfAbsent(headerName, headerValue);
+		}
 		return _this();
 	}
 
@@ -128,6 +178,7 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 	 */
 	@Override
 	public B removeHeaders(String... headerPatterns) {
+		unshareHeaders();
 		this.headerAccessor.removeHeaders(headerPatterns);
 		return _this();
 	}
@@ -141,6 +192,9 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 	public B removeHeader(String headerName) {
 		if (!this.headerAccessor.isReadOnly(headerName)) {
 			this.headerAccessor.removeHeader(headerName);
+			if (StringUtils.hasLength(headerName)) {
+				trackSharedHeader(headerName, null);
+			}
 		}
 		else if (LOGGER.isInfoEnabled()) {
 			LOGGER.info("The header [" + headerName + "] is ignored for removal because it is readOnly.");
@@ -159,7 +213,18 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 	 */
 	@Override
 	public B copyHeaders(@Nullable Map<String, ?> headersToCopy) {
-		this.headerAccessor.copyHeaders(headersToCopy);
+		if (this.sharedHeaders != null) {
+			if (headersToCopy != null) {
+				headersToCopy.forEach((headerName, headerValue) -> {
+					if (!this.headerAccessor.isReadOnly(headerName)) {
+						setHeader(headerName, headerValue);
+					}
+				});
+			}
+		}
+		else {
+			this.headerAccessor.copyHeaders(headersToCopy);
+		}
 		return _this();
 	}
 
@@ -174,7 +239,7 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 			for (Map.Entry<String, ?> entry : headersToCopy.entrySet()) {
 				String headerName = entry.getKey();
 				if (!this.headerAccessor.isReadOnly(headerName)) {
-					this.headerAccessor.setHeaderIfAbsent(headerName, entry.getValue());
+					setHeaderIfAbsent(headerName, entry.getValue());
 				}
 			}
 		}
@@ -185,23 +250,25 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 	@Override
 	@Nullable
 	protected List<List<Object>> getSequenceDetails() {
-		return (List<List<Object>>) this.headerAccessor.getHeader(IntegrationMessageHeaderAccessor.SEQUENCE_DETAILS);
+		return (List<List<Object>>) getHeader(IntegrationMessageHeaderAccessor.SEQUENCE_DETAILS, Object.class);
 	}
 
 	@Override
 	@Nullable
 	protected Object getCorrelationId() {
-		return this.headerAccessor.getCorrelationId();
+		return getHeader(IntegrationMessageHeaderAccessor.CORRELATION_ID, Object.class);
 	}
 
 	@Override
 	protected Object getSequenceNumber() {
-		return this.headerAccessor.getSequenceNumber();
+		Number sequenceNumber = getHeader(IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER, Number.class);
+		return (sequenceNumber != null ? sequenceNumber.intValue() : 0);
 	}
 
 	@Override
 	protected Object getSequenceSize() {
-		return this.headerAccessor.getSequenceSize();
+		Number sequenceSize = getHeader(IntegrationMessageHeaderAccessor.SEQUENCE_SIZE, Number.class);
+		return (sequenceSize != null ? sequenceSize.intValue() : 0);
 	}
 
 	@Override
@@ -292,6 +359,19 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 		return _this();
 	}
 
+	/**
+	 * Generate the {@link MessageHeaders#ID} of the message to build lazily,
+	 * only when it is requested for the first time (including iteration over headers).
+	 * Useful when the ID generation is expensive and IDs are not used in the flow.
+	 * @param lazyId true to generate the {@link MessageHeaders#ID} lazily.
+	 * @return the current {@link BaseMessageBuilder}
+	 * @since 7.1
+	 */
+	public B lazyId(boolean lazyId) {
+		this.lazyId = lazyId;
+		return _this();
+	}
+
 	/**
 	 * Return an original message instance if it is not modified and does not have read-only headers.
 	 * If payload is an instance of {@link Throwable}, then an {@link ErrorMessage} is built.
@@ -304,17 +384,102 @@ public abstract class BaseMessageBuilder<T, B extends BaseMessageBuilder<T, B>>
 	@Override
 	@SuppressWarnings("unchecked")
 	public Message<T> build() {
+		MessageHeaders headers = this.sharedHeaders;
+		if (headers != null) {
+			return buildWithSharedHeaders(headers);
+		}
 		if (!this.modified && !this.headerAccessor.isModified() && this.originalMessage != null
 				&& !containsReadOnly(this.originalMessage.getHeaders())) {
 
 			return this.originalMessage;
 		}
+		if (this.lazyId) {
+			return buildMessage(new SharedMessageHeaders(this.headerAccessor.toMap(), true));
+		}
 		if (this.payload instanceof Throwable throwable) {
 			return (Message<T>) new ErrorMessage(throwable, this.headerAccessor.toMap());
 		}
 		return new GenericMessage<>(this.payload, this.headerAccessor.toMap());
 	}
 
+	private Message<T> buildWithSharedHeaders(MessageHeaders headers) {
+		Map<String, Object> overriddenHeaders = this.headerAccessor.toMap();
+		Set<String> headersToRemove =
+				this.removedHeaders != null ? new HashSet<>(this.removedHeaders) : new HashSet<>();
+		if (this.readOnlyHeaders != null) {
+			for (String readOnly : this.readOnlyHeaders) {
+				if (!MessageHeaders.ID.equals(readOnly) && !MessageHeaders.TIMESTAMP.equals(readOnly)
+						&& headers.containsKey(readOnly)) {
+
+					headersToRemove.add(readOnly);
+				}
+			}
+		}
+		if (!this.modified && overriddenHeaders.isEmpty() && headersToRemove.isEmpty()
+				&& this.originalMessage != null) {
+
+			return this.originalMessage;
+		}
+		return buildMessage(new SharedMessageHeaders(headers, overriddenHeaders, headersToRemove, this.lazyId));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Message<T> buildMessage(MessageHeaders messageHeaders) {
+		if (this.payload instanceof Throwable throwable) {
+			return (Message<T>) new ErrorMessage(throwable, messageHeaders);
+		}
+		return new GenericMessage<>(this.payload, messageHeaders);
+	}
+
+	/**
+	 * Keep track of the shared headers overridden or removed by the
+	 * {@link IntegrationMessageHeaderAccessor#setHeader(String, Object)} call just performed.
+	 * A header set to the same value as the shared one is not considered as overridden.
+	 */
+	private void trackSharedHeader(String headerName, @Nullable Object headerValue) {
+		MessageHeaders headers = this.sharedHeaders;
+		if (headers != null) {
+			if (headerValue == null) {
+				if (headers.containsKey(headerName)) {
+					if (this.removedHeaders == null) {
+						this.removedHeaders = new HashSet<>();
+					}
+					this.removedHeaders.add(headerName);
+				}
+			}
+			else {
+				if (this.removedHeaders != null) {
+					this.removedHeaders.remove(headerName);
+				}
+				if (headerValue.equals(headers.get(headerName))) {
+					this.headerAccessor.removeHeader(headerName);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Switch from the shared headers to a full copy for operations which cannot be
+	 * expressed as individual header changes.
+	 */
+	private void unshareHeaders() {
+		if (this.sharedHeaders != null) {
+			IntegrationMessageHeaderAccessor accessor = new IntegrationMessageHeaderAccessor(this.originalMessage);
+			if (this.readOnlyHeaders != null) {
+				accessor.setReadOnlyHeaders(this.readOnlyHeaders);
+			}
+			if (this.removedHeaders != null) {
+				for (String headerName : this.removedHeaders) {
+					accessor.removeHeader(headerName);
+				}
+			}
+			accessor.copyHeaders(this.headerAccessor.toMap());
+			this.headerAccessor = accessor;
+			this.sharedHeaders = null;
+			this.removedHeaders = null;
+		}
+	}
+
 	private boolean containsReadOnly(MessageHeaders headers) {
 		if (this.readOnlyHeaders != null) {
 			for (String readOnly : this.readOnlyHeaders) {
@@ -34,6 +34,10 @@ public class DefaultMessageBuilderFactory implements MessageBuilderFactory {
 
 	private String @Nullable [] readOnlyHeaders;
 
+	private boolean shareHeaders;
+
+	private boolean lazyId;
+
 	/**
 	 * Specify a list of headers which should be considered as a read only
 	 * and prohibited from the population to the message.
@@ -63,16 +67,54 @@ public class DefaultMessageBuilderFactory implements MessageBuilderFactory {
 		this.readOnlyHeaders = headers;
 	}
 
+	/**
+	 * Set to true to build messages from existing messages without copying their headers.
+	 * The new message shares the headers of the original one and stores only new, overridden
+	 * and removed headers, so adding or removing a header does not depend on the number of headers.
+	 * Single header lookups walk the chain of shared headers (which is bounded),
+	 * whereas iteration over the headers creates a flattened copy on first access.
+	 * The resulting {@link org.springframework.messaging.MessageHeaders} is a subclass,
+	 * so serializers relying on the exact {@link org.springframework.messaging.MessageHeaders}
+	 * class (e.g. a Kryo registration) may need to be adjusted.
+	 * Defaults to false.
+	 * @param shareHeaders true to share headers between the original and new messages.
+	 * @since 7.1
+	 */
+	public void setShareHeaders(boolean shareHeaders) {
+		this.shareHeaders = shareHeaders;
+	}
+
+	/**
+	 * Set to true to generate the {@link org.springframework.messaging.MessageHeaders#ID}
+	 * of built messages lazily, only when it is requested for the first time.
+	 * Can be combined with an {@link org.springframework.util.IdGenerator} bean,
+	 * e.g. the {@link IdGenerators.TimeOrderedIdGenerator}.
+	 * The same caveats about the {@link org.springframework.messaging.MessageHeaders} subclass
+	 * as for the {@link #setShareHeaders(boolean)} apply.
+	 * Defaults to false.
+	 * @param lazyId true to generate message IDs lazily.
+	 * @since 7.1
+	 * @see BaseMessageBuilder#lazyId(boolean)
+	 */
+	public void setLazyId(boolean lazyId) {
+		this.lazyId = lazyId;
+	}
+
 	@Override
 	public <T> MessageBuilder<T> fromMessage(Message<T> message) {
-		return MessageBuilder.fromMessage(message)
-				.readOnlyHeaders(this.readOnlyHeaders);
+		MessageBuilder<T> messageBuilder =
+				this.shareHeaders
+						? MessageBuilder.fromMessageSharingHeaders(message)
+						: MessageBuilder.fromMessage(message);
+		return messageBuilder.readOnlyHeaders(this.readOnlyHeaders)
+				.lazyId(this.lazyId);
 	}
 
 	@Override
 	public <T> MessageBuilder<T> withPayload(T payload) {
 		return MessageBuilder.withPayload(payload)
-				.readOnlyHeaders(this.readOnlyHeaders);
+				.readOnlyHeaders(this.readOnlyHeaders)
+				.lazyId(this.lazyId);
 	}
 
 }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A payload for moving many items through a flow as a single {@link Message}.
+ * The batch carries headers shared by all its items, and each item may carry its own headers.
+ * <p>
+ * When the batch is turned into messages (see {@link #toMessages(Map, MessageBuilderFactory)}),
+ * the headers of each message
+ * are the headers of the message carrying the batch, overridden by the shared headers of the batch,
+ * overridden by the headers of the item.
+ * The {@link MessageHeaders#ID} and {@link MessageHeaders#TIMESTAMP} are never kept in a batch;
+ * they are generated for each message created from it.
+ * <p>
+ * A {@code MessageBatch} is recognized by the
+ * {@link org.springframework.integration.splitter.AbstractMessageSplitter} (which splits it into messages
+ * and can emit batches instead of a message per item), the
+ * {@link org.springframework.integration.aggregator.MessageBatchAggregatingMessageGroupProcessor},
+ * the {@link org.springframework.integration.handler.MessageHandlerChain} and outbound channel adapters
+ * implementing {@link org.springframework.integration.handler.MessageBatchHandler}.
+ * <p>
+ * Instances are immutable.
+ *
+ * @param <T> the type of the item payloads.
+ *
+ * @since 7.1
+ */
+public final class MessageBatch<T> implements Iterable<Message<T>>, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = -2851232372373036124L;
+
+	private final Map<String, Object> headers;
+
+	private final List<Item<T>> items;
+
+	private MessageBatch(Map<String, Object> headers, List<Item<T>> items) {
+		this.headers = Collections.unmodifiableMap(headers);
+		this.items = Collections.unmodifiableList(items);
+	}
+
+	/**
+	 * Return the headers shared by all the items.
+	 * @return the shared headers.
+	 */
+	public Map<String, Object> getHeaders() {
+		return this.headers;
+	}
+
+	/**
+	 * Return the items of this batch.
+	 * @return the items.
+	 */
+	public List<Item<T>> getItems() {
+		return this.items;
+	}
+
+	/**
+	 * Return the payloads of the items, without building messages for them.
+	 * @return the payloads.
+	 */
+	public List<T> getPayloads() {
+		List<T> payloads = new ArrayList<>(this.items.size());
+		for (Item<T> item : this.items) {
+			payloads.add(item.payload());
+		}
+		return payloads;
+	}
+
+	public int size() {
+		return this.items.size();
+	}
+
+	public boolean isEmpty() {
+		return this.items.isEmpty();
+	}
+
+	/**
+	 * Build a message for each item, based on the shared and item headers.
+	 * @return the messages.
+	 */
+	@Override
+	public Iterator<Message<T>> iterator() {
+		return toMessages(Collections.emptyMap()).iterator();
+	}
+
+	/**
+	 * Build a message for each item, based on the provided headers of the message carrying this batch,
+	 * the shared headers and the item headers.
+	 * @param baseHeaders the headers of the message carrying this batch.
+	 * @return the messages.
+	 * @see #toMessages(Map, MessageBuilderFactory)
+	 */
+	public List<Message<T>> toMessages(Map<String, ?> baseHeaders) {
+		return toMessages(baseHeaders, new DefaultMessageBuilderFactory());
+	}
+
+	/**
+	 * Build a message for each item with the provided {@link MessageBuilderFactory}, based on
+	 * the provided headers of the message carrying this batch, the shared headers and the item headers.
+	 * @param baseHeaders the headers of the message carrying this batch.
+	 * @param messageBuilderFactory the factory for the message builders.
+	 * @return the messages.
+	 */
+	public List<Message<T>> toMessages(Map<String, ?> baseHeaders, MessageBuilderFactory messageBuilderFactory) {
+		Map<String, Object> common = new HashMap<>(baseHeaders);
+		common.remove(MessageHeaders.ID);
+		common.remove(MessageHeaders.TIMESTAMP);
+		common.putAll(this.headers);
+		List<Message<T>> messages = new ArrayList<>(this.items.size());
+		for (Item<T> item : this.items) {
+			Map<String, Object> messageHeaders = common;
+			if (!item.headers().isEmpty()) {
+				messageHeaders = new HashMap<>(common);
+				messageHeaders.putAll(item.headers());
+			}
+			messages.add(messageBuilderFactory.withPayload(item.payload()).copyHeaders(messageHeaders).build());
+		}
+		return messages;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return this == other || (other instanceof MessageBatch<?> that
+				&& this.headers.equals(that.headers)
+				&& this.items.equals(that.items));
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.headers, this.items);
+	}
+
+	@Override
+	public String toString() {
+		return "MessageBatch [size=" + this.items.size() + ", headers=" + this.headers + "]";
+	}
+
+	/**
+	 * Create a batch from the provided messages.
+	 * The headers with the same value in all the messages become the shared headers of the batch,
+	 * and the rest are kept on the items.
+	 * Messages carrying a {@code MessageBatch} are flattened into this batch.
+	 * @param messages the messages.
+	 * @param <T> the type of the item payloads.
+	 * @return the batch.
+	 */
+	public static <T> MessageBatch<T> of(Collection<? extends Message<?>> messages) {
+		@Nullable Map<String, Object> shared = null;
+		for (Message<?> message : messages) {
+			if (shared == null) {
+				shared = new HashMap<>(message.getHeaders());
+				shared.remove(MessageHeaders.ID);
+				shared.remove(MessageHeaders.TIMESTAMP);
+			}
+			else {
+				MessageHeaders messageHeaders = message.getHeaders();
+				shared.entrySet()
+						.removeIf((entry) -> !ObjectUtils.nullSafeEquals(entry.getValue(),
+								messageHeaders.get(entry.getKey())));
+			}
+			if (shared.isEmpty()) {
+				break;
+			}
+		}
+		Builder<T> builder = builder();
+		if (shared != null) {
+			builder.headers(shared);
+		}
+		for (Message<?> message : messages) {
+			builder.addFlattened(message, shared != null ? shared : Collections.emptyMap());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Create a new {@link Builder}.
+	 * @param <T> the type of the item payloads.
+	 * @return the builder.
+	 */
+	public static <T> Builder<T> builder() {
+		return new Builder<>();
+	}
+
+	/**
+	 * An item of the batch: a payload and the headers which are specific to it.
+	 *
+	 * @param payload the item payload.
+	 * @param headers the item headers.
+	 * @param <T> the type of the payload.
+	 */
+	public record Item<T>(T payload, Map<String, Object> headers) implements Serializable {
+
+		public Item {
+			Assert.notNull(payload, "'payload' must not be null");
+			headers = Collections.unmodifiableMap(headers);
+		}
+
+	}
+
+	/**
+	 * The builder for a {@link MessageBatch}.
+	 *
+	 * @param <T> the type of the item payloads.
+	 */
+	public static final class Builder<T> {
+
+		private final Map<String, Object> headers = new LinkedHashMap<>();
+
+		private final List<Item<T>> items = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Set a header shared by all the items.
+		 * @param name the header name.
+		 * @param value the header value.
+		 * @return the builder.
+		 */
+		public Builder<T> header(String name, Object value) {
+			Assert.hasText(name, "'name' must not be empty");
+			this.headers.put(name, value);
+			return this;
+		}
+
+		/**
+		 * Set headers shared by all the items.
+		 * The {@link MessageHeaders#ID} and {@link MessageHeaders#TIMESTAMP} are ignored.
+		 * @param headers the headers.
+		 * @return the builder.
+		 */
+		public Builder<T> headers(Map<String, ?> headers) {
+			this.headers.putAll(headers);
+			this.headers.remove(MessageHeaders.ID);
+			this.headers.remove(MessageHeaders.TIMESTAMP);
+			return this;
+		}
+
+		/**
+		 * Add an item without its own headers.
+		 * @param payload the item payload.
+		 * @return the builder.
+		 */
+		public Builder<T> add(T payload) {
+			this.items.add(new Item<>(payload, Collections.emptyMap()));
+			return this;
+		}
+
+		/**
+		 * Add an item with its own headers.
+		 * The {@link MessageHeaders#ID} and {@link MessageHeaders#TIMESTAMP} are ignored.
+		 * @param payload the item payload.
+		 * @param headers the item headers.
+		 * @return the builder.
+		 */
+		public Builder<T> add(T payload, Map<String, ?> headers) {
+			Map<String, Object> itemHeaders = new HashMap<>(headers);
+			itemHeaders.remove(MessageHeaders.ID);
+			itemHeaders.remove(MessageHeaders.TIMESTAMP);
+			this.items.add(new Item<>(payload, itemHeaders));
+			return this;
+		}
+
+		/**
+		 * Add an item for the message; its headers are kept on the item.
+		 * @param message the message.
+		 * @return the builder.
+		 */
+		public Builder<T> add(Message<T> message) {
+			return add(message.getPayload(), message.getHeaders());
+		}
+
+		@SuppressWarnings("unchecked")
+		private void addFlattened(Message<?> message, Map<String, Object> shared) {
+			Map<String, Object> itemHeaders = new HashMap<>(message.getHeaders());
+			itemHeaders.keySet().removeAll(shared.keySet());
+			if (message.getPayload() instanceof MessageBatch<?> nested) {
+				itemHeaders.putAll(nested.headers);
+				for (Item<?> item : nested.items) {
+					Map<String, Object> nestedItemHeaders = itemHeaders;
+					if (!item.headers().isEmpty()) {
+						nestedItemHeaders = new HashMap<>(itemHeaders);
+						nestedItemHeaders.putAll(item.headers());
+					}
+					add((T) item.payload(), nestedItemHeaders);
+				}
+			}
+			else {
+				add((T) message.getPayload(), itemHeaders);
+			}
+		}
+
+		/**
+		 * Build the {@link MessageBatch}.
+		 * @return the batch.
+		 */
+		public MessageBatch<T> build() {
+			return new MessageBatch<>(new LinkedHashMap<>(this.headers), new ArrayList<>(this.items));
+		}
+
+	}
+
+}
@@ -45,6 +45,10 @@ public final class MessageBuilder<T> extends BaseMessageBuilder<T, MessageBuilde
 		super(payload, originalMessage);
 	}
 
+	private MessageBuilder(T payload, Message<T> originalMessage, boolean shareHeaders) {
+		super(payload, originalMessage, shareHeaders);
+	}
+
 	/**
 	 * Create a builder for a new {@link Message} instance pre-populated with all the headers copied from the
 	 * provided message. The payload of the provided Message will also be used as the payload for the new message.
@@ -57,6 +61,20 @@ public final class MessageBuilder<T> extends BaseMessageBuilder<T, MessageBuilde
 		return new MessageBuilder<>(message.getPayload(), message);
 	}
 
+	/**
+	 * Create a builder for a new {@link Message} instance which shares the headers of the provided message
+	 * instead of copying them: only new, overridden and removed headers are stored for the new message.
+	 * @param message the Message from which the payload and all headers will be shared
+	 * @param <T> The type of the payload.
+	 * @return A MessageBuilder.
+	 * @since 7.1
+	 * @see DefaultMessageBuilderFactory#setShareHeaders(boolean)
+	 */
+	static <T> MessageBuilder<T> fromMessageSharingHeaders(Message<T> message) {
+		Assert.notNull(message, "message must not be null");
+		return new MessageBuilder<>(message.getPayload(), message, true);
+	}
+
 	/**
 	 * Create a builder for a new {@link Message} instance with the provided payload.
 	 * @param payload the payload for the new message
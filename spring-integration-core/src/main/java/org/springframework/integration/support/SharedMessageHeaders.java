@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link MessageHeaders} implementation which shares the headers of a parent
+ * {@link MessageHeaders} instance and keeps only overridden and removed headers on its own.
+ * A new {@link MessageHeaders#ID} and {@link MessageHeaders#TIMESTAMP} are always generated.
+ * The {@link MessageHeaders#ID} can be generated lazily, on first access.
+ * <p>
+ * Single header lookups go through the chain of parents.
+ * Bulk operations (iteration, {@link #size()}, {@link #equals(Object)} etc.)
+ * are performed against a flattened view which is created lazily and cached.
+ * When the chain of parents becomes too long, the headers are flattened eagerly
+ * to bound the lookup cost and retained memory.
+ * <p>
+ * The instance is serialized as a plain {@link MessageHeaders} in a flattened form, without the parent.
+ *
+ * @since 7.1
+ *
+ * @see BaseMessageBuilder
+ * @see DefaultMessageBuilderFactory#setShareHeaders(boolean)
+ */
+final class SharedMessageHeaders extends MessageHeaders {
+
+	@Serial
+	private static final long serialVersionUID = 3593460475563622426L;
+
+	private static final int MAX_DEPTH = 8;
+
+	private static final VarHandle GENERATED_ID;
+
+	private static final Constructor<MessageHeaders> MESSAGE_HEADERS_CONSTRUCTOR;
+
+	static {
+		try {
+			GENERATED_ID =
+					MethodHandles.lookup().findVarHandle(SharedMessageHeaders.class, "generatedId", UUID.class);
+			MESSAGE_HEADERS_CONSTRUCTOR =
+					MessageHeaders.class.getDeclaredConstructor(Map.class, UUID.class, Long.class);
+			ReflectionUtils.makeAccessible(MESSAGE_HEADERS_CONSTRUCTOR);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	private final @Nullable MessageHeaders parent;
+
+	private final Map<String, Object> headers;
+
+	private final Set<String> removedHeaders;
+
+	private final int depth;
+
+	private final boolean lazyId;
+
+	@SuppressWarnings("unused") // accessed via VarHandle
+	private volatile @Nullable UUID generatedId;
+
+	private transient volatile @Nullable Map<String, Object> flattened;
+
+	/**
+	 * Create an instance based on the {@code parent} headers.
+	 * @param parent the headers to share.
+	 * @param headers the new or overridden headers; the map is owned by this instance after the call.
+	 * @param removedHeaders the names of the parent headers to hide.
+	 * @param lazyId true to generate the {@link MessageHeaders#ID} on first access.
+	 */
+	SharedMessageHeaders(MessageHeaders parent, Map<String, Object> headers, Set<String> removedHeaders,
+			boolean lazyId) {
+
+		super(null, ID_VALUE_NONE, -1L);
+		int parentDepth = parent instanceof SharedMessageHeaders sharedParent ? sharedParent.depth : 0;
+		if (parentDepth < MAX_DEPTH) {
+			this.parent = parent;
+			this.headers = headers;
+			this.removedHeaders = removedHeaders;
+			this.depth = parentDepth + 1;
+		}
+		else {
+			Map<String, Object> flat = new HashMap<>(parent);
+			flat.keySet().removeAll(removedHeaders);
+			flat.putAll(headers);
+			this.parent = null;
+			this.headers = flat;
+			this.removedHeaders = Collections.emptySet();
+			this.depth = 0;
+		}
+		this.lazyId = lazyId;
+		populateIdAndTimestamp();
+	}
+
+	/**
+	 * Create an instance without a parent.
+	 * @param headers the headers; the map is owned by this instance after the call.
+	 * @param lazyId true to generate the {@link MessageHeaders#ID} on first access.
+	 */
+	SharedMessageHeaders(Map<String, Object> headers, boolean lazyId) {
+		super(null, ID_VALUE_NONE, -1L);
+		this.parent = null;
+		this.headers = headers;
+		this.removedHeaders = Collections.emptySet();
+		this.depth = 0;
+		this.lazyId = lazyId;
+		populateIdAndTimestamp();
+	}
+
+	private void populateIdAndTimestamp() {
+		if (this.lazyId) {
+			this.headers.remove(ID);
+		}
+		else {
+			this.headers.put(ID, getIdGenerator().generateId());
+		}
+		this.headers.put(TIMESTAMP, System.currentTimeMillis());
+	}
+
+	private UUID getOrGenerateId() {
+		UUID id = this.generatedId;
+		if (id == null) {
+			UUID newId = getIdGenerator().generateId();
+			id = (UUID) GENERATED_ID.compareAndExchange(this, null, newId);
+			if (id == null) {
+				id = newId;
+			}
+		}
+		return id;
+	}
+
+	@Override
+	protected Map<String, Object> getRawHeaders() {
+		return flatten();
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+		if (this.lazyId && ID.equals(key)) {
+			return getOrGenerateId();
+		}
+		Object value = this.headers.get(key);
+		if (value != null || this.parent == null || this.removedHeaders.contains(key)) {
+			return value;
+		}
+		return this.parent.get(key);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> @Nullable T get(Object key, Class<T> type) {
+		Object value = get(key);
+		if (value == null) {
+			return null;
+		}
+		if (!type.isAssignableFrom(value.getClass())) {
+			throw new IllegalArgumentException("Incorrect type specified for header '" +
+					key + "'. Expected [" + type + "] but actual type is [" + value.getClass() + "]");
+		}
+		return (T) value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (this.lazyId && ID.equals(key))
+				|| this.headers.containsKey(key)
+				|| (this.parent != null && !this.removedHeaders.contains(key) && this.parent.containsKey(key));
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return flatten().containsValue(value);
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		return flatten().entrySet();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return flatten().keySet();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return flatten().values();
+	}
+
+	@Override
+	public int size() {
+		return flatten().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return flatten().isEmpty();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return this == other || (other instanceof MessageHeaders && flatten().equals(other));
+	}
+
+	@Override
+	public int hashCode() {
+		return flatten().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return flatten().toString();
+	}
+
+	private Map<String, Object> flatten() {
+		Map<String, Object> flat = this.flattened;
+		if (flat == null) {
+			if (this.parent == null && !this.lazyId) {
+				flat = Collections.unmodifiableMap(this.headers);
+			}
+			else {
+				Map<String, Object> map;
+				if (this.parent != null) {
+					map = new HashMap<>(this.parent);
+					map.keySet().removeAll(this.removedHeaders);
+					map.putAll(this.headers);
+				}
+				else {
+					map = new HashMap<>(this.headers);
+				}
+				if (this.lazyId) {
+					map.put(ID, getOrGenerateId());
+				}
+				flat = Collections.unmodifiableMap(map);
+			}
+			this.flattened = flat;
+		}
+		return flat;
+	}
+
+	/**
+	 * Serialize a plain {@link MessageHeaders} copy with the same {@link MessageHeaders#ID}
+	 * and {@link MessageHeaders#TIMESTAMP}, but without the parent and non-serializable header values,
+	 * similar to what {@link MessageHeaders} does.
+	 * Therefore, the serialized form does not depend on this class.
+	 * @return the instance to serialize.
+	 */
+	@Serial
+	private Object writeReplace() {
+		Map<String, Object> serializableHeaders = new HashMap<>();
+		for (Map.Entry<String, Object> entry : flatten().entrySet()) {
+			if (entry.getValue() instanceof Serializable) {
+				serializableHeaders.put(entry.getKey(), entry.getValue());
+			}
+		}
+		// The protected constructor is the only way to keep the ID and timestamp of these headers
+		return BeanUtils.instantiateClass(MESSAGE_HEADERS_CONSTRUCTOR, serializableHeaders,
+				getId(), getTimestamp());
+	}
+
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.locks;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.integration.support.management.IntegrationManagement;
+import org.springframework.integration.support.management.metrics.MeterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.util.Assert;
+
+/**
+ * The in-memory {@link LockRegistry} implementation which scales with the number of CPU cores.
+ * <p>
+ * By default, the lock keys are mapped to a table of {@link ReentrantLock} stripes.
+ * Unlike the {@link DefaultLockRegistry}, the size of the table is derived from
+ * {@link Runtime#availableProcessors()} (but not less than 256 stripes), and the key hash code
+ * is spread over the table, so keys with similar hash codes (e.g. sequential numbers or strings
+ * with the same suffix) are unlikely to share a stripe.
+ * <p>
+ * When {@link #setPerKeyLocks(boolean) perKeyLocks} is set to {@code true}, a dedicated
+ * {@link ReentrantLock} is created for every key, so unrelated keys never contend.
+ * Such locks are held via weak references and are evicted once they are neither
+ * referenced by callers nor locked.
+ * <p>
+ * The registry tracks contended lock acquisitions, the time spent waiting for locks,
+ * and collisions - contended acquisitions where a stripe is held for a different key.
+ * These statistics are exposed via getters and, when a {@link MetricsCaptor} is registered,
+ * as gauges.
+ *
+ * @since 7.1
+ *
+ * @see DefaultLockRegistry
+ */
+public class StripedLockRegistry implements LockRegistry<Lock>, IntegrationManagement, BeanNameAware {
+
+	private static final int STRIPES_PER_CORE = 64;
+
+	private static final int MIN_STRIPES = 256;
+
+	private static final int MAX_STRIPES = 1 << 16;
+
+	private static final int HASH_SPREADER = 0x9E3779B9;
+
+	private final LockState[] stripes;
+
+	private final int mask;
+
+	private final ConcurrentMap<Object, KeyLockReference> keyLocks = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Object, KeyLock> heldKeyLocks = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<KeyLock> evictedKeyLocks = new ReferenceQueue<>();
+
+	private final LongAdder contendedAcquisitions = new LongAdder();
+
+	private final LongAdder collisions = new LongAdder();
+
+	private final LongAdder waitTimeNanos = new LongAdder();
+
+	private final List<MeterFacade> gauges = new ArrayList<>();
+
+	private volatile boolean perKeyLocks;
+
+	private @Nullable String beanName;
+
+	/**
+	 * Construct an instance with 64 stripes per {@link Runtime#availableProcessors() CPU core},
+	 * but not less than 256 stripes.
+	 */
+	public StripedLockRegistry() {
+		this(Math.max(MIN_STRIPES, Runtime.getRuntime().availableProcessors() * STRIPES_PER_CORE));
+	}
+
+	/**
+	 * Construct an instance with the provided number of stripes.
+	 * The value is rounded up to the power of 2 and limited to 65536.
+	 * @param stripes the number of stripes.
+	 */
+	public StripedLockRegistry(int stripes) {
+		Assert.isTrue(stripes > 0, "'stripes' must be greater than 0");
+		int size = Math.min(stripes, MAX_STRIPES);
+		if (size > 1) {
+			size = Integer.highestOneBit(size - 1) << 1;
+		}
+		this.mask = size - 1;
+		this.stripes = new LockState[size];
+		for (int i = 0; i < size; i++) {
+			this.stripes[i] = new LockState();
+		}
+	}
+
+	/**
+	 * Set to {@code true} to create a dedicated lock for every key instead of sharing stripes.
+	 * Unused locks are evicted by the garbage collector.
+	 * Must not be changed while locks obtained from this registry are in use.
+	 * @param perKeyLocks true to create a lock per key.
+	 */
+	public void setPerKeyLocks(boolean perKeyLocks) {
+		this.perKeyLocks = perKeyLocks;
+	}
+
+	@Override
+	public void setBeanName(String name) {
+		this.beanName = name;
+	}
+
+	@Override
+	public String getComponentName() {
+		return this.beanName != null ? this.beanName : "stripedLockRegistry";
+	}
+
+	@Override
+	public String getComponentType() {
+		return "lock-registry";
+	}
+
+	/**
+	 * Return the number of lock stripes.
+	 * @return the number of stripes.
+	 */
+	public int getStripeCount() {
+		return this.stripes.length;
+	}
+
+	/**
+	 * Return the number of per-key locks which have not been evicted yet.
+	 * @return the number of per-key locks.
+	 */
+	public int getKeyLockCount() {
+		expungeEvictedKeyLocks();
+		return this.keyLocks.size();
+	}
+
+	/**
+	 * Return the number of lock acquisitions which could not be satisfied immediately.
+	 * @return the number of contended acquisitions.
+	 */
+	public long getContendedAcquisitions() {
+		return this.contendedAcquisitions.sum();
+	}
+
+	/**
+	 * Return the number of contended acquisitions where the lock was held for a different key.
+	 * @return the number of collisions.
+	 */
+	public long getCollisions() {
+		return this.collisions.sum();
+	}
+
+	/**
+	 * Return the total time spent waiting for locks.
+	 * @param unit the time unit of the result.
+	 * @return the total wait time.
+	 */
+	public long getWaitTime(TimeUnit unit) {
+		return unit.convert(this.waitTimeNanos.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		String name = getComponentName();
+		this.gauges.add(
+				metricsCaptor.gaugeBuilder("spring.integration.lock.registry.wait.time", this,
+								(registry) -> this.waitTimeNanos.sum() / 1_000_000_000.0)
+						.tag("name", name)
+						.tag("type", getComponentType())
+						.description("The total time in seconds spent waiting for locks")
+						.build());
+		this.gauges.add(
+				metricsCaptor.gaugeBuilder("spring.integration.lock.registry.contended", this,
+								(registry) -> getContendedAcquisitions())
+						.tag("name", name)
+						.tag("type", getComponentType())
+						.description("The number of lock acquisitions which had to wait")
+						.build());
+		this.gauges.add(
+				metricsCaptor.gaugeBuilder("spring.integration.lock.registry.collisions", this,
+								(registry) -> getCollisions())
+						.tag("name", name)
+						.tag("type", getComponentType())
+						.description("The number of contended lock acquisitions for a stripe held for a different key")
+						.build());
+		this.gauges.add(
+				metricsCaptor.gaugeBuilder("spring.integration.lock.registry.locks", this,
+								(registry) -> this.perKeyLocks ? getKeyLockCount() : getStripeCount())
+						.tag("name", name)
+						.tag("type", getComponentType())
+						.description("The number of lock stripes or per-key locks")
+						.build());
+	}
+
+	@Override
+	public void destroy() {
+		this.gauges.forEach(MeterFacade::remove);
+		this.gauges.clear();
+	}
+
+	/**
+	 * Obtain a lock for the key: either a dedicated one, when {@link #setPerKeyLocks(boolean)} is
+	 * {@code true}, or a view over the stripe selected by the spread hash code of the key.
+	 * @param lockKey the object used to derive the lock.
+	 */
+	@Override
+	public Lock obtain(Object lockKey) {
+		Assert.notNull(lockKey, "'lockKey' must not be null");
+		if (this.perKeyLocks) {
+			return obtainKeyLock(lockKey);
+		}
+		int hash = lockKey.hashCode() * HASH_SPREADER;
+		return new KeyLock(lockKey, this.stripes[(hash ^ (hash >>> 16)) & this.mask], false);
+	}
+
+	private KeyLock obtainKeyLock(Object lockKey) {
+		expungeEvictedKeyLocks();
+		KeyLockReference reference = this.keyLocks.get(lockKey);
+		KeyLock lock = reference != null ? reference.get() : null;
+		while (lock == null) {
+			KeyLock newLock = new KeyLock(lockKey, new LockState(), true);
+			KeyLockReference newReference = new KeyLockReference(newLock, this.evictedKeyLocks);
+			reference =
+					this.keyLocks.compute(lockKey, (key, existing) ->
+							existing != null && existing.get() != null ? existing : newReference);
+			lock = reference.get();
+		}
+		return lock;
+	}
+
+	private void expungeEvictedKeyLocks() {
+		KeyLockReference reference;
+		while ((reference = (KeyLockReference) this.evictedKeyLocks.poll()) != null) {
+			this.keyLocks.remove(reference.key, reference);
+		}
+	}
+
+	private static final class LockState {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private volatile @Nullable Object ownerKey;
+
+	}
+
+	private static final class KeyLockReference extends WeakReference<KeyLock> {
+
+		private final Object key;
+
+		KeyLockReference(KeyLock lock, ReferenceQueue<KeyLock> queue) {
+			super(lock, queue);
+			this.key = lock.key;
+		}
+
+	}
+
+	/**
+	 * The {@link Lock} for a specific key over a shared stripe or a dedicated {@link LockState}.
+	 * A dedicated lock is strongly referenced by the registry while locked,
+	 * so it is not evicted even if the caller does not hold a reference to it.
+	 */
+	private final class KeyLock implements Lock {
+
+		private final Object key;
+
+		private final LockState state;
+
+		private final boolean dedicated;
+
+		KeyLock(Object key, LockState state, boolean dedicated) {
+			this.key = key;
+			this.state = state;
+			this.dedicated = dedicated;
+		}
+
+		@Override
+		public void lock() {
+			ReentrantLock lock = this.state.lock;
+			if (!lock.tryLock()) {
+				contended();
+				long start = System.nanoTime();
+				try {
+					lock.lock();
+				}
+				finally {
+					StripedLockRegistry.this.waitTimeNanos.add(System.nanoTime() - start);
+				}
+			}
+			acquired();
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			ReentrantLock lock = this.state.lock;
+			if (!lock.tryLock()) {
+				contended();
+				long start = System.nanoTime();
+				try {
+					lock.lockInterruptibly();
+				}
+				finally {
+					StripedLockRegistry.this.waitTimeNanos.add(System.nanoTime() - start);
+				}
+			}
+			acquired();
+		}
+
+		@Override
+		public boolean tryLock() {
+			if (this.state.lock.tryLock()) {
+				acquired();
+				return true;
+			}
+			contended();
+			return false;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			ReentrantLock lock = this.state.lock;
+			if (!lock.tryLock()) {
+				contended();
+				long start = System.nanoTime();
+				try {
+					if (!lock.tryLock(time, unit)) {
+						return false;
+					}
+				}
+				finally {
+					StripedLockRegistry.this.waitTimeNanos.add(System.nanoTime() - start);
+				}
+			}
+			acquired();
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			ReentrantLock lock = this.state.lock;
+			if (lock.getHoldCount() == 1) {
+				this.state.ownerKey = null;
+				if (this.dedicated) {
+					StripedLockRegistry.this.heldKeyLocks.remove(this.key, this);
+				}
+			}
+			lock.unlock();
+		}
+
+		@Override
+		public Condition newCondition() {
+			return this.state.lock.newCondition();
+		}
+
+		private void acquired() {
+			if (this.state.lock.getHoldCount() == 1) {
+				this.state.ownerKey = this.key;
+				if (this.dedicated) {
+					StripedLockRegistry.this.heldKeyLocks.put(this.key, this);
+				}
+			}
+		}
+
+		private void contended() {
+			StripedLockRegistry.this.contendedAcquisitions.increment();
+			Object ownerKey = this.state.ownerKey;
+			if (ownerKey != null && !ownerKey.equals(this.key)) {
+				StripedLockRegistry.this.collisions.increment();
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "KeyLock [key=" + this.key + ", lock=" + this.state.lock + "]";
+		}
+
+	}
+
+}
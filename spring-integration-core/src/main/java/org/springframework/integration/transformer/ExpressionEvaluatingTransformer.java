@@ -16,8 +16,12 @@
 
 package org.springframework.integration.transformer;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.integration.handler.ExpressionEvaluatingMessageProcessor;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 
 /**
  * A Message Transformer implementation that evaluates the specified SpEL
@@ -30,8 +34,37 @@ import org.springframework.integration.handler.ExpressionEvaluatingMessageProces
  */
 public class ExpressionEvaluatingTransformer extends AbstractMessageProcessingTransformer {
 
+	private final ExpressionEvaluatingMessageProcessor<Object> processor;
+
 	public ExpressionEvaluatingTransformer(Expression expression) {
-		super(new ExpressionEvaluatingMessageProcessor<>(expression));
+		this(new ExpressionEvaluatingMessageProcessor<>(expression));
+	}
+
+	private ExpressionEvaluatingTransformer(ExpressionEvaluatingMessageProcessor<Object> processor) {
+		super(processor);
+		this.processor = processor;
+	}
+
+	/**
+	 * Set the {@link SpelCompilerMode} for the expression, overriding the
+	 * {@link org.springframework.integration.context.IntegrationProperties#SPEL_COMPILER_MODE} global property.
+	 * @param compilerMode the compiler mode.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingMessageProcessor#setCompilerMode(SpelCompilerMode)
+	 */
+	public void setCompilerMode(SpelCompilerMode compilerMode) {
+		this.processor.setCompilerMode(compilerMode);
+	}
+
+	/**
+	 * Inject a {@link MetricsCaptor} to count the reverts of the compiled expression to the interpreted mode.
+	 * @param metricsCaptor the captor.
+	 * @param componentName the name of the component to tag the counter with.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingMessageProcessor#registerMetricsCaptor(MetricsCaptor, String)
+	 */
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor, @Nullable String componentName) {
+		this.processor.registerMetricsCaptor(metricsCaptor, componentName);
 	}
 
 	@Override
@@ -25,12 +25,15 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.integration.IntegrationPattern;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.context.IntegrationObjectSupport;
 import org.springframework.integration.handler.MessageProcessor;
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
 import org.springframework.integration.support.DefaultMessageBuilderFactory;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.transformer.support.ExpressionEvaluatingHeaderValueMessageProcessor;
 import org.springframework.integration.transformer.support.HeaderValueMessageProcessor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
@@ -57,6 +60,8 @@ public class HeaderEnricher extends IntegrationObjectSupport implements Transfor
 
 	private boolean shouldSkipNulls = true;
 
+	private @Nullable SpelCompilerMode compilerMode;
+
 	public HeaderEnricher() {
 	}
 
@@ -88,6 +93,33 @@ public class HeaderEnricher extends IntegrationObjectSupport implements Transfor
 		this.shouldSkipNulls = shouldSkipNulls;
 	}
 
+	/**
+	 * Set the {@link SpelCompilerMode} for the header value expressions, overriding the
+	 * {@link org.springframework.integration.context.IntegrationProperties#SPEL_COMPILER_MODE} global property.
+	 * @param compilerMode the compiler mode.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingHeaderValueMessageProcessor#setCompilerMode(SpelCompilerMode)
+	 */
+	public void setCompilerMode(SpelCompilerMode compilerMode) {
+		this.compilerMode = compilerMode;
+	}
+
+	/**
+	 * Inject a {@link MetricsCaptor} to count the reverts of the compiled header value expressions
+	 * to the interpreted mode.
+	 * @param metricsCaptor the captor.
+	 * @param componentName the name of the component to tag the counter with.
+	 * @since 7.1
+	 * @see ExpressionEvaluatingHeaderValueMessageProcessor#registerMetricsCaptor(MetricsCaptor, String)
+	 */
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor, @Nullable String componentName) {
+		for (HeaderValueMessageProcessor<?> processor : this.headersToAdd.values()) {
+			if (processor instanceof ExpressionEvaluatingHeaderValueMessageProcessor<?> expressionProcessor) {
+				expressionProcessor.registerMetricsCaptor(metricsCaptor, componentName);
+			}
+		}
+	}
+
 	@Override
 	public String getComponentType() {
 		return "header-enricher";
@@ -131,6 +163,11 @@ public class HeaderEnricher extends IntegrationObjectSupport implements Transfor
 			if (processor instanceof BeanFactoryAware beanFactoryAware) {
 				beanFactoryAware.setBeanFactory(beanFactory);
 			}
+			if (this.compilerMode != null
+					&& processor instanceof ExpressionEvaluatingHeaderValueMessageProcessor<?> expressionProcessor) {
+
+				expressionProcessor.setCompilerMode(this.compilerMode);
+			}
 			Boolean processorOverwrite = processor.isOverwrite();
 			if (processorOverwrite != null) {
 				overwrite |= processorOverwrite;
@@ -26,6 +26,7 @@ import org.springframework.integration.context.IntegrationObjectSupport;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
 import org.springframework.integration.support.context.NamedComponent;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -122,6 +123,17 @@ public class MessageTransformingHandler extends AbstractReplyProducingMessageHan
 		populateNotPropagatedHeadersIfAny();
 	}
 
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptorToRegister) {
+		super.registerMetricsCaptor(metricsCaptorToRegister);
+		if (this.transformer instanceof ExpressionEvaluatingTransformer expressionEvaluatingTransformer) {
+			expressionEvaluatingTransformer.registerMetricsCaptor(metricsCaptorToRegister, getComponentName());
+		}
+		else if (this.transformer instanceof HeaderEnricher headerEnricher) {
+			headerEnricher.registerMetricsCaptor(metricsCaptorToRegister, getComponentName());
+		}
+	}
+
 	private void populateNotPropagatedHeadersIfAny() {
 		Collection<String> notPropagatedHeaders = getNotPropagatedHeaders();
 
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * A hashed timing wheel: items are placed into one of the {@code wheelSize} buckets according
+ * to their deadline, and a single periodic task on the provided {@link TaskScheduler}
+ * advances the wheel every {@code tickDuration} and hands all the due items over to the
+ * expiration callback as a batch.
+ * <p>
+ * In contrast to a task per item in the {@link TaskScheduler}, scheduling an item is
+ * a lock-free append to a queue, and the scheduler deals with only one task regardless of
+ * the number of pending items.
+ * The items are never released before their deadline, but might be released up to one
+ * {@code tickDuration} late.
+ * <p>
+ * The expiration callback is called on the ticking thread, so it is expected to be fast
+ * or hand the items over to another thread.
+ * <p>
+ * The periodic task is only scheduled while the wheel is {@link #start() started} and has pending items:
+ * it is cancelled when the last item has been expired or cancelled and scheduled again by the next
+ * {@link #schedule(Object, Instant)}.
+ *
+ * @param <T> the item type.
+ *
+ * @since 7.1
+ */
+public class HashedTimingWheel<T> {
+
+	private static final LogAccessor LOGGER = new LogAccessor(HashedTimingWheel.class);
+
+	/**
+	 * The default duration of a tick.
+	 */
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100);
+
+	/**
+	 * The default number of buckets in the wheel.
+	 */
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+
+	private final Lock tickLock = new ReentrantLock();
+
+	private final Lock lifecycleLock = new ReentrantLock();
+
+	private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final TaskScheduler taskScheduler;
+
+	private final Consumer<List<T>> expirationCallback;
+
+	private final long tickMillis;
+
+	private final ArrayDeque<Timeout<T>>[] buckets;
+
+	private final int mask;
+
+	private long lastTick = -1;
+
+	private volatile @Nullable ScheduledFuture<?> tickFuture;
+
+	private volatile boolean running;
+
+	/**
+	 * Create a wheel with the {@link #DEFAULT_TICK_DURATION} and {@link #DEFAULT_WHEEL_SIZE}.
+	 * @param taskScheduler the {@link TaskScheduler} to tick the wheel.
+	 * @param expirationCallback the callback for the due items.
+	 */
+	public HashedTimingWheel(TaskScheduler taskScheduler, Consumer<List<T>> expirationCallback) {
+		this(taskScheduler, expirationCallback, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+	}
+
+	/**
+	 * Create a wheel with the provided tick duration and number of buckets.
+	 * @param taskScheduler the {@link TaskScheduler} to tick the wheel.
+	 * @param expirationCallback the callback for the due items.
+	 * @param tickDuration the duration of a tick; at least one millisecond.
+	 * @param wheelSize the number of buckets; rounded up to a power of two.
+	 */
+	@SuppressWarnings("unchecked")
+	public HashedTimingWheel(TaskScheduler taskScheduler, Consumer<List<T>> expirationCallback,
+			Duration tickDuration, int wheelSize) {
+
+		Assert.notNull(taskScheduler, "'taskScheduler' must not be null");
+		Assert.notNull(expirationCallback, "'expirationCallback' must not be null");
+		Assert.isTrue(tickDuration.toMillis() > 0, "'tickDuration' must be at least one millisecond");
+		Assert.isTrue(wheelSize > 0 && wheelSize <= (1 << 30), "'wheelSize' must be between 1 and 2^30");
+		this.taskScheduler = taskScheduler;
+		this.expirationCallback = expirationCallback;
+		this.tickMillis = tickDuration.toMillis();
+		int normalizedWheelSize = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+		this.buckets = new ArrayDeque[normalizedWheelSize];
+		for (int i = 0; i < normalizedWheelSize; i++) {
+			this.buckets[i] = new ArrayDeque<>();
+		}
+		this.mask = normalizedWheelSize - 1;
+	}
+
+	/**
+	 * Schedule the item to be expired at the provided deadline.
+	 * The item is expired only when the wheel is {@link #start() started}.
+	 * @param item the item.
+	 * @param deadline the time to expire the item at.
+	 * @return the handle to cancel the expiration.
+	 */
+	public Timeout<T> schedule(T item, Instant deadline) {
+		Timeout<T> timeout = new Timeout<>(item, deadline.toEpochMilli(), this.size);
+		this.pendingTimeouts.add(timeout);
+		this.size.incrementAndGet();
+		if (this.running) {
+			scheduleTicks();
+		}
+		return timeout;
+	}
+
+	/**
+	 * Return the number of items scheduled and not expired yet.
+	 * @return the number of pending items.
+	 */
+	public int size() {
+		return this.size.get();
+	}
+
+	/**
+	 * Return the number of buckets in the wheel.
+	 * @return the wheel size.
+	 */
+	public int getWheelSize() {
+		return this.buckets.length;
+	}
+
+	/**
+	 * Start expiring the items: schedule the periodic tick task if there are pending items.
+	 */
+	public void start() {
+		this.running = true;
+		if (this.size.get() > 0) {
+			scheduleTicks();
+		}
+	}
+
+	/**
+	 * Cancel the periodic tick task and do not schedule it for new items.
+	 * The pending items are retained and expired when the wheel is started again.
+	 */
+	public void stop() {
+		this.running = false;
+		cancelTicks();
+	}
+
+	/**
+	 * Return true if the wheel is started.
+	 * @return the running state.
+	 */
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	private void scheduleTicks() {
+		ScheduledFuture<?> future = this.tickFuture;
+		if (future == null || future.isDone()) {
+			this.lifecycleLock.lock();
+			try {
+				future = this.tickFuture;
+				if (this.running && (future == null || future.isDone())) {
+					this.tickFuture =
+							this.taskScheduler.scheduleAtFixedRate(this::tick, Duration.ofMillis(this.tickMillis));
+				}
+			}
+			finally {
+				this.lifecycleLock.unlock();
+			}
+		}
+	}
+
+	private void cancelTicks() {
+		this.lifecycleLock.lock();
+		try {
+			ScheduledFuture<?> future = this.tickFuture;
+			if (future != null) {
+				future.cancel(false);
+				this.tickFuture = null;
+			}
+		}
+		finally {
+			this.lifecycleLock.unlock();
+		}
+	}
+
+	/**
+	 * Cancel the periodic task while there are no pending items.
+	 * An item scheduled concurrently either sees the cancelled task and schedules a new one,
+	 * or is seen by the re-check after the cancellation.
+	 */
+	private void parkIfIdle() {
+		if (this.size.get() == 0) {
+			cancelTicks();
+			if (this.size.get() > 0 && this.running) {
+				scheduleTicks();
+			}
+		}
+	}
+
+	/**
+	 * Advance the wheel up to the current time and expire all the due items.
+	 * Normally called by the periodic task; a tick in progress makes this call a no-op.
+	 */
+	public void tick() {
+		if (!this.tickLock.tryLock()) {
+			return;
+		}
+		try {
+			long now = System.currentTimeMillis();
+			long currentTick = now / this.tickMillis;
+			if (this.lastTick < 0) {
+				this.lastTick = currentTick - 1;
+			}
+			transferPendingTimeouts(currentTick);
+			List<T> expired = new ArrayList<>();
+			long ticksToProcess = Math.min(currentTick - this.lastTick, this.buckets.length);
+			for (long tick = currentTick - ticksToProcess + 1; tick <= currentTick; tick++) {
+				expireTimeouts(this.buckets[(int) (tick & this.mask)], now, expired);
+			}
+			this.lastTick = Math.max(this.lastTick, currentTick);
+			if (!expired.isEmpty()) {
+				this.size.addAndGet(-expired.size());
+				this.expirationCallback.accept(expired);
+			}
+			parkIfIdle();
+		}
+		catch (Exception ex) {
+			// Must not propagate: a periodic task is not rescheduled after a failure
+			LOGGER.error(ex, "The timing wheel expiration callback has failed");
+		}
+		finally {
+			this.tickLock.unlock();
+		}
+	}
+
+	private void transferPendingTimeouts(long currentTick) {
+		Timeout<T> timeout;
+		while ((timeout = this.pendingTimeouts.poll()) != null) {
+			if (timeout.isCancelled()) {
+				continue;
+			}
+			// The bucket of the tick which starts at or after the deadline: never expire early
+			long deadlineTick = (timeout.deadline + this.tickMillis - 1) / this.tickMillis;
+			long tick = Math.max(deadlineTick, currentTick);
+			this.buckets[(int) (tick & this.mask)].add(timeout);
+		}
+	}
+
+	private static <T> void expireTimeouts(ArrayDeque<Timeout<T>> bucket, long now, List<T> expired) {
+		Iterator<Timeout<T>> iterator = bucket.iterator();
+		while (iterator.hasNext()) {
+			Timeout<T> timeout = iterator.next();
+			if (timeout.isCancelled()) {
+				iterator.remove();
+			}
+			else if (timeout.deadline <= now && timeout.done.compareAndSet(false, true)) {
+				iterator.remove();
+				expired.add(timeout.item);
+			}
+		}
+	}
+
+	/**
+	 * The handle for a scheduled item.
+	 *
+	 * @param <T> the item type.
+	 */
+	public static final class Timeout<T> {
+
+		private final T item;
+
+		private final long deadline;
+
+		private final AtomicInteger wheelSize;
+
+		private final AtomicBoolean done = new AtomicBoolean();
+
+		private volatile boolean cancelled;
+
+		Timeout(T item, long deadline, AtomicInteger wheelSize) {
+			this.item = item;
+			this.deadline = deadline;
+			this.wheelSize = wheelSize;
+		}
+
+		/**
+		 * Cancel the expiration of the item, unless it has already been expired.
+		 * @return true if cancelled by this call.
+		 */
+		public boolean cancel() {
+			if (this.done.compareAndSet(false, true)) {
+				this.cancelled = true;
+				this.wheelSize.decrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Return true if the expiration has been cancelled.
+		 * @return the cancelled state.
+		 */
+		public boolean isCancelled() {
+			return this.cancelled;
+		}
+
+	}
+
+}
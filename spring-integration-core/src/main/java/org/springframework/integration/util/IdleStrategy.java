@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.util.Assert;
+
+/**
+ * A strategy for a thread waiting on a non-blocking condition, e.g. a consumer
+ * polling an empty lock-free queue or a producer offering to a full one.
+ * The {@code idleCount} is the number of consecutive unsuccessful attempts,
+ * so an implementation can back off progressively.
+ *
+ * @since 7.1
+ *
+ * @see LockFreeArrayBlockingQueue
+ */
+@FunctionalInterface
+public interface IdleStrategy {
+
+	/**
+	 * Perform an idle action after an unsuccessful attempt.
+	 * @param idleCount the number of consecutive unsuccessful attempts, starting with {@code 1}.
+	 */
+	void idle(int idleCount);
+
+	/**
+	 * Busy-spin with {@link Thread#onSpinWait()}: the lowest latency, but a core is burnt while idle.
+	 * @return the spinning {@link IdleStrategy}.
+	 */
+	static IdleStrategy spinning() {
+		return (idleCount) -> Thread.onSpinWait();
+	}
+
+	/**
+	 * Give up the CPU with {@link Thread#yield()} on every unsuccessful attempt.
+	 * @return the yielding {@link IdleStrategy}.
+	 */
+	static IdleStrategy yielding() {
+		return (idleCount) -> Thread.yield();
+	}
+
+	/**
+	 * Park the thread for the fixed period on every unsuccessful attempt.
+	 * @param parkTime the time to park.
+	 * @return the parking {@link IdleStrategy}.
+	 */
+	static IdleStrategy parking(Duration parkTime) {
+		Assert.isTrue(!parkTime.isNegative() && !parkTime.isZero(), "'parkTime' must be positive");
+		long parkNanos = parkTime.toNanos();
+		return (idleCount) -> LockSupport.parkNanos(parkNanos);
+	}
+
+	/**
+	 * Spin, then yield, then park with an exponentially growing period up to the provided maximum.
+	 * @param maxParkTime the maximum time to park.
+	 * @return the back-off {@link IdleStrategy}.
+	 */
+	static IdleStrategy backoff(Duration maxParkTime) {
+		return new BackoffIdleStrategy(100, 100, TimeUnit.MICROSECONDS.toNanos(1), maxParkTime.toNanos());
+	}
+
+	/**
+	 * The default {@link #backoff(Duration)} strategy with a maximum park time of one millisecond.
+	 * @return the back-off {@link IdleStrategy}.
+	 */
+	static IdleStrategy backoff() {
+		return backoff(Duration.ofMillis(1));
+	}
+
+	/**
+	 * The progressive spin-yield-park {@link IdleStrategy}.
+	 */
+	final class BackoffIdleStrategy implements IdleStrategy {
+
+		private final int maxSpins;
+
+		private final int maxYields;
+
+		private final long minParkNanos;
+
+		private final long maxParkNanos;
+
+		/**
+		 * Create an instance with the provided thresholds.
+		 * @param maxSpins the number of attempts to spin.
+		 * @param maxYields the number of attempts to yield after spinning.
+		 * @param minParkNanos the initial park time after yielding.
+		 * @param maxParkNanos the maximum park time.
+		 */
+		public BackoffIdleStrategy(int maxSpins, int maxYields, long minParkNanos, long maxParkNanos) {
+			Assert.isTrue(maxSpins >= 0 && maxYields >= 0, "'maxSpins' and 'maxYields' must not be negative");
+			Assert.isTrue(minParkNanos > 0 && minParkNanos <= maxParkNanos,
+					"'minParkNanos' must be positive and not greater than 'maxParkNanos'");
+			this.maxSpins = maxSpins;
+			this.maxYields = maxYields;
+			this.minParkNanos = minParkNanos;
+			this.maxParkNanos = maxParkNanos;
+		}
+
+		@Override
+		public void idle(int idleCount) {
+			if (idleCount <= this.maxSpins) {
+				Thread.onSpinWait();
+			}
+			else if (idleCount <= this.maxSpins + this.maxYields) {
+				Thread.yield();
+			}
+			else {
+				int parkAttempt = Math.min(idleCount - this.maxSpins - this.maxYields - 1, 30);
+				long parkNanos = this.minParkNanos << parkAttempt;
+				if (parkNanos <= 0 || parkNanos > this.maxParkNanos) {
+					parkNanos = this.maxParkNanos;
+				}
+				LockSupport.parkNanos(parkNanos);
+			}
+		}
+
+	}
+
+}
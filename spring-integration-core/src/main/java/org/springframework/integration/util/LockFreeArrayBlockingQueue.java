@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, array-backed, lock-free multi-producer/multi-consumer {@link BlockingQueue}.
+ * <p>
+ * The algorithm is based on the per-slot sequence numbers (D. Vyukov's bounded MPMC queue):
+ * producers and consumers claim slots with a single CAS on their own index,
+ * so there is no shared lock and no per-element node allocation.
+ * The blocking operations ({@link #put}, {@link #take} and the timed
+ * {@link #offer(Object, long, TimeUnit)}/{@link #poll(long, TimeUnit)}) retry the non-blocking ones
+ * and consult the provided {@link IdleStrategy} between attempts.
+ * <p>
+ * Removing an arbitrary element is not supported: {@link #remove(Object)} and the iterator's
+ * {@code remove()} throw an {@link UnsupportedOperationException}.
+ * Therefore, a {@code QueueChannel} based on this queue does not support a {@code purge()} with a selector.
+ * The {@link #size()} and {@link #iterator()} are weakly consistent.
+ *
+ * @param <E> the element type.
+ *
+ * @since 7.1
+ */
+public class LockFreeArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+	private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+	private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	private static final VarHandle PRODUCER_INDEX;
+
+	private static final VarHandle CONSUMER_INDEX;
+
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			PRODUCER_INDEX = lookup.findVarHandle(LockFreeArrayBlockingQueue.class, "producerIndex", long.class);
+			CONSUMER_INDEX = lookup.findVarHandle(LockFreeArrayBlockingQueue.class, "consumerIndex", long.class);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	private final int capacity;
+
+	private final long[] sequences;
+
+	private final @Nullable Object[] elements;
+
+	private final IdleStrategy idleStrategy;
+
+	private volatile long producerIndex;
+
+	private volatile long consumerIndex;
+
+	/**
+	 * Create a queue with the provided capacity and the {@link IdleStrategy#backoff()} idle strategy.
+	 * @param capacity the capacity.
+	 */
+	public LockFreeArrayBlockingQueue(int capacity) {
+		this(capacity, IdleStrategy.backoff());
+	}
+
+	/**
+	 * Create a queue with the provided capacity and idle strategy.
+	 * @param capacity the capacity.
+	 * @param idleStrategy the {@link IdleStrategy} for blocking operations.
+	 */
+	public LockFreeArrayBlockingQueue(int capacity, IdleStrategy idleStrategy) {
+		Assert.isTrue(capacity > 0, "'capacity' must be a positive integer");
+		Assert.notNull(idleStrategy, "'idleStrategy' must not be null");
+		this.capacity = capacity;
+		this.sequences = new long[capacity];
+		this.elements = new Object[capacity];
+		this.idleStrategy = idleStrategy;
+		for (int i = 0; i < capacity; i++) {
+			this.sequences[i] = i;
+		}
+		VarHandle.releaseFence();
+	}
+
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	@Override
+	public boolean offer(E element) {
+		Assert.notNull(element, "'element' must not be null");
+		long position = (long) PRODUCER_INDEX.getAcquire(this);
+		while (true) {
+			int slot = slot(position);
+			long sequence = (long) SEQUENCES.getAcquire(this.sequences, slot);
+			long difference = sequence - position;
+			if (difference == 0) {
+				if (PRODUCER_INDEX.weakCompareAndSet(this, position, position + 1)) {
+					ELEMENTS.setRelease(this.elements, slot, element);
+					SEQUENCES.setRelease(this.sequences, slot, position + 1);
+					return true;
+				}
+			}
+			else if (difference < 0) {
+				return false;
+			}
+			position = (long) PRODUCER_INDEX.getAcquire(this);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public @Nullable E poll() {
+		long position = (long) CONSUMER_INDEX.getAcquire(this);
+		while (true) {
+			int slot = slot(position);
+			long sequence = (long) SEQUENCES.getAcquire(this.sequences, slot);
+			long difference = sequence - (position + 1);
+			if (difference == 0) {
+				if (CONSUMER_INDEX.weakCompareAndSet(this, position, position + 1)) {
+					E element = (E) ELEMENTS.getAcquire(this.elements, slot);
+					ELEMENTS.setRelease(this.elements, slot, null);
+					SEQUENCES.setRelease(this.sequences, slot, position + this.capacity);
+					return element;
+				}
+			}
+			else if (difference < 0) {
+				return null;
+			}
+			position = (long) CONSUMER_INDEX.getAcquire(this);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public @Nullable E peek() {
+		long position = (long) CONSUMER_INDEX.getAcquire(this);
+		int slot = slot(position);
+		if ((long) SEQUENCES.getAcquire(this.sequences, slot) == position + 1) {
+			return (E) ELEMENTS.getAcquire(this.elements, slot);
+		}
+		return null;
+	}
+
+	@Override
+	public void put(E element) throws InterruptedException {
+		int idleCount = 0;
+		while (!offer(element)) {
+			checkInterrupted();
+			this.idleStrategy.idle(++idleCount);
+		}
+	}
+
+	@Override
+	public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		int idleCount = 0;
+		while (!offer(element)) {
+			checkInterrupted();
+			if (deadline - System.nanoTime() <= 0) {
+				return false;
+			}
+			this.idleStrategy.idle(++idleCount);
+		}
+		return true;
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		int idleCount = 0;
+		E element;
+		while ((element = poll()) == null) {
+			checkInterrupted();
+			this.idleStrategy.idle(++idleCount);
+		}
+		return element;
+	}
+
+	@Override
+	public @Nullable E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		int idleCount = 0;
+		E element;
+		while ((element = poll()) == null) {
+			checkInterrupted();
+			if (deadline - System.nanoTime() <= 0) {
+				return null;
+			}
+			this.idleStrategy.idle(++idleCount);
+		}
+		return element;
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return this.capacity - size();
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection) {
+		return drainTo(collection, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+		Assert.notNull(collection, "'collection' must not be null");
+		Assert.isTrue(collection != this, "Cannot drain a queue to itself");
+		int drained = 0;
+		E element;
+		while (drained < maxElements && (element = poll()) != null) {
+			collection.add(element);
+			drained++;
+		}
+		return drained;
+	}
+
+	@Override
+	public int size() {
+		while (true) {
+			long consumer = (long) CONSUMER_INDEX.getAcquire(this);
+			long producer = (long) PRODUCER_INDEX.getAcquire(this);
+			if (consumer == (long) CONSUMER_INDEX.getAcquire(this)) {
+				return (int) Math.max(0, Math.min(producer - consumer, this.capacity));
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return peek() == null;
+	}
+
+	/**
+	 * Not supported: an arbitrary element cannot be removed from the middle of a lock-free ring buffer.
+	 * @param element the element to remove.
+	 * @return never returns.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public boolean remove(Object element) {
+		throw new UnsupportedOperationException("The 'LockFreeArrayBlockingQueue' does not support 'remove(Object)'");
+	}
+
+	/**
+	 * Return an iterator over a snapshot of the elements currently in the queue.
+	 * The iterator does not support {@code remove()}.
+	 * @return the iterator.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator<E> iterator() {
+		long position = (long) CONSUMER_INDEX.getAcquire(this);
+		long end = (long) PRODUCER_INDEX.getAcquire(this);
+		List<E> snapshot = new ArrayList<>((int) Math.max(0, Math.min(end - position, this.capacity)));
+		for (; position < end; position++) {
+			int slot = slot(position);
+			Object element = ELEMENTS.getAcquire(this.elements, slot);
+			if (element != null && (long) SEQUENCES.getAcquire(this.sequences, slot) == position + 1) {
+				snapshot.add((E) element);
+			}
+		}
+		Iterator<E> iterator = snapshot.iterator();
+		return new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public E next() {
+				return iterator.next();
+			}
+
+		};
+	}
+
+	private int slot(long position) {
+		return (int) (position % this.capacity);
+	}
+
+	private static void checkInterrupted() throws InterruptedException {
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+	}
+
+}
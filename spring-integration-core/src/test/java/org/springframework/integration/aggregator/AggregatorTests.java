@@ -19,10 +19,12 @@ package org.springframework.integration.aggregator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
@@ -31,10 +33,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.handler.AbstractMessageHandler;
 import org.springframework.integration.store.MessageGroup;
+import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.store.SimpleMessageGroupFactory;
 import org.springframework.integration.store.SimpleMessageStore;
 import org.springframework.integration.support.MessageBuilder;
@@ -51,6 +55,8 @@ import org.springframework.util.StopWatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
 
 /**
  * @author Mark Fisher
@@ -547,6 +553,85 @@ public class AggregatorTests  implements TestApplicationContextAware {
 		assertThat((reply.getPayload())).isEqualTo(105);
 	}
 
+	@Test
+	public void incrementalReleaseStrategyIsUpdatedWithNewMessagesOnly() {
+		AtomicInteger accumulations = new AtomicInteger();
+		this.aggregator.setTrackReleaseState(true);
+		this.aggregator.setReleaseStrategy(new IncrementalReleaseStrategy() {
+
+			@Override
+			public boolean canRelease(GroupReleaseState state) {
+				return state.<Integer>getAccumulator() >= 20;
+			}
+
+			@Override
+			public Object accumulate(Object accumulator, Message<?> message) {
+				accumulations.incrementAndGet();
+				return (accumulator != null ? (Integer) accumulator : 0) + (Integer) message.getPayload();
+			}
+
+		});
+		QueueChannel replyChannel = new QueueChannel();
+		for (int i = 1; i < 20; i++) {
+			this.aggregator.handleMessage(createMessage(1, "ABC", 0, i, replyChannel, null));
+		}
+		assertThat(replyChannel.receive(0)).isNull();
+		Map<?, GroupReleaseState> releaseStates = TestUtils.getPropertyValue(this.aggregator, "releaseStates");
+		GroupReleaseState state = releaseStates.get("ABC");
+		assertThat(state.getCount()).isEqualTo(19);
+		assertThat(state.getMinSequenceNumber()).isEqualTo(1);
+		assertThat(state.getEarliestTimestamp()).isLessThanOrEqualTo(System.currentTimeMillis());
+
+		this.aggregator.handleMessage(createMessage(1, "ABC", 0, 20, replyChannel, null));
+
+		assertThat(replyChannel.receive(10000)).extracting(Message::getPayload).isEqualTo(1);
+		assertThat(accumulations.get()).isEqualTo(20);
+		assertThat(releaseStates).isEmpty();
+	}
+
+	@Test
+	public void foldingAggregatorKeepsOnlyAccumulatorInStore() {
+		AggregatingMessageHandler handler =
+				new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(), this.store);
+		handler.setFoldFunction(() -> 0, (Integer sum, Message<?> message) -> sum + (Integer) message.getPayload());
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		assertThat(handler.getOutputProcessor()).isInstanceOf(FoldingMessageGroupProcessor.class);
+
+		QueueChannel replyChannel = new QueueChannel();
+		for (int i = 1; i < 100; i++) {
+			handler.handleMessage(createMessage(i, "ABC", 100, i, replyChannel, null));
+		}
+		assertThat(replyChannel.receive(0)).isNull();
+		MessageGroup group = this.store.getMessageGroup("ABC");
+		assertThat(group.size()).isEqualTo(1);
+		assertThat(group.getOne().getPayload()).isEqualTo(4950);
+		assertThat(group.getOne().getHeaders().get(AggregatingMessageHandler.FOLDED_MESSAGE_COUNT)).isEqualTo(99);
+
+		handler.handleMessage(createMessage(100, "ABC", 100, 100, replyChannel, null));
+
+		Message<?> reply = replyChannel.receive(10000);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo(5050);
+		assertThat(reply.getHeaders())
+				.containsEntry(IntegrationMessageHeaderAccessor.CORRELATION_ID, "ABC")
+				.doesNotContainKey(AggregatingMessageHandler.FOLDED_MESSAGE_COUNT);
+		assertThat(this.store.getMessageGroup("ABC").size()).isEqualTo(0);
+	}
+
+	@Test
+	public void foldingAggregatorRejectsPersistentStore() {
+		AggregatingMessageHandler handler =
+				new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(),
+						mock(MessageGroupStore.class));
+		handler.setFoldFunction(() -> 0, (Integer sum, Message<?> message) -> sum + (Integer) message.getPayload());
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+
+		assertThatIllegalStateException()
+				.isThrownBy(handler::afterPropertiesSet)
+				.withMessageContaining("in-memory");
+	}
+
 	private static Message<?> createMessage(Object payload, Object correlationId, int sequenceSize, int sequenceNumber,
 			MessageChannel replyChannel, String predefinedId) {
 		MessageBuilder<Object> builder = MessageBuilder.withPayload(payload).setCorrelationId(correlationId)
@@ -79,6 +79,23 @@ public class SequenceSizeReleaseStrategyTests {
 		assertThat(releaseStrategy.canRelease(groupWithFirstMessagesOfIncompleteSequence(messages))).isTrue();
 	}
 
+	@Test
+	public void partialSequenceIsReleasedFromGroupReleaseState() {
+		SequenceSizeReleaseStrategy releaseStrategy = new SequenceSizeReleaseStrategy(true);
+		GroupReleaseState state = GroupReleaseState.from(new SimpleMessageGroup("FOO"), releaseStrategy);
+		assertThat(releaseStrategy.canRelease(state)).isTrue();
+
+		state.add(MessageBuilder.withPayload("test3").setSequenceSize(3).setSequenceNumber(3).build(),
+				releaseStrategy);
+		assertThat(releaseStrategy.canRelease(state)).isFalse();
+
+		state.add(MessageBuilder.withPayload("test1").setSequenceSize(3).setSequenceNumber(1).build(),
+				releaseStrategy);
+		assertThat(releaseStrategy.canRelease(state)).isTrue();
+		assertThat(state.getPayloadSize()).isEqualTo(10);
+		assertThat(new SequenceSizeReleaseStrategy().canRelease(state)).isFalse();
+	}
+
 	private SimpleMessageGroup groupWithFirstMessagesOfIncompleteSequence(SimpleMessageGroup messages) {
 		Message<String> message1 = MessageBuilder.withPayload("test1").setSequenceSize(3).setSequenceNumber(1).build();
 		Message<String> message2 = MessageBuilder.withPayload("test2").setSequenceSize(3).setSequenceNumber(2).build();
@@ -80,6 +80,16 @@ public class TimeoutCountSequenceSizeReleaseStrategyTests {
 		assertThat(releaseStrategy.canRelease(messages)).isTrue();
 	}
 
+	@Test
+	public void testCompleteGroupState() {
+		TimeoutCountSequenceSizeReleaseStrategy releaseStrategy = new TimeoutCountSequenceSizeReleaseStrategy();
+		GroupReleaseState state = new GroupReleaseState("FOO", 0);
+		state.add(MessageBuilder.withPayload("test1").setSequenceSize(2).build(), releaseStrategy);
+		assertThat(releaseStrategy.canRelease(state)).isFalse();
+		state.setComplete(true);
+		assertThat(releaseStrategy.canRelease(state)).isTrue();
+	}
+
 	@Test
 	public void testCompleteList() {
 		Message<String> message1 = MessageBuilder.withPayload("test1")
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @since 7.1
+ */
+@SuppressWarnings("unchecked")
+class WindowAggregatorMessageHandlerTests {
+
+	private final SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
+
+	private final QueueChannel resultChannel = new QueueChannel();
+
+	@AfterEach
+	void tearDown() {
+		this.taskScheduler.close();
+	}
+
+	@Test
+	void countWindowIsEmittedOnMaxCount() {
+		WindowAggregatorMessageHandler handler = createHandler(AggregationWindow.count(3));
+
+		for (int i = 0; i < 7; i++) {
+			handler.handleMessage(message(i, i % 2));
+		}
+
+		Message<?> result = this.resultChannel.receive(10_000);
+		assertThat(result).isNotNull();
+		assertThat(result.getHeaders())
+				.containsEntry(IntegrationMessageHeaderAccessor.CORRELATION_ID, 0)
+				.containsKeys(WindowAggregatorMessageHandler.WINDOW_START, WindowAggregatorMessageHandler.WINDOW_END);
+		assertThat((List<Integer>) result.getPayload()).containsExactly(0, 2, 4);
+
+		result = this.resultChannel.receive(10_000);
+		assertThat(result).isNotNull();
+		assertThat(result.getHeaders()).containsEntry(IntegrationMessageHeaderAccessor.CORRELATION_ID, 1);
+		assertThat((List<Integer>) result.getPayload()).containsExactly(1, 3, 5);
+
+		assertThat(this.resultChannel.receive(0)).isNull();
+		assertThat(handler.getOpenWindowCount()).isEqualTo(1);
+
+		handler.flush();
+
+		result = this.resultChannel.receive(10_000);
+		assertThat(result).isNotNull();
+		assertThat((List<Integer>) result.getPayload()).containsExactly(6);
+		assertThat(handler.getOpenWindowCount()).isEqualTo(0);
+		handler.stop();
+	}
+
+	@Test
+	void sessionWindowIsEmittedAfterGap() {
+		WindowAggregatorMessageHandler handler = createHandler(AggregationWindow.session(Duration.ofMillis(200)));
+		handler.<Integer>setFoldFunction(() -> 0, (sum, message) -> sum + (Integer) message.getPayload());
+
+		for (int i = 1; i <= 10; i++) {
+			handler.handleMessage(message(i, "foo"));
+		}
+		assertThat(handler.getOpenWindowCount()).isEqualTo(1);
+
+		Message<?> result = this.resultChannel.receive(10_000);
+		assertThat(result).isNotNull();
+		assertThat(result.getPayload()).isEqualTo(55);
+		assertThat(result.getHeaders()).containsEntry(IntegrationMessageHeaderAccessor.CORRELATION_ID, "foo");
+		long windowStart = result.getHeaders().get(WindowAggregatorMessageHandler.WINDOW_START, Long.class);
+		long windowEnd = result.getHeaders().get(WindowAggregatorMessageHandler.WINDOW_END, Long.class);
+		assertThat(windowEnd - windowStart).isGreaterThanOrEqualTo(200);
+		assertThat(handler.getOpenWindowCount()).isEqualTo(0);
+		handler.stop();
+	}
+
+	@Test
+	void hoppingWindowsContainEveryMessageTwice() {
+		WindowAggregatorMessageHandler handler =
+				createHandler(AggregationWindow.hopping(Duration.ofSeconds(1), Duration.ofMillis(500)));
+
+		for (int i = 0; i < 10; i++) {
+			handler.handleMessage(message(i, "foo"));
+		}
+		assertThat(handler.getOpenWindowCount()).isBetween(2, 3);
+
+		List<Integer> emitted = new ArrayList<>();
+		while (emitted.size() < 20) {
+			Message<?> result = this.resultChannel.receive(10_000);
+			assertThat(result).isNotNull();
+			long windowStart = result.getHeaders().get(WindowAggregatorMessageHandler.WINDOW_START, Long.class);
+			long windowEnd = result.getHeaders().get(WindowAggregatorMessageHandler.WINDOW_END, Long.class);
+			assertThat(windowEnd - windowStart).isEqualTo(1000);
+			emitted.addAll((List<Integer>) result.getPayload());
+		}
+		assertThat(emitted).hasSize(20);
+		for (int i = 0; i < 10; i++) {
+			assertThat(emitted).filteredOn(Integer.valueOf(i)::equals).hasSize(2);
+		}
+		handler.stop();
+	}
+
+	@Test
+	void tumblingWindowIsEmittedOnMaxCountBeforeItsEnd() {
+		WindowAggregatorMessageHandler handler =
+				createHandler(AggregationWindow.tumbling(Duration.ofDays(1)).maxCount(5));
+
+		for (int i = 0; i < 5; i++) {
+			handler.handleMessage(message(i, "foo"));
+		}
+
+		Message<?> result = this.resultChannel.receive(10_000);
+		assertThat(result).isNotNull();
+		assertThat((List<Integer>) result.getPayload()).containsExactly(0, 1, 2, 3, 4);
+		assertThat(result.getHeaders().get(WindowAggregatorMessageHandler.WINDOW_END, Long.class)
+				- result.getHeaders().get(WindowAggregatorMessageHandler.WINDOW_START, Long.class))
+				.isEqualTo(Duration.ofDays(1).toMillis());
+		assertThat(handler.getOpenWindowCount()).isEqualTo(0);
+		assertThat(TestUtils.<Object>getPropertyValue(handler, "timingWheel.size")).hasToString("0");
+		handler.stop();
+	}
+
+	@Test
+	void windowsAreNotClosedBeforeStart() {
+		WindowAggregatorMessageHandler handler =
+				new WindowAggregatorMessageHandler(AggregationWindow.tumbling(Duration.ofMillis(50)));
+		handler.setOutputChannel(this.resultChannel);
+		handler.setTaskScheduler(this.taskScheduler);
+		handler.setTickDuration(Duration.ofMillis(10));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(message(1, "foo"));
+		assertThat(this.resultChannel.receive(200)).isNull();
+
+		handler.start();
+		Message<?> result = this.resultChannel.receive(10_000);
+		assertThat(result).isNotNull();
+		assertThat((List<Integer>) result.getPayload()).containsExactly(1);
+		handler.stop();
+	}
+
+	@Test
+	void hoppingAdvanceMustNotExceedSize() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> AggregationWindow.hopping(Duration.ofSeconds(1), Duration.ofSeconds(2)));
+	}
+
+	private WindowAggregatorMessageHandler createHandler(AggregationWindow window) {
+		WindowAggregatorMessageHandler handler = new WindowAggregatorMessageHandler(window);
+		handler.setOutputChannel(this.resultChannel);
+		handler.setTaskScheduler(this.taskScheduler);
+		handler.setTickDuration(Duration.ofMillis(10));
+		handler.afterPropertiesSet();
+		handler.start();
+		return handler;
+	}
+
+	private static Message<Integer> message(int payload, Object correlationId) {
+		return MessageBuilder.withPayload(payload)
+				.setCorrelationId(correlationId)
+				.build();
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.core.MessagingTemplate;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @since 7.1
+ */
+public class CorrelatingReplyChannelTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final CorrelatingReplyChannel replyChannel = new CorrelatingReplyChannel();
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentRepliesAreCorrelatedWithRequests() throws Exception {
+		ExecutorChannel requestChannel = new ExecutorChannel(this.executor);
+		requestChannel.subscribe(message ->
+				((MessageChannel) message.getHeaders().getReplyChannel())
+						.send(MessageBuilder.withPayload(((String) message.getPayload()).toUpperCase())
+								.copyHeaders(message.getHeaders())
+								.build()));
+		MessagingTemplate template = new MessagingTemplate();
+		template.setCorrelatingReplyChannel(this.replyChannel);
+		template.setReceiveTimeout(10_000);
+
+		List<Future<Message<?>>> replies = new ArrayList<>();
+		ExecutorService requesters = Executors.newFixedThreadPool(4);
+		try {
+			for (int i = 0; i < 100; i++) {
+				String payload = "foo" + i;
+				replies.add(requesters.submit(() ->
+						template.sendAndReceive(requestChannel,
+								MessageBuilder.withPayload(payload).setHeader("original", payload).build())));
+			}
+			for (int i = 0; i < 100; i++) {
+				Message<?> reply = replies.get(i).get();
+				assertThat(reply.getPayload()).isEqualTo("FOO" + i);
+				assertThat(reply.getHeaders())
+						.containsEntry("original", "foo" + i)
+						.doesNotContainKeys(CorrelatingReplyChannel.CORRELATION_KEY_HEADER,
+								MessageHeaders.REPLY_CHANNEL, MessageHeaders.ERROR_CHANNEL);
+			}
+		}
+		finally {
+			requesters.shutdownNow();
+		}
+		assertThat(this.replyChannel.getPendingReplyCount()).isEqualTo(0);
+	}
+
+	@Test
+	void errorMessageIsCorrelatedByFailedMessage() {
+		MessagingTemplate template = new MessagingTemplate();
+		template.setCorrelatingReplyChannel(this.replyChannel);
+		template.setReceiveTimeout(10_000);
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(message ->
+				this.replyChannel.send(new ErrorMessage(new MessagingException(message, "intentional"))));
+
+		Message<?> reply = template.sendAndReceive(requestChannel, new GenericMessage<>("foo"));
+
+		assertThat(reply).isInstanceOf(ErrorMessage.class);
+		assertThat(reply.getPayload()).isInstanceOf(MessagingException.class);
+		assertThat(this.replyChannel.getPendingReplyCount()).isEqualTo(0);
+	}
+
+	@Test
+	void nestedGatewaysRestoreOuterCorrelation() {
+		MessagingTemplate innerTemplate = new MessagingTemplate();
+		innerTemplate.setCorrelatingReplyChannel(this.replyChannel);
+		innerTemplate.setReceiveTimeout(10_000);
+		DirectChannel innerChannel = new DirectChannel();
+		innerChannel.subscribe(message ->
+				((MessageChannel) message.getHeaders().getReplyChannel())
+						.send(MessageBuilder.withPayload(message.getPayload() + "-inner")
+								.copyHeaders(message.getHeaders())
+								.build()));
+		DirectChannel outerChannel = new DirectChannel();
+		outerChannel.subscribe(message -> {
+			Message<?> innerReply = innerTemplate.sendAndReceive(innerChannel, message);
+			assertThat(innerReply.getHeaders())
+					.containsEntry(CorrelatingReplyChannel.CORRELATION_KEY_HEADER,
+							message.getHeaders().get(CorrelatingReplyChannel.CORRELATION_KEY_HEADER));
+			((MessageChannel) innerReply.getHeaders().getReplyChannel()).send(innerReply);
+		});
+		MessagingTemplate outerTemplate = new MessagingTemplate();
+		outerTemplate.setCorrelatingReplyChannel(this.replyChannel);
+		outerTemplate.setReceiveTimeout(10_000);
+
+		Message<?> reply = outerTemplate.sendAndReceive(outerChannel, new GenericMessage<>("foo"));
+
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("foo-inner");
+		assertThat(reply.getHeaders())
+				.doesNotContainKeys(CorrelatingReplyChannel.CORRELATION_KEY_HEADER,
+						MessageHeaders.REPLY_CHANNEL, MessageHeaders.ERROR_CHANNEL);
+		assertThat(this.replyChannel.getPendingReplyCount()).isEqualTo(0);
+	}
+
+	@Test
+	void lateReplyIsRejected() {
+		MessagingTemplate template = new MessagingTemplate();
+		template.setCorrelatingReplyChannel(this.replyChannel);
+		template.setReceiveTimeout(10);
+		QueueChannel requestChannel = new QueueChannel();
+
+		assertThat(template.sendAndReceive(requestChannel, new GenericMessage<>("foo"))).isNull();
+		assertThat(this.replyChannel.getPendingReplyCount()).isEqualTo(0);
+
+		Message<?> request = requestChannel.receive(0);
+		assertThat(request.getHeaders().getReplyChannel()).isSameAs(this.replyChannel);
+		assertThat(this.replyChannel.send(request)).isFalse();
+
+		this.replyChannel.setThrowExceptionOnLateReply(true);
+		assertThatExceptionOfType(MessageDeliveryException.class)
+				.isThrownBy(() -> this.replyChannel.send(request));
+	}
+
+	@Test
+	void foreignCorrelationKeyIsNotCorrelated() {
+		CorrelatingReplyChannel otherReplyChannel = new CorrelatingReplyChannel();
+		String correlationKey = this.replyChannel.register();
+		assertThat(otherReplyChannel.register()).isNotEqualTo(correlationKey);
+
+		assertThat(otherReplyChannel.send(MessageBuilder.withPayload("foo")
+				.setHeader(CorrelatingReplyChannel.CORRELATION_KEY_HEADER, correlationKey)
+				.build()))
+				.isFalse();
+		assertThat(this.replyChannel.send(MessageBuilder.withPayload("foo")
+				.setHeader(CorrelatingReplyChannel.CORRELATION_KEY_HEADER, 1L)
+				.build()))
+				.isFalse();
+		assertThat(this.replyChannel.send(MessageBuilder.withPayload("foo")
+				.setHeader(CorrelatingReplyChannel.CORRELATION_KEY_HEADER, "not a key")
+				.build()))
+				.isFalse();
+
+		this.replyChannel.cancel(correlationKey);
+		assertThat(this.replyChannel.getPendingReplyCount()).isEqualTo(0);
+	}
+
+}
@@ -54,6 +54,7 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.mockito.Mockito.mock;
@@ -145,6 +146,116 @@ public class PartitionedChannelTests {
 		partitionedChannel.destroy();
 	}
 
+	@Test
+	void partitionsOnVirtualThreads() throws InterruptedException {
+		PartitionedChannel partitionedChannel = new PartitionedChannel(2);
+		partitionedChannel.setBeanFactory(mock(BeanFactory.class));
+		partitionedChannel.setBeanName("virtualPartitionedChannel");
+		partitionedChannel.setVirtualThreads(true);
+		partitionedChannel.afterPropertiesSet();
+
+		BlockingQueue<Thread> handlingThreads = new LinkedBlockingQueue<>();
+		partitionedChannel.subscribe((message) -> handlingThreads.add(Thread.currentThread()));
+
+		partitionedChannel.send(MessageBuilder.withPayload("test").setCorrelationId("1").build());
+
+		Thread handlingThread = handlingThreads.poll(10, TimeUnit.SECONDS);
+		assertThat(handlingThread).isNotNull();
+		assertThat(handlingThread.isVirtual()).isTrue();
+		assertThat(handlingThread.getName()).startsWith("virtualPartitionedChannel-partition-thread-");
+
+		partitionedChannel.destroy();
+	}
+
+	@Test
+	void elasticPartitionsKeepOrderPerKey() throws InterruptedException {
+		PartitionedChannel partitionedChannel =
+				new PartitionedChannel(4, (message) -> message.getHeaders().get("partitionKey"));
+		partitionedChannel.setBeanFactory(mock(BeanFactory.class));
+		partitionedChannel.setBeanName("elasticPartitionedChannel");
+		partitionedChannel.setElastic(true);
+		partitionedChannel.afterPropertiesSet();
+
+		int keys = 8;
+		int messagesPerKey = 200;
+		CountDownLatch handleLatch = new CountDownLatch(keys * messagesPerKey);
+		MultiValueMap<Object, Integer> handledPerKey = new LinkedMultiValueMap<>();
+		Set<String> threads = new HashSet<>();
+		Lock handledLock = new ReentrantLock();
+		MessageHandler handler = (message) -> {
+			handledLock.lock();
+			try {
+				handledPerKey.add(message.getHeaders().get("partitionKey"), (Integer) message.getPayload());
+				threads.add(Thread.currentThread().getName());
+			}
+			finally {
+				handledLock.unlock();
+			}
+			handleLatch.countDown();
+		};
+		partitionedChannel.subscribe(handler);
+
+		for (int i = 0; i < messagesPerKey; i++) {
+			for (int key = 0; key < keys; key++) {
+				partitionedChannel.send(MessageBuilder.withPayload(i).setHeader("partitionKey", key).build());
+			}
+			if (i == messagesPerKey / 2) {
+				partitionedChannel.setPartitionCount(2);
+			}
+		}
+
+		assertThat(handleLatch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(partitionedChannel.getPartitionCount()).isEqualTo(2);
+		assertThat(threads).allMatch(name -> name.startsWith("elasticPartitionedChannel-partition-thread-"));
+		assertThat(handledPerKey).hasSize(keys);
+		handledPerKey.values()
+				.forEach(payloads ->
+						assertThat(payloads).isEqualTo(IntStream.range(0, messagesPerKey).boxed().toList()));
+
+		partitionedChannel.setPartitionCount(3);
+		CountDownLatch afterResizeLatch = new CountDownLatch(1);
+		partitionedChannel.subscribe((message) -> afterResizeLatch.countDown());
+		partitionedChannel.unsubscribe(handler);
+		partitionedChannel.send(MessageBuilder.withPayload(-1).setHeader("partitionKey", 1).build());
+		assertThat(afterResizeLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		partitionedChannel.destroy();
+	}
+
+	@Test
+	void elasticPartitionsExposeQueueDepth() throws InterruptedException {
+		PartitionedChannel partitionedChannel = new PartitionedChannel(1);
+		partitionedChannel.setBeanFactory(mock(BeanFactory.class));
+		partitionedChannel.setBeanName("queueDepthChannel");
+		partitionedChannel.setElastic(true);
+		partitionedChannel.afterPropertiesSet();
+
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+		CountDownLatch handleLatch = new CountDownLatch(3);
+		partitionedChannel.subscribe((message) -> {
+			try {
+				releaseLatch.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			handleLatch.countDown();
+		});
+
+		for (int i = 0; i < 3; i++) {
+			partitionedChannel.send(MessageBuilder.withPayload(i).setCorrelationId("sameKey").build());
+		}
+
+		await().until(() -> partitionedChannel.getQueueDepth(0) == 2);
+		assertThat(partitionedChannel.getQueueDepth(1)).isZero();
+
+		releaseLatch.countDown();
+		assertThat(handleLatch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(partitionedChannel.getQueueDepth(0)).isZero();
+
+		partitionedChannel.destroy();
+	}
+
 	@Autowired
 	@Qualifier("someFlow.input")
 	MessageChannel inputChannel;
@@ -24,12 +24,17 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.integration.selector.UnexpiredMessageSelector;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.util.LockFreeArrayBlockingQueue;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.GenericMessage;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -91,6 +96,87 @@ public class QueueChannelTests {
 		exec.shutdownNow();
 	}
 
+	@Test
+	public void testSimpleSendAndReceiveLockFreeQueue() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final QueueChannel channel = new QueueChannel(new LockFreeArrayBlockingQueue<>(10));
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		exec.execute(() -> {
+			Message<?> message = channel.receive(10000);
+			if (message != null) {
+				latch.countDown();
+			}
+		});
+		channel.send(new GenericMessage<>("testing"));
+		assertThat(latch.await(10000, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(channel.getRemainingCapacity()).isEqualTo(10);
+		exec.shutdownNow();
+	}
+
+	@Test
+	public void testReceiveBatch() {
+		QueueChannel channel = new QueueChannel();
+		assertThat(channel.receiveBatch(10, 0)).isEmpty();
+		for (int i = 0; i < 5; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		List<Message<?>> batch = channel.receiveBatch(3, 0);
+		assertThat(batch).extracting(Message::getPayload).containsExactly(0, 1, 2);
+		batch = channel.receiveBatch(10, 0);
+		assertThat(batch).extracting(Message::getPayload).containsExactly(3, 4);
+		assertThat(channel.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	public void testReceiveBatchInterceptorCallbacksArePaired() {
+		QueueChannel channel = new QueueChannel();
+		AtomicInteger preReceives = new AtomicInteger();
+		AtomicInteger postReceives = new AtomicInteger();
+		AtomicInteger completions = new AtomicInteger();
+		channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public boolean preReceive(MessageChannel channel) {
+				preReceives.incrementAndGet();
+				return true;
+			}
+
+			@Override
+			public Message<?> postReceive(Message<?> message, MessageChannel channel) {
+				postReceives.incrementAndGet();
+				return message;
+			}
+
+			@Override
+			public void afterReceiveCompletion(@Nullable Message<?> message, MessageChannel channel,
+					@Nullable Exception ex) {
+
+				completions.incrementAndGet();
+			}
+
+		});
+		for (int i = 0; i < 3; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		assertThat(channel.receiveBatch(10, 0)).hasSize(3);
+		assertThat(preReceives.get()).isEqualTo(1);
+		assertThat(postReceives.get()).isEqualTo(3);
+		assertThat(completions.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void testReceiveBatchFromPriorityChannelReleasesCapacity() {
+		PriorityChannel channel = new PriorityChannel(3);
+		for (int i = 0; i < 3; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		assertThat(channel.getRemainingCapacity()).isEqualTo(0);
+		List<Message<?>> batch = channel.receiveBatch(10, 0);
+		assertThat(batch).hasSize(3);
+		assertThat(batch.get(0)).isInstanceOf(GenericMessage.class);
+		assertThat(channel.getRemainingCapacity()).isEqualTo(3);
+	}
+
 	@Test
 	public void testImmediateReceive() throws Exception {
 		final AtomicBoolean messageNull = new AtomicBoolean(false);
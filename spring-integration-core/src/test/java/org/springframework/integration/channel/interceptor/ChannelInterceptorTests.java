@@ -176,6 +176,64 @@ public class ChannelInterceptorTests {
 		assertThat(interceptor2.wasAfterCompletionInvoked()).isFalse();
 	}
 
+	@Test
+	public void sendCallbacksAreInvokedOnlyForOverridingInterceptorsInOrder() {
+		List<String> invocations = new ArrayList<>();
+		AtomicBoolean preclude = new AtomicBoolean();
+		this.channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+				invocations.add("completion1");
+			}
+
+		});
+		this.channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+				invocations.add("postSend2");
+			}
+
+		});
+		this.channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				invocations.add("preSend3");
+				return preclude.get() ? null : message;
+			}
+
+			@Override
+			public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+				invocations.add("completion3");
+			}
+
+		});
+		this.channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+				invocations.add("completion4");
+			}
+
+		});
+
+		assertThat(this.channel.send(new GenericMessage<>("test"))).isTrue();
+		assertThat(invocations).containsExactly("preSend3", "postSend2", "completion4", "completion3", "completion1");
+
+		invocations.clear();
+		preclude.set(true);
+		assertThat(this.channel.send(new GenericMessage<>("test"))).isFalse();
+		assertThat(invocations).containsExactly("preSend3", "completion1");
+
+		invocations.clear();
+		preclude.set(false);
+		this.channel.removeInterceptor(0);
+		assertThat(this.channel.send(new GenericMessage<>("test"))).isTrue();
+		assertThat(invocations).containsExactly("preSend3", "postSend2", "completion4", "completion3");
+	}
+
 	@Test
 	public void testPreReceiveInterceptorReturnsTrue() {
 		PreReceiveReturnsTrueInterceptor interceptor = new PreReceiveReturnsTrueInterceptor();
@@ -19,13 +19,16 @@ package org.springframework.integration.channel.reactive;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
 import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -45,6 +48,7 @@ import org.springframework.integration.test.util.TestUtils;
 import org.springframework.integration.util.IntegrationReactiveUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.PollableChannel;
 import org.springframework.messaging.support.GenericMessage;
@@ -53,6 +57,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.awaitility.Awaitility.await;
 
 /**
@@ -168,6 +173,103 @@ public class FluxMessageChannelTests {
 		await().untilAsserted(() -> assertThat(upstreamSubscriptions.size()).isEqualTo(0));
 	}
 
+	@Test
+	void blockingSenderWaitsForDemand() {
+		FluxMessageChannel messageChannel = new FluxMessageChannel();
+		messageChannel.setBufferSize(2);
+		ManualSubscriber subscriber = new ManualSubscriber();
+		messageChannel.subscribe(subscriber);
+
+		int sent = 0;
+		while (messageChannel.send(new GenericMessage<>(sent), 100)) {
+			sent++;
+			assertThat(sent).isLessThan(10);
+		}
+
+		int expected = sent + 1;
+		subscriber.request(expected);
+
+		assertThat(messageChannel.send(new GenericMessage<>(sent), 10_000)).isTrue();
+		await().untilAsserted(() -> assertThat(subscriber.received).hasSize(expected));
+
+		subscriber.dispose();
+	}
+
+	@Test
+	void dropOverflowStrategyDoesNotBlock() {
+		FluxMessageChannel messageChannel = MessageChannels.flux()
+				.overflowStrategy(FluxMessageChannel.OverflowStrategy.DROP)
+				.getObject();
+		ManualSubscriber subscriber = new ManualSubscriber();
+		messageChannel.subscribe(subscriber);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(messageChannel.send(new GenericMessage<>(i), 0)).isTrue();
+		}
+
+		subscriber.request(10);
+
+		await().untilAsserted(() -> assertThat(subscriber.received).isNotEmpty());
+		assertThat(subscriber.received).hasSizeLessThan(10);
+		assertThat(subscriber.received.get(0).getPayload()).isEqualTo(0);
+
+		subscriber.dispose();
+	}
+
+	@Test
+	void errorOverflowStrategyFailsSend() {
+		FluxMessageChannel messageChannel = new FluxMessageChannel();
+		messageChannel.setOverflowStrategy(FluxMessageChannel.OverflowStrategy.ERROR);
+		ManualSubscriber subscriber = new ManualSubscriber();
+		messageChannel.subscribe(subscriber);
+
+		assertThatExceptionOfType(MessageDeliveryException.class)
+				.isThrownBy(() -> {
+					for (int i = 0; i < 10; i++) {
+						messageChannel.send(new GenericMessage<>(i));
+					}
+				})
+				.withMessageContaining("buffer is full");
+
+		subscriber.dispose();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void batchesAreDeliveredToSubscribers() {
+		FluxMessageChannel messageChannel = MessageChannels.flux()
+				.batch(3, Duration.ofMillis(100))
+				.getObject();
+
+		StepVerifier stepVerifier =
+				StepVerifier.create(Flux.from(messageChannel)
+								.map((message) -> ((List<Message<?>>) message.getPayload()).size()))
+						.expectNext(3, 3, 1)
+						.thenCancel()
+						.verifyLater();
+
+		for (int i = 0; i < 7; i++) {
+			messageChannel.send(new GenericMessage<>(i));
+		}
+
+		stepVerifier.verify(Duration.ofSeconds(10));
+	}
+
+	private static final class ManualSubscriber extends BaseSubscriber<Message<?>> {
+
+		private final List<Message<?>> received = new CopyOnWriteArrayList<>();
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+		}
+
+		@Override
+		protected void hookOnNext(Message<?> value) {
+			this.received.add(value);
+		}
+
+	}
+
 	@Configuration
 	@EnableIntegration
 	public static class TestConfiguration {
@@ -26,6 +26,7 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.integration.support.IdGenerators.JdkIdGenerator;
 import org.springframework.integration.support.IdGenerators.SimpleIncrementingIdGenerator;
+import org.springframework.integration.support.IdGenerators.TimeOrderedIdGenerator;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.util.IdGenerator;
@@ -214,6 +215,27 @@ public class IdGeneratorConfigurerTests {
 		}
 	}
 
+	@Test
+	public void testTimeOrdered() throws InterruptedException {
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+			context.registerBeanDefinition("bfpp",
+					new RootBeanDefinition(DefaultConfiguringBeanFactoryPostProcessor.class));
+			context.registerBeanDefinition("foo", new RootBeanDefinition(TimeOrderedIdGenerator.class));
+			context.refresh();
+			long before = System.currentTimeMillis();
+			UUID id1 = new MessageHeaders(null).getId();
+			Thread.sleep(2);
+			UUID id2 = new MessageHeaders(null).getId();
+			long after = System.currentTimeMillis();
+			assertThat(id1.version()).isEqualTo(7);
+			assertThat(id1.variant()).isEqualTo(2);
+			assertThat(id1.getMostSignificantBits() >>> 16).isBetween(before, after);
+			assertThat(id2.getMostSignificantBits() >>> 16).isBetween(before, after);
+			assertThat(id1.toString()).isLessThan(id2.toString());
+			assertThat(id1).isNotEqualTo(new TimeOrderedIdGenerator().generateId());
+		}
+	}
+
 	public static class MyIdGenerator implements IdGenerator {
 
 		@Override
@@ -28,6 +28,7 @@ import org.springframework.integration.support.context.NamedComponent;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.SerializationUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -128,6 +129,53 @@ public class MessageHistoryTests {
 		assertThat(history2.toString()).isEqualTo("testComponent-1,testComponent-2");
 	}
 
+	@Test
+	public void compactAccessorsAndListView() {
+		long now = System.currentTimeMillis();
+		Message<String> message = MessageHistory.write(new GenericMessage<>("foo"), new TestComponent(1));
+		for (int i = 2; i <= 20; i++) {
+			message = MessageHistory.write(message, new TestComponent(i));
+		}
+		MessageHistory history = MessageHistory.read(message);
+		assertThat(history).hasSize(20);
+		assertThat(history.getName(19)).isEqualTo("testComponent-20");
+		assertThat(history.getType(19)).isEqualTo("type-20");
+		assertThat(history.getTimestamp(19)).isGreaterThanOrEqualTo(now);
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> history.getName(20));
+
+		Properties entry = history.get(0);
+		assertThat(entry).isInstanceOf(MessageHistory.Entry.class);
+		assertThat(entry.getProperty(MessageHistory.NAME_PROPERTY)).isEqualTo("testComponent-1");
+		assertThat(entry.getProperty(MessageHistory.TYPE_PROPERTY)).isEqualTo("type-1");
+		assertThat(entry.getProperty(MessageHistory.TIMESTAMP_PROPERTY))
+				.isEqualTo(Long.toString(history.getTimestamp(0)));
+		assertThat(history.get(0)).isSameAs(entry);
+		assertThat(history.iterator().next()).isSameAs(entry);
+		assertThat(history.indexOf(entry)).isEqualTo(0);
+	}
+
+	@Test
+	public void cloneAndSerializationPreserveHistory() {
+		Message<String> message = MessageHistory.write(new GenericMessage<>("foo"), new TestComponent(1));
+		message = MessageHistory.write(message, new TestComponent(2));
+		MessageHistory history = MessageHistory.read(message);
+
+		MessageHistory clone = (MessageHistory) history.clone();
+		assertThat(clone).isEqualTo(history);
+		assertThat(clone.hashCode()).isEqualTo(history.hashCode());
+
+		MessageHistory deserialized = SerializationUtils.clone(history);
+		assertThat(deserialized).isEqualTo(history);
+		assertThat(deserialized.toString()).isEqualTo("testComponent-1,testComponent-2");
+		assertThat(deserialized.getTimestamp(1)).isEqualTo(history.getTimestamp(1));
+
+		MessageHistory.write(message, new TestComponent(3));
+		assertThat(history).hasSize(3);
+		assertThat(clone).hasSize(2);
+		assertThat(deserialized).hasSize(2);
+	}
+
 	private record TestComponent(int id) implements NamedComponent {
 
 		@Override
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.endpoint;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
@@ -25,10 +27,13 @@ import org.mockito.Mockito;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.MessageRejectedException;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.handler.BatchMessageHandler;
 import org.springframework.integration.support.MessagingExceptionWrapper;
 import org.springframework.integration.test.util.OnlyOnceTrigger;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.PollableChannel;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -114,6 +119,88 @@ public class PollingConsumerEndpointTests {
 		assertThat(this.consumer.counter.get()).isEqualTo(5);
 	}
 
+	@Test
+	public void batchReceiveIsHandedToBatchMessageHandler() {
+		QueueChannel queueChannel = new QueueChannel();
+		for (int i = 0; i < 5; i++) {
+			queueChannel.send(this.message);
+		}
+		List<List<Message<?>>> batches = new CopyOnWriteArrayList<>();
+		BatchMessageHandler batchHandler = new BatchMessageHandler() {
+
+			@Override
+			public void handleMessages(List<Message<?>> messages) {
+				batches.add(messages);
+			}
+
+			@Override
+			public void handleMessage(Message<?> message) {
+				throw new IllegalStateException("Batch is expected");
+			}
+
+		};
+		PollingConsumer batchEndpoint = new PollingConsumer(queueChannel, batchHandler);
+		batchEndpoint.setErrorHandler(this.errorHandler);
+		batchEndpoint.setTaskScheduler(this.taskScheduler);
+		batchEndpoint.setTrigger(this.trigger);
+		batchEndpoint.setBeanFactory(mock(BeanFactory.class));
+		batchEndpoint.setReceiveTimeout(0);
+		batchEndpoint.setReceiveBatchSize(3);
+		batchEndpoint.setMaxMessagesPerPoll(5);
+		batchEndpoint.afterPropertiesSet();
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(batches).hasSize(2);
+		assertThat(batches.get(0)).hasSize(3);
+		assertThat(batches.get(1)).hasSize(2);
+		assertThat(queueChannel.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	public void batchReceiveFallsBackToPerMessageHandling() {
+		QueueChannel queueChannel = new QueueChannel();
+		for (int i = 0; i < 5; i++) {
+			queueChannel.send(this.message);
+		}
+		PollingConsumer batchEndpoint = new PollingConsumer(queueChannel, this.consumer);
+		batchEndpoint.setErrorHandler(this.errorHandler);
+		batchEndpoint.setTaskScheduler(this.taskScheduler);
+		batchEndpoint.setTrigger(this.trigger);
+		batchEndpoint.setBeanFactory(mock(BeanFactory.class));
+		batchEndpoint.setReceiveTimeout(0);
+		batchEndpoint.setReceiveBatchSize(10);
+		batchEndpoint.afterPropertiesSet();
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(this.consumer.counter.get()).isEqualTo(5);
+	}
+
+	@Test
+	public void batchReceiveFailureIsHandledPerMessage() {
+		QueueChannel queueChannel = new QueueChannel();
+		queueChannel.send(this.message);
+		queueChannel.send(this.badMessage);
+		queueChannel.send(this.message);
+		List<Throwable> errors = new CopyOnWriteArrayList<>();
+		PollingConsumer batchEndpoint = new PollingConsumer(queueChannel, this.consumer);
+		batchEndpoint.setErrorHandler(errors::add);
+		batchEndpoint.setTaskScheduler(this.taskScheduler);
+		batchEndpoint.setTrigger(this.trigger);
+		batchEndpoint.setBeanFactory(mock(BeanFactory.class));
+		batchEndpoint.setReceiveTimeout(0);
+		batchEndpoint.setReceiveBatchSize(10);
+		batchEndpoint.afterPropertiesSet();
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(this.consumer.counter.get()).isEqualTo(3);
+		assertThat(errors).singleElement()
+				.isInstanceOfSatisfying(MessagingException.class,
+						(ex) -> assertThat(ex.getFailedMessage()).isSameAs(this.badMessage));
+	}
+
 	@Test
 	public void heavierLoadTest() {
 		for (int i = 0; i < 1000; i++) {
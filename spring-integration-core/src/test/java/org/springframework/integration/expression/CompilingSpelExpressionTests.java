@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.expression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.filter.ExpressionEvaluatingSelector;
+import org.springframework.integration.filter.MessageFilter;
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @since 7.1
+ */
+public class CompilingSpelExpressionTests {
+
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	@Test
+	public void offModeIsRejected() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new CompilingSpelExpression(parse("payload"), SpelCompilerMode.OFF));
+	}
+
+	@Test
+	public void immediateModeCompilesAfterFirstEvaluation() {
+		CompilingSpelExpression expression =
+				new CompilingSpelExpression(parse("payload.toUpperCase()"), SpelCompilerMode.IMMEDIATE);
+		assertThat(expression.isCompiled()).isFalse();
+		assertThat(expression.getValue(new GenericMessage<>("foo"))).isEqualTo("FOO");
+		assertThat(expression.isCompiled()).isTrue();
+		assertThat(expression.getValue(new GenericMessage<>("bar"))).isEqualTo("BAR");
+		assertThat(expression.isFallenBack()).isFalse();
+	}
+
+	@Test
+	public void mixedModeCompilesAfterThreshold() {
+		CompilingSpelExpression expression =
+				new CompilingSpelExpression(parse("payload.toUpperCase()"), SpelCompilerMode.MIXED);
+		for (int i = 0; i < CompilingSpelExpression.MIXED_COMPILE_THRESHOLD - 1; i++) {
+			expression.getValue(new GenericMessage<>("foo"));
+		}
+		assertThat(expression.isCompiled()).isFalse();
+		expression.getValue(new GenericMessage<>("foo"));
+		assertThat(expression.isCompiled()).isTrue();
+	}
+
+	@Test
+	public void compiledFailureFallsBackAndIsCounted() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		CompilingSpelExpression expression =
+				new CompilingSpelExpression(parse("payload.name"), SpelCompilerMode.IMMEDIATE,
+						new MicrometerMetricsCaptor(meterRegistry), "testRouter");
+		assertThat(expression.getValue(new GenericMessage<>(new First("one")))).isEqualTo("one");
+		assertThat(expression.isCompiled()).isTrue();
+
+		assertThat(expression.getValue(new GenericMessage<>(new Second("two")))).isEqualTo("two");
+		assertThat(expression.isCompiled()).isFalse();
+		assertThat(expression.isFallenBack()).isTrue();
+		assertThat(expression.getValue(new GenericMessage<>(new First("three")))).isEqualTo("three");
+
+		assertThat(meterRegistry.get(CompilingSpelExpression.FALLBACKS_COUNTER_NAME)
+				.tag("name", "testRouter")
+				.counter()
+				.count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	public void fallbackIsCountedForEndpointWithRegisteredCaptor() {
+		ExpressionEvaluatingSelector selector = new ExpressionEvaluatingSelector("payload.name != null");
+		selector.setCompilerMode(SpelCompilerMode.IMMEDIATE);
+		MessageFilter filter = new MessageFilter(selector);
+		filter.setComponentName("testFilter");
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		filter.registerMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+
+		assertThat(selector.accept(new GenericMessage<>(new First("one")))).isTrue();
+		assertThat(selector.accept(new GenericMessage<>(new Second("two")))).isTrue();
+
+		assertThat(meterRegistry.get(CompilingSpelExpression.FALLBACKS_COUNTER_NAME)
+				.tag("name", "testFilter")
+				.counter()
+				.count())
+				.isEqualTo(1);
+	}
+
+	private static SpelExpression parse(String expression) {
+		return (SpelExpression) PARSER.parseExpression(expression);
+	}
+
+	public static class First {
+
+		private final String name;
+
+		First(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+	}
+
+	public static class Second {
+
+		private final String name;
+
+		Second(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+	}
+
+}
@@ -49,6 +49,7 @@ import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.FluxMessageChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.context.IntegrationProperties;
 import org.springframework.integration.endpoint.EventDrivenConsumer;
 import org.springframework.integration.handler.BridgeHandler;
 import org.springframework.integration.support.utils.IntegrationUtils;
@@ -129,6 +130,26 @@ public class GatewayProxyFactoryBeanTests implements TestApplicationContextAware
 		Mockito.verify(stringToByteConverter, Mockito.times(1)).convert(any(String.class));
 	}
 
+	@Test
+	public void testAsyncExecutorOnVirtualThreads() throws Exception {
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(message ->
+				((MessageChannel) message.getHeaders().getReplyChannel())
+						.send(new GenericMessage<>("" + Thread.currentThread().isVirtual())));
+		IntegrationProperties integrationProperties = new IntegrationProperties();
+		integrationProperties.setTaskExecutionVirtualThreads(true);
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		bf.registerSingleton(IntegrationContextUtils.INTEGRATION_GLOBAL_PROPERTIES_BEAN_NAME, integrationProperties);
+		bf.registerSingleton("taskScheduler", mock(TaskScheduler.class));
+		GatewayProxyFactoryBean<TestService> proxyFactory = new GatewayProxyFactoryBean<>(TestService.class);
+		proxyFactory.setBeanFactory(bf);
+		proxyFactory.setDefaultRequestChannel(requestChannel);
+		proxyFactory.setBeanName("testGateway");
+		proxyFactory.afterPropertiesSet();
+		TestService service = proxyFactory.getObject();
+		assertThat(service.completable("foo").get(10, TimeUnit.SECONDS)).isEqualTo("true");
+	}
+
 	@Test
 	public void testOneWay() {
 		final QueueChannel requestChannel = new QueueChannel();
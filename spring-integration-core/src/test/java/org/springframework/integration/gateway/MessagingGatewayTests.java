@@ -28,9 +28,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import org.springframework.integration.channel.CorrelatingReplyChannel;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.PublishSubscribeChannel;
 import org.springframework.integration.handler.ServiceActivatingHandler;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.integration.test.util.TestUtils.TestApplicationContext;
 import org.springframework.messaging.Message;
@@ -284,6 +286,22 @@ public class MessagingGatewayTests {
 		assertThat(myOneWayErrorService.errorReceived.await(10, TimeUnit.SECONDS)).isTrue();
 	}
 
+	@Test
+	public void sendAndReceiveWithCorrelatingReplyChannel() {
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(message ->
+				((MessageChannel) message.getHeaders().getReplyChannel())
+						.send(MessageBuilder.withPayload("bar").copyHeaders(message.getHeaders()).build()));
+		CorrelatingReplyChannel correlatingReplyChannel = new CorrelatingReplyChannel();
+		this.messagingGateway.setRequestChannel(requestChannel);
+		this.messagingGateway.setReplyChannel(null);
+		this.messagingGateway.setCorrelatingReplyChannel(correlatingReplyChannel);
+
+		assertThat(this.messagingGateway.sendAndReceive("foo")).isEqualTo("bar");
+		assertThat(this.messagingGateway.sendAndReceive("baz")).isEqualTo("bar");
+		assertThat(correlatingReplyChannel.getPendingReplyCount()).isEqualTo(0);
+	}
+
 	public static class MyErrorService {
 
 		public Message<?> handleErrorMessage(Message<?> errorMessage) {
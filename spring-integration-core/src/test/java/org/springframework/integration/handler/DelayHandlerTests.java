@@ -455,6 +455,45 @@ public class DelayHandlerTests implements TestApplicationContextAware {
 		assertThat(messageGroupStore.messageGroupSize(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0);
 	}
 
+	@Test
+	public void timingWheelReleasesAndReschedulesPersistedMessages() {
+		MessageGroupStore messageGroupStore = new SimpleMessageStore();
+		QueueChannel results = new QueueChannel();
+		this.delayHandler.setOutputChannel(results);
+		this.delayHandler.setDefaultDelay(100);
+		this.delayHandler.setMessageStore(messageGroupStore);
+		this.delayHandler.setTimingWheelTickDuration(Duration.ofMillis(10));
+		startDelayerHandler();
+		for (int i = 0; i < 100; i++) {
+			this.input.send(new GenericMessage<>(i));
+		}
+		for (int i = 0; i < 100; i++) {
+			assertThat(results.receive(10000)).isNotNull();
+		}
+		assertThat(messageGroupStore.messageGroupSize(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0);
+
+		this.delayHandler.setDefaultDelay(60_000);
+		this.input.send(new GenericMessage<>("foo"));
+		this.delayHandler.destroy();
+		assertThat(messageGroupStore.messageGroupSize(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(1);
+
+		// emulate restart
+		this.delayHandler = new DelayHandler(DELAYER_MESSAGE_GROUP_ID, this.taskScheduler);
+		this.delayHandler.setOutputChannel(results);
+		this.delayHandler.setDefaultDelay(200);
+		this.delayHandler.setMessageStore(messageGroupStore);
+		this.delayHandler.setTimingWheelTickDuration(Duration.ofMillis(10));
+		this.delayHandler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		startDelayerHandler();
+
+		Message<?> released = results.receive(10000);
+		assertThat(released).isNotNull();
+		assertThat(released.getPayload()).isEqualTo("foo");
+		assertThat(messageGroupStore.messageGroupSize(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0);
+		assertThat(TestUtils.<Object>getPropertyValue(this.delayHandler, "timingWheel.size")).hasToString("0");
+		this.delayHandler.destroy();
+	}
+
 	@Test //INT-1132
 	// Can happen in the parent-child context e.g. Spring-MVC applications
 	public void testDoubleOnApplicationEvent() {
@@ -27,11 +27,13 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.integration.context.IntegrationObjectSupport;
 import org.springframework.integration.core.MessageProducer;
+import org.springframework.integration.support.MessageBatch;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -157,6 +159,36 @@ public class MessageHandlerChainTests {
 		assertThatIllegalArgumentException().isThrownBy(chain::afterPropertiesSet);
 	}
 
+	@Test
+	public void chainSplitsMessageBatchForHandlers() {
+		List<Message<?>> received = new ArrayList<>();
+		ProducingHandlerStub itemHandler = new ProducingHandlerStub(received::add);
+		List<Message<?>> batchesReceived = new ArrayList<>();
+		BatchHandlerStub batchHandler = new BatchHandlerStub(batchesReceived::add);
+		MessageHandlerChain chain = new MessageHandlerChain();
+		chain.setBeanName("testChain");
+		chain.setHandlers(List.<MessageHandler>of(batchHandler, itemHandler));
+		chain.setSplitMessageBatches(true);
+		chain.setOutputChannel(outputChannel);
+		chain.setBeanFactory(mock(BeanFactory.class));
+
+		MessageBatch<String> batch = MessageBatch.<String>builder().add("a").add("b").build();
+		chain.handleMessage(MessageBuilder.withPayload(batch).setHeader("foo", "bar").build());
+
+		assertThat(batchesReceived).extracting(Message::getPayload).containsExactly(batch);
+		assertThat(received).extracting(Message::getPayload).containsExactly("a", "b");
+		assertThat(received.get(0).getHeaders()).containsEntry("foo", "bar");
+		Mockito.verify(outputChannel, Mockito.times(2)).send(Mockito.any(Message.class), eq(30000L));
+	}
+
+	private static class BatchHandlerStub extends ProducingHandlerStub implements MessageBatchHandler {
+
+		BatchHandlerStub(MessageHandler handler) {
+			super(handler);
+		}
+
+	}
+
 	private static class ProducingHandlerStub extends IntegrationObjectSupport
 			implements MessageHandler, MessageProducer {
 
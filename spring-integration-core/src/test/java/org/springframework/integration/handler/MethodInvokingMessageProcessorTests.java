@@ -907,6 +907,52 @@ public class MethodInvokingMessageProcessorTests implements TestApplicationConte
 
 	}
 
+	@Test
+	public void testDirectInvoker() {
+		class A {
+
+			@SuppressWarnings("unused")
+			public String myMethod(String payload, @Header("foo") int foo, Message<String> message) {
+				return payload + foo + message.getHeaders().containsKey("foo");
+			}
+
+		}
+
+		MethodInvokingMessageProcessor<?> processor = new MethodInvokingMessageProcessor<>(new A(), "myMethod");
+		processor.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		processor.setUseDirectInvoker(true);
+
+		assertThat(processor.processMessage(MessageBuilder.withPayload("bar").setHeader("foo", 1).build()))
+				.isEqualTo("bar1true");
+		assertThat(TestUtils.<Object>getPropertyValue(processor, "delegate.handlerMethod.directInvoker")).isNotNull();
+		assertThat(TestUtils.<Map<Class<?>, Boolean>>getPropertyValue(processor,
+				"delegate.handlerMethod.directInvoker.supportedPayloadTypes"))
+				.containsEntry(String.class, true);
+
+		// Falls back to the InvocableHandlerMethod for the header conversion
+		assertThat(processor.processMessage(MessageBuilder.withPayload("baz").setHeader("foo", "2").build()))
+				.isEqualTo("baz2true");
+	}
+
+	@Test
+	public void testDirectInvokerNotUsedForNonDefaultResolver() {
+		class A {
+
+			@SuppressWarnings("unused")
+			public String myMethod(@Payload("toUpperCase()") String payload) {
+				return payload;
+			}
+
+		}
+
+		MethodInvokingMessageProcessor<?> processor = new MethodInvokingMessageProcessor<>(new A(), "myMethod");
+		processor.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		processor.setUseDirectInvoker(true);
+
+		assertThat(processor.processMessage(new GenericMessage<>("bar"))).isEqualTo("BAR");
+		assertThat(TestUtils.<Object>getPropertyValue(processor, "delegate.handlerMethod.directInvoker")).isNull();
+	}
+
 	@Test
 	public void testProxyInvocation() {
 		final AtomicReference<Object> result = new AtomicReference<>();
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.mapping;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.util.ConcurrentLruCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 7.1
+ */
+public class HeaderNameMatcherTests {
+
+	@Test
+	public void matchesCompiledPatternKinds() {
+		HeaderNameMatcher matcher =
+				new HeaderNameMatcher(List.of("exact", "prefix*", "*suffix", "in*between", "a*b*c"), false);
+		assertThat(matcher.findMatchingPattern("exact")).isEqualTo("exact");
+		assertThat(matcher.findMatchingPattern("prefixFoo")).isEqualTo("prefix*");
+		assertThat(matcher.findMatchingPattern("fooSuffix")).isNull();
+		assertThat(matcher.findMatchingPattern("foosuffix")).isEqualTo("*suffix");
+		assertThat(matcher.findMatchingPattern("in-the-between")).isEqualTo("in*between");
+		assertThat(matcher.findMatchingPattern("a-b-c")).isEqualTo("a*b*c");
+		assertThat(matcher.matches("Exact")).isFalse();
+		assertThat(matcher.matches("other")).isFalse();
+	}
+
+	@Test
+	public void ignoreCaseMatchesAnyCase() {
+		HeaderNameMatcher matcher = new HeaderNameMatcher(List.of("Content-Type", "X-Custom*"), true);
+		assertThat(matcher.findMatchingPattern("content-type")).isEqualTo("Content-Type");
+		assertThat(matcher.findMatchingPattern("CONTENT-TYPE")).isEqualTo("Content-Type");
+		assertThat(matcher.findMatchingPattern("x-custom-header")).isEqualTo("X-Custom*");
+		assertThat(matcher.matches("accept")).isFalse();
+	}
+
+	@Test
+	public void matchAllPattern() {
+		HeaderNameMatcher matcher = new HeaderNameMatcher(List.of("foo", "*"), false);
+		assertThat(matcher.matches("anything")).isTrue();
+		assertThat(matcher.matches("")).isTrue();
+	}
+
+	@Test
+	public void decisionCacheIsBounded() {
+		HeaderNameMatcher matcher = new HeaderNameMatcher(List.of("foo*"), false, 2);
+		assertThat(matcher.matches("foo1")).isTrue();
+		assertThat(matcher.matches("bar")).isFalse();
+		assertThat(matcher.matches("foo2")).isTrue();
+		ConcurrentLruCache<String, ?> decisions = TestUtils.getPropertyValue(matcher, "decisions");
+		assertThat(decisions.size()).isEqualTo(2);
+		assertThat(decisions.contains("foo2")).isTrue();
+	}
+
+	@Test
+	public void noCacheWhenSizeIsZero() {
+		HeaderNameMatcher matcher = new HeaderNameMatcher(List.of("foo"), true, 0);
+		assertThat(matcher.matches("FOO")).isTrue();
+		ConcurrentLruCache<String, ?> decisions = TestUtils.getPropertyValue(matcher, "decisions");
+		assertThat(decisions.size()).isZero();
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.integration.test.util.TestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 7.1
+ */
+public class AppendOnlyFileMetadataStoreTests {
+
+	@TempDir
+	File folder;
+
+	@Test
+	public void entriesSurviveRestart() {
+		AppendOnlyFileMetadataStore metadataStore = createStore(10_000);
+		assertThat(metadataStore.putIfAbsent("foo", "baz")).isNull();
+		assertThat(metadataStore.putIfAbsent("foo", "qux")).isEqualTo("baz");
+		assertThat(metadataStore.replace("foo", "xxx", "bar")).isFalse();
+		assertThat(metadataStore.replace("foo", "baz", "bar")).isTrue();
+		metadataStore.put("removed", "value");
+		assertThat(metadataStore.remove("removed")).isEqualTo("value");
+		assertThat(metadataStore.remove("removed")).isNull();
+		metadataStore.close();
+
+		metadataStore = createStore(10_000);
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(metadataStore.get("removed")).isNull();
+		metadataStore.close();
+	}
+
+	@Test
+	public void incompleteTailIsDiscarded() throws Exception {
+		AppendOnlyFileMetadataStore metadataStore = createStore(10_000);
+		metadataStore.put("foo", "bar");
+		metadataStore.close();
+		Path journal = this.folder.toPath().resolve("test.journal");
+		long validSize = Files.size(journal);
+		Files.write(journal, new byte[] {0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+		metadataStore = createStore(10_000);
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(Files.size(journal)).isEqualTo(validSize);
+		metadataStore.put("baz", "qux");
+		metadataStore.close();
+
+		metadataStore = createStore(10_000);
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(metadataStore.get("baz")).isEqualTo("qux");
+		metadataStore.close();
+	}
+
+	@Test
+	public void journalIsCompacted() throws Exception {
+		AppendOnlyFileMetadataStore metadataStore = createStore(10);
+		metadataStore.put("other", "value");
+		for (int i = 0; i < 100; i++) {
+			metadataStore.put("foo", "bar" + i);
+		}
+		metadataStore.close();
+		Path journal = this.folder.toPath().resolve("test.journal");
+		long compactedSize = Files.size(journal);
+
+		metadataStore = createStore(10);
+		assertThat(metadataStore.get("foo")).isEqualTo("bar99");
+		assertThat(metadataStore.get("other")).isEqualTo("value");
+		metadataStore.compact();
+		assertThat(Files.size(journal)).isLessThanOrEqualTo(compactedSize);
+		metadataStore.close();
+
+		metadataStore = createStore(10);
+		assertThat(metadataStore.get("foo")).isEqualTo("bar99");
+		assertThat(metadataStore.get("other")).isEqualTo("value");
+		metadataStore.close();
+	}
+
+	@Test
+	public void compactionIsRelativeToCurrentEntries() {
+		AppendOnlyFileMetadataStore metadataStore = createStore(1);
+		for (int i = 0; i < 10; i++) {
+			metadataStore.put("key" + i, "value");
+		}
+		for (int i = 0; i < 9; i++) {
+			metadataStore.put("key0", "value" + i);
+		}
+		assertThat(TestUtils.<Long>getPropertyValue(metadataStore, "journalRecords")).isEqualTo(19L);
+		metadataStore.put("key0", "last");
+		assertThat(TestUtils.<Long>getPropertyValue(metadataStore, "journalRecords")).isEqualTo(10L);
+		metadataStore.close();
+
+		metadataStore = createStore(1);
+		assertThat(metadataStore.get("key0")).isEqualTo("last");
+		assertThat(metadataStore.get("key9")).isEqualTo("value");
+		metadataStore.close();
+	}
+
+	@Test
+	public void compactionFailureDoesNotFailModification() throws Exception {
+		// A directory in place of the compacted journal makes the compaction fail
+		Files.createDirectories(this.folder.toPath().resolve("test.journal.compact").resolve("blocker"));
+		AppendOnlyFileMetadataStore metadataStore = createStore(1);
+		for (int i = 0; i < 10; i++) {
+			metadataStore.put("foo", "bar" + i);
+		}
+		assertThat(metadataStore.get("foo")).isEqualTo("bar9");
+		metadataStore.close();
+
+		metadataStore = createStore(1);
+		assertThat(metadataStore.get("foo")).isEqualTo("bar9");
+		metadataStore.close();
+	}
+
+	private AppendOnlyFileMetadataStore createStore(int compactionThreshold) {
+		AppendOnlyFileMetadataStore metadataStore = new AppendOnlyFileMetadataStore();
+		metadataStore.setBaseDirectory(this.folder.getAbsolutePath());
+		metadataStore.setFileName("test.journal");
+		metadataStore.setCompactionThreshold(compactionThreshold);
+		metadataStore.setFsyncPolicy(AppendOnlyFileMetadataStore.FsyncPolicy.ALWAYS);
+		metadataStore.afterPropertiesSet();
+		return metadataStore;
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 7.1
+ */
+public class CachingMetadataStoreTests {
+
+	@Test
+	public void bulkOperationsDefaultToSingleKeyOperations() {
+		SimpleMetadataStore metadataStore = new SimpleMetadataStore();
+		metadataStore.putAll(Map.of("foo", "bar", "baz", "qux"));
+		assertThat(metadataStore.getAll(List.of("foo", "baz", "missing")))
+				.containsExactlyInAnyOrderEntriesOf(Map.of("foo", "bar", "baz", "qux"));
+		assertThat(metadataStore.putIfAbsentAll(Map.of("foo", "xxx", "new", "value")))
+				.containsExactlyInAnyOrderEntriesOf(Map.of("foo", "bar"));
+		assertThat(metadataStore.get("new")).isEqualTo("value");
+	}
+
+	@Test
+	public void writeBehindUntilThreshold() {
+		SimpleMetadataStore delegate = new SimpleMetadataStore();
+		delegate.put("removed", "value");
+		CachingMetadataStore metadataStore = new CachingMetadataStore(delegate);
+		metadataStore.setMaxPendingWrites(3);
+
+		metadataStore.put("foo", "bar");
+		assertThat(metadataStore.remove("removed")).isEqualTo("value");
+		assertThat(delegate.get("foo")).isNull();
+		assertThat(delegate.get("removed")).isEqualTo("value");
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(metadataStore.get("removed")).isNull();
+
+		metadataStore.put("baz", "qux");
+		assertThat(delegate.get("foo")).isEqualTo("bar");
+		assertThat(delegate.get("baz")).isEqualTo("qux");
+		assertThat(delegate.get("removed")).isNull();
+
+		metadataStore.put("pending", "value");
+		assertThat(delegate.get("pending")).isNull();
+		metadataStore.destroy();
+		assertThat(delegate.get("pending")).isEqualTo("value");
+	}
+
+	@Test
+	public void atomicOperationsSeePendingWrites() {
+		SimpleMetadataStore delegate = new SimpleMetadataStore();
+		CachingMetadataStore metadataStore = new CachingMetadataStore(delegate);
+		metadataStore.setMaxPendingWrites(100);
+
+		metadataStore.put("foo", "bar");
+		assertThat(metadataStore.putIfAbsent("foo", "baz")).isEqualTo("bar");
+		assertThat(metadataStore.replace("foo", "bar", "baz")).isTrue();
+		assertThat(delegate.get("foo")).isEqualTo("baz");
+		assertThat(metadataStore.putIfAbsentAll(Map.of("foo", "xxx", "new", "value")))
+				.containsExactlyInAnyOrderEntriesOf(Map.of("foo", "baz"));
+		assertThat(delegate.get("new")).isEqualTo("value");
+	}
+
+	@Test
+	public void readsAreServedFromCache() {
+		SimpleMetadataStore delegate = new SimpleMetadataStore();
+		delegate.put("foo", "bar");
+		CachingMetadataStore metadataStore = new CachingMetadataStore(delegate);
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		delegate.put("foo", "stale");
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(metadataStore.putIfAbsent("foo", "baz")).isEqualTo("bar");
+
+		metadataStore.setCacheSize(1);
+		delegate.put("baz", "qux");
+		assertThat(metadataStore.getAll(List.of("baz"))).containsEntry("baz", "qux");
+		assertThat(metadataStore.get("foo")).isEqualTo("stale");
+	}
+
+	@Test
+	public void valueLoadedConcurrentlyWithWriteIsNotCached() {
+		AtomicReference<CachingMetadataStore> cachingStore = new AtomicReference<>();
+		SimpleMetadataStore delegate = new SimpleMetadataStore() {
+
+			@Override
+			public String get(String key) {
+				String value = super.get(key);
+				CachingMetadataStore metadataStore = cachingStore.getAndSet(null);
+				if (metadataStore != null) {
+					metadataStore.put(key, "new");
+				}
+				return value;
+			}
+
+		};
+		delegate.put("foo", "old");
+		CachingMetadataStore metadataStore = new CachingMetadataStore(delegate);
+		cachingStore.set(metadataStore);
+		assertThat(metadataStore.get("foo")).isEqualTo("old");
+		assertThat(metadataStore.get("foo")).isEqualTo("new");
+	}
+
+	@Test
+	public void removeReturnsPendingWriteEvictedFromCache() {
+		SimpleMetadataStore delegate = new SimpleMetadataStore();
+		delegate.put("foo", "old");
+		CachingMetadataStore metadataStore = new CachingMetadataStore(delegate);
+		metadataStore.setMaxPendingWrites(100);
+		metadataStore.setCacheSize(1);
+
+		metadataStore.put("foo", "new");
+		metadataStore.put("bar", "baz");
+		assertThat(metadataStore.remove("foo")).isEqualTo("new");
+	}
+
+	@Test
+	public void closeFlushesAndClosesTargetStore() throws IOException {
+		AtomicBoolean closed = new AtomicBoolean();
+		class CloseableMetadataStore extends SimpleMetadataStore implements Closeable {
+
+			@Override
+			public void close() {
+				closed.set(true);
+			}
+
+		}
+		CloseableMetadataStore delegate = new CloseableMetadataStore();
+		CachingMetadataStore metadataStore = new CachingMetadataStore(delegate);
+		metadataStore.setMaxPendingWrites(100);
+		metadataStore.put("foo", "bar");
+
+		metadataStore.close();
+		assertThat(delegate.get("foo")).isEqualTo("bar");
+		assertThat(closed).isTrue();
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.selector;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.handler.MessageProcessor;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 7.1
+ */
+public class BloomFilterMessageSelectorTests {
+
+	private static final MessageProcessor<String> KEY_STRATEGY = message -> (String) message.getPayload();
+
+	@Test
+	public void duplicatesAreRejected() {
+		BloomFilterMessageSelector selector = new BloomFilterMessageSelector(KEY_STRATEGY);
+		selector.setExpectedInsertions(1000);
+		selector.setFalsePositiveProbability(1.0e-9);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(selector.accept(new GenericMessage<>("key" + i))).isTrue();
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertThat(selector.accept(new GenericMessage<>("key" + i))).isFalse();
+		}
+	}
+
+	@Test
+	public void keysExpireAfterTwoRetentionPeriods() {
+		BloomFilterMessageSelector selector = new BloomFilterMessageSelector(KEY_STRATEGY);
+		selector.setRetention(Duration.ofMinutes(1));
+		Instant start = Instant.now();
+		selector.setClock(Clock.fixed(start, ZoneOffset.UTC));
+		assertThat(selector.accept(new GenericMessage<>("foo"))).isTrue();
+
+		selector.setClock(Clock.fixed(start.plusSeconds(90), ZoneOffset.UTC));
+		assertThat(selector.accept(new GenericMessage<>("foo"))).isFalse();
+		assertThat(selector.accept(new GenericMessage<>("bar"))).isTrue();
+
+		selector.setClock(Clock.fixed(start.plusSeconds(150), ZoneOffset.UTC));
+		assertThat(selector.accept(new GenericMessage<>("foo"))).isTrue();
+		assertThat(selector.accept(new GenericMessage<>("bar"))).isFalse();
+	}
+
+	@Test
+	public void probableDuplicatesAreCheckedInStore() {
+		SimpleMetadataStore store = new SimpleMetadataStore();
+		BloomFilterMessageSelector selector =
+				new BloomFilterMessageSelector(KEY_STRATEGY, message -> "processed", store);
+		// An undersized filter to produce many false positives
+		selector.setExpectedInsertions(10);
+		selector.setFalsePositiveProbability(0.5);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(selector.accept(new GenericMessage<>("key" + i))).isTrue();
+		}
+		assertThat(store.get("key999")).isEqualTo("processed");
+		for (int i = 0; i < 1000; i++) {
+			assertThat(selector.accept(new GenericMessage<>("key" + i))).isFalse();
+		}
+	}
+
+	@Test
+	public void duplicatesAreCheckedInStoreAfterRestartUntilKeysExpire() {
+		SimpleMetadataStore store = new SimpleMetadataStore();
+		Instant start = Instant.now();
+		BloomFilterMessageSelector selector = new BloomFilterMessageSelector(KEY_STRATEGY, store);
+		selector.setClock(Clock.fixed(start, ZoneOffset.UTC));
+		assertThat(selector.accept(new GenericMessage<>("foo"))).isTrue();
+
+		BloomFilterMessageSelector restarted = new BloomFilterMessageSelector(KEY_STRATEGY, store);
+		restarted.setRetention(Duration.ofMinutes(1));
+		restarted.setClock(Clock.fixed(start, ZoneOffset.UTC));
+		assertThat(restarted.accept(new GenericMessage<>("foo"))).isFalse();
+		assertThat(restarted.accept(new GenericMessage<>("bar"))).isTrue();
+
+		restarted.setClock(Clock.fixed(start.plusSeconds(90), ZoneOffset.UTC));
+		assertThat(restarted.accept(new GenericMessage<>("foo"))).isFalse();
+		assertThat(restarted.accept(new GenericMessage<>("bar"))).isFalse();
+
+		// The keys have expired from the warm filter and are not checked in the store any more
+		restarted.setClock(Clock.fixed(start.plusSeconds(300), ZoneOffset.UTC));
+		assertThat(restarted.accept(new GenericMessage<>("foo"))).isTrue();
+	}
+
+}
@@ -20,6 +20,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,7 @@ import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.FluxMessageChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.endpoint.EventDrivenConsumer;
+import org.springframework.integration.support.MessageBatch;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.GenericMessage;
@@ -229,4 +231,52 @@ class DefaultSplitterTests {
 		verifier.verify(Duration.ofSeconds(1));
 	}
 
+	@Test
+	void splitIntoMessageBatches() {
+		Message<List<String>> message = MessageBuilder.withPayload(List.of("a", "b", "c", "d", "e"))
+				.setHeader("foo", "bar")
+				.build();
+		QueueChannel replyChannel = new QueueChannel();
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setBatchSize(2);
+		splitter.setOutputChannel(replyChannel);
+		splitter.handleMessage(message);
+
+		List<Message<?>> replies = replyChannel.clear();
+		assertThat(replies).hasSize(3);
+		assertThat(replies)
+				.extracting(reply -> ((MessageBatch<?>) reply.getPayload()).getPayloads())
+				.containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+		assertThat(new IntegrationMessageHeaderAccessor(replies.get(2)).getSequenceNumber()).isEqualTo(3);
+		assertThat(new IntegrationMessageHeaderAccessor(replies.get(2)).getSequenceSize()).isEqualTo(3);
+		assertThat(replies.get(0).getHeaders().get("foo")).isEqualTo("bar");
+	}
+
+	@Test
+	void splitMessageBatchPayload() {
+		MessageBatch<String> batch = MessageBatch.<String>builder()
+				.header("shared", "batch")
+				.add("a", Map.of("own", 1))
+				.add("b")
+				.build();
+		Message<MessageBatch<String>> message = MessageBuilder.withPayload(batch)
+				.setHeader("foo", "bar")
+				.setHeader("shared", "request")
+				.build();
+		QueueChannel replyChannel = new QueueChannel();
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.handleMessage(message);
+
+		List<Message<?>> replies = replyChannel.clear();
+		assertThat(replies).extracting(Message::getPayload).containsExactly("a", "b");
+		Message<?> first = replies.get(0);
+		assertThat(first.getHeaders())
+				.containsEntry("own", 1)
+				.containsEntry("shared", "batch")
+				.containsEntry("foo", "bar");
+		assertThat(new IntegrationMessageHeaderAccessor(first).getSequenceSize()).isEqualTo(2);
+		assertThat(replies.get(1).getHeaders()).doesNotContainKey("own");
+	}
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * @since 7.1
+ */
+public class ShardedMessageGroupStoreTests {
+
+	@Test
+	public void groupsAreDistributedOverShards() {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore(5);
+		assertThat(store.getShardCount()).isEqualTo(8);
+
+		for (int i = 0; i < 1000; i++) {
+			store.addMessagesToGroup(i, new GenericMessage<>("foo" + i), new GenericMessage<>("bar" + i));
+		}
+
+		assertThat(store.getMessageGroupCount()).isEqualTo(1000);
+		assertThat(store.getMessageCountForAllMessageGroups()).isEqualTo(2000);
+		assertThat(store).hasSize(1000);
+		assertThat(store.getMessageGroup(42))
+				.isInstanceOf(SimpleMessageGroup.class)
+				.extracting(MessageGroup::size)
+				.isEqualTo(2);
+		assertThat(store.pollMessageFromGroup(42).getPayload()).isEqualTo("foo42");
+		assertThat(store.messageGroupSize(42)).isEqualTo(1);
+
+		store.removeMessageGroup(42);
+		assertThat(store.getMessageGroupCount()).isEqualTo(999);
+		assertThat(store.getMessageGroup(42).size()).isEqualTo(0);
+	}
+
+	@Test
+	public void groupCapacityIsEnforced() {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore(4, 2);
+		store.addMessagesToGroup("foo", new GenericMessage<>("foo"), new GenericMessage<>("bar"));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> store.addMessageToGroup("foo", new GenericMessage<>("baz")))
+				.withMessageContaining("out of capacity (2) for group 'foo'");
+
+		store.removeMessagesFromGroup("foo", store.getOneMessageFromGroup("foo"));
+		store.addMessageToGroup("foo", new GenericMessage<>("baz"));
+		assertThat(store.messageGroupSize("foo")).isEqualTo(2);
+	}
+
+	@Test
+	public void sequencesAreTrackedInGroup() {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore();
+		Message<?> message = MessageBuilder.withPayload("foo").setSequenceNumber(3).build();
+		store.addMessageToGroup("foo", message);
+
+		SimpleMessageGroup group = (SimpleMessageGroup) store.getMessageGroup("foo");
+		assertThat(group.containsSequence(3)).isTrue();
+
+		store.removeMessageFromGroupById("foo", message.getHeaders().getId());
+		assertThat(group.containsSequence(3)).isFalse();
+	}
+
+	@Test
+	public void shouldExpireOnlyDueGroups() throws InterruptedException {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore(2);
+		List<Object> expired = new ArrayList<>();
+		store.registerMessageGroupExpiryCallback((messageGroupStore, group) -> {
+			expired.add(group.getGroupId());
+			messageGroupStore.removeMessageGroup(group.getGroupId());
+		});
+
+		store.addMessageToGroup("old", new GenericMessage<>("foo"));
+		Thread.sleep(100);
+		store.addMessageToGroup("new", new GenericMessage<>("bar"));
+
+		assertThat(store.expireMessageGroups(50)).isEqualTo(1);
+		assertThat(expired).containsExactly("old");
+		assertThat(store.getMessageGroupCount()).isEqualTo(1);
+
+		assertThat(store.expireMessageGroups(-10000)).isEqualTo(1);
+		assertThat(expired).containsExactly("old", "new");
+		assertThat(store.getMessageGroupCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void shouldRequeueModifiedGroupsWhenTimeoutOnIdle() throws InterruptedException {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore(1);
+		store.setTimeoutOnIdle(true);
+		List<Object> expired = new ArrayList<>();
+		store.registerMessageGroupExpiryCallback((messageGroupStore, group) -> {
+			expired.add(group.getGroupId());
+			messageGroupStore.removeMessageGroup(group.getGroupId());
+		});
+
+		store.addMessageToGroup("idle", new GenericMessage<>("foo"));
+		Thread.sleep(100);
+		store.addMessageToGroup("idle", new GenericMessage<>("bar"));
+
+		assertThat(store.expireMessageGroups(50)).isEqualTo(0);
+		assertThat(expired).isEmpty();
+
+		assertThat(store.expireMessageGroups(-10000)).isEqualTo(1);
+		assertThat(expired).containsExactly("idle");
+	}
+
+	@Test
+	public void groupNotRemovedByCallbackIsExpiredAgain() {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore(1);
+		List<Object> expired = new ArrayList<>();
+		store.registerMessageGroupExpiryCallback((messageGroupStore, group) -> expired.add(group.getGroupId()));
+
+		store.addMessageToGroup("foo", new GenericMessage<>("foo"));
+
+		assertThat(store.expireMessageGroups(-10000)).isEqualTo(1);
+		assertThat(store.expireMessageGroups(-10000)).isEqualTo(1);
+		assertThat(expired).containsExactly("foo", "foo");
+	}
+
+	@Test
+	public void expiryQueueEntryIsRemovedWithGroup() {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore(1);
+		for (int i = 0; i < 100; i++) {
+			store.addMessageToGroup(i, new GenericMessage<>("foo"));
+			store.removeMessageGroup(i);
+		}
+		store.addMessageToGroup("bar", new GenericMessage<>("bar"));
+
+		Object[] shards = TestUtils.getPropertyValue(store, "shards");
+		Map<?, ?> queuedEntries = TestUtils.getPropertyValue(shards[0], "queuedEntries");
+		assertThat(queuedEntries).containsOnlyKeys("bar");
+		assertThat(TestUtils.<Collection<?>>getPropertyValue(shards[0], "expiryQueue")).hasSize(1);
+	}
+
+	@Test
+	public void requeuedOlderGroupIsExpiredOnNextPass() throws InterruptedException {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore(1);
+		List<Object> expired = new ArrayList<>();
+		store.registerMessageGroupExpiryCallback((messageGroupStore, group) -> expired.add(group.getGroupId()));
+
+		store.addMessageToGroup("old", new GenericMessage<>("foo"));
+		Thread.sleep(100);
+		store.addMessageToGroup("new", new GenericMessage<>("bar"));
+
+		// The 'old' group is not removed by the callback and re-queued behind the 'new' one
+		assertThat(store.expireMessageGroups(50)).isEqualTo(1);
+		assertThat(store.expireMessageGroups(50)).isEqualTo(1);
+		assertThat(expired).containsExactly("old", "old");
+	}
+
+	@Test
+	public void lockRegistryIsSizedToShardCount() {
+		ShardedMessageGroupStore store = new ShardedMessageGroupStore(1024);
+		DefaultLockRegistry lockRegistry = TestUtils.getPropertyValue(store, "lockRegistry");
+		assertThat(TestUtils.<Integer>getPropertyValue(lockRegistry, "mask")).isEqualTo(1023);
+	}
+
+}
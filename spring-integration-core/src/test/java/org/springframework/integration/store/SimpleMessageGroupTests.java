@@ -89,6 +89,31 @@ public class SimpleMessageGroupTests {
 		assertThat(grp.getMessages().size()).isEqualTo(2);
 	}
 
+	@Test
+	public void shouldTrackSequenceNumbers() {
+		List<Message<?>> messages = new ArrayList<>();
+		for (int i = 1; i <= 1000; i++) {
+			messages.add(MessageBuilder.withPayload("test").setSequenceNumber(i).build());
+		}
+		messages.add(MessageBuilder.withPayload("test").setSequenceNumber(Integer.MIN_VALUE).build());
+		messages.add(MessageBuilder.withPayload("test").setSequenceNumber(-1).build());
+		messages.forEach(this.group::add);
+		assertThat(this.group.containsSequence(0)).isFalse();
+		assertThat(this.group.containsSequence(Integer.MIN_VALUE)).isTrue();
+		assertThat(this.group.containsSequence(-1)).isTrue();
+
+		for (int i = 0; i < 1000; i += 2) {
+			this.group.remove(messages.get(i));
+		}
+		for (int i = 1; i <= 1000; i++) {
+			assertThat(this.group.containsSequence(i)).isEqualTo(i % 2 == 0);
+		}
+
+		this.group.clear();
+		assertThat(this.group.containsSequence(2)).isFalse();
+		assertThat(this.group.containsSequence(Integer.MIN_VALUE)).isFalse();
+	}
+
 	@Test
 	// This test used to take 2 min and half to run; now ~200 milliseconds.
 	public void testPerformance() {
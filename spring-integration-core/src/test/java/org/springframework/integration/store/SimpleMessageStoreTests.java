@@ -261,6 +261,65 @@ public class SimpleMessageStoreTests {
 
 	}
 
+	@Test
+	public void shouldExpireOnlyDueGroupsFromIndex() throws InterruptedException {
+		SimpleMessageStore store = new SimpleMessageStore();
+		List<Object> expired = new ArrayList<>();
+		store.registerMessageGroupExpiryCallback((messageGroupStore, group) -> {
+			expired.add(group.getGroupId());
+			messageGroupStore.removeMessageGroup(group.getGroupId());
+		});
+
+		store.addMessageToGroup("old", new GenericMessage<>("foo"));
+		Thread.sleep(100);
+		store.addMessageToGroup("new", new GenericMessage<>("bar"));
+
+		assertThat(store.expireMessageGroups(50)).isEqualTo(1);
+		assertThat(expired).containsExactly("old");
+		assertThat(store.getMessageGroupCount()).isEqualTo(1);
+
+		assertThat(store.expireMessageGroups(-10000)).isEqualTo(1);
+		assertThat(expired).containsExactly("old", "new");
+		assertThat(((Collection<?>) ReflectionTestUtils.getField(store, "expiryIndex"))).isEmpty();
+	}
+
+	@Test
+	public void shouldReindexModifiedGroupsWhenTimeoutOnIdle() throws InterruptedException {
+		SimpleMessageStore store = new SimpleMessageStore();
+		store.setTimeoutOnIdle(true);
+		List<Object> expired = new ArrayList<>();
+		store.registerMessageGroupExpiryCallback((messageGroupStore, group) -> {
+			expired.add(group.getGroupId());
+			messageGroupStore.removeMessageGroup(group.getGroupId());
+		});
+
+		store.addMessageToGroup("idle", new GenericMessage<>("foo"));
+		Thread.sleep(100);
+		store.addMessageToGroup("idle", new GenericMessage<>("bar"));
+
+		assertThat(store.expireMessageGroups(50)).isEqualTo(0);
+		assertThat(expired).isEmpty();
+		assertThat(((Collection<?>) ReflectionTestUtils.getField(store, "expiryIndex"))).hasSize(1);
+
+		assertThat(store.expireMessageGroups(-10000)).isEqualTo(1);
+		assertThat(expired).containsExactly("idle");
+	}
+
+	@Test
+	public void shouldExpireAllGroupsWithoutIndex() {
+		SimpleMessageStore store = new SimpleMessageStore();
+		store.setExpiryIndexEnabled(false);
+		store.registerMessageGroupExpiryCallback((messageGroupStore, group) ->
+				messageGroupStore.removeMessageGroup(group.getGroupId()));
+
+		store.addMessageToGroup("foo", new GenericMessage<>("foo"));
+		store.addMessageToGroup("bar", new GenericMessage<>("bar"));
+
+		assertThat(((Collection<?>) ReflectionTestUtils.getField(store, "expiryIndex"))).isEmpty();
+		assertThat(store.expireMessageGroups(-10000)).isEqualTo(2);
+		assertThat(store.getMessageGroupCount()).isEqualTo(0);
+	}
+
 	@Test
 	public void testAddAndRemoveMessagesFromMessageGroup() {
 		SimpleMessageStore messageStore = new SimpleMessageStore();
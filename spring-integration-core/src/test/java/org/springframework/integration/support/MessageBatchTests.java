@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.aggregator.MessageBatchAggregatingMessageGroupProcessor;
+import org.springframework.integration.store.SimpleMessageGroup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 7.1
+ */
+public class MessageBatchTests {
+
+	@Test
+	public void ofKeepsCommonHeadersShared() {
+		Message<String> message1 =
+				MessageBuilder.withPayload("a").setHeader("common", "x").setHeader("own", 1).build();
+		Message<String> message2 =
+				MessageBuilder.withPayload("b").setHeader("common", "x").setHeader("own", 2).build();
+
+		MessageBatch<String> batch = MessageBatch.of(List.of(message1, message2));
+
+		assertThat(batch.getHeaders()).containsOnly(Map.entry("common", "x"));
+		assertThat(batch.getPayloads()).containsExactly("a", "b");
+		assertThat(batch.getItems())
+				.extracting(MessageBatch.Item::headers)
+				.containsExactly(Map.of("own", 1), Map.of("own", 2));
+	}
+
+	@Test
+	public void ofFlattensNestedBatches() {
+		MessageBatch<String> nested = MessageBatch.<String>builder()
+				.header("shared", "nested")
+				.add("a")
+				.add("b", Map.of("own", 2))
+				.build();
+
+		MessageBatch<String> batch =
+				MessageBatch.of(List.of(new GenericMessage<>(nested), new GenericMessage<>("c")));
+
+		assertThat(batch.getPayloads()).containsExactly("a", "b", "c");
+		assertThat(batch.getItems().get(1).headers()).containsEntry("shared", "nested").containsEntry("own", 2);
+		assertThat(batch.getItems().get(2).headers()).doesNotContainKey("shared");
+	}
+
+	@Test
+	public void toMessagesAppliesItemHeadersOverSharedAndBaseHeaders() {
+		MessageBatch<String> batch = MessageBatch.<String>builder()
+				.header("header", "shared")
+				.header("other", "shared")
+				.add("a", Map.of("header", "item"))
+				.add("b")
+				.build();
+
+		Message<String> carrier = MessageBuilder.withPayload("ignored")
+				.setHeader("header", "base")
+				.setHeader("base", "base")
+				.build();
+
+		List<Message<String>> messages = batch.toMessages(carrier.getHeaders());
+
+		assertThat(messages).hasSize(2);
+		MessageHeaders headers1 = messages.get(0).getHeaders();
+		assertThat(headers1.get("header")).isEqualTo("item");
+		assertThat(headers1.get("other")).isEqualTo("shared");
+		assertThat(headers1.get("base")).isEqualTo("base");
+		assertThat(headers1.getId()).isNotEqualTo(carrier.getHeaders().getId());
+		assertThat(messages.get(1).getHeaders().get("header")).isEqualTo("shared");
+		assertThat(messages.get(1).getHeaders().getId()).isNotEqualTo(headers1.getId());
+	}
+
+	@Test
+	public void aggregatorReleasesGroupAsBatch() {
+		Message<String> message1 = MessageBuilder.withPayload("a")
+				.setHeader("common", "x")
+				.setHeader("own", 1)
+				.pushSequenceDetails("group", 1, 2)
+				.build();
+		Message<String> message2 = MessageBuilder.withPayload("b")
+				.setHeader("common", "x")
+				.setHeader("own", 2)
+				.pushSequenceDetails("group", 2, 2)
+				.build();
+
+		MessageBatchAggregatingMessageGroupProcessor processor = new MessageBatchAggregatingMessageGroupProcessor();
+		Object result = processor.processMessageGroup(new SimpleMessageGroup(List.of(message1, message2), "group"));
+
+		Message<?> output = ((AbstractIntegrationMessageBuilder<?>) result).build();
+		assertThat(output.getHeaders().get("common")).isEqualTo("x");
+		assertThat(output.getPayload()).isInstanceOf(MessageBatch.class);
+		MessageBatch<?> batch = (MessageBatch<?>) output.getPayload();
+		assertThat(batch.getPayloads()).containsExactly("a", "b");
+		assertThat(batch.getItems())
+				.extracting(MessageBatch.Item::headers)
+				.containsExactly(Map.of("own", 1), Map.of("own", 2));
+	}
+
+}
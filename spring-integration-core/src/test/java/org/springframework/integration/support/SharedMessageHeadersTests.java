@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.SerializationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @since 7.1
+ */
+public class SharedMessageHeadersTests {
+
+	private final DefaultMessageBuilderFactory messageBuilderFactory = sharingMessageBuilderFactory();
+
+	@Test
+	public void addAndRemoveHeadersShareTheRest() {
+		Message<String> original = messageWithHeaders(30);
+
+		Message<String> message =
+				this.messageBuilderFactory.fromMessage(original)
+						.setHeader("new", "value")
+						.setHeader("header0", "changed")
+						.removeHeader("header1")
+						.build();
+
+		MessageHeaders headers = message.getHeaders();
+		assertThat(headers).isInstanceOf(SharedMessageHeaders.class);
+		assertThat(headers.getId()).isNotNull().isNotEqualTo(original.getHeaders().getId());
+		assertThat(headers.getTimestamp()).isNotNull();
+		assertThat(headers.get("new")).isEqualTo("value");
+		assertThat(headers.get("header0")).isEqualTo("changed");
+		assertThat(headers.containsKey("header1")).isFalse();
+		assertThat(headers.get("header1")).isNull();
+		assertThat(headers.get("header2", String.class)).isEqualTo("value2");
+		assertThat(headers).hasSize(original.getHeaders().size());
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> headers.get("header2", Integer.class))
+				.withMessageContaining("Incorrect type specified for header 'header2'");
+
+		assertThat(original.getHeaders().get("header0")).isEqualTo("value0");
+		assertThat(original.getHeaders().get("header1")).isEqualTo("value1");
+	}
+
+	@Test
+	public void unmodifiedMessageIsReturnedAsIs() {
+		Message<String> original = messageWithHeaders(3);
+
+		assertThat(this.messageBuilderFactory.fromMessage(original).build()).isSameAs(original);
+		assertThat(this.messageBuilderFactory.fromMessage(original)
+				.setHeader("header0", "value0")
+				.setHeaderIfAbsent("header1", "other")
+				.build())
+				.isSameAs(original);
+		assertThat(this.messageBuilderFactory.fromMessage(original)
+				.removeHeader("header0")
+				.setHeader("header0", "value0")
+				.build())
+				.isSameAs(original);
+	}
+
+	@Test
+	public void longChainIsFlattened() {
+		Message<String> message = messageWithHeaders(10);
+		for (int i = 0; i < 50; i++) {
+			message = this.messageBuilderFactory.fromMessage(message)
+					.setHeader("hop", i)
+					.setHeader("hop" + i, i)
+					.build();
+		}
+
+		MessageHeaders headers = message.getHeaders();
+		assertThat(headers.get("hop")).isEqualTo(49);
+		assertThat(headers.get("hop0")).isEqualTo(0);
+		assertThat(headers.get("header9")).isEqualTo("value9");
+		assertThat(headers).hasSize(10 + 2 + 1 + 50);
+
+		Map<String, Object> copy = new HashMap<>(headers);
+		assertThat(copy).containsEntry("hop25", 25);
+		assertThat(headers.equals(new MutableMessageHeaders(copy))).isTrue();
+		assertThat(headers.hashCode()).isEqualTo(copy.hashCode());
+	}
+
+	@Test
+	public void sequenceDetailsAndBulkOperations() {
+		Message<String> original = messageWithHeaders(3);
+
+		Message<String> message =
+				this.messageBuilderFactory.fromMessage(original)
+						.pushSequenceDetails("outer", 1, 2)
+						.build();
+		message = this.messageBuilderFactory.fromMessage(message)
+				.pushSequenceDetails("inner", 1, 3)
+				.build();
+
+		IntegrationMessageHeaderAccessor headerAccessor = new IntegrationMessageHeaderAccessor(message);
+		assertThat(headerAccessor.getCorrelationId()).isEqualTo("inner");
+		assertThat(headerAccessor.getSequenceSize()).isEqualTo(3);
+
+		message = this.messageBuilderFactory.fromMessage(message)
+				.popSequenceDetails()
+				.build();
+
+		headerAccessor = new IntegrationMessageHeaderAccessor(message);
+		assertThat(headerAccessor.getCorrelationId()).isEqualTo("outer");
+		assertThat(headerAccessor.getSequenceSize()).isEqualTo(2);
+		assertThat(message.getHeaders()).doesNotContainKey(IntegrationMessageHeaderAccessor.SEQUENCE_DETAILS);
+
+		message = this.messageBuilderFactory.fromMessage(message)
+				.removeHeaders("header*")
+				.copyHeaders(Map.of("copied", true))
+				.build();
+
+		assertThat(message.getHeaders())
+				.containsEntry("copied", true)
+				.containsEntry(IntegrationMessageHeaderAccessor.CORRELATION_ID, "outer")
+				.doesNotContainKeys("header0", "header1", "header2");
+	}
+
+	@Test
+	public void readOnlyHeadersAreNotShared() {
+		this.messageBuilderFactory.setReadOnlyHeaders("header0");
+		Message<String> message = this.messageBuilderFactory.fromMessage(messageWithHeaders(3)).build();
+
+		assertThat(message.getHeaders()).doesNotContainKey("header0").containsKey("header1");
+	}
+
+	@Test
+	public void errorMessageIsBuiltForThrowable() {
+		Message<Throwable> original = new ErrorMessage(new RuntimeException("test"), Map.of("foo", "bar"));
+
+		Message<Throwable> message = this.messageBuilderFactory.fromMessage(original).setHeader("baz", "qux").build();
+
+		assertThat(message).isInstanceOf(ErrorMessage.class);
+		assertThat(message.getHeaders()).containsEntry("foo", "bar").containsEntry("baz", "qux");
+	}
+
+	@Test
+	public void serializedInFlattenedForm() {
+		Message<String> original = messageWithHeaders(3);
+		Message<String> message =
+				this.messageBuilderFactory.fromMessage(original)
+						.setHeader("notSerializable", new Object())
+						.removeHeader("header0")
+						.build();
+
+		MessageHeaders headers = SerializationUtils.clone(message.getHeaders());
+
+		assertThat(headers).isExactlyInstanceOf(MessageHeaders.class);
+		assertThat(headers.getId()).isEqualTo(message.getHeaders().getId());
+		assertThat(headers.getTimestamp()).isEqualTo(message.getHeaders().getTimestamp());
+		assertThat(headers)
+				.containsEntry("header1", "value1")
+				.doesNotContainKeys("header0", "notSerializable");
+	}
+
+	@Test
+	public void idIsGeneratedLazily() {
+		DefaultMessageBuilderFactory lazyIdMessageBuilderFactory = new DefaultMessageBuilderFactory();
+		lazyIdMessageBuilderFactory.setLazyId(true);
+		Message<String> message = lazyIdMessageBuilderFactory.withPayload("test").setHeader("foo", "bar").build();
+
+		MessageHeaders headers = message.getHeaders();
+		assertThat(TestUtils.<Object>getPropertyValue(headers, "generatedId")).isNull();
+		assertThat(headers.getTimestamp()).isNotNull();
+		assertThat(headers.containsKey(MessageHeaders.ID)).isTrue();
+
+		UUID id = headers.getId();
+		assertThat(id).isNotNull().isEqualTo(headers.getId());
+		assertThat(TestUtils.<Object>getPropertyValue(headers, "generatedId")).isSameAs(id);
+		assertThat(headers).containsEntry(MessageHeaders.ID, id).containsEntry("foo", "bar").hasSize(3);
+
+		Message<String> next = lazyIdMessageBuilderFactory.fromMessage(message).setHeader("baz", "qux").build();
+		assertThat(next.getHeaders().getId()).isNotNull().isNotEqualTo(id);
+		assertThat(next.getHeaders()).containsEntry("foo", "bar");
+	}
+
+	@Test
+	public void lazyIdSurvivesSerialization() {
+		DefaultMessageBuilderFactory lazyIdMessageBuilderFactory = sharingMessageBuilderFactory();
+		lazyIdMessageBuilderFactory.setLazyId(true);
+		Message<String> message = lazyIdMessageBuilderFactory.withPayload("test").setHeader("foo", "bar").build();
+		Message<String> next = lazyIdMessageBuilderFactory.fromMessage(message).setHeader("baz", "qux").build();
+
+		MessageHeaders headers = SerializationUtils.clone(next.getHeaders());
+
+		assertThat(headers).isExactlyInstanceOf(MessageHeaders.class);
+		assertThat(headers.getId()).isNotNull().isEqualTo(next.getHeaders().getId());
+		assertThat(headers.getTimestamp()).isEqualTo(next.getHeaders().getTimestamp());
+		assertThat(headers).containsEntry("foo", "bar").containsEntry("baz", "qux");
+	}
+
+	private static DefaultMessageBuilderFactory sharingMessageBuilderFactory() {
+		DefaultMessageBuilderFactory messageBuilderFactory = new DefaultMessageBuilderFactory();
+		messageBuilderFactory.setShareHeaders(true);
+		return messageBuilderFactory;
+	}
+
+	private static Message<String> messageWithHeaders(int count) {
+		Map<String, Object> headers = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			headers.put("header" + i, "value" + i);
+		}
+		return new GenericMessage<>("test", headers);
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.locks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @since 7.1
+ */
+public class StripedLockRegistryTests {
+
+	@Test
+	public void stripeCountIsPowerOfTwo() {
+		assertThat(new StripedLockRegistry().getStripeCount())
+				.isGreaterThanOrEqualTo(256)
+				.isEqualTo(Integer.highestOneBit(new StripedLockRegistry().getStripeCount()));
+		assertThat(new StripedLockRegistry(1).getStripeCount()).isEqualTo(1);
+		assertThat(new StripedLockRegistry(1000).getStripeCount()).isEqualTo(1024);
+		assertThat(new StripedLockRegistry(Integer.MAX_VALUE).getStripeCount()).isEqualTo(65536);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new StripedLockRegistry(0));
+	}
+
+	@Test
+	public void keysWithSameLowBitsAreSpreadOverStripes() throws Exception {
+		StripedLockRegistry registry = new StripedLockRegistry(256);
+		Lock lock = registry.obtain(0);
+		lock.lock();
+		try {
+			for (int i = 1; i < 16; i++) {
+				Lock otherLock = registry.obtain(i * 256);
+				assertThat(CompletableFuture.supplyAsync(() -> {
+							boolean locked = otherLock.tryLock();
+							if (locked) {
+								otherLock.unlock();
+							}
+							return locked;
+						})
+						.get(10, TimeUnit.SECONDS))
+						.isTrue();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		assertThat(registry.getContendedAcquisitions()).isEqualTo(0);
+	}
+
+	@Test
+	public void contentionAndCollisionsAreTracked() throws Exception {
+		StripedLockRegistry registry = new StripedLockRegistry(1);
+		Lock lock = registry.obtain("foo");
+		lock.lock();
+		try {
+			assertThat(CompletableFuture.supplyAsync(() -> registry.obtain("foo").tryLock())
+					.get(10, TimeUnit.SECONDS))
+					.isFalse();
+			assertThat(CompletableFuture.supplyAsync(() -> registry.obtain("bar").tryLock())
+					.get(10, TimeUnit.SECONDS))
+					.isFalse();
+			assertThat(lock.tryLock()).isTrue();
+			lock.unlock();
+		}
+		finally {
+			lock.unlock();
+		}
+
+		assertThat(registry.getContendedAcquisitions()).isEqualTo(2);
+		assertThat(registry.getCollisions()).isEqualTo(1);
+
+		lock.lock();
+		CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> {
+			Lock otherLock = registry.obtain("bar");
+			otherLock.lock();
+			otherLock.unlock();
+		});
+		await().until(() -> registry.getContendedAcquisitions() == 3);
+		Thread.sleep(10);
+		lock.unlock();
+		waiter.get(10, TimeUnit.SECONDS);
+
+		assertThat(registry.getContendedAcquisitions()).isEqualTo(3);
+		assertThat(registry.getCollisions()).isEqualTo(2);
+		assertThat(registry.getWaitTime(TimeUnit.MILLISECONDS)).isGreaterThan(0);
+	}
+
+	@Test
+	public void perKeyLocksAreIndependentAndEvicted() throws Exception {
+		StripedLockRegistry registry = new StripedLockRegistry(1);
+		registry.setPerKeyLocks(true);
+		Lock foo = registry.obtain("foo");
+		assertThat(registry.obtain("foo")).isSameAs(foo);
+
+		foo.lock();
+		try {
+			assertThat(CompletableFuture.supplyAsync(() -> {
+						Lock bar = registry.obtain("bar");
+						boolean locked = bar.tryLock();
+						bar.unlock();
+						return locked;
+					})
+					.get(10, TimeUnit.SECONDS))
+					.isTrue();
+			assertThat(CompletableFuture.supplyAsync(() -> registry.obtain("foo").tryLock())
+					.get(10, TimeUnit.SECONDS))
+					.isFalse();
+		}
+		finally {
+			foo.unlock();
+		}
+		assertThat(registry.getCollisions()).isEqualTo(0);
+
+		foo = null;
+		await().untilAsserted(() -> {
+			System.gc();
+			assertThat(registry.getKeyLockCount()).isEqualTo(0);
+		});
+	}
+
+	@Test
+	public void heldPerKeyLockIsNotEvicted() throws Exception {
+		StripedLockRegistry registry = new StripedLockRegistry();
+		registry.setPerKeyLocks(true);
+		registry.obtain("foo").lock();
+
+		System.gc();
+		assertThat(registry.getKeyLockCount()).isEqualTo(1);
+		assertThat(CompletableFuture.supplyAsync(() -> registry.obtain("foo").tryLock())
+				.get(10, TimeUnit.SECONDS))
+				.isFalse();
+
+		registry.obtain("foo").unlock();
+		assertThat(CompletableFuture.supplyAsync(() -> {
+					Lock lock = registry.obtain("foo");
+					boolean locked = lock.tryLock();
+					lock.unlock();
+					return locked;
+				})
+				.get(10, TimeUnit.SECONDS))
+				.isTrue();
+	}
+
+	@Test
+	public void gaugesAreRegistered() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		StripedLockRegistry registry = new StripedLockRegistry(16);
+		registry.setBeanName("testLockRegistry");
+		registry.registerMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+
+		registry.executeLocked("foo", () -> { });
+
+		assertThat(meterRegistry.get("spring.integration.lock.registry.locks")
+				.tag("name", "testLockRegistry")
+				.gauge()
+				.value())
+				.isEqualTo(16);
+		assertThat(meterRegistry.get("spring.integration.lock.registry.contended").gauge().value()).isEqualTo(0);
+		assertThat(meterRegistry.get("spring.integration.lock.registry.collisions").gauge().value()).isEqualTo(0);
+		assertThat(meterRegistry.get("spring.integration.lock.registry.wait.time").gauge().value()).isEqualTo(0);
+
+		registry.destroy();
+		assertThat(meterRegistry.find("spring.integration.lock.registry.locks").gauge()).isNull();
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @since 7.1
+ */
+public class HashedTimingWheelTests {
+
+	private final SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
+
+	private final BlockingQueue<List<String>> batches = new LinkedBlockingQueue<>();
+
+	@AfterEach
+	public void tearDown() {
+		this.taskScheduler.close();
+	}
+
+	@Test
+	public void itemsAreNotExpiredBeforeDeadline() throws InterruptedException {
+		HashedTimingWheel<String> wheel =
+				new HashedTimingWheel<>(this.taskScheduler, this.batches::add, Duration.ofMillis(10), 8);
+		wheel.start();
+		Instant deadline = Instant.now().plusMillis(200);
+		wheel.schedule("foo", deadline);
+		assertThat(wheel.size()).isEqualTo(1);
+
+		List<String> batch = this.batches.poll(10, TimeUnit.SECONDS);
+		assertThat(Instant.now()).isAfterOrEqualTo(deadline);
+		assertThat(batch).containsExactly("foo");
+		assertThat(wheel.size()).isEqualTo(0);
+		wheel.stop();
+	}
+
+	@Test
+	public void dueItemsAreExpiredInBatch() throws InterruptedException {
+		TaskScheduler manualTicks = mock();
+		HashedTimingWheel<String> wheel =
+				new HashedTimingWheel<>(manualTicks, this.batches::add, Duration.ofSeconds(1), 4);
+		Instant now = Instant.now();
+		wheel.schedule("foo", now.minusSeconds(10));
+		wheel.schedule("bar", now);
+		wheel.schedule("baz", now.plus(Duration.ofDays(1)));
+
+		wheel.tick();
+
+		assertThat(this.batches.poll(10, TimeUnit.SECONDS)).containsExactlyInAnyOrder("foo", "bar");
+		assertThat(wheel.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void manyItemsAreExpired() {
+		HashedTimingWheel<String> wheel =
+				new HashedTimingWheel<>(this.taskScheduler, this.batches::add, Duration.ofMillis(5), 16);
+		wheel.start();
+		Instant now = Instant.now();
+		for (int i = 0; i < 10_000; i++) {
+			wheel.schedule("item" + i, now.plusMillis(i % 300));
+		}
+		List<String> expired = new ArrayList<>();
+		await().untilAsserted(() -> {
+			this.batches.drainTo(expired);
+			assertThat(expired).hasSize(10_000);
+		});
+		assertThat(wheel.size()).isEqualTo(0);
+		assertThat(wheel.getWheelSize()).isEqualTo(16);
+		wheel.stop();
+	}
+
+	@Test
+	public void tickTaskIsOnlyScheduledWhenStartedAndBusy() throws InterruptedException {
+		HashedTimingWheel<String> wheel =
+				new HashedTimingWheel<>(this.taskScheduler, this.batches::add, Duration.ofMillis(5), 8);
+		wheel.schedule("foo", Instant.now());
+		assertThat(TestUtils.<Object>getPropertyValue(wheel, "tickFuture")).isNull();
+
+		wheel.start();
+		assertThat(this.batches.poll(10, TimeUnit.SECONDS)).containsExactly("foo");
+		await().untilAsserted(() -> assertThat(TestUtils.<Object>getPropertyValue(wheel, "tickFuture")).isNull());
+
+		wheel.schedule("bar", Instant.now());
+		assertThat(this.batches.poll(10, TimeUnit.SECONDS)).containsExactly("bar");
+
+		wheel.stop();
+		wheel.schedule("baz", Instant.now());
+		assertThat(TestUtils.<Object>getPropertyValue(wheel, "tickFuture")).isNull();
+		assertThat(wheel.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void cancelledItemsAreNotExpired() throws InterruptedException {
+		TaskScheduler manualTicks = mock();
+		HashedTimingWheel<String> wheel =
+				new HashedTimingWheel<>(manualTicks, this.batches::add, Duration.ofSeconds(1), 4);
+		Instant now = Instant.now();
+		HashedTimingWheel.Timeout<String> foo = wheel.schedule("foo", now);
+		wheel.schedule("bar", now);
+		assertThat(foo.cancel()).isTrue();
+		assertThat(foo.cancel()).isFalse();
+		assertThat(wheel.size()).isEqualTo(1);
+
+		wheel.tick();
+
+		assertThat(this.batches.poll(10, TimeUnit.SECONDS)).containsExactly("bar");
+		assertThat(wheel.size()).isEqualTo(0);
+	}
+
+}
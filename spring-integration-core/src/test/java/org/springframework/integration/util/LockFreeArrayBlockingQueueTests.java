@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @since 7.1
+ */
+class LockFreeArrayBlockingQueueTests {
+
+	@Test
+	void offerAndPollRespectCapacityAndOrder() {
+		LockFreeArrayBlockingQueue<Integer> queue = new LockFreeArrayBlockingQueue<>(3);
+		assertThat(queue.poll()).isNull();
+		assertThat(queue.isEmpty()).isTrue();
+		assertThat(queue.offer(1)).isTrue();
+		assertThat(queue.offer(2)).isTrue();
+		assertThat(queue.offer(3)).isTrue();
+		assertThat(queue.offer(4)).isFalse();
+		assertThat(queue.size()).isEqualTo(3);
+		assertThat(queue.remainingCapacity()).isEqualTo(0);
+		assertThat(queue.peek()).isEqualTo(1);
+		assertThat(queue).containsExactly(1, 2, 3);
+		assertThat(queue.poll()).isEqualTo(1);
+		assertThat(queue.offer(4)).isTrue();
+		List<Integer> drained = new ArrayList<>();
+		assertThat(queue.drainTo(drained)).isEqualTo(3);
+		assertThat(drained).containsExactly(2, 3, 4);
+		assertThat(queue.size()).isEqualTo(0);
+	}
+
+	@Test
+	void timedOperationsGiveUp() throws InterruptedException {
+		LockFreeArrayBlockingQueue<String> queue =
+				new LockFreeArrayBlockingQueue<>(1, IdleStrategy.parking(Duration.ofMillis(1)));
+		assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isNull();
+		queue.put("foo");
+		assertThat(queue.offer("bar", 10, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(queue.take()).isEqualTo("foo");
+	}
+
+	@Test
+	void removeIsNotSupported() {
+		LockFreeArrayBlockingQueue<String> queue = new LockFreeArrayBlockingQueue<>(2);
+		queue.offer("foo");
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> queue.remove("foo"));
+	}
+
+	@Test
+	void takeIsInterruptible() throws InterruptedException {
+		LockFreeArrayBlockingQueue<String> queue = new LockFreeArrayBlockingQueue<>(2, IdleStrategy.yielding());
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Thread consumer = new Thread(() -> {
+			try {
+				queue.take();
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+		});
+		consumer.start();
+		consumer.interrupt();
+		assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void multipleProducersAndConsumersDoNotLoseOrDuplicateElements() throws InterruptedException {
+		LockFreeArrayBlockingQueue<Integer> queue = new LockFreeArrayBlockingQueue<>(64);
+		int producers = 4;
+		int consumers = 4;
+		int perProducer = 10_000;
+		Set<Integer> received = ConcurrentHashMap.newKeySet();
+		CountDownLatch done = new CountDownLatch(producers * perProducer);
+		ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+		for (int p = 0; p < producers; p++) {
+			int base = p * perProducer;
+			executor.execute(() -> {
+				try {
+					for (int i = 0; i < perProducer; i++) {
+						queue.put(base + i);
+					}
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		for (int c = 0; c < consumers; c++) {
+			executor.execute(() -> {
+				try {
+					while (!Thread.currentThread().isInterrupted()) {
+						Integer element = queue.poll(100, TimeUnit.MILLISECONDS);
+						if (element != null) {
+							assertThat(received.add(element)).isTrue();
+							done.countDown();
+						}
+					}
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+		executor.shutdownNow();
+		assertThat(received).hasSize(producers * perProducer);
+		assertThat(queue.isEmpty()).isTrue();
+	}
+
+}
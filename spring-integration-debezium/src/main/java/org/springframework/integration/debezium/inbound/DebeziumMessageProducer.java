@@ -33,7 +33,6 @@ import io.debezium.engine.Header;
 import io.debezium.engine.format.SerializationFormat;
 import org.jspecify.annotations.Nullable;
 
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.integration.debezium.support.DebeziumHeaders;
 import org.springframework.integration.debezium.support.DefaultDebeziumHeaderMapper;
@@ -150,7 +149,7 @@ public class DebeziumMessageProducer extends MessageProducerSupport {
 		super.onInit();
 
 		if (this.taskExecutor == null) {
-			this.taskExecutor = new SimpleAsyncTaskExecutor(getComponentName() + "-thread-");
+			this.taskExecutor = createDefaultTaskExecutor(getComponentName() + "-thread-");
 		}
 
 		if (!this.enableBatch) {
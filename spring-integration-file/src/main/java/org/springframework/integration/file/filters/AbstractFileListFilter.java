@@ -37,8 +37,16 @@ import org.jspecify.annotations.Nullable;
  */
 public abstract class AbstractFileListFilter<F> implements FileListFilter<F> {
 
+	/**
+	 * Filter the files one by one with the {@link #accept(Object)}.
+	 * Not {@code final} since version 7.1, so subclasses can check all the files at once
+	 * (e.g. against a store); such an implementation must be consistent with the
+	 * {@link #accept(Object)} used for single file filtering.
+	 * @param files the files to filter.
+	 * @return the accepted files.
+	 */
 	@Override
-	public final List<F> filterFiles(F @Nullable [] files) {
+	public List<F> filterFiles(F @Nullable [] files) {
 		if (files != null) {
 			List<F> accepted = new ArrayList<>(files.length);
 			for (F file : files) {
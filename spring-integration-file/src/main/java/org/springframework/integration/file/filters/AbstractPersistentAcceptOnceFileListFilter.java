@@ -19,7 +19,13 @@ package org.springframework.integration.file.filters;
 import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
@@ -74,6 +80,52 @@ public abstract class AbstractPersistentAcceptOnceFileListFilter<F> extends Abst
 		this.flushOnUpdate = flushOnUpdate;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>The files are checked against the store in bulk with
+	 * {@link ConcurrentMetadataStore#putIfAbsentAll(Map)}, and the store is flushed (if needed) once.
+	 */
+	@Override
+	public List<F> filterFiles(F @Nullable [] files) {
+		if (files == null) {
+			return Collections.emptyList();
+		}
+		Map<String, String> newValues = new LinkedHashMap<>();
+		for (F file : files) {
+			if (!alwaysAccept(file)) {
+				newValues.putIfAbsent(buildKey(file), value(file));
+			}
+		}
+		Map<String, String> oldValues = this.store.putIfAbsentAll(newValues);
+		List<F> accepted = new ArrayList<>(files.length);
+		Set<String> processedKeys = new HashSet<>();
+		boolean updated = false;
+		for (F file : files) {
+			if (alwaysAccept(file)) {
+				accepted.add(file);
+				continue;
+			}
+			String key = buildKey(file);
+			if (!processedKeys.add(key)) {
+				// the same file is in the list again
+				continue;
+			}
+			String oldValue = oldValues.get(key);
+			boolean stored =
+					oldValue == null || (!isEqual(file, oldValue) && this.store.replace(key, oldValue, value(file)));
+			if (stored) {
+				updated = true;
+				if (fileStillExists(file)) {
+					accepted.add(file);
+				}
+			}
+		}
+		if (updated) {
+			flushIfNeeded();
+		}
+		return accepted;
+	}
+
 	@Override
 	public boolean accept(F file) {
 		if (alwaysAccept(file)) {
@@ -60,7 +60,7 @@ public abstract class FileTailingMessageProducerSupport extends MessageProducerS
 	@SuppressWarnings("NullAway.Init")
 	private ApplicationEventPublisher eventPublisher;
 
-	private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+	private @Nullable TaskExecutor taskExecutor;
 
 	private long tailAttemptsDelay = DEFAULT_TAIL_ATTEMPTS_DELAY;
 
@@ -90,7 +90,9 @@ public abstract class FileTailingMessageProducerSupport extends MessageProducerS
 	}
 
 	/**
-	 * A task executor; default is a {@link SimpleAsyncTaskExecutor}.
+	 * A task executor; default is a {@link SimpleAsyncTaskExecutor}
+	 * (with virtual threads if the {@code spring.integration.taskExecution.virtualThreads}
+	 * global property is enabled).
 	 * @param taskExecutor The task executor.
 	 */
 	public void setTaskExecutor(TaskExecutor taskExecutor) {
@@ -123,7 +125,13 @@ public abstract class FileTailingMessageProducerSupport extends MessageProducerS
 	}
 
 	protected TaskExecutor getTaskExecutor() {
-		return this.taskExecutor;
+		TaskExecutor taskExecutorToUse = this.taskExecutor;
+		if (taskExecutorToUse == null) {
+			String beanName = getComponentName();
+			taskExecutorToUse = createDefaultTaskExecutor((beanName == null ? "" : beanName + "-") + "tail-");
+			this.taskExecutor = taskExecutorToUse;
+		}
+		return taskExecutorToUse;
 	}
 
 	@Override
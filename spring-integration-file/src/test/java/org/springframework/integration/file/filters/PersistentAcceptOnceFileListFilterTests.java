@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.Flushable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -200,4 +201,33 @@ public class PersistentAcceptOnceFileListFilterTests extends AcceptOnceFileListF
 		assertThat(flushes.get()).isEqualTo(5);
 	}
 
+	@Test
+	public void testBulkStoreAccess() throws Exception {
+		AtomicInteger bulkCalls = new AtomicInteger();
+		ConcurrentMetadataStore store = new SimpleMetadataStore() {
+
+			@Override
+			public Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+				bulkCalls.incrementAndGet();
+				return super.putIfAbsentAll(entries);
+			}
+
+		};
+		FileSystemPersistentAcceptOnceFileListFilter filter =
+				new FileSystemPersistentAcceptOnceFileListFilter(store, "bulk:");
+		File file1 = File.createTempFile("foo", ".txt");
+		File file2 = File.createTempFile("bar", ".txt");
+		File[] files = new File[] {file1, file2, file1};
+		assertThat(filter.filterFiles(files)).containsExactly(file1, file2);
+		assertThat(bulkCalls.get()).isEqualTo(1);
+		assertThat(filter.filterFiles(files)).isEmpty();
+		assertThat(bulkCalls.get()).isEqualTo(2);
+		file2.setLastModified(file2.lastModified() + 5000L);
+		assertThat(filter.filterFiles(files)).containsExactly(file2);
+		assertThat(bulkCalls.get()).isEqualTo(3);
+		file1.delete();
+		file2.delete();
+		filter.close();
+	}
+
 }
@@ -16,7 +16,11 @@
 
 package org.springframework.integration.hazelcast.metadata;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.hazelcast.core.EntryEvent;
@@ -90,6 +94,19 @@ public class HazelcastMetadataStore implements ListenableMetadataStore, Initiali
 		return this.map.remove(key);
 	}
 
+	@Override
+	public Map<String, String> getAll(Collection<String> keys) {
+		Assert.noNullElements(keys, "'keys' must not contain null elements");
+		return new HashMap<>(this.map.getAll(new HashSet<>(keys)));
+	}
+
+	@Override
+	public void putAll(Map<String, String> entries) {
+		Assert.noNullElements(entries.keySet(), "'key' must not be null.");
+		Assert.noNullElements(entries.values(), "'value' must not be null.");
+		this.map.putAll(entries);
+	}
+
 	private static void assertKey(String key) {
 		Assert.notNull(key, "'key' must not be null.");
 	}
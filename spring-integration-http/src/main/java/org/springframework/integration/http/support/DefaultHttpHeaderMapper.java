@@ -36,6 +36,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -52,13 +53,13 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.integration.mapping.HeaderMapper;
+import org.springframework.integration.mapping.HeaderNameMatcher;
 import org.springframework.integration.support.utils.IntegrationUtils;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.MimeType;
 import org.springframework.util.ObjectUtils;
-import org.springframework.util.PatternMatchUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -218,15 +219,15 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 
 	private String[] outboundHeaderNames = {};
 
-	private String[] outboundHeaderNamesLowerWithContentType = {};
+	private HeaderNameMatcher outboundHeaderNameMatcher = createHeaderNameMatcher(this.outboundHeaderNames, false);
 
 	private String[] inboundHeaderNames = {};
 
-	private String[] inboundHeaderNamesLower = {};
+	private HeaderNameMatcher inboundHeaderNameMatcher = createHeaderNameMatcher(this.inboundHeaderNames, false);
 
-	private String[] excludedOutboundStandardRequestHeaderNames = {};
+	private Set<String> excludedOutboundStandardRequestHeaderNames = Set.of();
 
-	private String[] excludedInboundStandardResponseHeaderNames = {};
+	private Set<String> excludedInboundStandardResponseHeaderNames = Set.of();
 
 	private String userDefinedHeaderPrefix = "";
 
@@ -262,20 +263,7 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 				outboundHeaderNames != null
 						? Arrays.copyOf(outboundHeaderNames, outboundHeaderNames.length)
 						: new String[0];
-		String[] outboundHeaderNamesLower = new String[this.outboundHeaderNames.length];
-		for (int i = 0; i < this.outboundHeaderNames.length; i++) {
-			if (HTTP_REQUEST_HEADER_NAME_PATTERN.equals(this.outboundHeaderNames[i])
-					|| HTTP_RESPONSE_HEADER_NAME_PATTERN.equals(this.outboundHeaderNames[i])) {
-				outboundHeaderNamesLower[i] = this.outboundHeaderNames[i];
-			}
-			else {
-				outboundHeaderNamesLower[i] = this.outboundHeaderNames[i].toLowerCase(Locale.ROOT);
-			}
-		}
-		this.outboundHeaderNamesLowerWithContentType =
-				Arrays.copyOf(outboundHeaderNamesLower, this.outboundHeaderNames.length + 1);
-		this.outboundHeaderNamesLowerWithContentType[this.outboundHeaderNamesLowerWithContentType.length - 1]
-				= MessageHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT);
+		this.outboundHeaderNameMatcher = createHeaderNameMatcher(this.outboundHeaderNames, true);
 	}
 
 	/**
@@ -294,16 +282,7 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 				inboundHeaderNamesArg != null
 						? Arrays.copyOf(inboundHeaderNamesArg, inboundHeaderNamesArg.length)
 						: new String[0];
-		this.inboundHeaderNamesLower = new String[this.inboundHeaderNames.length];
-		for (int i = 0; i < this.inboundHeaderNames.length; i++) {
-			if (HTTP_REQUEST_HEADER_NAME_PATTERN.equals(this.inboundHeaderNames[i])
-					|| HTTP_RESPONSE_HEADER_NAME_PATTERN.equals(this.inboundHeaderNames[i])) {
-				this.inboundHeaderNamesLower[i] = this.inboundHeaderNames[i];
-			}
-			else {
-				this.inboundHeaderNamesLower[i] = this.inboundHeaderNames[i].toLowerCase(Locale.ROOT);
-			}
-		}
+		this.inboundHeaderNameMatcher = createHeaderNameMatcher(this.inboundHeaderNames, false);
 	}
 
 	/**
@@ -316,8 +295,7 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 				"'excludedOutboundStandardRequestHeaderNames' must not be null");
 		Assert.noNullElements(excludedOutboundStandardRequestHeaderNames,
 				"'excludedOutboundStandardRequestHeaderNames' must not have null elements");
-		this.excludedOutboundStandardRequestHeaderNames = Arrays.copyOf(excludedOutboundStandardRequestHeaderNames,
-				excludedOutboundStandardRequestHeaderNames.length);
+		this.excludedOutboundStandardRequestHeaderNames = toIgnoreCaseSet(excludedOutboundStandardRequestHeaderNames);
 	}
 
 	/**
@@ -330,8 +308,7 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 				"'excludedInboundStandardResponseHeaderNames' must not be null");
 		Assert.noNullElements(excludedInboundStandardResponseHeaderNames,
 				"'excludedInboundStandardResponseHeaderNames' must not have null elements");
-		this.excludedInboundStandardResponseHeaderNames = Arrays.copyOf(excludedInboundStandardResponseHeaderNames,
-				excludedInboundStandardResponseHeaderNames.length);
+		this.excludedInboundStandardResponseHeaderNames = toIgnoreCaseSet(excludedInboundStandardResponseHeaderNames);
 	}
 
 	/**
@@ -365,8 +342,8 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 		for (Entry<String, Object> entry : headers.entrySet()) {
 			String name = entry.getKey();
 			Object value = entry.getValue();
-			String lowerName = name.toLowerCase(Locale.ROOT);
-			if (shouldMapOutboundHeader(lowerName)) {
+			if (shouldMapOutboundHeader(name)) {
+				String lowerName = name.toLowerCase(Locale.ROOT);
 				if (!HTTP_REQUEST_HEADER_NAMES_LOWER.contains(lowerName) &&
 						!HTTP_RESPONSE_HEADER_NAMES_LOWER.contains(lowerName) &&
 						!MessageHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
@@ -780,8 +757,8 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 		Map<String, Object> target = new HashMap<>();
 		Set<String> headerNames = source.headerNames();
 		for (String name : headerNames) {
-			String lowerName = name.toLowerCase(Locale.ROOT);
-			if (shouldMapInboundHeader(lowerName)) {
+			if (shouldMapInboundHeader(name)) {
+				String lowerName = name.toLowerCase(Locale.ROOT);
 				if (!HTTP_REQUEST_HEADER_NAMES_LOWER.contains(lowerName)
 						&& !HTTP_RESPONSE_HEADER_NAMES_LOWER.contains(lowerName)) {
 					populateUserDefinedHeader(source, target, name);
@@ -898,7 +875,7 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 			 * When using the default response header name list, suppress the
 			 * mapping of exclusions for specific headers.
 			 */
-			if (containsElementIgnoreCase(this.excludedInboundStandardResponseHeaderNames, headerName)) {
+			if (this.excludedInboundStandardResponseHeaderNames.contains(headerName)) {
 				if (this.logger.isDebugEnabled()) {
 					this.logger
 							.debug(MessageFormat.format("headerName=[{0}] WILL NOT be mapped (excluded)", headerName));
@@ -911,7 +888,7 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 			 * When using the default request header name list, suppress the
 			 * mapping of exclusions for specific headers.
 			 */
-			if (containsElementIgnoreCase(this.excludedOutboundStandardRequestHeaderNames, headerName)) {
+			if (this.excludedOutboundStandardRequestHeaderNames.contains(headerName)) {
 				if (this.logger.isDebugEnabled()) {
 					this.logger
 							.debug(MessageFormat.format("headerName=[{0}] WILL NOT be mapped (excluded)", headerName));
@@ -919,53 +896,29 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 				return false;
 			}
 		}
-		return shouldMapHeader(headerName, this.outboundHeaderNamesLowerWithContentType);
+		return shouldMapHeader(headerName, this.outboundHeaderNameMatcher);
 	}
 
 	protected final boolean shouldMapInboundHeader(String headerName) {
-		return shouldMapHeader(headerName, this.inboundHeaderNamesLower);
+		return shouldMapHeader(headerName, this.inboundHeaderNameMatcher);
 	}
 
 	/**
-	 * @param headerName the header name (lower cased).
-	 * @param patterns the patterns (lower cased).
+	 * @param headerName the header name (in any case).
+	 * @param headerNameMatcher the matcher compiled for the configured patterns.
 	 * @return true if headerName should be mapped.
 	 */
-	private boolean shouldMapHeader(String headerName, String[] patterns) {
-		for (String pattern : patterns) {
-			if (matchHeaderForPattern(headerName, pattern)) {
-				return true;
-			}
-		}
-		if (this.logger.isDebugEnabled()) {
-			this.logger.debug(MessageFormat.format("headerName=[{0}] WILL NOT be mapped", headerName));
-		}
-		return false;
-	}
-
-	private boolean matchHeaderForPattern(String headerName, String pattern) {
-		if (PatternMatchUtils.simpleMatch(pattern, headerName)) {
+	private boolean shouldMapHeader(String headerName, HeaderNameMatcher headerNameMatcher) {
+		String pattern = headerNameMatcher.findMatchingPattern(headerName);
+		if (pattern != null) {
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug(MessageFormat.format("headerName=[{0}] WILL be mapped, matched pattern={1}",
 						headerName, pattern));
 			}
 			return true;
 		}
-		else if (HTTP_REQUEST_HEADER_NAME_PATTERN.equals(pattern)
-				&& HTTP_REQUEST_HEADER_NAMES_LOWER.contains(headerName)) {
-			if (this.logger.isDebugEnabled()) {
-				this.logger.debug(MessageFormat.format("headerName=[{0}] WILL be mapped, matched pattern={1}",
-						headerName, pattern));
-			}
-			return true;
-		}
-		else if (HTTP_RESPONSE_HEADER_NAME_PATTERN.equals(pattern)
-				&& HTTP_RESPONSE_HEADER_NAMES_LOWER.contains(headerName)) {
-			if (this.logger.isDebugEnabled()) {
-				this.logger.debug(MessageFormat.format("headerName=[{0}] WILL be mapped, matched pattern={1}",
-						headerName, pattern));
-			}
-			return true;
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug(MessageFormat.format("headerName=[{0}] WILL NOT be mapped", headerName));
 		}
 		return false;
 	}
@@ -980,6 +933,36 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 
 	// Utility methods
 
+	/**
+	 * Compile the header names into a {@link HeaderNameMatcher}, expanding the
+	 * {@link #HTTP_REQUEST_HEADER_NAME_PATTERN} and {@link #HTTP_RESPONSE_HEADER_NAME_PATTERN}
+	 * into the standard header names.
+	 */
+	private static HeaderNameMatcher createHeaderNameMatcher(String[] headerNames, boolean withContentType) {
+		List<String> patterns = new ArrayList<>();
+		for (String headerName : headerNames) {
+			if (HTTP_REQUEST_HEADER_NAME_PATTERN.equals(headerName)) {
+				patterns.addAll(HTTP_REQUEST_HEADER_NAMES_LOWER);
+			}
+			else if (HTTP_RESPONSE_HEADER_NAME_PATTERN.equals(headerName)) {
+				patterns.addAll(HTTP_RESPONSE_HEADER_NAMES_LOWER);
+			}
+			else {
+				patterns.add(headerName);
+			}
+		}
+		if (withContentType) {
+			patterns.add(MessageHeaders.CONTENT_TYPE);
+		}
+		return new HeaderNameMatcher(patterns, true);
+	}
+
+	private static Set<String> toIgnoreCaseSet(String[] headerNames) {
+		Set<String> ignoreCaseHeaderNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		Collections.addAll(ignoreCaseHeaderNames, headerNames);
+		return ignoreCaseHeaderNames;
+	}
+
 	protected static boolean containsElementIgnoreCase(String[] headerNames, String name) {
 		for (String headerName : headerNames) {
 			if (headerName.equalsIgnoreCase(name)) {
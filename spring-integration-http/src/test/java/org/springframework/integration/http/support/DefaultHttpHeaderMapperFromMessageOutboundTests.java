@@ -730,6 +730,30 @@ public class DefaultHttpHeaderMapperFromMessageOutboundTests {
 		assertThat(headers.get("Content-Length")).isNull();
 	}
 
+	@Test
+	public void defaultMapperDoesNotMapOutboundHeaders() {
+		DefaultHttpHeaderMapper mapper = new DefaultHttpHeaderMapper();
+		Map<String, Object> messageHeaders = new HashMap<>();
+		messageHeaders.put(MessageHeaders.CONTENT_TYPE, "text/html");
+		messageHeaders.put("Accept", "text/xml");
+
+		HttpHeaders headers = new HttpHeaders();
+		mapper.fromHeaders(new MessageHeaders(messageHeaders), headers);
+		assertThat(headers.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void excludedHeaderIsNotMappedInAnyCase() {
+		DefaultHttpHeaderMapper mapper = DefaultHttpHeaderMapper.outboundMapper();
+		mapper.setExcludedOutboundStandardRequestHeaderNames("content-length");
+		Map<String, Object> messageHeaders = new HashMap<>();
+		messageHeaders.put("CONTENT-LENGTH", 4);
+
+		HttpHeaders headers = new HttpHeaders();
+		mapper.fromHeaders(new MessageHeaders(messageHeaders), headers);
+		assertThat(headers.get("Content-Length")).isNull();
+	}
+
 	@Test
 	public void testInt3063InvalidExpiresHeader() {
 		HttpHeaders headers = new HttpHeaders();
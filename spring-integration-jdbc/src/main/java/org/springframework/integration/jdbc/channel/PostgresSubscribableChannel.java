@@ -28,7 +28,6 @@ import org.springframework.core.retry.RetryException;
 import org.springframework.core.retry.RetryPolicy;
 import org.springframework.core.retry.RetryTemplate;
 import org.springframework.core.retry.Retryable;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.integration.channel.AbstractSubscribableChannel;
 import org.springframework.integration.dispatcher.MessageDispatcher;
 import org.springframework.integration.dispatcher.UnicastingDispatcher;
@@ -151,7 +150,7 @@ public class PostgresSubscribableChannel extends AbstractSubscribableChannel
 	protected void onInit() {
 		super.onInit();
 		if (this.executor == null) {
-			this.executor = new SimpleAsyncTaskExecutor(getBeanName() + "-dispatcher-");
+			this.executor = createDefaultTaskExecutor(getBeanName() + "-dispatcher-");
 		}
 	}
 
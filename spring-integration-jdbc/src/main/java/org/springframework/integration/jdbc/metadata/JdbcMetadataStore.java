@@ -16,6 +16,14 @@
 
 package org.springframework.integration.jdbc.metadata;
 
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.sql.DataSource;
@@ -32,6 +40,7 @@ import org.springframework.integration.metadata.ConcurrentMetadataStore;
 import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -66,6 +75,11 @@ public class JdbcMetadataStore implements ConcurrentMetadataStore, InitializingB
 	 */
 	public static final String DEFAULT_TABLE_PREFIX = "INT_";
 
+	/**
+	 * Default value for the batch size property.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
 	private final JdbcOperations jdbcTemplate;
 
 	private final AtomicBoolean started = new AtomicBoolean();
@@ -115,6 +129,13 @@ public class JdbcMetadataStore implements ConcurrentMetadataStore, InitializingB
 			SELECT COUNT(METADATA_KEY) FROM %sMETADATA_STORE
 			""";
 
+	private String getValuesQuery = """
+			SELECT METADATA_KEY, METADATA_VALUE FROM %sMETADATA_STORE
+			WHERE REGION=? AND METADATA_KEY IN (%s)
+			""";
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
 	private boolean checkDatabaseOnStart = true;
 
 	/**
@@ -170,6 +191,20 @@ public class JdbcMetadataStore implements ConcurrentMetadataStore, InitializingB
 		this.lockHint = lockHint;
 	}
 
+	/**
+	 * Set the maximum number of entries in a single JDBC batch or {@code IN} clause
+	 * of the bulk operations. Defaults to {@link #DEFAULT_BATCH_SIZE}.
+	 * @param batchSize the batch size.
+	 * @since 7.1
+	 * @see #getAll(Collection)
+	 * @see #putAll(Map)
+	 * @see #putIfAbsentAll(Map)
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0.");
+		this.batchSize = batchSize;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		String dataBaseVendor =
@@ -185,6 +220,7 @@ public class JdbcMetadataStore implements ConcurrentMetadataStore, InitializingB
 			this.putIfAbsentValueQuery += " ON CONFLICT DO NOTHING";
 		}
 		this.countQuery = String.format(this.countQuery, this.tablePrefix);
+		this.getValuesQuery = String.format(this.getValuesQuery, this.tablePrefix, "%s");
 	}
 
 	/**
@@ -342,4 +378,131 @@ public class JdbcMetadataStore implements ConcurrentMetadataStore, InitializingB
 		return null;
 	}
 
+	@Override
+	@Transactional
+	public Map<String, String> getAll(Collection<String> keys) {
+		Assert.noNullElements(keys, "'keys' must not contain null elements");
+		Map<String, String> values = new HashMap<>();
+		List<String> keyList = new ArrayList<>(keys);
+		for (int from = 0; from < keyList.size(); from += this.batchSize) {
+			List<String> chunk = keyList.subList(from, Math.min(from + this.batchSize, keyList.size()));
+			String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+			Object[] args = new Object[chunk.size() + 1];
+			args[0] = this.region;
+			for (int i = 0; i < chunk.size(); i++) {
+				args[i + 1] = chunk.get(i);
+			}
+			this.jdbcTemplate.query(String.format(this.getValuesQuery, placeholders),
+					(RowCallbackHandler) rs -> values.put(rs.getString(1), rs.getString(2)), args);
+		}
+		return values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The entries are inserted in JDBC batches of {@link #setBatchSize(int) batchSize};
+	 * the values of the keys which are already present are then updated in batches as well.
+	 */
+	@Override
+	@Transactional
+	public void putAll(Map<String, String> entries) {
+		List<Map.Entry<String, String>> entryList = new ArrayList<>(entries.entrySet());
+		for (int from = 0; from < entryList.size(); from += this.batchSize) {
+			List<Map.Entry<String, String>> chunk =
+					entryList.subList(from, Math.min(from + this.batchSize, entryList.size()));
+			int[] insertCounts = tryToPutIfAbsent(chunk);
+			List<Map.Entry<String, String>> toUpdate = new ArrayList<>();
+			for (int i = 0; i < chunk.size(); i++) {
+				if (i >= insertCounts.length || insertCounts[i] <= 0) {
+					toUpdate.add(chunk.get(i));
+				}
+			}
+			if (!toUpdate.isEmpty()) {
+				int[] updateCounts = this.jdbcTemplate.batchUpdate(this.replaceValueByKeyQuery,
+						toUpdate.stream()
+								.map((entry) -> new Object[] {entry.getValue(), entry.getKey(), this.region})
+								.toList());
+				for (int i = 0; i < toUpdate.size(); i++) {
+					if (i < updateCounts.length && updateCounts[i] == 0) {
+						// removed in between: fall back to the single key algorithm
+						put(toUpdate.get(i).getKey(), toUpdate.get(i).getValue());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The entries are processed in chunks of {@link #setBatchSize(int) batchSize}:
+	 * the values of the keys which are already present are selected in bulk first,
+	 * then the absent entries are inserted in a JDBC batch within the same transaction.
+	 * An entry reported as {@link Statement#SUCCESS_NO_INFO} by the driver is therefore
+	 * considered as inserted, since its key has been absent before the insert.
+	 * The entries which have not been inserted in the batch (e.g. a concurrent insert of
+	 * the same key) or have failed fall back to {@link #putIfAbsent(String, String)}.
+	 */
+	@Override
+	@Transactional
+	public Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+		Map<String, String> oldValues = new HashMap<>();
+		List<Map.Entry<String, String>> entryList = new ArrayList<>(entries.entrySet());
+		for (int from = 0; from < entryList.size(); from += this.batchSize) {
+			List<Map.Entry<String, String>> chunk =
+					entryList.subList(from, Math.min(from + this.batchSize, entryList.size()));
+			Map<String, String> existing = getAll(chunk.stream().map(Map.Entry::getKey).toList());
+			List<Map.Entry<String, String>> toInsert = new ArrayList<>();
+			for (Map.Entry<String, String> entry : chunk) {
+				String oldValue = existing.get(entry.getKey());
+				if (oldValue != null) {
+					oldValues.put(entry.getKey(), oldValue);
+				}
+				else {
+					toInsert.add(entry);
+				}
+			}
+			if (toInsert.isEmpty()) {
+				continue;
+			}
+			int[] insertCounts = tryToPutIfAbsent(toInsert);
+			for (int i = 0; i < toInsert.size(); i++) {
+				Map.Entry<String, String> entry = toInsert.get(i);
+				int insertCount = i < insertCounts.length ? insertCounts[i] : Statement.EXECUTE_FAILED;
+				if (insertCount == 0 || (insertCount < 0 && insertCount != Statement.SUCCESS_NO_INFO)) {
+					// inserted in between or failed: fall back to the single key algorithm
+					fallBackToPutIfAbsent(entry.getKey(), entry.getValue(), oldValues);
+				}
+			}
+		}
+		return oldValues;
+	}
+
+	private void fallBackToPutIfAbsent(String key, String value, Map<String, String> oldValues) {
+		String oldValue = putIfAbsent(key, value);
+		if (oldValue != null) {
+			oldValues.put(key, oldValue);
+		}
+	}
+
+	/**
+	 * Perform the insert-if-absent query as a batch.
+	 * @return the update counts; the statements which have failed or were not executed
+	 * are reported as {@link Statement#EXECUTE_FAILED} or are missing in the result.
+	 */
+	private int[] tryToPutIfAbsent(List<Map.Entry<String, String>> entries) {
+		try {
+			return this.jdbcTemplate.batchUpdate(this.putIfAbsentValueQuery,
+					entries.stream()
+							.map((entry) -> new Object[] {entry.getKey(), entry.getValue(), this.region,
+									entry.getKey(), this.region})
+							.toList());
+		}
+		catch (TransientDataAccessException | DataIntegrityViolationException ex) {
+			if (ex.getCause() instanceof BatchUpdateException batchUpdateException) {
+				return batchUpdateException.getUpdateCounts();
+			}
+			return new int[0];
+		}
+	}
+
 }
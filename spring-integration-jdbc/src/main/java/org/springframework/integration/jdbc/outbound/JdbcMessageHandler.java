@@ -34,9 +34,11 @@ import javax.sql.DataSource;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.integration.handler.MessageBatchHandler;
 import org.springframework.integration.jdbc.BeanPropertySqlParameterSourceFactory;
 import org.springframework.integration.jdbc.MessagePreparedStatementSetter;
 import org.springframework.integration.jdbc.SqlParameterSourceFactory;
+import org.springframework.integration.support.MessageBatch;
 import org.springframework.integration.support.MutableMessage;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.ColumnMapRowMapper;
@@ -72,6 +74,9 @@ import org.springframework.util.LinkedCaseInsensitiveMap;
  * {@link SqlParameterSource} instance is based on items wrapped into an internal {@link Message} implementation with
  * headers from the request message. The item is wrapped only if it is not a {@link Message} already.
  * <p>
+ * A {@link MessageBatch} payload is handled the same way: a batch update is performed for its items,
+ * with the request message, shared batch and item headers.
+ * <p>
  * When a {@link #preparedStatementSetter} is configured, it is applied for each item in the appropriate
  * {@link JdbcOperations#batchUpdate(String, BatchPreparedStatementSetter)} function.
  * <p>
@@ -86,7 +91,7 @@ import org.springframework.util.LinkedCaseInsensitiveMap;
  *
  * @since 2.0
  */
-public class JdbcMessageHandler extends AbstractMessageHandler {
+public class JdbcMessageHandler extends AbstractMessageHandler implements MessageBatchHandler {
 
 	private final ResultSetExtractor<List<Map<String, Object>>> generatedKeysResultSetExtractor =
 			new RowMapperResultSetExtractor<>(new ColumnMapRowMapper(), 1);
@@ -239,7 +244,14 @@ public class JdbcMessageHandler extends AbstractMessageHandler {
 		}
 		else {
 			if (message.getPayload() instanceof Iterable<?> iterable) {
-				Stream<?> payloadStream = StreamSupport.stream(iterable.spliterator(), false);
+				Iterable<?> items = iterable;
+				if (iterable instanceof MessageBatch<?> messageBatch) {
+					items =
+							this.usePayloadAsParameterSource && preparedStatementSetterToUse == null
+									? messageBatch.getPayloads()
+									: messageBatch.toMessages(message.getHeaders(), getMessageBuilderFactory());
+				}
+				Stream<?> payloadStream = StreamSupport.stream(items.spliterator(), false);
 
 				int[] updates;
 
@@ -241,6 +241,18 @@ public class JdbcMessageStore extends AbstractMessageGroupStore
 				SELECT distinct GROUP_KEY as CREATED
 				from %PREFIX%MESSAGE_GROUP
 				where REGION=?
+				"""),
+
+		LIST_GROUP_KEYS_CREATED_BEFORE("""
+				SELECT GROUP_KEY
+				from %PREFIX%MESSAGE_GROUP
+				where REGION=? and CREATED_DATE<=?
+				"""),
+
+		LIST_GROUP_KEYS_UPDATED_BEFORE("""
+				SELECT GROUP_KEY
+				from %PREFIX%MESSAGE_GROUP
+				where REGION=? and UPDATED_DATE<=?
 				""");
 
 		private final String sql;
@@ -716,6 +728,27 @@ public class JdbcMessageStore extends AbstractMessageGroupStore
 	public Iterator<MessageGroup> iterator() {
 		List<@Nullable String> groupIds =
 				this.jdbcTemplate.query(getQuery(Query.LIST_GROUP_KEYS), new SingleColumnRowMapper<>(), this.region);
+		return groupKeysToMessageGroups(groupIds);
+	}
+
+	/**
+	 * Select only those groups which are due for expiry according to their
+	 * {@code CREATED_DATE} or, if {@link #isTimeoutOnIdle()}, {@code UPDATED_DATE},
+	 * instead of loading all the groups in the region.
+	 * @param threshold the timestamp (in milliseconds) at or before which a group is expired.
+	 * @return the candidate groups.
+	 * @since 7.1
+	 */
+	@Override
+	protected Iterable<MessageGroup> getExpiryCandidates(long threshold) {
+		Query query = isTimeoutOnIdle() ? Query.LIST_GROUP_KEYS_UPDATED_BEFORE : Query.LIST_GROUP_KEYS_CREATED_BEFORE;
+		List<@Nullable String> groupIds =
+				this.jdbcTemplate.query(getQuery(query), new SingleColumnRowMapper<>(), this.region,
+						new Timestamp(threshold));
+		return () -> groupKeysToMessageGroups(groupIds);
+	}
+
+	private Iterator<MessageGroup> groupKeysToMessageGroups(List<@Nullable String> groupIds) {
 		List<String> groupIdsToMap = new ArrayList<>(groupIds.size());
 		for (String groupId : groupIds) {
 			if (groupId != null) {
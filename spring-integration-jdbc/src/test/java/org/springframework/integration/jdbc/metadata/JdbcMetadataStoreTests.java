@@ -16,6 +16,9 @@
 
 package org.springframework.integration.jdbc.metadata;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.sql.DataSource;
 
 import org.apache.derby.shared.common.error.StandardException;
@@ -88,6 +91,17 @@ public class JdbcMetadataStoreTests {
 		assertThat(bar).isEqualTo("bar");
 	}
 
+	@Test
+	public void onlyAbsentKeysAreInsertedOnPutIfAbsentAll() {
+		metadataStore.setBatchSize(2);
+		metadataStore.put("foo", "bar");
+		Map<String, String> oldValues =
+				metadataStore.putIfAbsentAll(Map.of("foo", "bar1", "foo2", "bar2", "foo3", "bar3"));
+		assertThat(oldValues).containsExactly(Map.entry("foo", "bar"));
+		assertThat(metadataStore.getAll(List.of("foo", "foo2", "foo3")))
+				.containsOnly(Map.entry("foo", "bar"), Map.entry("foo2", "bar2"), Map.entry("foo3", "bar3"));
+	}
+
 	@Test
 	public void nonExistentKeyIsNotRemoved() {
 		metadataStore.remove("non-existent");
@@ -351,6 +351,32 @@ public class JdbcMessageStoreTests  implements TestApplicationContextAware {
 		assertThat(groupRemovalLatch.await(10, TimeUnit.SECONDS)).isTrue();
 	}
 
+	@Test
+	public void testExpireOnlyDueMessageGroups() {
+		messageStore.addMessagesToGroup("X", MessageBuilder.withPayload("foo").setCorrelationId("X").build());
+		messageStore.addMessagesToGroup("Y", MessageBuilder.withPayload("bar").setCorrelationId("Y").build());
+		List<Object> expired = new ArrayList<>();
+		messageStore.registerMessageGroupExpiryCallback((messageGroupStore, group) -> {
+			expired.add(group.getGroupId());
+			messageGroupStore.removeMessageGroup(group.getGroupId());
+		});
+
+		JdbcTemplate template = new JdbcTemplate(this.dataSource);
+		template.afterPropertiesSet();
+
+		template.update("UPDATE INT_MESSAGE_GROUP set CREATED_DATE=? where GROUP_KEY=? and REGION=?",
+				ps -> {
+					ps.setTimestamp(1, new Timestamp(System.currentTimeMillis() - 10000));
+					ps.setString(2, UUIDConverter.getUUID("X").toString());
+					ps.setString(3, "DEFAULT");
+				});
+
+		assertThat(messageStore.expireMessageGroups(2000)).isEqualTo(1);
+		assertThat(expired).containsExactly(UUIDConverter.getUUID("X").toString());
+		assertThat(messageStore.getMessageGroup("X").size()).isEqualTo(0);
+		assertThat(messageStore.getMessageGroup("Y").size()).isEqualTo(1);
+	}
+
 	@Test
 	public void testExpireMessageGroupOnIdleOnly() {
 		String groupId = "X";
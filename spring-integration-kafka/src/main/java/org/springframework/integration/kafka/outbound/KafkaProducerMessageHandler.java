@@ -19,7 +19,9 @@ package org.springframework.integration.kafka.outbound;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -43,11 +45,14 @@ import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.expression.FunctionExpression;
 import org.springframework.integration.expression.ValueExpression;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
+import org.springframework.integration.handler.MessageBatchHandler;
 import org.springframework.integration.kafka.support.KafkaIntegrationHeaders;
 import org.springframework.integration.kafka.support.KafkaSendFailureException;
 import org.springframework.integration.support.DefaultErrorMessageStrategy;
 import org.springframework.integration.support.ErrorMessageStrategy;
+import org.springframework.integration.support.MessageBatch;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
 import org.springframework.kafka.requestreply.RequestReplyFuture;
@@ -81,6 +86,10 @@ import org.springframework.util.StringUtils;
  * {@link KafkaHeaders#REPLY_TOPIC} unless it already contains such a header. The handler
  * will not map any additional headers; providing such a payload assumes the headers have
  * already been mapped.
+ * <p>
+ * A {@link MessageBatch} payload is sent as a record per item (in one transaction, if
+ * transactional), with the request message, shared batch and item headers; the handler then
+ * waits for all the sends when in sync mode. A {@link MessageBatch} is not supported by the gateway.
  *
  * @param <K> the key type.
  * @param <V> the value type.
@@ -97,7 +106,7 @@ import org.springframework.util.StringUtils;
  * @since 5.4
  */
 public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMessageHandler
-		implements ManageableLifecycle {
+		implements ManageableLifecycle, MessageBatchHandler {
 
 	/**
 	 * Buffer added to ensure our timeout is longer than Apache Kafka timeout.
@@ -502,6 +511,11 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		final ProducerRecord<K, V> producerRecord;
 		boolean flush =
 				Boolean.TRUE.equals(this.flushExpression.getValue(this.evaluationContext, message, Boolean.class));
+		if (message.getPayload() instanceof MessageBatch<?> messageBatch) {
+			Assert.state(!this.isGateway, "A 'MessageBatch' payload is not supported by the gateway");
+			sendBatch(message, messageBatch, flush);
+			return null;
+		}
 		if (message.getPayload() instanceof ProducerRecord) {
 			producerRecord = (ProducerRecord<K, V>) message.getPayload();
 		}
@@ -556,6 +570,60 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		return processReplyFuture(gatewayFuture);
 	}
 
+	private void sendBatch(Message<?> message, MessageBatch<?> messageBatch, boolean flush) {
+		List<? extends Message<?>> items = messageBatch.toMessages(message.getHeaders(), getMessageBuilderFactory());
+		List<ProducerRecord<K, V>> producerRecords = new ArrayList<>(items.size());
+		for (Message<?> item : items) {
+			ProducerRecord<K, V> producerRecord = createProducerRecord(item);
+			producerRecord.headers().remove(KafkaIntegrationHeaders.FLUSH);
+			producerRecord.headers().remove(KafkaIntegrationHeaders.FUTURE_TOKEN);
+			producerRecords.add(producerRecord);
+		}
+		List<CompletableFuture<SendResult<K, V>>> sendFutures = new ArrayList<>(items.size());
+		if (this.transactional && !this.kafkaTemplate.inTransaction() && !this.allowNonTransactional) {
+			this.kafkaTemplate.executeInTransaction(template ->
+					sendRecords(template, items, producerRecords, sendFutures));
+		}
+		else {
+			sendRecords(this.kafkaTemplate, items, producerRecords, sendFutures);
+		}
+		if (flush) {
+			this.kafkaTemplate.flush();
+		}
+		MessageChannel sendSuccessChannel = getSendSuccessChannel();
+		for (int i = 0; i < items.size(); i++) {
+			Message<?> item = items.get(i);
+			try {
+				processSendResult(item, producerRecords.get(i), sendFutures.get(i), sendSuccessChannel);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new MessageHandlingException(item, e);
+			}
+			catch (ExecutionException e) {
+				Throwable cause = e.getCause() != null ? e.getCause() : e;
+				throw new MessageHandlingException(item, cause);
+			}
+		}
+	}
+
+	private List<CompletableFuture<SendResult<K, V>>> sendRecords(KafkaOperations<K, V> template,
+			List<? extends Message<?>> items, List<ProducerRecord<K, V>> producerRecords,
+			List<CompletableFuture<SendResult<K, V>>> sendFutures) {
+
+		for (int i = 0; i < producerRecords.size(); i++) {
+			ProducerRecord<K, V> producerRecord = producerRecords.get(i);
+			try {
+				sendFutures.add(template.send(producerRecord));
+			}
+			catch (RuntimeException rtex) {
+				sendFailure(items.get(i), producerRecord, getSendFailureChannel(), rtex);
+				throw rtex;
+			}
+		}
+		return sendFutures;
+	}
+
 	@SuppressWarnings("unchecked")
 	private ProducerRecord<K, V> createProducerRecord(final Message<?> message) {
 		MessageHeaders messageHeaders = message.getHeaders();
@@ -30,7 +30,6 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.integration.endpoint.MessageProducerSupport;
 import org.springframework.integration.mail.event.MailIntegrationEvent;
 import org.springframework.integration.transaction.IntegrationResourceHolder;
@@ -147,7 +146,7 @@ public class ImapIdleChannelAdapter extends MessageProducerSupport implements Be
 		super.onInit();
 
 		if (this.taskExecutor == null) {
-			this.taskExecutor = new SimpleAsyncTaskExecutor(getBeanName() + "-");
+			this.taskExecutor = createDefaultTaskExecutor(getBeanName() + "-");
 		}
 
 		Consumer<?> messageSenderToUse = new MessageSender();
@@ -16,13 +16,23 @@
 
 package org.springframework.integration.mongodb.metadata;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import org.bson.Document;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -200,4 +210,105 @@ public class MongoDbMetadataStore implements ConcurrentMetadataStore {
 				.getModifiedCount() > 0;
 	}
 
+	/**
+	 * Get the {@code values} for the provided {@code keys} performing a single {@code find} MongoDB operation
+	 * with an {@code $in} criteria.
+	 * @param keys the metadata entry keys
+	 * @return the metadata entries which exist.
+	 * @since 7.1
+	 * @see MongoTemplate#find(Query, Class, String)
+	 */
+	@Override
+	public Map<String, String> getAll(Collection<String> keys) {
+		Assert.noNullElements(keys, "'keys' must not contain null elements");
+		Map<String, String> result = new HashMap<>();
+		if (!keys.isEmpty()) {
+			Query query = new Query(Criteria.where(ID_FIELD).in(keys));
+			for (Document document : this.template.find(query, Document.class, this.collectionName)) {
+				result.put(document.getString(ID_FIELD), document.getString(VALUE));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Store the metadata entries to the configured {@link #collectionName}
+	 * performing an unordered bulk of {@code upsert} MongoDB operations.
+	 * @param entries the metadata entries to store
+	 * @since 7.1
+	 * @see MongoTemplate#bulkOps(BulkOperations.BulkMode, String)
+	 */
+	@Override
+	public void putAll(Map<String, String> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations = this.template.bulkOps(BulkOperations.BulkMode.UNORDERED, this.collectionName);
+		entries.forEach((key, value) -> {
+			Assert.hasText(key, KEY_MUST_NOT_BE_EMPTY);
+			Assert.hasText(value, "'value' must not be empty.");
+			bulkOperations.upsert(new Query(Criteria.where(ID_FIELD).is(key)), Update.update(VALUE, value));
+		});
+		bulkOperations.execute();
+	}
+
+	/**
+	 * Store the metadata entries which are not present in the configured {@link #collectionName}
+	 * performing an unordered bulk of {@code upsert} MongoDB operations with the {@code $setOnInsert} update.
+	 * The old values of the entries which have not been inserted are selected with a single {@code find}.
+	 * The entries which have failed in the bulk (e.g. because of a concurrent insert of the same key)
+	 * fall back to the {@link #putIfAbsent(String, String)}; the results for the rest are taken
+	 * from the partial result of the bulk.
+	 * @param entries the metadata entries to store
+	 * @return the old values of the keys which were already present.
+	 * @since 7.1
+	 */
+	@Override
+	public Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+		if (entries.isEmpty()) {
+			return new HashMap<>();
+		}
+		List<Map.Entry<String, String>> entryList = new ArrayList<>(entries.entrySet());
+		BulkOperations bulkOperations = this.template.bulkOps(BulkOperations.BulkMode.UNORDERED, this.collectionName);
+		for (Map.Entry<String, String> entry : entryList) {
+			Assert.hasText(entry.getKey(), KEY_MUST_NOT_BE_EMPTY);
+			Assert.hasText(entry.getValue(), "'value' must not be empty.");
+			bulkOperations.upsert(new Query(Criteria.where(ID_FIELD).is(entry.getKey())),
+					new Update().setOnInsert(VALUE, entry.getValue()));
+		}
+		BulkWriteResult bulkWriteResult;
+		Map<String, String> failed = new HashMap<>();
+		try {
+			bulkWriteResult = bulkOperations.execute();
+		}
+		catch (BulkOperationException ex) {
+			bulkWriteResult = ex.getResult();
+			for (BulkWriteError error : ex.getErrors()) {
+				Map.Entry<String, String> entry = entryList.get(error.getIndex());
+				failed.put(entry.getKey(), entry.getValue());
+			}
+		}
+		Set<String> insertedKeys = new HashSet<>();
+		for (BulkWriteUpsert upsert : bulkWriteResult.getUpserts()) {
+			insertedKeys.add(entryList.get(upsert.getIndex()).getKey());
+		}
+		Map<String, String> notInserted = new HashMap<>(entries);
+		notInserted.keySet().removeAll(insertedKeys);
+		notInserted.keySet().removeAll(failed.keySet());
+		Map<String, String> oldValues = getAll(notInserted.keySet());
+		notInserted.forEach((key, value) -> {
+			if (!oldValues.containsKey(key)) {
+				// removed in between: fall back to the single key algorithm
+				failed.put(key, value);
+			}
+		});
+		failed.forEach((key, value) -> {
+			String oldValue = putIfAbsent(key, value);
+			if (oldValue != null) {
+				oldValues.put(key, oldValue);
+			}
+		});
+		return oldValues;
+	}
+
 }
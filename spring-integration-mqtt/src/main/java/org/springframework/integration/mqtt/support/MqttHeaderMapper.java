@@ -29,10 +29,10 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.core.log.LogMessage;
 import org.springframework.integration.mapping.HeaderMapper;
+import org.springframework.integration.mapping.HeaderNameMatcher;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
-import org.springframework.util.PatternMatchUtils;
 
 /**
  * The default {@link HeaderMapper} implementation for MQTT v5 message properties mapping.
@@ -54,6 +54,11 @@ public class MqttHeaderMapper implements HeaderMapper<MqttProperties> {
 			MqttHeaders.CORRELATION_DATA
 	};
 
+	private HeaderNameMatcher inboundHeaderNameMatcher = new HeaderNameMatcher(List.of(this.inboundHeaderNames), false);
+
+	private HeaderNameMatcher outboundHeaderNameMatcher =
+			new HeaderNameMatcher(List.of(this.outboundHeaderNames), false);
+
 	/**
 	 * Provide a list of patterns to map MQTT message properties into message headers.
 	 * By default, it maps all valid MQTT PUBLISH packet headers
@@ -65,6 +70,7 @@ public class MqttHeaderMapper implements HeaderMapper<MqttProperties> {
 		String[] copy = Arrays.copyOf(inboundHeaderNames, inboundHeaderNames.length);
 		Arrays.sort(copy);
 		this.inboundHeaderNames = copy;
+		this.inboundHeaderNameMatcher = new HeaderNameMatcher(List.of(copy), false);
 	}
 
 	/**
@@ -79,13 +85,14 @@ public class MqttHeaderMapper implements HeaderMapper<MqttProperties> {
 		String[] copy = Arrays.copyOf(outboundHeaderNames, outboundHeaderNames.length);
 		Arrays.sort(copy);
 		this.outboundHeaderNames = copy;
+		this.outboundHeaderNameMatcher = new HeaderNameMatcher(List.of(copy), false);
 	}
 
 	@Override
 	public void fromHeaders(MessageHeaders headers, MqttProperties target) {
 		for (Map.Entry<String, @Nullable Object> entry : headers.entrySet()) {
 			String name = entry.getKey();
-			if (shouldMapHeader(name, this.outboundHeaderNames)) {
+			if (shouldMapHeader(name, this.outboundHeaderNameMatcher)) {
 				Object value = entry.getValue();
 				if (value != null) {
 					setMqttHeader(target, name, value);
@@ -107,7 +114,7 @@ public class MqttHeaderMapper implements HeaderMapper<MqttProperties> {
 		List<UserProperty> userProperties = source.getUserProperties();
 		for (UserProperty userProperty : userProperties) {
 			String name = userProperty.getKey();
-			if (shouldMapHeader(name, this.inboundHeaderNames)) {
+			if (shouldMapHeader(name, this.inboundHeaderNameMatcher)) {
 				headers.put(name, userProperty.getValue());
 			}
 		}
@@ -115,16 +122,15 @@ public class MqttHeaderMapper implements HeaderMapper<MqttProperties> {
 	}
 
 	private @Nullable Object mapPropertyIfMatch(String headerName, @Nullable Object value) {
-		return (value != null && shouldMapHeader(headerName, this.inboundHeaderNames)) ? value : null;
+		return (value != null && shouldMapHeader(headerName, this.inboundHeaderNameMatcher)) ? value : null;
 	}
 
-	private static boolean shouldMapHeader(String headerName, String[] patterns) {
-		for (String pattern : patterns) {
-			if (PatternMatchUtils.simpleMatch(pattern, headerName)) {
-				LOGGER.debug(LogMessage.format("headerName=[%s] WILL be mapped, matched pattern=%s",
-						headerName, pattern));
-				return true;
-			}
+	private static boolean shouldMapHeader(String headerName, HeaderNameMatcher headerNameMatcher) {
+		String pattern = headerNameMatcher.findMatchingPattern(headerName);
+		if (pattern != null) {
+			LOGGER.debug(LogMessage.format("headerName=[%s] WILL be mapped, matched pattern=%s",
+					headerName, pattern));
+			return true;
 		}
 		LOGGER.debug(LogMessage.format("headerName=[%s] WILL NOT be mapped", headerName));
 		return false;
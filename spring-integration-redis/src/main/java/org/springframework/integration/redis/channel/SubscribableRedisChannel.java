@@ -22,7 +22,6 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -152,7 +151,7 @@ public class SubscribableRedisChannel extends AbstractMessageChannel
 		this.container.setConnectionFactory(this.connectionFactory);
 
 		if (this.taskExecutor == null) {
-			this.taskExecutor = new SimpleAsyncTaskExecutor(getBeanName() + "-");
+			this.taskExecutor = createDefaultTaskExecutor(getBeanName() + "-");
 		}
 
 		if (!(this.taskExecutor instanceof ErrorHandlingTaskExecutor)) {
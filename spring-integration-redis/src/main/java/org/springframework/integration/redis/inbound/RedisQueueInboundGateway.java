@@ -24,7 +24,6 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.BoundListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -178,7 +177,7 @@ public class RedisQueueInboundGateway extends MessagingGatewaySupport
 		}
 		if (this.taskExecutor == null) {
 			String beanName = getComponentName();
-			this.taskExecutor = new SimpleAsyncTaskExecutor((beanName == null ? "" : beanName + "-")
+			this.taskExecutor = createDefaultTaskExecutor((beanName == null ? "" : beanName + "-")
 					+ getComponentType());
 		}
 		Executor executor = this.taskExecutor;
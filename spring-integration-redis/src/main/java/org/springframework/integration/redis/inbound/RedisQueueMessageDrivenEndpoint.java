@@ -26,7 +26,6 @@ import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.BoundListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -198,7 +197,7 @@ public class RedisQueueMessageDrivenEndpoint extends MessageProducerSupport
 		}
 		if (this.taskExecutor == null) {
 			String beanName = getComponentName();
-			this.taskExecutor = new SimpleAsyncTaskExecutor((beanName == null ? "" : beanName + "-")
+			this.taskExecutor = createDefaultTaskExecutor((beanName == null ? "" : beanName + "-")
 					+ getComponentType());
 		}
 		BeanFactory beanFactory = getBeanFactory();
@@ -16,11 +16,19 @@
 
 package org.springframework.integration.redis.metadata;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.BoundHashOperations;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.support.collections.RedisProperties;
 import org.springframework.integration.metadata.ConcurrentMetadataStore;
@@ -162,4 +170,96 @@ public class RedisMetadataStore implements ConcurrentMetadataStore {
 		return this.properties.replace(key, oldValue, newValue);
 	}
 
+	/**
+	 * Retrieve the persisted values for the provided keys with a single {@code HMGET} command.
+	 * @param keys Must not contain null elements
+	 * @since 7.1
+	 */
+	@Override
+	public Map<String, String> getAll(Collection<String> keys) {
+		Assert.noNullElements(keys, "'keys' must not contain null elements");
+		Map<String, String> result = new HashMap<>();
+		if (keys.isEmpty()) {
+			return result;
+		}
+		List<String> keyList = new ArrayList<>(keys);
+		HashOperations<String, Object, Object> hashOperations = this.properties.getOperations().opsForHash();
+		List<Object> values = hashOperations.multiGet(this.properties.getKey(), new ArrayList<>(keyList));
+		for (int i = 0; i < keyList.size(); i++) {
+			Object value = values.get(i);
+			if (value != null) {
+				Assert.isInstanceOf(String.class, value, "Invalid type in the store");
+				result.put(keyList.get(i), (String) value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Persist the provided entries to Redis with a single {@code HMSET} command.
+	 * @param entries Must not contain null keys or values
+	 * @since 7.1
+	 */
+	@Override
+	public void putAll(Map<String, String> entries) {
+		Assert.noNullElements(entries.keySet(), KEY_MUST_NOT_BE_NULL);
+		Assert.noNullElements(entries.values(), "'value' must not be null.");
+		if (!entries.isEmpty()) {
+			this.properties.putAll(entries);
+		}
+	}
+
+	/**
+	 * Persist the provided entries to Redis with pipelined {@code HSETNX} commands,
+	 * then retrieve the values of the keys which were already present with a single {@code HMGET}.
+	 * The commands are not atomic as a whole: a key removed in between falls back to
+	 * {@link #putIfAbsent(String, String)}.
+	 * @param entries Must not contain null keys or values
+	 * @since 7.1
+	 */
+	@Override
+	public Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+		Assert.noNullElements(entries.keySet(), KEY_MUST_NOT_BE_NULL);
+		Assert.noNullElements(entries.values(), "'value' must not be null.");
+		Map<String, String> oldValues = new HashMap<>();
+		if (entries.isEmpty()) {
+			return oldValues;
+		}
+		List<Map.Entry<String, String>> entryList = new ArrayList<>(entries.entrySet());
+		String hashKey = this.properties.getKey();
+		List<Object> results = this.properties.getOperations().executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> @Nullable Object execute(RedisOperations<K, V> operations) {
+				HashOperations<K, Object, Object> hashOperations = operations.opsForHash();
+				for (Map.Entry<String, String> entry : entryList) {
+					hashOperations.putIfAbsent((K) hashKey, entry.getKey(), entry.getValue());
+				}
+				return null;
+			}
+
+		});
+		List<String> notInserted = new ArrayList<>();
+		for (int i = 0; i < entryList.size(); i++) {
+			if (!Boolean.TRUE.equals(results.get(i))) {
+				notInserted.add(entryList.get(i).getKey());
+			}
+		}
+		if (!notInserted.isEmpty()) {
+			Map<String, String> existing = getAll(notInserted);
+			for (String key : notInserted) {
+				String oldValue = existing.get(key);
+				if (oldValue == null) {
+					// removed in between
+					oldValue = putIfAbsent(key, entries.get(key));
+				}
+				if (oldValue != null) {
+					oldValues.put(key, oldValue);
+				}
+			}
+		}
+		return oldValues;
+	}
+
 }
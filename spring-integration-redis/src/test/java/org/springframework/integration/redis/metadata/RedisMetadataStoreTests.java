@@ -16,6 +16,8 @@
 
 package org.springframework.integration.redis.metadata;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -134,4 +136,15 @@ class RedisMetadataStoreTests implements RedisContainerTest {
 		assertThat(metadataStore.remove(testKey)).isNull();
 	}
 
+	@Test
+	void testPutIfAbsentAll() {
+		RedisMetadataStore metadataStore = new RedisMetadataStore(redisConnectionFactory, "testMetadata");
+		metadataStore.put("foo", "bar");
+
+		assertThat(metadataStore.putIfAbsentAll(Map.of("foo", "baz", "qux", "quux")))
+				.containsExactly(Map.entry("foo", "bar"));
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(metadataStore.get("qux")).isEqualTo("quux");
+	}
+
 }
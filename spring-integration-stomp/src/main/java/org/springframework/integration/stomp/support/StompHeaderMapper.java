@@ -17,6 +17,7 @@
 package org.springframework.integration.stomp.support;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -25,13 +26,13 @@ import java.util.Map;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.http.MediaType;
 import org.springframework.integration.mapping.HeaderMapper;
+import org.springframework.integration.mapping.HeaderNameMatcher;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.simp.stomp.StompHeaders;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
 import org.springframework.util.MultiValueMap;
-import org.springframework.util.PatternMatchUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -78,6 +79,10 @@ public class StompHeaderMapper implements HeaderMapper<StompHeaders> {
 
 	private String[] outboundHeaderNames = STOMP_OUTBOUND_HEADER_NAMES;
 
+	private HeaderNameMatcher inboundHeaderNameMatcher = createHeaderNameMatcher(this.inboundHeaderNames);
+
+	private HeaderNameMatcher outboundHeaderNameMatcher = createHeaderNameMatcher(this.outboundHeaderNames);
+
 	public void setInboundHeaderNames(String[] inboundHeaderNames) {
 		Assert.notNull(inboundHeaderNames, "'inboundHeaderNames' must not be null.");
 		Assert.noNullElements(inboundHeaderNames, "'inboundHeaderNames' must not contains null elements.");
@@ -85,6 +90,7 @@ public class StompHeaderMapper implements HeaderMapper<StompHeaders> {
 		Arrays.sort(copy);
 		if (!Arrays.equals(STOMP_INBOUND_HEADER_NAMES, inboundHeaderNames)) {
 			this.inboundHeaderNames = copy;
+			this.inboundHeaderNameMatcher = createHeaderNameMatcher(copy);
 		}
 	}
 
@@ -95,6 +101,7 @@ public class StompHeaderMapper implements HeaderMapper<StompHeaders> {
 		Arrays.sort(copy);
 		if (!Arrays.equals(STOMP_OUTBOUND_HEADER_NAMES, outboundHeaderNames)) {
 			this.outboundHeaderNames = copy;
+			this.outboundHeaderNameMatcher = createHeaderNameMatcher(copy);
 		}
 	}
 
@@ -103,7 +110,7 @@ public class StompHeaderMapper implements HeaderMapper<StompHeaders> {
 	public void fromHeaders(MessageHeaders headers, StompHeaders target) {
 		for (Map.Entry<String, Object> entry : headers.entrySet()) {
 			String name = entry.getKey();
-			if (shouldMapHeader(name, this.outboundHeaderNames)) {
+			if (shouldMapHeader(name, this.outboundHeaderNameMatcher)) {
 				Object value = entry.getValue();
 				if (value != null) {
 					setStompHeader(target, name, value);
@@ -115,7 +122,7 @@ public class StompHeaderMapper implements HeaderMapper<StompHeaders> {
 				if (multiValueMap != null) {
 					for (Map.Entry<String, List<String>> entry1 : multiValueMap.entrySet()) {
 						name = entry1.getKey();
-						if (shouldMapHeader(name, this.outboundHeaderNames)) {
+						if (shouldMapHeader(name, this.outboundHeaderNameMatcher)) {
 							String value = entry1.getValue().get(0);
 							if (StringUtils.hasText(value)) {
 								setStompHeader(target, name, value);
@@ -218,7 +225,7 @@ public class StompHeaderMapper implements HeaderMapper<StompHeaders> {
 	public Map<String, Object> toHeaders(StompHeaders source) {
 		Map<String, Object> target = new HashMap<>();
 		for (String name : source.keySet()) {
-			if (shouldMapHeader(name, this.inboundHeaderNames)) {
+			if (shouldMapHeader(name, this.inboundHeaderNameMatcher)) {
 				if (StompHeaders.CONTENT_TYPE.equals(name)) {
 					target.put(MessageHeaders.CONTENT_TYPE, source.getContentType());
 				}
@@ -234,33 +241,37 @@ public class StompHeaderMapper implements HeaderMapper<StompHeaders> {
 		return target;
 	}
 
-	private static boolean shouldMapHeader(String headerName, String[] patterns) {
-		if (patterns != null && patterns.length > 0) {
-			for (String pattern : patterns) {
-				if (PatternMatchUtils.simpleMatch(pattern, headerName)) {
-					LOGGER.debug(() -> MessageFormat.format("headerName=[{0}] WILL be mapped, matched pattern={1}",
-							headerName, pattern));
-					return true;
-				}
-				else if (STOMP_INBOUND_HEADER_NAME_PATTERN.equals(pattern)
-						&& STOMP_INBOUND_HEADER_NAMES_LIST.contains(headerName)) {
-
-					LOGGER.debug(() -> MessageFormat.format("headerName=[{0}] WILL be mapped, matched pattern={1}",
-							headerName, pattern));
-					return true;
-				}
-				else if (STOMP_OUTBOUND_HEADER_NAME_PATTERN.equals(pattern)
-						&& (STOMP_OUTBOUND_HEADER_NAMES_LIST.contains(headerName)
-						|| MessageHeaders.CONTENT_TYPE.equals(headerName))) {
-
-					LOGGER.debug(() -> MessageFormat.format("headerName=[{0}] WILL be mapped, matched pattern={1}",
-							headerName, pattern));
-					return true;
-				}
-			}
+	private static boolean shouldMapHeader(String headerName, HeaderNameMatcher headerNameMatcher) {
+		String pattern = headerNameMatcher.findMatchingPattern(headerName);
+		if (pattern != null) {
+			LOGGER.debug(() -> MessageFormat.format("headerName=[{0}] WILL be mapped, matched pattern={1}",
+					headerName, pattern));
+			return true;
 		}
 		LOGGER.debug(() -> MessageFormat.format("headerName=[{0}] WILL NOT be mapped", headerName));
 		return false;
 	}
 
+	/**
+	 * Compile the header names into a {@link HeaderNameMatcher}, expanding the
+	 * {@link #STOMP_INBOUND_HEADER_NAME_PATTERN} and {@link #STOMP_OUTBOUND_HEADER_NAME_PATTERN}
+	 * into the standard header names.
+	 */
+	private static HeaderNameMatcher createHeaderNameMatcher(String[] headerNames) {
+		List<String> patterns = new ArrayList<>();
+		for (String headerName : headerNames) {
+			if (STOMP_INBOUND_HEADER_NAME_PATTERN.equals(headerName)) {
+				patterns.addAll(STOMP_INBOUND_HEADER_NAMES_LIST);
+			}
+			else if (STOMP_OUTBOUND_HEADER_NAME_PATTERN.equals(headerName)) {
+				patterns.addAll(STOMP_OUTBOUND_HEADER_NAMES_LIST);
+				patterns.add(MessageHeaders.CONTENT_TYPE);
+			}
+			else {
+				patterns.add(headerName);
+			}
+		}
+		return new HeaderNameMatcher(patterns, false);
+	}
+
 }